@@ -14,23 +14,33 @@
 package org.uma.jmetal.algorithm.multiobjective.cdg;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import org.apache.commons.beanutils.BeanUtils;
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.multiobjective.cdg.util.ExtremePointTracker;
+import org.uma.jmetal.algorithm.multiobjective.cdg.util.RankBasedSelection;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.checkpoint.Checkpointer;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
-import org.uma.jmetal.util.ranking.Ranking;
-import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
 
 /**
- * Abstract class for implementing versions of the CDG algorithm.
+ * Abstract class for implementing versions of the CDG algorithm. It provides the support for
+ * saving checkpoints of the state of the algorithm (population, with the grid attributes of the
+ * solutions, number of evaluations and generations, ideal and nadir points and grid intervals) and
+ * resuming from them; the structures rebuilt in every generation (neighborhoods, borders, etc.)
+ * are not stored. The subclasses implementing {@link
+ * org.uma.jmetal.algorithm.CheckpointableAlgorithm} use it in their {@link #run()} method.
  *
  * @author Feng Zhang
  * @version 1.0
@@ -38,6 +48,11 @@ import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
 @SuppressWarnings("serial")
 public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<List<S>> {
 
+  private static final String GENERATION = "GENERATION";
+  private static final String IDEAL_POINT = "IDEAL_POINT";
+  private static final String NADIR_POINT = "NADIR_POINT";
+  private static final String GRID_INTERVALS = "GRID_INTERVALS";
+
   protected enum NeighborType {
     NEIGHBOR,
     POPULATION
@@ -56,8 +71,10 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
 
   protected int childGrid_;
   protected int childGridNum_;
+  protected int childGridLayer_;
   protected int[][] subP;
   protected int[] subPNum;
+  protected boolean subPInitialized;
   protected List<List<Integer>> team = new ArrayList<>();
 
   /** Delta in Zhang & Li paper */
@@ -83,8 +100,6 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
   protected List<S> specialPopulation;
   protected List<Integer> spPopulationOrder;
 
-  protected List<List<S>> subproblem = new ArrayList<>();
-
   protected List<List<S>> tempBorder = new ArrayList<>();
 
   protected List<List<S>> border = new ArrayList<>();
@@ -94,11 +109,26 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
 
   protected int evaluations;
   protected int maxEvaluations;
+  protected int generation;
+
+  protected RankBasedSelection rankBasedSelection;
+
+  /**
+   * Extreme values of the objectives in the population. The population must be modified with
+   * {@link #addToPopulation} and {@link #removeFromPopulation} to keep it up to date
+   */
+  protected ExtremePointTracker extremePoints;
+
+  protected Comparator<S> dominanceComparator;
 
   protected JMetalRandom randomGenerator;
 
   protected CrossoverOperator<S> crossoverOperator;
 
+  protected SolutionListEvaluator<S> evaluator;
+
+  protected Checkpointer checkpointer = new Checkpointer();
+
   public AbstractCDG(
           Problem<S> problem,
           int populationSize,
@@ -112,6 +142,36 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
           int subproblemNum_,
           int childGrid_,
           int childGridNum_) {
+    this(
+            problem,
+            populationSize,
+            resultPopulationSize,
+            maxEvaluations,
+            crossoverOperator,
+            neighborhoodSelectionProbability,
+            sigma_,
+            k_,
+            t_,
+            subproblemNum_,
+            childGrid_,
+            childGridNum_,
+            new SequentialSolutionListEvaluator<>());
+  }
+
+  public AbstractCDG(
+          Problem<S> problem,
+          int populationSize,
+          int resultPopulationSize,
+          int maxEvaluations,
+          CrossoverOperator<S> crossoverOperator,
+          double neighborhoodSelectionProbability,
+          double sigma_,
+          int k_,
+          int t_,
+          int subproblemNum_,
+          int childGrid_,
+          int childGridNum_,
+          SolutionListEvaluator<S> evaluator) {
     this.problem = problem;
     this.populationSize = populationSize;
     this.resultPopulationSize = resultPopulationSize;
@@ -124,6 +184,7 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
     this.subproblemNum_ = subproblemNum_;
     this.childGrid_ = childGrid_;
     this.childGridNum_ = childGridNum_;
+    this.evaluator = evaluator;
 
     randomGenerator = JMetalRandom.getInstance();
 
@@ -142,14 +203,15 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
 
     d_ = new double[problem.getNumberOfObjectives()];
 
-    subproblem = new ArrayList<>(subproblemNum_);
+    rankBasedSelection = new RankBasedSelection(problem.getNumberOfObjectives());
+    extremePoints = new ExtremePointTracker(problem.getNumberOfObjectives());
+    dominanceComparator = new DominanceComparator<>();
 
-    for (int i = 0; i < subproblemNum_; i++) {
-      List<S> list = new ArrayList<>(populationSize);
-      subproblem.add(list);
+    childGridLayer_ = childGrid_ * childGrid_;
+    int subPLength = 0;
+    if (problem.getNumberOfObjectives() <= 3) {
+      subPLength = (int) Math.pow(2 * t_ + 1, problem.getNumberOfObjectives());
     }
-
-    int subPLength = (int) Math.pow(3, problem.getNumberOfObjectives());
     subP = new int[childGridNum_][subPLength];
     subPNum = new int[childGridNum_];
     team = new ArrayList<>(childGridNum_);
@@ -176,6 +238,44 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
     }
   }
 
+  protected void setCheckpointFile(String checkpointFileName) {
+    checkpointer.setFile(checkpointFileName);
+  }
+
+  protected String getCheckpointFile() {
+    return checkpointer.getFile();
+  }
+
+  protected void setCheckpointPeriod(long milliseconds) {
+    checkpointer.setPeriod(milliseconds);
+  }
+
+  /** Returns a checkpoint containing the state of the algorithm at the end of a generation */
+  protected Checkpoint saveState() {
+    return new Checkpoint(getName())
+        .putList(Checkpoint.POPULATION, population)
+        .put(Checkpoint.EVALUATIONS, evaluations)
+        .put(GENERATION, generation)
+        .put(IDEAL_POINT, idealPoint)
+        .put(NADIR_POINT, nadirPoint)
+        .put(GRID_INTERVALS, d_);
+  }
+
+  /** Restores the state of the algorithm from a checkpoint created by {@link #saveState()} */
+  protected void restoreState(Checkpoint checkpoint) {
+    checkpoint.checkAlgorithmName(getName());
+    checkpoint.restoreRandomGenerator();
+
+    population.clear();
+    extremePoints.clear();
+    checkpoint.<S>getList(Checkpoint.POPULATION).forEach(this::addToPopulation);
+    evaluations = checkpoint.getInt(Checkpoint.EVALUATIONS);
+    generation = checkpoint.getInt(GENERATION);
+    idealPoint = checkpoint.get(IDEAL_POINT);
+    nadirPoint = checkpoint.get(NADIR_POINT);
+    d_ = checkpoint.get(GRID_INTERVALS);
+  }
+
   protected void initialCDGAttributes(S individual) {
     int[] g_ = new int[problem.getNumberOfObjectives()];
     int[] rank_ = new int[problem.getNumberOfObjectives()];
@@ -223,13 +323,35 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
     individual.attributes().put("order_", order_);
   }
 
+  protected void addToPopulation(S individual) {
+    population.add(individual);
+    extremePoints.add(individual.objectives());
+  }
+
+  protected S removeFromPopulation(int index) {
+    S individual = population.remove(index);
+    extremePoints.remove(individual.objectives());
+
+    return individual;
+  }
+
+  /**
+   * Updates the neighborhoods. The subP table of the child grid only depends on childGrid_ and t_,
+   * so it is computed the first time only
+   */
   protected void updateNeighborhood() {
     if (problem.getNumberOfObjectives() == 2) {
-      initializeSubP2();
+      if (!subPInitialized) {
+        initializeSubP2();
+        subPInitialized = true;
+      }
       group2();
       initializeNeighborhoodGrid();
     } else if (problem.getNumberOfObjectives() == 3) {
-      initializeSubP3();
+      if (!subPInitialized) {
+        initializeSubP3();
+        subPInitialized = true;
+      }
       group3();
       initializeNeighborhoodGrid();
     } else {
@@ -344,8 +466,7 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
 
   protected int getPos(int i, int j, int k) {
     int s = 0;
-    int l = (int) Math.pow(childGrid_, 2);
-    l = l * (k - 1);
+    int l = childGridLayer_ * (k - 1);
     if (i >= j) {
       s = (i - 1) * (i - 1) + j;
     } else {
@@ -485,13 +606,11 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
     for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
       tempBorder.get(i).clear();
       minFunValue[i] = 1.0e+30;
+      if (extremePoints.size() > 0) {
+        minFunValue[i] = Math.min(minFunValue[i], extremePoints.getMinimum(i));
+      }
     }
 
-    for (int i = 0; i < population.size(); i++)
-      for (int j = 0; j < problem.getNumberOfObjectives(); j++)
-        if (population.get(i).objectives()[j] < minFunValue[j])
-          minFunValue[j] = population.get(i).objectives()[j];
-
     int sum;
     int od;
     for (int i = 0; i < population.size(); i++) {
@@ -563,11 +682,28 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
     updateNadirPoint();
   }
 
-  // update the current nadir point
+  /**
+   * Updates the nadir point with the non-dominated solutions of the population. They are obtained
+   * by comparing each solution against the non-dominated ones found so far, instead of ranking the
+   * whole population
+   */
   void updateNadirPoint() {
-    Ranking<S> ranking = new FastNonDominatedSortRanking<S>();
-    ranking.compute(population);
-    List<S> nondominatedPopulation = ranking.getSubFront(0);
+    List<S> nondominatedPopulation = new ArrayList<>();
+    for (S individual : population) {
+      boolean dominated = false;
+      Iterator<S> iterator = nondominatedPopulation.iterator();
+      while (iterator.hasNext() && !dominated) {
+        int flag = dominanceComparator.compare(individual, iterator.next());
+        if (flag == -1) {
+          iterator.remove();
+        } else if (flag == 1) {
+          dominated = true;
+        }
+      }
+      if (!dominated) {
+        nondominatedPopulation.add(individual);
+      }
+    }
 
     for (int i = 0; i < nondominatedPopulation.size(); i++) {
       S individual = nondominatedPopulation.get(i);
@@ -579,6 +715,18 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
     }
   }
 
+  /** Updates the ideal point with the solutions of the population */
+  protected void updateIdealPoint() {
+    if (extremePoints.size() == 0) {
+      return;
+    }
+    for (int n = 0; n < problem.getNumberOfObjectives(); n++) {
+      if (extremePoints.getMinimum(n) < idealPoint[n]) {
+        idealPoint[n] = extremePoints.getMinimum(n);
+      }
+    }
+  }
+
   protected void updateIdealPoint(S individual) {
     for (int n = 0; n < problem.getNumberOfObjectives(); n++) {
       if (individual.objectives()[n] < idealPoint[n]) {
@@ -655,7 +803,9 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
 
     Map<Integer, S> specialSolution = new HashMap<Integer, S>();
 
+    // The population is only scanned for the values which are known to be in it
     for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
+      if (!extremePoints.contains(i, idealPoint[i])) continue;
       for (int j = 0; j < population.size(); j++) {
         if (population.get(j).objectives()[i] == idealPoint[i]) {
           if (!specialSolution.containsKey(j)) {
@@ -666,6 +816,7 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
     }
 
     for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
+      if (!extremePoints.contains(i, nadirPoint[i])) continue;
       for (int j = 0; j < population.size(); j++) {
         if (population.get(j).objectives()[i] == nadirPoint[i]) {
           if (!specialSolution.containsKey(j)) {
@@ -692,19 +843,36 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
 
   protected void excludeBadSolution() {
     badPopulation.clear();
+    if (!exceedsNadirPoint()) {
+      return;
+    }
+
     int length = population.size();
     for (int i = length - 1; i >= 0; i--) {
       S individual = population.get(i);
       for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
         if (individual.objectives()[j] > nadirPoint[j]) {
           badPopulation.add(individual);
-          population.remove(i);
+          removeFromPopulation(i);
           break;
         }
       }
     }
   }
 
+  /** Returns true if the maximum of any objective in the population is worse than the nadir point */
+  protected boolean exceedsNadirPoint() {
+    if (extremePoints.size() == 0) {
+      return false;
+    }
+    for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
+      if (!(extremePoints.getMaximum(j) <= nadirPoint[j])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   protected void excludeBadSolution3() {
     badSolutionNum = 0;
     for (int i = 0; i < population.size(); i++) {
@@ -722,7 +890,7 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
       excludeBadSolution();
     } else {
       for (int i = badSolutionNum - 1; i >= 0; i--) {
-        population.remove(badSolution[i]);
+        removeFromPopulation(badSolution[i]);
       }
     }
   }
@@ -766,134 +934,41 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
     Random rand = new Random();
     do {
       int i = rand.nextInt(badPopulation.size());
-      population.add(badPopulation.get(i));
+      addToPopulation(badPopulation.get(i));
     } while (population.size() < populationSize);
   }
 
+  /**
+   * Sorts the population by the rank vectors of the solutions (see {@link RankBasedSelection}) and
+   * keeps the best populationSize ones
+   */
   protected void rankBasedSelection() {
-    for (int i = 0; i < subproblemNum_; i++) subproblem.get(i).clear();
-
-    allocateSolution();
-
-    subproblemSortl();
-
-    setIndividualObjRank();
-
-    setSpIndividualRank();
-
-    individualObjRankSort();
-
-    lexicographicSort();
-
-    chooseSolution();
-  }
-
-  protected void allocateSolution() {
-    for (int i = 0; i < population.size(); i++) {
-      setOrder(population.get(i), i);
-
-      for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
-        int objBasedAddress = (int) Math.pow(k_, problem.getNumberOfObjectives() - 1);
-        objBasedAddress = j * objBasedAddress;
-        int objOffset = 0;
-        int bitIndex = 0;
-        int bitWeight = 0;
-        for (int k = problem.getNumberOfObjectives() - 1; k >= 0; k--) {
-          if (j != k) {
-            bitWeight = (int) Math.pow(k_, bitIndex);
-            int g = getG(population.get(i), k);
-            objOffset = objOffset + g * bitWeight;
-            bitIndex++;
-          }
-        }
-
-        subproblem.get(objBasedAddress + objOffset).add(population.get(i));
-      }
-    }
-  }
-
-  protected void subproblemSortl() {
-    for (int i = 0; i < subproblemNum_; i++) {
-      int perObjSubproblemNum = (int) Math.pow(k_, problem.getNumberOfObjectives() - 1);
-      int objD = (int) (i / perObjSubproblemNum);
-
-      Collections.sort(
-              subproblem.get(i),
-              new Comparator<S>() {
-                public int compare(S o1, S o2) {
-                  double x = o1.objectives()[objD];
-                  double y = o2.objectives()[objD];
-                  return (x == y) ? 0 : (y < x) ? 1 : (-1);
-                }
-              });
-    }
-  }
-
-  protected void setIndividualObjRank() {
-    for (int i = 0; i < subproblemNum_; i++) {
-
-      int perObjSubproblemNum = (int) Math.pow(k_, problem.getNumberOfObjectives() - 1);
-      int objD = (int) (i / perObjSubproblemNum);
-
-      for (int j = 0; j < subproblem.get(i).size(); j++) {
-        int order = getOrder(subproblem.get(i).get(j));
-
-        double objValue = subproblem.get(i).get(j).objectives()[objD];
-        double firstValue = subproblem.get(i).get(0).objectives()[objD];
-
-        int gridRank = (int) Math.ceil((objValue - firstValue) / d_[objD]);
-        int objRank = Math.max(gridRank + 1, j + 1);
-        setRank(population.get(order), objD, objRank);
-      }
+    int size = population.size();
+    rankBasedSelection.reset(size);
+    for (int i = 0; i < size; i++) {
+      S individual = population.get(i);
+      rankBasedSelection.setSolution(
+              i, individual.objectives(), (int[]) individual.attributes().get("g_"));
     }
-  }
-
-  protected void setSpIndividualRank() {
     for (int i = 0; i < spPopulationOrder.size(); i++) {
-      for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
-        setRank(population.get(spPopulationOrder.get(i)), j, 1000);
-      }
+      rankBasedSelection.setSpecialSolution(spPopulationOrder.get(i));
     }
-  }
 
-  protected void individualObjRankSort() {
-    for (int i = 0; i < population.size(); i++) {
-      List<Integer> list = new ArrayList<Integer>();
-      for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
-        int rank = getRank(population.get(i), j);
-        list.add(rank);
-      }
-
-      Collections.sort(
-              list,
-              new Comparator<Integer>() {
-                @Override
-                public int compare(Integer x, Integer y) {
-                  return (x == y) ? 0 : (y < x) ? 1 : (-1);
-                }
-              });
+    int[] order = rankBasedSelection.compute(d_);
 
+    List<S> sortedPopulation = new ArrayList<>(size);
+    for (int p = 0; p < size; p++) {
+      S individual = population.get(order[p]);
+      int[] rank_ = (int[]) individual.attributes().get("rank_");
       for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
-        setRank(population.get(i), j, list.get(j));
+        rank_[j] = rankBasedSelection.getRank(order[p], j);
       }
+      sortedPopulation.add(individual);
     }
-  }
+    population.clear();
+    population.addAll(sortedPopulation);
 
-  protected void lexicographicSort() {
-    Collections.sort(
-            population,
-            new Comparator<S>() {
-              @Override
-              public int compare(S o1, S o2) {
-                for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-                  int x = getRank(o1, i);
-                  int y = getRank(o2, i);
-                  if (y < x) return 1;
-                  if (x < y) return -1;
-                }
-                return 0;
-              }
-            });
+    chooseSolution();
   }
 
   protected void chooseSolution() {
@@ -902,9 +977,9 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
     } else {
       int length = population.size();
       for (int i = length - 1; i >= populationSize - specialPopulation.size(); i--) {
-        population.remove(i);
+        removeFromPopulation(i);
       }
-      for (int i = 0; i < specialPopulation.size(); i++) population.add(specialPopulation.get(i));
+      for (int i = 0; i < specialPopulation.size(); i++) addToPopulation(specialPopulation.get(i));
     }
   }
 
@@ -973,4 +1048,4 @@ public abstract class AbstractCDG<S extends Solution<?>> implements Algorithm<Li
   public List<S> getResult() {
     return population;
   }
-}
\ No newline at end of file
+}
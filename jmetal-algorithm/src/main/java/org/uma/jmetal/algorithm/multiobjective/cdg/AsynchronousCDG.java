@@ -0,0 +1,164 @@
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package org.uma.jmetal.algorithm.multiobjective.cdg;
+
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+/**
+ * Asynchronous steady-state version of {@link CDG}, intended for problems having expensive
+ * evaluation functions. A pool of threads evaluates up to numberOfThreads children concurrently.
+ * Whenever a child is evaluated, it is inserted into the population, the environmental selection of
+ * CDG reduces the population to populationSize solutions again, and a new child is created and
+ * submitted, so the threads do not have to wait for the slowest evaluation of a generation.
+ *
+ * <p>The problem must support concurrent evaluations. The initial population is evaluated with the
+ * {@link SolutionListEvaluator} of the algorithm. The checkpoints are saved after inserting a child
+ * into the population, so the children being evaluated at that moment are not part of them; after
+ * resuming, new children are created to replace them.
+ */
+@SuppressWarnings("serial")
+public class AsynchronousCDG extends CDG {
+  private final int numberOfThreads;
+
+  public AsynchronousCDG(
+      Problem<DoubleSolution> problem,
+      int populationSize,
+      int resultPopulationSize,
+      int maxEvaluations,
+      CrossoverOperator<DoubleSolution> crossover,
+      double neighborhoodSelectionProbability,
+      double sigma_,
+      int k_,
+      int t_,
+      int subproblemNum_,
+      int childGrid_,
+      int childGridNum_,
+      SolutionListEvaluator<DoubleSolution> evaluator,
+      int numberOfThreads) {
+    super(problem, populationSize, resultPopulationSize, maxEvaluations, crossover,
+        neighborhoodSelectionProbability, sigma_, k_, t_, subproblemNum_, childGrid_, childGridNum_,
+        evaluator);
+    Check.that(numberOfThreads > 0, "The number of threads must be positive: " + numberOfThreads);
+
+    this.numberOfThreads = numberOfThreads;
+  }
+
+  @Override
+  public void run() {
+    Checkpoint checkpoint = checkpointer.read();
+    if (checkpoint == null) {
+      checkpointer.start();
+      initializePopulation();
+
+      initializeIdealPoint();
+
+      initializeNadirPoint();
+
+      evaluations = populationSize;
+    } else {
+      restoreState(checkpoint);
+    }
+
+    updateNeighborhood();
+
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+    CompletionService<DoubleSolution> completionService =
+        new ExecutorCompletionService<>(executor);
+    try {
+      MutationOperator<DoubleSolution> mutation = createMutation();
+      int pendingEvaluations = 0;
+      while (pendingEvaluations < numberOfThreads
+          && evaluations + pendingEvaluations < maxEvaluations) {
+        submit(completionService, createChild(randomSubproblem(), mutation));
+        pendingEvaluations++;
+      }
+
+      while (pendingEvaluations > 0) {
+        DoubleSolution child = completionService.take().get();
+        pendingEvaluations--;
+        evaluations++;
+
+        initialCDGAttributes(child);
+        addToPopulation(child);
+        updateIdealPoint(child);
+
+        // The nadir point and the mutation are updated at the same pace as in CDG
+        if (evaluations % (20 * populationSize) == 0) {
+          initializeNadirPoint();
+        }
+        if (evaluations % populationSize == 0) {
+          mutation = createMutation();
+        }
+
+        environmentalSelection();
+
+        // The selection reorders the population, so the neighborhoods have to be recomputed
+        updateNeighborhood();
+
+        checkpointer.checkpointIfDue(this::saveState);
+
+        if (evaluations + pendingEvaluations < maxEvaluations) {
+          submit(completionService, createChild(randomSubproblem(), mutation));
+          pendingEvaluations++;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for an evaluation", e);
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error evaluating a solution", e);
+    } finally {
+      checkpointer.close();
+      executor.shutdownNow();
+    }
+  }
+
+  private int randomSubproblem() {
+    return randomGenerator.nextInt(0, populationSize - 1);
+  }
+
+  private void submit(CompletionService<DoubleSolution> completionService, DoubleSolution child) {
+    completionService.submit(
+        () -> {
+          problem.evaluate(child);
+          return child;
+        });
+  }
+
+  public int getNumberOfThreads() {
+    return numberOfThreads;
+  }
+
+  @Override
+  public String getName() {
+    return "AsynchronousCDG";
+  }
+
+  @Override
+  public String getDescription() {
+    return "Asynchronous steady-state version of CDG";
+  }
+}
@@ -13,7 +13,9 @@
 
 package org.uma.jmetal.algorithm.multiobjective.cdg;
 
+import java.util.ArrayList;
 import java.util.List;
+import org.uma.jmetal.algorithm.CheckpointableAlgorithm;
 import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
@@ -21,6 +23,9 @@ import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.mutation.impl.CDGMutation;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 
 /**
  *	Xinye Cai, Zhiwei Mei, Zhun Fan, Qingfu Zhang, 
@@ -33,7 +38,8 @@ import org.uma.jmetal.solution.doublesolution.DoubleSolution;
  * @version 1.0
  */
 @SuppressWarnings("serial")
-public class CDG extends AbstractCDG<DoubleSolution> {
+public class CDG extends AbstractCDG<DoubleSolution>
+    implements CheckpointableAlgorithm<List<DoubleSolution>> {
   private DifferentialEvolutionCrossover differentialEvolutionCrossover ;
 
   public CDG(Problem<DoubleSolution> problem,
@@ -48,99 +54,164 @@ public class CDG extends AbstractCDG<DoubleSolution> {
       int subproblemNum_,
       int childGrid_,
       int childGridNum_) {
+    this(problem, populationSize, resultPopulationSize, maxEvaluations, crossover,
+        neighborhoodSelectionProbability, sigma_, k_, t_, subproblemNum_, childGrid_, childGridNum_,
+        new SequentialSolutionListEvaluator<>());
+  }
+
+  public CDG(Problem<DoubleSolution> problem,
+      int populationSize,
+      int resultPopulationSize,
+      int maxEvaluations,
+      CrossoverOperator<DoubleSolution> crossover,
+      double neighborhoodSelectionProbability,
+      double sigma_,
+      int k_,
+      int t_,
+      int subproblemNum_,
+      int childGrid_,
+      int childGridNum_,
+      SolutionListEvaluator<DoubleSolution> evaluator) {
     super(problem, populationSize, resultPopulationSize, maxEvaluations, crossover,
-        neighborhoodSelectionProbability, sigma_, k_, t_, subproblemNum_, childGrid_, childGridNum_);
+        neighborhoodSelectionProbability, sigma_, k_, t_, subproblemNum_, childGrid_, childGridNum_,
+        evaluator);
 
     differentialEvolutionCrossover = (DifferentialEvolutionCrossover)crossoverOperator ;
   }
 
   @Override public void run() {
-    initializePopulation() ;
+    Checkpoint checkpoint = checkpointer.read() ;
+    if (checkpoint == null) {
+      checkpointer.start() ;
+      initializePopulation() ;
+
+      initializeIdealPoint() ;
 
-    initializeIdealPoint() ;
-    
-    initializeNadirPoint() ;
-    
-    evaluations = populationSize;
+      initializeNadirPoint() ;
 
+      evaluations = populationSize;
+      generation = 0;
+    } else {
+      restoreState(checkpoint) ;
+    }
+
+    try {
+      generationLoop() ;
+    } finally {
+      checkpointer.close() ;
+    }
+  }
+
+  @Override
+  public void setCheckpointFile(String checkpointFileName) {
+    super.setCheckpointFile(checkpointFileName) ;
+  }
+
+  @Override
+  public String getCheckpointFile() {
+    return super.getCheckpointFile() ;
+  }
+
+  @Override
+  public void setCheckpointPeriod(long milliseconds) {
+    super.setCheckpointPeriod(milliseconds) ;
+  }
+
+  private void generationLoop() {
     int maxGen = (int) (maxEvaluations / populationSize);
-    int gen = 0;
-    
-    double mutationProbability = 1.0 / problem.getNumberOfVariables();
-    
-    double delta;
 
-    do {
-    	
+    while (generation < maxGen) {
       updateNeighborhood();
 
-      delta = Math.pow((1 - evaluations / maxEvaluations), 0.7);
-      
       int[] permutation = new int[populationSize];
       MOEADUtils.randomPermutation(permutation, populationSize);
 
-      MutationOperator<DoubleSolution> mutation = new CDGMutation(mutationProbability, delta);
-      
+      MutationOperator<DoubleSolution> mutation = createMutation();
+
+      // The parents are taken from the first populationSize solutions, so the whole offspring
+      // population can be created before evaluating it
+      List<DoubleSolution> offspringPopulation = new ArrayList<>(populationSize);
       for (int i = 0; i < populationSize; i++) {
-        int subProblemId = permutation[i];
-
-        NeighborType neighborType = chooseNeighborType(subProblemId) ;
-        List<DoubleSolution> parents = parentSelection(subProblemId, neighborType) ;
-        
-        differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
-        List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
-
-        DoubleSolution child = children.get(0) ;
-        mutation.execute(child);
-        
-        problem.evaluate(child);
-        
-        evaluations++;
-        
+        offspringPopulation.add(createChild(permutation[i], mutation));
+      }
+
+      offspringPopulation = evaluator.evaluate(offspringPopulation, problem);
+      evaluations += offspringPopulation.size();
+
+      for (DoubleSolution child : offspringPopulation) {
         initialCDGAttributes(child);
-        
-        population.add(child);
+        addToPopulation(child);
       }
       
-      gen++;
-     
-      for(int i = 0;i < population.size();i++)
-    	  updateIdealPoint(population.get(i));
-      
-      if(gen % 20 == 0)
-    	  initializeNadirPoint();
-
-      if(problem.getNumberOfObjectives() == 3){
-          updateBorder();
-    	  excludeBadSolution3();
-    	  chooseSpecialPopulation();
-    	  gridSystemSetup3();
-      }
-      else{
-    	  excludeBadSolution();
-    	  chooseSpecialPopulation();
-    	  gridSystemSetup();
-      }
-    	  
-      if(population.size() < populationSize)
-    	  supplyBadSolution();
-      else
-          rankBasedSelection();
+      generation++;
 
-    } while (gen < maxGen);
+      updateIdealPoint();
+
+      if(generation % 20 == 0)
+        initializeNadirPoint();
+
+      environmentalSelection();
+
+      checkpointer.checkpointIfDue(this::saveState) ;
+    }
   }
 
   protected void initializePopulation() {
+    List<DoubleSolution> initialPopulation = new ArrayList<>(populationSize);
     for (int i = 0; i < populationSize; i++) {
-      DoubleSolution newSolution = (DoubleSolution)problem.createSolution();
+      initialPopulation.add((DoubleSolution)problem.createSolution());
+    }
+
+    initialPopulation = evaluator.evaluate(initialPopulation, problem);
 
-      problem.evaluate(newSolution);
+    for (DoubleSolution newSolution : initialPopulation) {
       initialCDGAttributes(newSolution);
-      population.add(newSolution);
-      
+      addToPopulation(newSolution);
     }
   }
 
+  /** Returns the CDG mutation operator, whose delta decreases with the number of evaluations */
+  protected MutationOperator<DoubleSolution> createMutation() {
+    double mutationProbability = 1.0 / problem.getNumberOfVariables();
+    double delta = Math.pow((1 - evaluations / maxEvaluations), 0.7);
+
+    return new CDGMutation(mutationProbability, delta);
+  }
+
+  /** Creates a (not evaluated) child of the solution of a subproblem */
+  protected DoubleSolution createChild(int subProblemId, MutationOperator<DoubleSolution> mutation) {
+    NeighborType neighborType = chooseNeighborType(subProblemId) ;
+    List<DoubleSolution> parents = parentSelection(subProblemId, neighborType) ;
+
+    differentialEvolutionCrossover.setCurrentSolution(population.get(subProblemId));
+    List<DoubleSolution> children = differentialEvolutionCrossover.execute(parents);
+
+    DoubleSolution child = children.get(0) ;
+    mutation.execute(child);
+
+    return child;
+  }
+
+  /** Reduces the population, which contains the new children, to populationSize solutions */
+  protected void environmentalSelection() {
+    if(problem.getNumberOfObjectives() == 3){
+      updateBorder();
+      excludeBadSolution3();
+      chooseSpecialPopulation();
+      gridSystemSetup3();
+    }
+    else{
+      excludeBadSolution();
+      chooseSpecialPopulation();
+      gridSystemSetup();
+    }
+
+    if(population.size() < populationSize)
+      supplyBadSolution();
+    else
+      rankBasedSelection();
+  }
+
   @Override public String getName() {
     return "CDG" ;
   }
@@ -18,6 +18,9 @@ import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 
 /**
  * Builder class for algorithm CDG
@@ -26,6 +29,7 @@ import org.uma.jmetal.solution.doublesolution.DoubleSolution;
  * @version 1.0
  */
 public class CDGBuilder implements AlgorithmBuilder<AbstractCDG<DoubleSolution>> {
+  public enum CDGVariant {CDG, AsynchronousCDG}
 
   protected Problem<DoubleSolution> problem;
 
@@ -54,6 +58,10 @@ public class CDGBuilder implements AlgorithmBuilder<AbstractCDG<DoubleSolution>>
 
   protected int childGridNum_;
 
+  protected SolutionListEvaluator<DoubleSolution> evaluator;
+
+  protected CDGVariant variant;
+
   /** Constructor */
   public CDGBuilder(Problem<DoubleSolution> problem) {
 
@@ -65,6 +73,8 @@ public class CDGBuilder implements AlgorithmBuilder<AbstractCDG<DoubleSolution>>
     neighborhoodSelectionProbability = 0.9;
     numberOfThreads = 1;
     sigma_ = 10e-6;
+    evaluator = new SequentialSolutionListEvaluator<>();
+    variant = CDGVariant.CDG;
 
     if (problem.getNumberOfObjectives() == 2) {
       k_ = 180;
@@ -81,8 +91,17 @@ public class CDGBuilder implements AlgorithmBuilder<AbstractCDG<DoubleSolution>>
     }
     childGridNum_ = (int) Math.pow(childGrid_, problem.getNumberOfObjectives());
     childGridNum_++;
-    subproblemNum_ = (int) Math.pow(k_, problem.getNumberOfObjectives() - 1);
-    subproblemNum_ = subproblemNum_ * problem.getNumberOfObjectives();
+    computeSubproblemNum();
+  }
+
+  /**
+   * Number of subproblems of the grid (k^(M-1) * M). It is only informative, as the algorithm stores
+   * the occupied subproblems only; it is saturated to avoid overflows with many objectives.
+   */
+  private void computeSubproblemNum() {
+    double subproblemNum =
+        Math.pow(k_, problem.getNumberOfObjectives() - 1) * problem.getNumberOfObjectives();
+    subproblemNum_ = (int) Math.min(subproblemNum, Integer.MAX_VALUE);
   }
 
   /* Getters/Setters */
@@ -126,6 +145,14 @@ public class CDGBuilder implements AlgorithmBuilder<AbstractCDG<DoubleSolution>>
     return childGridNum_;
   }
 
+  public SolutionListEvaluator<DoubleSolution> getSolutionListEvaluator() {
+    return evaluator;
+  }
+
+  public CDGVariant getVariant() {
+    return variant;
+  }
+
   public CDGBuilder setPopulationSize(int populationSize) {
     this.populationSize = populationSize;
 
@@ -164,6 +191,7 @@ public class CDGBuilder implements AlgorithmBuilder<AbstractCDG<DoubleSolution>>
 
   public CDGBuilder setK(int k) {
     this.k_ = k;
+    computeSubproblemNum();
 
     return this;
   }
@@ -186,22 +214,61 @@ public class CDGBuilder implements AlgorithmBuilder<AbstractCDG<DoubleSolution>>
     return this;
   }
 
+  public CDGBuilder setSolutionListEvaluator(SolutionListEvaluator<DoubleSolution> evaluator) {
+    if (evaluator == null) {
+      throw new JMetalException("evaluator is null");
+    }
+    this.evaluator = evaluator;
+
+    return this;
+  }
+
+  /**
+   * Sets the variant to build. The number of threads is the number of concurrent evaluations of
+   * {@link AsynchronousCDG}
+   */
+  public CDGBuilder setVariant(CDGVariant variant) {
+    this.variant = variant;
+
+    return this;
+  }
+
   public AbstractCDG<DoubleSolution> build() {
     AbstractCDG<DoubleSolution> algorithm = null;
-    algorithm =
-        new CDG(
-            problem,
-            populationSize,
-            resultPopulationSize,
-            maxEvaluations,
-            crossover,
-            neighborhoodSelectionProbability,
-            sigma_,
-            k_,
-            t_,
-            subproblemNum_,
-            childGrid_,
-            childGridNum_);
+    if (variant.equals(CDGVariant.CDG)) {
+      algorithm =
+          new CDG(
+              problem,
+              populationSize,
+              resultPopulationSize,
+              maxEvaluations,
+              crossover,
+              neighborhoodSelectionProbability,
+              sigma_,
+              k_,
+              t_,
+              subproblemNum_,
+              childGrid_,
+              childGridNum_,
+              evaluator);
+    } else if (variant.equals(CDGVariant.AsynchronousCDG)) {
+      algorithm =
+          new AsynchronousCDG(
+              problem,
+              populationSize,
+              resultPopulationSize,
+              maxEvaluations,
+              crossover,
+              neighborhoodSelectionProbability,
+              sigma_,
+              k_,
+              t_,
+              subproblemNum_,
+              childGrid_,
+              childGridNum_,
+              evaluator,
+              numberOfThreads);
+    }
     return algorithm;
   }
 }
@@ -0,0 +1,89 @@
+package org.uma.jmetal.algorithm.multiobjective.cdg.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Keeps track of the minimum and maximum values of each objective in a set of points which changes
+ * by insertions and removals. The values of each objective are stored in a sorted multiset, so
+ * inserting or removing a point takes O(M log N) and the extremes are obtained in O(M log N) too
+ * (M being the number of objectives and N the number of points).
+ *
+ * <p>The values -0.0 and 0.0 are considered equal, as in the comparisons of the algorithms.
+ */
+public class ExtremePointTracker {
+  private final int numberOfObjectives;
+  private final List<TreeMap<Double, Integer>> values;
+  private int size;
+
+  public ExtremePointTracker(int numberOfObjectives) {
+    Check.that(numberOfObjectives > 0, "The number of objectives must be positive");
+    this.numberOfObjectives = numberOfObjectives;
+    this.values = new ArrayList<>(numberOfObjectives);
+    for (int j = 0; j < numberOfObjectives; j++) {
+      values.add(new TreeMap<>());
+    }
+    this.size = 0;
+  }
+
+  public void add(double[] point) {
+    checkLength(point);
+    for (int j = 0; j < numberOfObjectives; j++) {
+      values.get(j).merge(point[j] + 0.0, 1, Integer::sum);
+    }
+    size++;
+  }
+
+  /** Removes a point, which must have been added before */
+  public void remove(double[] point) {
+    checkLength(point);
+    for (int j = 0; j < numberOfObjectives; j++) {
+      Double value = point[j] + 0.0;
+      Integer count = values.get(j).get(value);
+      if (count == null) {
+        throw new JMetalException("The value " + point[j] + " of objective " + j + " is not tracked");
+      }
+      if (count == 1) {
+        values.get(j).remove(value);
+      } else {
+        values.get(j).put(value, count - 1);
+      }
+    }
+    size--;
+  }
+
+  public void clear() {
+    for (TreeMap<Double, Integer> objectiveValues : values) {
+      objectiveValues.clear();
+    }
+    size = 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public double getMinimum(int objective) {
+    Check.that(size > 0, "There are no points");
+    return values.get(objective).firstKey();
+  }
+
+  public double getMaximum(int objective) {
+    Check.that(size > 0, "There are no points");
+    return values.get(objective).lastKey();
+  }
+
+  /** Returns true if some point has a given value in an objective */
+  public boolean contains(int objective, double value) {
+    return values.get(objective).containsKey(value + 0.0);
+  }
+
+  private void checkLength(double[] point) {
+    Check.that(
+        point.length == numberOfObjectives,
+        "The point has " + point.length + " objectives instead of " + numberOfObjectives);
+  }
+}
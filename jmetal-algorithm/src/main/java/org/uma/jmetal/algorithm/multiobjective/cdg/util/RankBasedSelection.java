@@ -0,0 +1,217 @@
+package org.uma.jmetal.algorithm.multiobjective.cdg.util;
+
+import java.util.Arrays;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Rank-based selection of CDG working on primitive arrays. Each solution is allocated into one
+ * subproblem per objective (the solutions having the same grid coordinates in the rest of
+ * objectives), and it is ranked in that objective by its position in the subproblem and its grid
+ * distance to the best solution of it. The rank vector of each solution is then sorted, and the
+ * solutions are sorted in lexicographic order of their rank vectors.
+ *
+ * <p>All the sorts are stable LSD radix sorts: the objective values are mapped to longs preserving
+ * their order, and grid coordinates and ranks are small integers, so most of the passes are single
+ * counting sorts. The result is the same as sorting with stable comparison sorts: ties are broken
+ * by the index of the solutions.
+ */
+public class RankBasedSelection {
+  /** Rank assigned in all the objectives to the special solutions */
+  public static final int SPECIAL_RANK = 1000;
+
+  private static final int DIGIT_BITS = 11;
+  private static final int RADIX = 1 << DIGIT_BITS;
+
+  private final int numberOfObjectives;
+  private int size;
+
+  private double[] objectives;
+  private int[] g;
+  private int[] ranks;
+  private boolean[] special;
+
+  private int[] permutation;
+  private int[] buffer;
+  private long[] keys;
+  private final int[] count;
+
+  public RankBasedSelection(int numberOfObjectives) {
+    Check.that(numberOfObjectives > 0, "The number of objectives must be positive");
+    this.numberOfObjectives = numberOfObjectives;
+    this.count = new int[RADIX];
+    ensureCapacity(0);
+  }
+
+  /** Prepares the selection of a number of solutions, which must be loaded afterwards */
+  public void reset(int size) {
+    Check.that(size >= 0, "The size is negative: " + size);
+    if (permutation.length < size) {
+      ensureCapacity(Math.max(size, 2 * permutation.length));
+    }
+    this.size = size;
+    Arrays.fill(special, 0, size, false);
+  }
+
+  /** Loads the objective values and the grid coordinates of a solution */
+  public void setSolution(int index, double[] objectiveValues, int[] gridCoordinates) {
+    Check.valueIsInRange(index, 0, size - 1);
+    int offset = index * numberOfObjectives;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      // Adding 0.0 turns -0.0 into 0.0, which are equal in the comparisons of the sort
+      objectives[offset + j] = objectiveValues[j] + 0.0;
+      g[offset + j] = gridCoordinates[j];
+    }
+  }
+
+  /** Marks a solution as special: it gets {@link #SPECIAL_RANK} in all the objectives */
+  public void setSpecialSolution(int index) {
+    Check.valueIsInRange(index, 0, size - 1);
+    special[index] = true;
+  }
+
+  /**
+   * Computes the ranks of the solutions
+   *
+   * @param d Width of the grid in each objective
+   * @return The indices of the solutions sorted in lexicographic order of their rank vectors
+   */
+  public int[] compute(double[] d) {
+    Check.that(
+        d.length == numberOfObjectives, "The length of d is not " + numberOfObjectives);
+
+    for (int j = 0; j < numberOfObjectives; j++) {
+      rankObjective(j, d[j]);
+    }
+
+    for (int i = 0; i < size; i++) {
+      int offset = i * numberOfObjectives;
+      if (special[i]) {
+        Arrays.fill(ranks, offset, offset + numberOfObjectives, SPECIAL_RANK);
+      } else {
+        Arrays.sort(ranks, offset, offset + numberOfObjectives);
+      }
+    }
+
+    identity();
+    for (int j = numberOfObjectives - 1; j >= 0; j--) {
+      for (int i = 0; i < size; i++) {
+        keys[i] = ranks[i * numberOfObjectives + j];
+      }
+      sort();
+    }
+
+    return Arrays.copyOf(permutation, size);
+  }
+
+  /** Returns the j-th smallest rank of a solution, once {@link #compute(double[])} is invoked */
+  public int getRank(int index, int j) {
+    return ranks[index * numberOfObjectives + j];
+  }
+
+  /**
+   * Sorts the solutions by the grid coordinates in all the objectives but objD (which groups them
+   * into subproblems) and, inside each subproblem, by the value of objective objD
+   */
+  private void rankObjective(int objD, double d) {
+    identity();
+    for (int i = 0; i < size; i++) {
+      long bits = Double.doubleToLongBits(objectives[i * numberOfObjectives + objD]);
+      keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+    sort();
+
+    for (int k = numberOfObjectives - 1; k >= 0; k--) {
+      if (k != objD) {
+        for (int i = 0; i < size; i++) {
+          keys[i] = g[i * numberOfObjectives + k];
+        }
+        sort();
+      }
+    }
+
+    int first = 0;
+    for (int p = 0; p < size; p++) {
+      int individual = permutation[p];
+      if (p > 0 && !sameSubproblem(permutation[p - 1], individual, objD)) {
+        first = p;
+      }
+
+      double objValue = objectives[individual * numberOfObjectives + objD];
+      double firstValue = objectives[permutation[first] * numberOfObjectives + objD];
+
+      int gridRank = (int) Math.ceil((objValue - firstValue) / d);
+      ranks[individual * numberOfObjectives + objD] = Math.max(gridRank + 1, p - first + 1);
+    }
+  }
+
+  private boolean sameSubproblem(int individual1, int individual2, int objD) {
+    int offset1 = individual1 * numberOfObjectives;
+    int offset2 = individual2 * numberOfObjectives;
+    for (int k = 0; k < numberOfObjectives; k++) {
+      if (k != objD && g[offset1 + k] != g[offset2 + k]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void identity() {
+    for (int i = 0; i < size; i++) {
+      permutation[i] = i;
+    }
+  }
+
+  /**
+   * Stable LSD radix sort of the permutation by the keys of the solutions (keys[i] is the key of
+   * solution i). The keys are offset by their minimum, so only the digits of their range are sorted
+   */
+  private void sort() {
+    if (size < 2) {
+      return;
+    }
+
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    for (int i = 0; i < size; i++) {
+      min = Math.min(min, keys[i]);
+      max = Math.max(max, keys[i]);
+    }
+    long range = max - min;
+
+    for (int shift = 0; shift < Long.SIZE && (range >>> shift) != 0; shift += DIGIT_BITS) {
+      int buckets =
+          (Long.compareUnsigned(range >>> shift, RADIX - 1) >= 0)
+              ? RADIX
+              : (int) (range >>> shift) + 1;
+      Arrays.fill(count, 0, buckets, 0);
+      for (int p = 0; p < size; p++) {
+        count[digit(permutation[p], min, shift)]++;
+      }
+      for (int b = 1; b < buckets; b++) {
+        count[b] += count[b - 1];
+      }
+      for (int p = size - 1; p >= 0; p--) {
+        int individual = permutation[p];
+        buffer[--count[digit(individual, min, shift)]] = individual;
+      }
+
+      int[] swap = permutation;
+      permutation = buffer;
+      buffer = swap;
+    }
+  }
+
+  private int digit(int individual, long min, int shift) {
+    return (int) (((keys[individual] - min) >>> shift) & (RADIX - 1));
+  }
+
+  private void ensureCapacity(int capacity) {
+    objectives = new double[capacity * numberOfObjectives];
+    g = new int[capacity * numberOfObjectives];
+    ranks = new int[capacity * numberOfObjectives];
+    special = new boolean[capacity];
+    permutation = new int[capacity];
+    buffer = new int[capacity];
+    keys = new long[capacity];
+  }
+}
@@ -1,8 +1,10 @@
 package org.uma.jmetal.algorithm.multiobjective.espea.util;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.aggregativefunction.ScalarizationKernel;
 import org.uma.jmetal.util.extremevalues.impl.FrontExtremeValues;
 import org.uma.jmetal.util.legacy.front.impl.ArrayFront;
 
@@ -125,14 +127,10 @@ public class ScalarizationUtils {
    * @param weights       Positive constants by which objectives are summed.
    */
   public static <S extends Solution<?>> void weightedSum(List<S> solutionsList, double[] weights) {
+    ScalarizationKernel kernel = ScalarizationKernel.weightedSum(new double[][] {weights});
     for (S solution : solutionsList) {
-      double sum = weights[0] * solution.objectives()[0];
-      for (int i = 1; i < solution.objectives().length; i++) {
-        sum += weights[i] * solution.objectives()[i];
-      }
-      setScalarizationValue(solution, sum);
+      setScalarizationValue(solution, kernel.compute(solution.objectives(), 0, null));
     }
-
   }
 
   /**
@@ -195,13 +193,9 @@ public class ScalarizationUtils {
    * @param idealValues   The ideal point
    */
   public static <S extends Solution<?>> void chebyshev(List<S> solutionsList, double[] idealValues) {
-    for (S solution : solutionsList) {
-      double max = solution.objectives()[0] - idealValues[0];
-      for (int i = 1; i < solution.objectives().length; i++) {
-        max = Math.max(max, solution.objectives()[i] - idealValues[i]);
-      }
-      setScalarizationValue(solution, max);
-    }
+    double[] weights = new double[idealValues.length];
+    Arrays.fill(weights, 1.0);
+    weightedChebyshev(solutionsList, idealValues, weights);
   }
 
   /**
@@ -213,12 +207,9 @@ public class ScalarizationUtils {
    *                      multiplied.
    */
   public static <S extends Solution<?>> void weightedChebyshev(List<S> solutionsList, double[] idealValues, double[] weights) {
+    ScalarizationKernel kernel = ScalarizationKernel.weightedChebyshev(new double[][] {weights});
     for (S solution : solutionsList) {
-      double max = weights[0] * (solution.objectives()[0] - idealValues[0]);
-      for (int i = 1; i < solution.objectives().length; i++) {
-        max = Math.max(max, weights[i] * (solution.objectives()[i] - idealValues[i]));
-      }
-      setScalarizationValue(solution, max);
+      setScalarizationValue(solution, kernel.compute(solution.objectives(), 0, idealValues));
     }
   }
 
@@ -3,6 +3,7 @@ package org.uma.jmetal.algorithm.multiobjective.moead;
 import static java.lang.Double.parseDouble;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -15,19 +16,32 @@ import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.aggregativefunction.ScalarizationKernel;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.checkpoint.Checkpointer;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.point.impl.IdealPoint;
 import org.uma.jmetal.util.point.impl.NadirPoint;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.weightvector.WeightVectorCache;
 
 /**
- * Abstract class for implementing versions of the MOEA/D algorithm.
+ * Abstract class for implementing versions of the MOEA/D algorithm. It provides the support for
+ * saving checkpoints of the state of the algorithm (population, number of evaluations, ideal and
+ * nadir points, weight vectors and neighborhoods) and resuming from them; the subclasses
+ * implementing {@link org.uma.jmetal.algorithm.CheckpointableAlgorithm} use it in their {@link
+ * #run()} method.
  *
  * @author Antonio J. Nebro
  * @version 1.0
  */
 @SuppressWarnings("serial")
 public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<List<S>> {
+  private static final String IDEAL_POINT = "IDEAL_POINT" ;
+  private static final String NADIR_POINT = "NADIR_POINT" ;
+  private static final String WEIGHT_VECTORS = "WEIGHT_VECTORS" ;
+  private static final String NEIGHBORHOOD = "NEIGHBORHOOD" ;
+
   protected enum NeighborType {NEIGHBOR, POPULATION}
   public enum FunctionType {TCHE, PBI, AGG}
 
@@ -67,6 +81,11 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
   protected CrossoverOperator<S> crossoverOperator ;
   protected MutationOperator<S> mutationOperator ;
 
+  protected Checkpointer checkpointer = new Checkpointer() ;
+
+  private ScalarizationKernel scalarizationKernel ;
+  private double[][] scalarizationKernelWeights ;
+
   public AbstractMOEAD(Problem<S> problem, int populationSize, int resultPopulationSize,
       int maxEvaluations, CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutation,
       FunctionType functionType, String dataDirectory, double neighborhoodSelectionProbability,
@@ -93,8 +112,44 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
     lambda = new double[populationSize][problem.getNumberOfObjectives()];
   }
 
+  protected void setCheckpointFile(String checkpointFileName) {
+    checkpointer.setFile(checkpointFileName) ;
+  }
+
+  protected String getCheckpointFile() {
+    return checkpointer.getFile() ;
+  }
+
+  protected void setCheckpointPeriod(long milliseconds) {
+    checkpointer.setPeriod(milliseconds) ;
+  }
+
+  /** Returns a checkpoint containing the state of the algorithm at the end of a generation */
+  protected Checkpoint saveState() {
+    return new Checkpoint(getName())
+        .putList(Checkpoint.POPULATION, population)
+        .put(Checkpoint.EVALUATIONS, evaluations)
+        .put(IDEAL_POINT, idealPoint.getValues())
+        .put(NADIR_POINT, nadirPoint.getValues())
+        .put(WEIGHT_VECTORS, lambda)
+        .put(NEIGHBORHOOD, neighborhood) ;
+  }
+
+  /** Restores the state of the algorithm from a checkpoint created by {@link #saveState()} */
+  protected void restoreState(Checkpoint checkpoint) {
+    checkpoint.checkAlgorithmName(getName()) ;
+    checkpoint.restoreRandomGenerator() ;
+    population = checkpoint.getList(Checkpoint.POPULATION) ;
+    evaluations = checkpoint.getInt(Checkpoint.EVALUATIONS) ;
+    idealPoint.set(checkpoint.get(IDEAL_POINT)) ;
+    nadirPoint.set(checkpoint.get(NADIR_POINT)) ;
+    lambda = checkpoint.get(WEIGHT_VECTORS) ;
+    neighborhood = checkpoint.get(NEIGHBORHOOD) ;
+  }
+
   /**
-   * Initialize weight vectors
+   * Initialize weight vectors. If there is no file of weight vectors for the number of objectives
+   * and the population size, the vectors are generated (see {@link WeightVectorCache})
    */
   protected void initializeUniformWeight() {
     if ((problem.getNumberOfObjectives() == 2) && (populationSize <= 300)) {
@@ -120,7 +175,13 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
                 .getClassLoader()
                 .getResourceAsStream(path);
         if (inputStream == null) {
-          inputStream = new FileInputStream(dataDirectory + "/" + dataFileName);
+          File file = new File(dataDirectory + "/" + dataFileName);
+          if (!file.exists()) {
+            lambda =
+                WeightVectorCache.getWeightVectors(problem.getNumberOfObjectives(), populationSize);
+            return;
+          }
+          inputStream = new FileInputStream(file);
         }
         InputStreamReader isr = new InputStreamReader(inputStream);
         BufferedReader br = new BufferedReader(isr);
@@ -148,24 +209,11 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
   }
 
   /**
-   * Initialize neighborhoods
+   * Initialize neighborhoods. The neighbors of a subproblem are sorted by the distance of their
+   * weight vectors (ties are broken by index)
    */
   protected void initializeNeighborhood() {
-    double[] x = new double[populationSize];
-    int[] idx = new int[populationSize];
-
-    for (int i = 0; i < populationSize; i++) {
-      // calculate the distances based on weight vectors
-      for (int j = 0; j < populationSize; j++) {
-        x[j] = MOEADUtils.distVector(lambda[i], lambda[j]);
-        idx[j] = j;
-      }
-
-      // find 'niche' nearest neighboring subproblems
-      MOEADUtils.minFastSort(x, idx, populationSize, neighborSize);
-
-      System.arraycopy(idx, 0, neighborhood[i], 0, neighborSize);
-    }
+    neighborhood = WeightVectorCache.getNeighborhood(lambda, neighborSize);
   }
 
   protected NeighborType chooseNeighborType() {
@@ -234,7 +282,6 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
    * @param neighborType
    * @throws JMetalException
    */
-  @SuppressWarnings("unchecked")
   protected  void updateNeighborhood(S individual, int subProblemId, NeighborType neighborType) throws JMetalException {
     int size;
     int time;
@@ -257,13 +304,7 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
       } else {
         k = perm[i];
       }
-      double f1, f2;
-
-      f1 = fitnessFunction(population.get(k), lambda[k]);
-      f2 = fitnessFunction(individual, lambda[k]);
-
-      if (f2 < f1) {
-        population.set(k, (S)individual.copy());
+      if (replaceIfBetter(individual, k)) {
         time++;
       }
 
@@ -273,58 +314,55 @@ public abstract class AbstractMOEAD<S extends Solution<?>> implements Algorithm<
     }
   }
 
-  double fitnessFunction(S individual, double[] lambda) throws JMetalException {
-    double fitness;
-
-    if (MOEAD.FunctionType.TCHE.equals(functionType)) {
-      double maxFun = -1.0e+30;
-
-      for (int n = 0; n < problem.getNumberOfObjectives(); n++) {
-        double diff = Math.abs(individual.objectives()[n] - idealPoint.getValue(n));
-
-        double feval;
-        if (lambda[n] == 0) {
-          feval = 0.0001 * diff;
-        } else {
-          feval = diff * lambda[n];
-        }
-        if (feval > maxFun) {
-          maxFun = feval;
-        }
-      }
+  /**
+   * Replaces the solution of subproblem k by a copy of an individual if the individual is better
+   * for that subproblem
+   *
+   * @return true if the solution has been replaced
+   */
+  @SuppressWarnings("unchecked")
+  protected boolean replaceIfBetter(S individual, int k) {
+    double f1, f2;
 
-      fitness = maxFun;
-    } else if (MOEAD.FunctionType.AGG.equals(functionType)) {
-      double sum = 0.0;
-      for (int n = 0; n < problem.getNumberOfObjectives(); n++) {
-        sum += (lambda[n]) * individual.objectives()[n];
-      }
+    f1 = fitnessFunction(population.get(k), lambda[k]);
+    f2 = fitnessFunction(individual, lambda[k]);
 
-      fitness = sum;
+    if (f2 < f1) {
+      population.set(k, (S)individual.copy());
+      return true;
+    }
 
-    } else if (MOEAD.FunctionType.PBI.equals(functionType)) {
-      double d1, d2, nl;
-      double theta = 5.0;
+    return false;
+  }
 
-      d1 = d2 = nl = 0.0;
+  /** Returns the ideal point used by the fitness function */
+  protected double[] getIdealPointValues() {
+    return idealPoint.getValues();
+  }
 
-      for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-        d1 += (individual.objectives()[i] - idealPoint.getValue(i)) * lambda[i];
-        nl += Math.pow(lambda[i], 2.0);
+  /**
+   * Returns the kernel computing the fitness function. It contains the weight vectors, so it is
+   * created again if they are replaced
+   */
+  protected ScalarizationKernel getScalarizationKernel() {
+    if ((scalarizationKernel == null) || (scalarizationKernelWeights != lambda)) {
+      if (MOEAD.FunctionType.TCHE.equals(functionType)) {
+        scalarizationKernel = ScalarizationKernel.tchebycheff(lambda);
+      } else if (MOEAD.FunctionType.AGG.equals(functionType)) {
+        scalarizationKernel = ScalarizationKernel.weightedSum(lambda);
+      } else if (MOEAD.FunctionType.PBI.equals(functionType)) {
+        scalarizationKernel = ScalarizationKernel.pbi(lambda);
+      } else {
+        throw new JMetalException(" MOEAD.fitnessFunction: unknown type " + functionType);
       }
-      nl = Math.sqrt(nl);
-      d1 = Math.abs(d1) / nl;
+      scalarizationKernelWeights = lambda;
+    }
 
-      for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-        d2 += Math.pow((individual.objectives()[i] - idealPoint.getValue(i)) - d1 * (lambda[i] / nl), 2.0);
-      }
-      d2 = Math.sqrt(d2);
+    return scalarizationKernel;
+  }
 
-      fitness = (d1 + theta * d2);
-    } else {
-      throw new JMetalException(" MOEAD.fitnessFunction: unknown type " + functionType);
-    }
-    return fitness;
+  double fitnessFunction(S individual, double[] lambda) throws JMetalException {
+    return getScalarizationKernel().compute(individual.objectives(), lambda, getIdealPointValues());
   }
 
   @Override
@@ -1,6 +1,7 @@
 package org.uma.jmetal.algorithm.multiobjective.moead;
 
 import java.util.List;
+import org.uma.jmetal.algorithm.CheckpointableAlgorithm;
 import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
 import org.uma.jmetal.algorithm.multiobjective.moead.util.ViolationThresholdComparator;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
@@ -8,6 +9,7 @@ import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
 
 /**
  * This class implements a constrained version of the MOEAD algorithm based on the one presented in
@@ -18,7 +20,8 @@ import org.uma.jmetal.solution.doublesolution.DoubleSolution;
  * @version 1.0
  */
 @SuppressWarnings("serial")
-public class ConstraintMOEAD extends AbstractMOEAD<DoubleSolution>  {
+public class ConstraintMOEAD extends AbstractMOEAD<DoubleSolution>
+    implements CheckpointableAlgorithm<List<DoubleSolution>> {
 
   private DifferentialEvolutionCrossover differentialEvolutionCrossover ;
   private ViolationThresholdComparator<DoubleSolution> violationThresholdComparator ;
@@ -43,16 +46,46 @@ public class ConstraintMOEAD extends AbstractMOEAD<DoubleSolution>  {
   }
 
   @Override public void run() {
-    initializeUniformWeight();
-    initializeNeighborhood();
-    initializePopulation();
-    idealPoint.update(population);
+    Checkpoint checkpoint = checkpointer.read() ;
+    if (checkpoint == null) {
+      checkpointer.start() ;
+      initializeUniformWeight();
+      initializeNeighborhood();
+      initializePopulation();
+      idealPoint.update(population);
+
+      evaluations = populationSize ;
+    } else {
+      restoreState(checkpoint) ;
+    }
 
+    // The threshold only depends on the population, so it is not stored in the checkpoints
     violationThresholdComparator.updateThreshold(population);
 
-    evaluations = populationSize ;
+    try {
+      generationLoop() ;
+    } finally {
+      checkpointer.close() ;
+    }
+  }
+
+  @Override
+  public void setCheckpointFile(String checkpointFileName) {
+    super.setCheckpointFile(checkpointFileName) ;
+  }
+
+  @Override
+  public String getCheckpointFile() {
+    return super.getCheckpointFile() ;
+  }
 
-    do {
+  @Override
+  public void setCheckpointPeriod(long milliseconds) {
+    super.setCheckpointPeriod(milliseconds) ;
+  }
+
+  private void generationLoop() {
+    while (evaluations < maxEvaluations) {
       int[] permutation = new int[populationSize];
       MOEADUtils.randomPermutation(permutation, populationSize);
 
@@ -77,7 +110,8 @@ public class ConstraintMOEAD extends AbstractMOEAD<DoubleSolution>  {
 
       violationThresholdComparator.updateThreshold(population);
 
-    } while (evaluations < maxEvaluations);
+      checkpointer.checkpointIfDue(this::saveState) ;
+    }
   }
 
   public void initializePopulation() {
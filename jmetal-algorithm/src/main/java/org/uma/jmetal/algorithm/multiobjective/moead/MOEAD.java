@@ -2,12 +2,14 @@ package org.uma.jmetal.algorithm.multiobjective.moead;
 
 import java.util.ArrayList;
 import java.util.List;
+import org.uma.jmetal.algorithm.CheckpointableAlgorithm;
 import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
 
 /**
  * Class implementing the MOEA/D-DE algorithm described in :
@@ -19,7 +21,8 @@ import org.uma.jmetal.solution.doublesolution.DoubleSolution;
  * @version 1.0
  */
 @SuppressWarnings("serial")
-public class MOEAD extends AbstractMOEAD<DoubleSolution> {
+public class MOEAD extends AbstractMOEAD<DoubleSolution>
+    implements CheckpointableAlgorithm<List<DoubleSolution>> {
   protected DifferentialEvolutionCrossover differentialEvolutionCrossover ;
 
   public MOEAD(Problem<DoubleSolution> problem,
@@ -41,13 +44,43 @@ public class MOEAD extends AbstractMOEAD<DoubleSolution> {
   }
 
   @Override public void run() {
-    initializePopulation() ;
-    initializeUniformWeight();
-    initializeNeighborhood();
-    idealPoint.update(population); ;
+    Checkpoint checkpoint = checkpointer.read() ;
+    if (checkpoint == null) {
+      checkpointer.start() ;
+      initializePopulation() ;
+      initializeUniformWeight();
+      initializeNeighborhood();
+      idealPoint.update(population); ;
+
+      evaluations = populationSize ;
+    } else {
+      restoreState(checkpoint) ;
+    }
+
+    try {
+      generationLoop() ;
+    } finally {
+      checkpointer.close() ;
+    }
+  }
+
+  @Override
+  public void setCheckpointFile(String checkpointFileName) {
+    super.setCheckpointFile(checkpointFileName) ;
+  }
 
-    evaluations = populationSize ;
-    do {
+  @Override
+  public String getCheckpointFile() {
+    return super.getCheckpointFile() ;
+  }
+
+  @Override
+  public void setCheckpointPeriod(long milliseconds) {
+    super.setCheckpointPeriod(milliseconds) ;
+  }
+
+  private void generationLoop() {
+    while (evaluations < maxEvaluations) {
       int[] permutation = new int[populationSize];
       MOEADUtils.randomPermutation(permutation, populationSize);
 
@@ -69,8 +102,9 @@ public class MOEAD extends AbstractMOEAD<DoubleSolution> {
         idealPoint.update(child.objectives());
         updateNeighborhood(child, subProblemId, neighborType);
       }
-    } while (evaluations < maxEvaluations);
 
+      checkpointer.checkpointIfDue(this::saveState) ;
+    }
   }
 
   protected void initializePopulation() {
@@ -15,7 +15,7 @@ import org.uma.jmetal.solution.doublesolution.DoubleSolution;
  * @version 1.0
  */
 public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSolution>> {
-  public enum Variant {MOEAD, ConstraintMOEAD, MOEADDRA, MOEADSTM, MOEADD, MOEADIEPSILON} ;
+  public enum Variant {MOEAD, ConstraintMOEAD, MOEADDRA, MOEADSTM, MOEADD, MOEADIEPSILON, ParallelMOEAD} ;
 
   protected Problem<DoubleSolution> problem ;
 
@@ -41,6 +41,9 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
 
   protected Variant moeadVariant ;
 
+  protected ParallelMOEAD.Mode parallelMode ;
+  protected int batchSize ;
+
   /** Constructor */
   public MOEADBuilder(Problem<DoubleSolution> problem, Variant variant) {
     this.problem = problem ;
@@ -56,6 +59,8 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
     neighborSize = 20 ;
     numberOfThreads = 1 ;
     moeadVariant = variant ;
+    parallelMode = ParallelMOEAD.Mode.REPRODUCIBLE ;
+    batchSize = 0 ;
   }
 
   /* Getters/Setters */
@@ -103,6 +108,14 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
     return numberOfThreads ;
   }
 
+  public ParallelMOEAD.Mode getParallelMode() {
+    return parallelMode ;
+  }
+
+  public int getBatchSize() {
+    return batchSize ;
+  }
+
   public MOEADBuilder setPopulationSize(int populationSize) {
     this.populationSize = populationSize;
 
@@ -169,6 +182,19 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
     return this ;
   }
 
+  public MOEADBuilder setParallelMode(ParallelMOEAD.Mode parallelMode) {
+    this.parallelMode = parallelMode ;
+
+    return this ;
+  }
+
+  /** Batch size of the reproducible mode of ParallelMOEAD. By default, the number of threads */
+  public MOEADBuilder setBatchSize(int batchSize) {
+    this.batchSize = batchSize ;
+
+    return this ;
+  }
+
   public AbstractMOEAD<DoubleSolution> build() {
     AbstractMOEAD<DoubleSolution> algorithm = null ;
     if (moeadVariant.equals(Variant.MOEAD)) {
@@ -195,6 +221,11 @@ public class MOEADBuilder implements AlgorithmBuilder<AbstractMOEAD<DoubleSoluti
       algorithm = new MOEADIEpsilon(problem, populationSize, resultPopulationSize, maxEvaluations, mutation,
           crossover, functionType, dataDirectory, neighborhoodSelectionProbability,
           maximumNumberOfReplacedSolutions, neighborSize);
+    } else if (moeadVariant.equals(Variant.ParallelMOEAD)) {
+      algorithm = new ParallelMOEAD(problem, populationSize, resultPopulationSize, maxEvaluations, mutation,
+          crossover, functionType, dataDirectory, neighborhoodSelectionProbability,
+          maximumNumberOfReplacedSolutions, neighborSize, numberOfThreads, parallelMode,
+          (batchSize > 0) ? batchSize : numberOfThreads);
     }
 
     return algorithm ;
@@ -1,24 +1,38 @@
 package org.uma.jmetal.algorithm.multiobjective.moead;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import org.uma.jmetal.algorithm.CheckpointableAlgorithm;
+import org.uma.jmetal.algorithm.multiobjective.moead.util.IndexPartition;
 import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
 import org.uma.jmetal.util.point.impl.IdealPoint;
 import org.uma.jmetal.util.point.impl.NadirPoint;
 import org.uma.jmetal.util.ranking.Ranking;
 import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
 
+/**
+ * MOEA/DD. The non-domination levels and the subregions of the solutions of the population are
+ * kept in two {@link IndexPartition}s of the positions of the solutions (the index of the level or
+ * subregion of a solution is obtained in constant time, and the members of a level or subregion are
+ * visited in increasing order of position), so the memory used is O(N) and the cost of the
+ * steady-state update depends on the size of the affected levels and subregions.
+ */
 @SuppressWarnings("serial")
-public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
+public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S>
+    implements CheckpointableAlgorithm<List<S>> {
+  private static final String LEVELS = "LEVELS";
+  private static final String SUBREGIONS = "SUBREGIONS";
+  private static final String NUMBER_OF_RANKS = "NUMBER_OF_RANKS";
 
   protected Ranking<S> ranking;
-  protected int[][] rankIdx;      // index matrix for the non-domination levels
-  protected int[][] subregionIdx;    // index matrix for subregion record
-  protected double[][] subregionDist;  // distance matrix for perpendicular distance
+  protected IndexPartition levels;      // positions of the solutions of each non-domination level
+  protected IndexPartition subregions;  // positions of the solutions of each subregion
   protected int numRanks;
 
   public MOEADD(Problem<S> problem,
@@ -37,45 +51,65 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
   @Override
   public void run() {
+    Checkpoint checkpoint = checkpointer.read();
+    if (checkpoint == null) {
+      checkpointer.start();
+      evaluations = 0;
+      population = new ArrayList<>(populationSize);
 
-    evaluations = 0;
-    population = new ArrayList<>(populationSize);
+      neighborhood = new int[populationSize][neighborSize];
+      lambda = new double[populationSize][problem.getNumberOfObjectives()];
 
-    neighborhood = new int[populationSize][neighborSize];
-    lambda = new double[populationSize][problem.getNumberOfObjectives()];
+      idealPoint = new IdealPoint(problem.getNumberOfObjectives()); // ideal point for Pareto-based population
+      nadirPoint = new NadirPoint(problem.getNumberOfObjectives()); // nadir point for Pareto-based population
 
-    idealPoint = new IdealPoint(problem.getNumberOfObjectives()); // ideal point for Pareto-based population
-    nadirPoint = new NadirPoint(problem.getNumberOfObjectives()); // nadir point for Pareto-based population
+      levels = new IndexPartition(populationSize, 0);
+      subregions = new IndexPartition(populationSize, populationSize);
 
-    rankIdx = new int[populationSize][populationSize];
-    subregionIdx = new int[populationSize][populationSize];
-    subregionDist = new double[populationSize][populationSize];
+      // STEP 1. Initialization
+      initializeUniformWeight();
+      initializeNeighborhood();
+      initPopulation();
+      idealPoint.update(population);
+      nadirPoint.update(population);
 
-    // STEP 1. Initialization
-    initializeUniformWeight();
-    initializeNeighborhood();
-    initPopulation();
-    idealPoint.update(population);
-    nadirPoint.update(population);
+      // normalize the weight vectors
+      for (int i = 0; i < populationSize; i++) {
+        normalizeWeightVector(lambda[i]);
+      }
 
-    // initialize the distance
-    for (int i = 0; i < populationSize; i++) {
-      double distance = calculateDistance2(
-          population.get(i), lambda[i], idealPoint.getValues(), nadirPoint.getValues());
-      subregionDist[i][i] = distance;
+      ranking = computeRanking(population);
+      for (int i = 0; i < populationSize; i++) {
+        levels.add(i, ranking.getRank(population.get(i)));
+      }
+    } else {
+      restoreState(checkpoint);
     }
 
-    ranking = computeRanking(population);
-    for (int curRank = 0; curRank < ranking.getNumberOfSubFronts(); curRank++) {
-      List<S> front = ranking.getSubFront(curRank);
-      for (S s : front) {
-        int position = this.population.indexOf(s);
-        rankIdx[curRank][position] = 1;
-      }
+    try {
+      generationLoop();
+    } finally {
+      checkpointer.close();
     }
+  }
 
-    // main procedure
-    do {
+  @Override
+  public void setCheckpointFile(String checkpointFileName) {
+    super.setCheckpointFile(checkpointFileName);
+  }
+
+  @Override
+  public String getCheckpointFile() {
+    return super.getCheckpointFile();
+  }
+
+  @Override
+  public void setCheckpointPeriod(long milliseconds) {
+    super.setCheckpointPeriod(milliseconds);
+  }
+
+  private void generationLoop() {
+    while (evaluations < maxEvaluations) {
       int[] permutation = new int[populationSize];
       MOEADUtils.randomPermutation(permutation, populationSize);
 
@@ -104,7 +138,30 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
         nadirPoint.update(child.objectives());
         updateArchive(child);
       }
-    } while (evaluations < maxEvaluations);
+
+      checkpointer.checkpointIfDue(this::saveState);
+    }
+  }
+
+  /**
+   * The state also comprises the non-domination levels and the subregions. The ranks of the
+   * solutions are stored in their attributes, so the ranking is only used to access them
+   */
+  @Override
+  protected Checkpoint saveState() {
+    return super.saveState()
+        .put(LEVELS, levels)
+        .put(SUBREGIONS, subregions)
+        .put(NUMBER_OF_RANKS, numRanks);
+  }
+
+  @Override
+  protected void restoreState(Checkpoint checkpoint) {
+    super.restoreState(checkpoint);
+    levels = checkpoint.get(LEVELS);
+    subregions = checkpoint.get(SUBREGIONS);
+    numRanks = checkpoint.getInt(NUMBER_OF_RANKS);
+    ranking = new FastNonDominatedSortRanking<>();
   }
 
   /**
@@ -116,7 +173,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
       problem.evaluate(newSolution);
       evaluations++;
       population.add(newSolution);
-      subregionIdx[i][i] = 1;
+      subregions.add(i, i);
     }
   }
 
@@ -128,88 +185,42 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
     List<S> parents = new ArrayList<>(2);
 
-    int nLength = neighborhood[cid].length;
-
     ArrayList<Integer> activeList = new ArrayList<>();
     if (type == 1) {
-      for (int i = 0; i < nLength; i++) {
-        int idx = neighborhood[cid][i];
-        for (int j = 0; j < populationSize; j++) {
-          if (subregionIdx[idx][j] == 1) {
-            activeList.add(idx);
-            break;
-          }
-        }
-      }
-      if (activeList.size() < 2) {
-        activeList.clear();
-        for (int i = 0; i < populationSize; i++) {
-          for (int j = 0; j < populationSize; j++) {
-            if (subregionIdx[i][j] == 1) {
-              activeList.add(i);
-              break;
-            }
-          }
-        }
-      }
-      int activeSize = activeList.size();
-      rnd1 = randomGenerator.nextInt(0, activeSize - 1);
-      do {
-        rnd2 = randomGenerator.nextInt(0, activeSize - 1);
-      } while (rnd1 == rnd2);  // in a very extreme case, this will be a dead loop
-      ArrayList<Integer> list1 = new ArrayList<>();
-      ArrayList<Integer> list2 = new ArrayList<>();
-      int id1 = activeList.get(rnd1);
-      int id2 = activeList.get(rnd2);
-      for (int i = 0; i < populationSize; i++) {
-        if (subregionIdx[id1][i] == 1) {
-          list1.add(i);
-        }
-        if (subregionIdx[id2][i] == 1) {
-          list2.add(i);
-        }
-      }
-      int p1 = randomGenerator.nextInt(0, list1.size() - 1);
-      int p2 = randomGenerator.nextInt(0, list2.size() - 1);
-      parents.add(population.get(list1.get(p1)));
-      parents.add(population.get(list2.get(p2)));
-    } else {
-      for (int i = 0; i < populationSize; i++) {
-        for (int j = 0; j < populationSize; j++) {
-          if (subregionIdx[i][j] == 1) {
-            activeList.add(i);
-            break;
-          }
+      for (int idx : neighborhood[cid]) {
+        if (subregions.size(idx) > 0) {
+          activeList.add(idx);
         }
       }
-      int activeSize = activeList.size();
-      rnd1 = randomGenerator.nextInt(0, activeSize - 1);
-      do {
-        rnd2 = randomGenerator.nextInt(0, activeSize - 1);
-      } while (rnd1 == rnd2);  // in a very extreme case, this will be a dead loop
-      ArrayList<Integer> list1 = new ArrayList<>();
-      ArrayList<Integer> list2 = new ArrayList<>();
-      int id1 = activeList.get(rnd1);
-      int id2 = activeList.get(rnd2);
+    }
+    if (activeList.size() < 2) {
+      activeList.clear();
       for (int i = 0; i < populationSize; i++) {
-        if (subregionIdx[id1][i] == 1) {
-          list1.add(i);
-        }
-        if (subregionIdx[id2][i] == 1) {
-          list2.add(i);
+        if (subregions.size(i) > 0) {
+          activeList.add(i);
         }
       }
-      int p1 = randomGenerator.nextInt(0, list1.size() - 1);
-      int p2 = randomGenerator.nextInt(0, list2.size() - 1);
-      parents.add(population.get(list1.get(p1)));
-      parents.add(population.get(list2.get(p2)));
     }
 
+    int activeSize = activeList.size();
+    rnd1 = randomGenerator.nextInt(0, activeSize - 1);
+    do {
+      rnd2 = randomGenerator.nextInt(0, activeSize - 1);
+    } while (rnd1 == rnd2);  // in a very extreme case, this will be a dead loop
+    int id1 = activeList.get(rnd1);
+    int id2 = activeList.get(rnd2);
+    int p1 = randomGenerator.nextInt(0, subregions.size(id1) - 1);
+    int p2 = randomGenerator.nextInt(0, subregions.size(id2) - 1);
+    parents.add(population.get(subregions.get(id1, p1)));
+    parents.add(population.get(subregions.get(id2, p2)));
+
     return parents;
   } // matingSelection
 
   /**
-   * update the parent population by using the ENLU method, instead of fast non-dominated sorting
+   * update the parent population by using the ENLU method, instead of fast non-dominated sorting.
+   * The solutions of the last non-domination level are identified by their positions in the
+   * population; 'indiv', which is not in the population yet, is identified by -1
    */
   public void updateArchive(S indiv) {
 
@@ -222,33 +233,29 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
     if (numRanks == 1) {
       deleteRankOne(indiv, location);
     } else {
-      ArrayList<S> lastFront = new ArrayList<>(populationSize);
+      int[] lastFront;
       int frontSize = countRankOnes(numRanks - 1);
       if (frontSize == 0) {  // the last non-domination level only contains 'indiv'
         frontSize++;
-        lastFront.add(indiv);
+        lastFront = new int[] {-1};
       } else {
-        for (int i = 0; i < populationSize; i++) {
-          if (rankIdx[numRanks - 1][i] == 1) {
-            lastFront.add((S) population.get(i));
-          }
-        }
+        lastFront = levels.members(numRanks - 1);
         if ((ranking.getRank(indiv)) == (numRanks - 1)) {
-//        if (rankSolution.getOrDefault(indiv, 0) == (numRanks - 1)) {
           frontSize++;
-          lastFront.add(indiv);
+          lastFront = Arrays.copyOf(lastFront, frontSize);
+          lastFront[frontSize - 1] = -1;
         }
       }
 
-      if (frontSize == 1 && lastFront.get(0).equals(indiv)) {  // the last non-domination level only has 'indiv'
+      if (frontSize == 1 && lastFront[0] == -1) {  // the last non-domination level only has 'indiv'
         int curNC = countOnes(location);
         if (curNC > 0) {  // if the subregion of 'indiv' has other solution, drop 'indiv'
           nondominated_sorting_delete(indiv);
         } else {  // if the subregion of 'indiv' has no solution, keep 'indiv'
           deleteCrowdRegion1(indiv, location);
         }
-      } else if (frontSize == 1 && !lastFront.get(0).equals(indiv)) { // the last non-domination level only has one solution, but not 'indiv'
-        int targetIdx = findPosition(lastFront.get(0));
+      } else if (frontSize == 1) { // the last non-domination level only has one solution, but not 'indiv'
+        int targetIdx = lastFront[0];
         int parentLocation = findRegion(targetIdx);
         int curNC = countOnes(parentLocation);
         if (parentLocation == location) {
@@ -258,30 +265,17 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
         if (curNC == 1) {  // the subregion only has the solution 'targetIdx', keep solution 'targetIdx'
           deleteCrowdRegion2(indiv, location);
         } else {  // the subregion contains some other solutions, drop solution 'targetIdx'
-          int indivRank = ranking.getRank(indiv);
-          int targetRank = ranking.getRank(population.get(targetIdx));
-          rankIdx[targetRank][targetIdx] = 0;
-          rankIdx[indivRank][targetIdx] = 1;
-
-          S targetSol = population.get(targetIdx);
-
-          replace(targetIdx, indiv);
-          subregionIdx[parentLocation][targetIdx] = 0;
-          subregionIdx[location][targetIdx] = 1;
-
-          // update the non-domination level structure
-          nondominated_sorting_delete(targetSol);
+          replaceAndDelete(targetIdx, indiv, location);
         }
       } else {
 
         double indivFitness = fitnessFunction(indiv, lambda[location]);
 
-        // find the index of the solution in the last non-domination level, and its corresponding subregion
-        int[] idxArray = new int[frontSize];
+        // the index of the solutions in the last non-domination level, and their corresponding subregions
+        int[] idxArray = lastFront;
         int[] regionArray = new int[frontSize];
 
         for (int i = 0; i < frontSize; i++) {
-          idxArray[i] = findPosition(lastFront.get(i));
           if (idxArray[i] == -1) {
             regionArray[i] = location;
           } else {
@@ -374,27 +368,46 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
               if (idxArray[targetIdx] == -1) {
                 nondominated_sorting_delete(indiv);
               } else {
-                //indiv.getRank();
-                int indivRank = ranking.getRank(indiv);
+                replaceAndDelete(idxArray[targetIdx], indiv, location);
+              }
+            }
+            break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Replaces the solution at position 'targetIdx' by 'indiv', which is placed in the non-domination
+   * level and subregion of 'indiv', and updates the non-domination level structure
+   */
+  private void replaceAndDelete(int targetIdx, S indiv, int location) {
+    levels.move(targetIdx, ranking.getRank(indiv));
 
-                //int targetRank = ((DoubleSolution) population.get(idxArray[targetIdx])).getRank();
-                int targetRank = ranking.getRank(population.get(idxArray[targetIdx])) ;
+    S targetSol = population.get(targetIdx);
 
-                rankIdx[targetRank][idxArray[targetIdx]] = 0;
-                rankIdx[indivRank][idxArray[targetIdx]] = 1;
+    replace(targetIdx, indiv);
+    subregions.move(targetIdx, location);
 
-                S targetSol = population.get(idxArray[targetIdx]);
+    // update the non-domination level structure
+    nondominated_sorting_delete(targetSol);
+  }
 
-                replace(idxArray[targetIdx], indiv);
-                subregionIdx[crowdIdx][idxArray[targetIdx]] = 0;
-                subregionIdx[location][idxArray[targetIdx]] = 1;
+  /** Sets the rank of a solution, and moves it to the corresponding non-domination level */
+  private void moveToLevel(int position, int rank) {
+    population.get(position).attributes().put(ranking.getAttributedId(), rank);
+    levels.move(position, rank);
+  }
 
-                // update the non-domination level structure
-                nondominated_sorting_delete(targetSol);
-              }
-            }
-            break;
-        }
+  /**
+   * Moves the solutions of the non-domination levels from 'from' to 'to' - 1 to their next levels
+   * ('to' must be empty)
+   */
+  private void shiftLevels(int from, int to) {
+    levels.shiftGroups(from, to);
+    for (int rank = from + 1; rank <= to; rank++) {
+      for (int i = 0; i < levels.size(rank); i++) {
+        population.get(levels.get(rank, i)).attributes().put(ranking.getAttributedId(), rank);
       }
     }
   }
@@ -405,40 +418,28 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
   public void nondominated_sorting_delete(S indiv) {
 
     // find the non-domination level of 'indiv'
-    //int indivRank = indiv.getRank();
     int indivRank = ranking.getRank(indiv);
 
-    ArrayList<Integer> curLevel = new ArrayList<>();  // used to keep the solutions in the current non-domination level
+    int[] curLevel = levels.members(indivRank);  // used to keep the solutions in the current non-domination level
     ArrayList<Integer> dominateList = new ArrayList<>();  // used to keep the solutions need to be moved
 
-    for (int i = 0; i < populationSize; i++) {
-      if (rankIdx[indivRank][i] == 1) {
-        curLevel.add(i);
-      }
-    }
-
     int flag;
     // find the solutions belonging to the 'indivRank+1'th level and are dominated by 'indiv'
     int investigateRank = indivRank + 1;
     if (investigateRank < numRanks) {
-      for (int i = 0; i < populationSize; i++) {
-        if (rankIdx[investigateRank][i] == 1) {
-          flag = 0;
-          if (checkDominance(indiv, population.get(i)) == 1) {
-            for (int j = 0; j < curLevel.size(); j++) {
-              if (checkDominance(population.get(i), population.get(curLevel.get(j))) == -1) {
-                flag = 1;
-                break;
-              }
-            }
-            if (flag == 0) {  // the ith solution can move to the prior level
-              dominateList.add(i);
-              rankIdx[investigateRank][i] = 0;
-              rankIdx[investigateRank - 1][i] = 1;
-              //((DoubleSolution) population.get(i)).setRank(investigateRank - 1);
-              population.get(i).attributes().put(ranking.getAttributedId(), investigateRank - 1);
+      for (int i : levels.members(investigateRank)) {
+        flag = 0;
+        if (checkDominance(indiv, population.get(i)) == 1) {
+          for (int j : curLevel) {
+            if (checkDominance(population.get(i), population.get(j)) == -1) {
+              flag = 1;
+              break;
             }
           }
+          if (flag == 0) {  // the ith solution can move to the prior level
+            dominateList.add(i);
+            moveToLevel(i, investigateRank - 1);
+          }
         }
       }
     }
@@ -446,45 +447,30 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
     int curIdx;
     int curListSize = dominateList.size();
     while (curListSize != 0) {
-      curLevel.clear();
-      for (int i = 0; i < populationSize; i++) {
-        if (rankIdx[investigateRank][i] == 1) {
-          curLevel.add(i);
-        }
-      }
+      curLevel = levels.members(investigateRank);
       investigateRank = investigateRank + 1;
 
       if (investigateRank < numRanks) {
         for (int i = 0; i < curListSize; i++) {
           curIdx = dominateList.get(i);
-          for (int j = 0; j < populationSize; j++) {
-            if (j == populationSize) {
-              System.err.println("There are problems");
-            }
-            if (rankIdx[investigateRank][j] == 1) {
-              flag = 0;
-              if (checkDominance(population.get(curIdx), population.get(j)) == 1) {
-                for (int k = 0; k < curLevel.size(); k++) {
-                  if (checkDominance(population.get(j), population.get(curLevel.get(k))) == -1) {
-                    flag = 1;
-                    break;
-                  }
-                }
-                if (flag == 0) {
-                  dominateList.add(j);
-                  rankIdx[investigateRank][j] = 0;
-                  rankIdx[investigateRank - 1][j] = 1;
-                  //((DoubleSolution) population.get(j)).setRank(investigateRank - 1);
-                  population.get(j).attributes().put(ranking.getAttributedId(), investigateRank - 1);
+          for (int j : levels.members(investigateRank)) {
+            flag = 0;
+            if (checkDominance(population.get(curIdx), population.get(j)) == 1) {
+              for (int k : curLevel) {
+                if (checkDominance(population.get(j), population.get(k)) == -1) {
+                  flag = 1;
+                  break;
                 }
               }
+              if (flag == 0) {
+                dominateList.add(j);
+                moveToLevel(j, investigateRank - 1);
+              }
             }
           }
         }
       }
-      for (int i = 0; i < curListSize; i++) {
-        dominateList.remove(0);
-      }
+      dominateList.subList(0, curListSize).clear();
 
       curListSize = dominateList.size();
     }
@@ -517,11 +503,9 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
     for (int i = 0; i < num_ranks; i++) {
       level = i;
       if (flag == 1) {  // 'indiv' is non-dominated with all solutions in the ith non-domination level, then 'indiv' belongs to the ith level
-        //indiv.setRank(i - 1);
         indiv.attributes().put(ranking.getAttributedId(), i - 1);
         return num_ranks;
       } else if (flag == 2) {  // 'indiv' dominates some solutions in the ith level, but is non-dominated with some others, then 'indiv' belongs to the ith level, and move the dominated solutions to the next level
-        //indiv.setRank(i - 1);
         indiv.attributes().put(ranking.getAttributedId(), i - 1);
         int prevRank = i - 1;
 
@@ -530,27 +514,18 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
         int newRank = prevRank + 1;
         int curListSize = dominateList.size();
         for (int j = 0; j < curListSize; j++) {
-          curIdx = dominateList.get(j);
-          rankIdx[prevRank][curIdx] = 0;
-          rankIdx[newRank][curIdx] = 1;
-          //((DoubleSolution) population.get(curIdx)).setRank(newRank);
-          population.get(curIdx).attributes().put(ranking.getAttributedId(), newRank);
+          moveToLevel(dominateList.get(j), newRank);
         }
-        for (int j = 0; j < populationSize; j++) {
-          if (rankIdx[newRank][j] == 1) {
-            for (int k = 0; k < curListSize; k++) {
-              curIdx = dominateList.get(k);
-              if (checkDominance(population.get(curIdx), population.get(j)) == 1) {
-                dominateList.add(j);
-                break;
-              }
-
+        for (int j : levels.members(newRank)) {
+          for (int k = 0; k < curListSize; k++) {
+            curIdx = dominateList.get(k);
+            if (checkDominance(population.get(curIdx), population.get(j)) == 1) {
+              dominateList.add(j);
+              break;
             }
           }
         }
-        for (int j = 0; j < curListSize; j++) {
-          dominateList.remove(0);
-        }
+        dominateList.subList(0, curListSize).clear();
 
         // if there are still some other solutions moved to the next level, check their domination situation in their new level
         prevRank = newRank;
@@ -562,26 +537,18 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
           int allFlag = 0;
           do {
             for (int j = 0; j < curListSize; j++) {
-              curIdx = dominateList.get(j);
-              rankIdx[prevRank][curIdx] = 0;
-              rankIdx[newRank][curIdx] = 1;
-              //((DoubleSolution) population.get(curIdx)).setRank(newRank);
-              population.get(curIdx).attributes().put(ranking.getAttributedId(), newRank);
+              moveToLevel(dominateList.get(j), newRank);
             }
-            for (int j = 0; j < populationSize; j++) {
-              if (rankIdx[newRank][j] == 1) {
-                for (int k = 0; k < curListSize; k++) {
-                  curIdx = dominateList.get(k);
-                  if (checkDominance(population.get(curIdx), population.get(j)) == 1) {
-                    dominateList.add(j);
-                    break;
-                  }
+            for (int j : levels.members(newRank)) {
+              for (int k = 0; k < curListSize; k++) {
+                curIdx = dominateList.get(k);
+                if (checkDominance(population.get(curIdx), population.get(j)) == 1) {
+                  dominateList.add(j);
+                  break;
                 }
               }
             }
-            for (int j = 0; j < curListSize; j++) {
-              dominateList.remove(0);
-            }
+            dominateList.subList(0, curListSize).clear();
 
             curListSize = dominateList.size();
             if (curListSize != 0) {
@@ -595,52 +562,12 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
           } while (curListSize != 0);
 
           if (allFlag == 1) {  // move the solutions after the 'prevRank'th level to their next levels
-            int remainSize = num_ranks - prevRank;
-            int[][] tempRecord = new int[remainSize][populationSize];
-
-            int tempIdx = 0;
+            shiftLevels(prevRank + 1, num_ranks);
             for (int j = 0; j < dominateList.size(); j++) {
-              tempRecord[0][tempIdx] = dominateList.get(j);
-              tempIdx++;
-            }
-
-            int k = 1;
-            int curRank = prevRank + 1;
-            while (curRank < num_ranks) {
-              tempIdx = 0;
-              for (int j = 0; j < populationSize; j++) {
-                if (rankIdx[curRank][j] == 1) {
-                  tempRecord[k][tempIdx] = j;
-                  tempIdx++;
-                }
-              }
-              curRank++;
-              k++;
-            }
-
-            k = 0;
-            curRank = prevRank;
-            while (curRank < num_ranks) {
-              int level_size = frontSize.get(curRank);
-
-              int tempRank;
-              for (int j = 0; j < level_size; j++) {
-                curIdx = tempRecord[k][j];
-                //tempRank = ((DoubleSolution) population.get(curIdx)).getRank();
-                tempRank = (int) population.get(curIdx).attributes().get(ranking.getAttributedId());
-                newRank = tempRank + 1;
-                //((DoubleSolution) population.get(curIdx)).setRank(newRank);
-                population.get(curIdx).attributes().put(ranking.getAttributedId(), newRank);
-                rankIdx[tempRank][curIdx] = 0;
-                rankIdx[newRank][curIdx] = 1;
-              }
-              curRank++;
-              k++;
+              moveToLevel(dominateList.get(j), prevRank + 1);
             }
             num_ranks++;
-          }
-
-          if (newRank == num_ranks) {
+          } else if (newRank == num_ranks) {
             num_ranks++;
           }
 
@@ -648,80 +575,39 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
         }
       } else if (flag == 3 || flag == 0) {  // if 'indiv' is dominated by some solutions in the ith level, skip it, and term to the next level
         flag1 = flag2 = flag3 = 0;
-        for (int j = 0; j < populationSize; j++) {
-          if (rankIdx[i][j] == 1) {
-            switch (checkDominance(indiv, population.get(j))) {
-              case 1: {
-                flag1 = 1;
-                dominateList.add(j);
-                break;
-              }
-              case 0: {
-                flag2 = 1;
-                break;
-              }
-              case -1: {
-                flag3 = 1;
-                break;
-              }
+        for (int j : levels.members(i)) {
+          switch (checkDominance(indiv, population.get(j))) {
+            case 1: {
+              flag1 = 1;
+              dominateList.add(j);
+              break;
             }
-
-            if (flag3 == 1) {
-              flag = 3;
+            case 0: {
+              flag2 = 1;
               break;
-            } else if (flag1 == 0 && flag2 == 1) {
-              flag = 1;
-            } else if (flag1 == 1 && flag2 == 1) {
-              flag = 2;
-            } else if (flag1 == 1 && flag2 == 0) {
-              flag = 4;
-            } else {
             }
-          }
-        }
-
-      } else {  // (flag == 4) if 'indiv' dominates all solutions in the ith level, solutions in the current level and beyond move their current next levels
-        //indiv.setRank(i - 1);
-        indiv.attributes().put(ranking.getAttributedId(), i - 1);
-        i = i - 1;
-        int remainSize = num_ranks - i;
-        int[][] tempRecord = new int[remainSize][populationSize];
-
-        int k = 0;
-        while (i < num_ranks) {
-          int tempIdx = 0;
-          for (int j = 0; j < populationSize; j++) {
-            if (rankIdx[i][j] == 1) {
-              tempRecord[k][tempIdx] = j;
-              tempIdx++;
+            case -1: {
+              flag3 = 1;
+              break;
             }
           }
-          i++;
-          k++;
-        }
 
-        k = 0;
-        //i = indiv.getRank();
-        i = (int) indiv.attributes().get(ranking.getAttributedId());
-        while (i < num_ranks) {
-          int level_size = frontSize.get(i);
-
-          int curIdx;
-          int curRank, newRank;
-          for (int j = 0; j < level_size; j++) {
-            curIdx = tempRecord[k][j];
-            //curRank = ((DoubleSolution) population.get(curIdx)).getRank();
-            curRank = (int) population.get(curIdx).attributes().get(ranking.getAttributedId());
-            newRank = curRank + 1;
-            //((DoubleSolution) population.get(curIdx)).setRank(newRank);
-            population.get(curIdx).attributes().put(ranking.getAttributedId(), newRank);
-
-            rankIdx[curRank][curIdx] = 0;
-            rankIdx[newRank][curIdx] = 1;
+          if (flag3 == 1) {
+            flag = 3;
+            break;
+          } else if (flag1 == 0 && flag2 == 1) {
+            flag = 1;
+          } else if (flag1 == 1 && flag2 == 1) {
+            flag = 2;
+          } else if (flag1 == 1 && flag2 == 0) {
+            flag = 4;
+          } else {
           }
-          i++;
-          k++;
         }
+
+      } else {  // (flag == 4) if 'indiv' dominates all solutions in the ith level, solutions in the current level and beyond move their current next levels
+        indiv.attributes().put(ranking.getAttributedId(), i - 1);
+        shiftLevels(i - 1, num_ranks);
         num_ranks++;
 
         return num_ranks;
@@ -730,41 +616,22 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
     // if flag is still 3 after the for-loop, it means that 'indiv' is in the current last level
     switch (flag) {
       case 1:
-        //indiv.setRank(level);
         indiv.attributes().put(ranking.getAttributedId(), level);
         break;
       case 2:
-        //indiv.setRank(level);
         indiv.attributes().put(ranking.getAttributedId(), level);
-        int curIdx;
-        int tempSize = dominateList.size();
-        for (int i = 0; i < tempSize; i++) {
-          curIdx = dominateList.get(i);
-          //((DoubleSolution) population.get(curIdx)).setRank(level + 1);
-          population.get(curIdx).attributes().put(ranking.getAttributedId(), level + 1);
-
-          rankIdx[level][curIdx] = 0;
-          rankIdx[level + 1][curIdx] = 1;
+        for (int curIdx : dominateList) {
+          moveToLevel(curIdx, level + 1);
         }
         num_ranks++;
         break;
       case 3:
-        //indiv.setRank(level + 1);
         indiv.attributes().put(ranking.getAttributedId(), level + 1);
         num_ranks++;
         break;
       default:
-        //indiv.setRank(level);
         indiv.attributes().put(ranking.getAttributedId(), level);
-        for (int i = 0; i < populationSize; i++) {
-          if (rankIdx[level][i] == 1) {
-            //((DoubleSolution) population.get(i)).setRank(level + 1);
-
-            population.get(i).attributes().put(ranking.getAttributedId(), level + 1);
-            rankIdx[level][i] = 0;
-            rankIdx[level + 1][i] = 1;
-          }
-        }
+        shiftLevels(level, level + 1);
         num_ranks++;
         break;
     }
@@ -813,10 +680,8 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
     // find the solution indices within the 'crowdIdx' subregion
     ArrayList<Integer> indList = new ArrayList<>();
-    for (int i = 0; i < populationSize; i++) {
-      if (subregionIdx[crowdIdx][i] == 1) {
-        indList.add(i);
-      }
+    for (int i : subregions.members(crowdIdx)) {
+      indList.add(i);
     }
 
     // find the solution with the largest rank
@@ -849,21 +714,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
       }
     }
 
-    //int indivRank = indiv.getRank();
-    int indivRank = (int) indiv.attributes().get(ranking.getAttributedId());
-    //int targetRank = ((DoubleSolution) population.get(targetIdx)).getRank();
-    int targetRank = (int) population.get(targetIdx).attributes().get(ranking.getAttributedId());
-    rankIdx[targetRank][targetIdx] = 0;
-    rankIdx[indivRank][targetIdx] = 1;
-
-    S targetSol = population.get(targetIdx);
-
-    replace(targetIdx, indiv);
-    subregionIdx[crowdIdx][targetIdx] = 0;
-    subregionIdx[location][targetIdx] = 1;
-
-    // update the non-domination level structure
-    nondominated_sorting_delete(targetSol);
+    replaceAndDelete(targetIdx, indiv, location);
 
   }
 
@@ -922,10 +773,8 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
     // find the solution indices within the 'crowdIdx' subregion
     ArrayList<Integer> indList = new ArrayList<>();
-    for (int i = 0; i < populationSize; i++) {
-      if (subregionIdx[crowdIdx][i] == 1) {
-        indList.add(i);
-      }
+    for (int i : subregions.members(crowdIdx)) {
+      indList.add(i);
     }
     if (crowdIdx == location) {
       int temp = -1;
@@ -984,21 +833,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
       nondominated_sorting_delete(indiv);
 
     } else {
-      //int indivRank = indiv.getRank();
-      int indivRank = (int) indiv.attributes().get(ranking.getAttributedId());
-      //int targetRank = ((DoubleSolution) population.get(targetIdx)).getRank();
-      int targetRank = (int) population.get(targetIdx).attributes().get(ranking.getAttributedId());
-      rankIdx[targetRank][targetIdx] = 0;
-      rankIdx[indivRank][targetIdx] = 1;
-
-      S targetSol = population.get(targetIdx);
-
-      replace(targetIdx, indiv);
-      subregionIdx[crowdIdx][targetIdx] = 0;
-      subregionIdx[location][targetIdx] = 1;
-
-      // update the non-domination level structure of the population
-      nondominated_sorting_delete(targetSol);
+      replaceAndDelete(targetIdx, indiv, location);
     }
 
   }
@@ -1061,12 +896,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
         break;
       case 1:
         // if every subregion only contains one solution, delete the worst from indiv's subregion
-        int targetIdx;
-        for (targetIdx = 0; targetIdx < populationSize; targetIdx++) {
-          if (subregionIdx[location][targetIdx] == 1) {
-            break;
-          }
-        }
+        int targetIdx = subregions.get(location, 0);
         double prev_func = fitnessFunction(population.get(targetIdx), lambda[location]);
         if (indivFitness < prev_func) {
           replace(targetIdx, indiv);
@@ -1107,10 +937,8 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
   public double sumFitness(int location) {
 
     double sum = 0;
-    for (int i = 0; i < populationSize; i++) {
-      if (subregionIdx[location][i] == 1) {
-        sum = sum + fitnessFunction(population.get(i), lambda[location]);
-      }
+    for (int i : subregions.members(location)) {
+      sum = sum + fitnessFunction(population.get(i), lambda[location]);
     }
 
     return sum;
@@ -1124,10 +952,8 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
     // find the solution indices within this crowdIdx subregion
     ArrayList<Integer> indList = new ArrayList<>();
-    for (int i = 0; i < populationSize; i++) {
-      if (subregionIdx[crowdIdx][i] == 1) {
-        indList.add(i);
-      }
+    for (int i : subregions.members(crowdIdx)) {
+      indList.add(i);
     }
 
     // find the solution with the worst fitness value
@@ -1157,10 +983,8 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
     // find the solution indices within this crowdIdx subregion
     ArrayList<Integer> indList = new ArrayList<>();
-    for (int i = 0; i < populationSize; i++) {
-      if (subregionIdx[crowdIdx][i] == 1) {
-        indList.add(i);
-      }
+    for (int i : subregions.members(crowdIdx)) {
+      indList.add(i);
     }
 
     // find the solution with the worst fitness value
@@ -1177,8 +1001,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
     // use indiv to replace the worst one
     replace(worstIdx, indiv);
-    subregionIdx[crowdIdx][worstIdx] = 0;
-    subregionIdx[curLocation][worstIdx] = 1;
+    subregions.move(worstIdx, curLocation);
 
   }
 
@@ -1186,30 +1009,14 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
    * Count the number of 1s in the 'location'th subregion
    */
   public int countOnes(int location) {
-
-    int count = 0;
-    for (int i = 0; i < populationSize; i++) {
-      if (subregionIdx[location][i] == 1) {
-        count++;
-      }
-    }
-
-    return count;
+    return subregions.size(location);
   }
 
   /**
    * count the number of 1s in a row of rank matrix
    */
   public int countRankOnes(int location) {
-
-    int count = 0;
-    for (int i = 0; i < populationSize; i++) {
-      if (rankIdx[location][i] == 1) {
-        count++;
-      }
-    }
-
-    return count;
+    return levels.size(location);
   }
 
   /**
@@ -1230,14 +1037,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
    * find the subregion of the 'idx'th solution in the population
    */
   public int findRegion(int idx) {
-
-    for (int i = 0; i < populationSize; i++) {
-      if (subregionIdx[i][idx] == 1) {
-        return i;
-      }
-    }
-
-    return -1;
+    return subregions.groupOf(idx);
   }
 
   /**
@@ -1331,30 +1131,35 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
                                    double[] z_, double[] nz_) {
 
     // normalize the weight vector (line segment)
-    double nd = norm_vector(lambda);
-    for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-      lambda[i] = lambda[i] / nd;
-    }
+    normalizeWeightVector(lambda);
 
-    double[] realA = new double[problem.getNumberOfObjectives()];
-    double[] realB = new double[problem.getNumberOfObjectives()];
+    double[] objectives = indiv.objectives();
 
-    // difference between current point and reference point
+    // distance along the line segment
+    double d1 = 0;
     for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-      realA[i] = (indiv.objectives()[i] - z_[i]);
+      d1 += (objectives[i] - z_[i]) * lambda[i];
     }
-
-    // distance along the line segment
-    double d1 = Math.abs(innerproduct(realA, lambda));
+    d1 = Math.abs(d1);
 
     // distance to the line segment
+    double sum = 0;
     for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
-      realB[i] = (indiv.objectives()[i] - (z_[i] + d1 * lambda[i]));
+      double difference = objectives[i] - (z_[i] + d1 * lambda[i]);
+      sum += difference * difference;
     }
 
-    double distance = norm_vector(realB);
+    return Math.sqrt(sum);
+  }
 
-    return distance;
+  /**
+   * Divides a weight vector by its norm
+   */
+  public void normalizeWeightVector(double[] lambda) {
+    double nd = norm_vector(lambda);
+    for (int i = 0; i < problem.getNumberOfObjectives(); i++) {
+      lambda[i] = lambda[i] / nd;
+    }
   }
 
   /**
@@ -1387,11 +1192,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
 
     int sum = 0;
     for (int i = 0; i < populationSize; i++) {
-      for (int j = 0; j < populationSize; j++) {
-        if (subregionIdx[i][j] == 1) {
-          sum++;
-        }
-      }
+      sum += subregions.size(i);
     }
 
     return sum;
@@ -1411,9 +1212,7 @@ public class MOEADD<S extends DoubleSolution> extends AbstractMOEAD<S> {
     if (position > this.population.size()) {
       population.add(solution);
     } else {
-      S toRemove = population.get(position);
-      population.remove(toRemove);
-      population.add(position, solution);
+      population.set(position, solution);
     }
   }
 
@@ -2,11 +2,13 @@ package org.uma.jmetal.algorithm.multiobjective.moead;
 
 import java.util.ArrayList;
 import java.util.List;
+import org.uma.jmetal.algorithm.CheckpointableAlgorithm;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
@@ -21,12 +23,19 @@ import org.uma.jmetal.util.pseudorandom.JMetalRandom;
  * @version 1.0
  */
 @SuppressWarnings("serial")
-public class MOEADDRA extends AbstractMOEAD<DoubleSolution> {
+public class MOEADDRA extends AbstractMOEAD<DoubleSolution>
+    implements CheckpointableAlgorithm<List<DoubleSolution>> {
+  private static final String GENERATION = "GENERATION" ;
+  private static final String SAVED_VALUES = "SAVED_VALUES" ;
+  private static final String UTILITY = "UTILITY" ;
+  private static final String FREQUENCY = "FREQUENCY" ;
+
   protected DifferentialEvolutionCrossover differentialEvolutionCrossover ;
 
   protected DoubleSolution[] savedValues;
   protected double[] utility;
   protected int[] frequency;
+  protected int generation ;
 
   JMetalRandom randomGenerator ;
 
@@ -52,14 +61,44 @@ public class MOEADDRA extends AbstractMOEAD<DoubleSolution> {
   }
 
   @Override public void run() {
-    initializePopulation() ;
-    initializeUniformWeight();
-    initializeNeighborhood();
-    idealPoint.update(population); ;
-
-    int generation = 0 ;
-    evaluations = populationSize ;
-    do {
+    Checkpoint checkpoint = checkpointer.read() ;
+    if (checkpoint == null) {
+      checkpointer.start() ;
+      initializePopulation() ;
+      initializeUniformWeight();
+      initializeNeighborhood();
+      idealPoint.update(population); ;
+
+      generation = 0 ;
+      evaluations = populationSize ;
+    } else {
+      restoreState(checkpoint) ;
+    }
+
+    try {
+      generationLoop() ;
+    } finally {
+      checkpointer.close() ;
+    }
+  }
+
+  @Override
+  public void setCheckpointFile(String checkpointFileName) {
+    super.setCheckpointFile(checkpointFileName) ;
+  }
+
+  @Override
+  public String getCheckpointFile() {
+    return super.getCheckpointFile() ;
+  }
+
+  @Override
+  public void setCheckpointPeriod(long milliseconds) {
+    super.setCheckpointPeriod(milliseconds) ;
+  }
+
+  private void generationLoop() {
+    while (evaluations < maxEvaluations) {
       List<Integer> order = tourSelection(10) ;
       for (int i = 0; i < order.size(); i++) {
         int subProblemId = order.get(i);
@@ -86,8 +125,27 @@ public class MOEADDRA extends AbstractMOEAD<DoubleSolution> {
         utilityFunction();
       }
 
-    } while (evaluations < maxEvaluations);
+      checkpointer.checkpointIfDue(this::saveState) ;
+    }
+  }
+
+  /** The state also comprises the utilities of the subproblems and the generation counter */
+  @Override
+  protected Checkpoint saveState() {
+    return super.saveState()
+        .put(GENERATION, generation)
+        .put(SAVED_VALUES, savedValues)
+        .put(UTILITY, utility)
+        .put(FREQUENCY, frequency) ;
+  }
 
+  @Override
+  protected void restoreState(Checkpoint checkpoint) {
+    super.restoreState(checkpoint) ;
+    generation = checkpoint.getInt(GENERATION) ;
+    savedValues = checkpoint.get(SAVED_VALUES) ;
+    utility = checkpoint.get(UTILITY) ;
+    frequency = checkpoint.get(FREQUENCY) ;
   }
 
   protected void initializePopulation() {
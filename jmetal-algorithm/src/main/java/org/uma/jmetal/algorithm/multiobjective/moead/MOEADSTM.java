@@ -1,14 +1,16 @@
 package org.uma.jmetal.algorithm.multiobjective.moead;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
+import org.uma.jmetal.algorithm.CheckpointableAlgorithm;
 import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
+import org.uma.jmetal.algorithm.multiobjective.moead.util.StableMatching;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
@@ -21,13 +23,21 @@ import org.uma.jmetal.util.pseudorandom.JMetalRandom;
  * @version 1.0
  */
 @SuppressWarnings("serial")
-public class MOEADSTM extends AbstractMOEAD<DoubleSolution> {
+public class MOEADSTM extends AbstractMOEAD<DoubleSolution>
+    implements CheckpointableAlgorithm<List<DoubleSolution>> {
+  private static final String GENERATION = "GENERATION";
+  private static final String SAVED_VALUES = "SAVED_VALUES";
+  private static final String UTILITY = "UTILITY";
+  private static final String FREQUENCY = "FREQUENCY";
 
   protected DifferentialEvolutionCrossover differentialEvolutionCrossover;
 
   protected DoubleSolution[] savedValues;
   protected double[] utility;
   protected int[] frequency;
+  protected int generation;
+
+  protected StableMatching stableMatching;
 
   JMetalRandom randomGenerator;
 
@@ -52,19 +62,50 @@ public class MOEADSTM extends AbstractMOEAD<DoubleSolution> {
     }
 
     randomGenerator = JMetalRandom.getInstance();
+    stableMatching = new StableMatching();
   }
 
   @Override
   public void run() {
-    initializePopulation();
-    initializeUniformWeight();
-    initializeNeighborhood();
-    idealPoint.update(population);
-    nadirPoint.update(population);
-
-    int generation = 0;
-    evaluations = populationSize;
-    do {
+    Checkpoint checkpoint = checkpointer.read();
+    if (checkpoint == null) {
+      checkpointer.start();
+      initializePopulation();
+      initializeUniformWeight();
+      initializeNeighborhood();
+      idealPoint.update(population);
+      nadirPoint.update(population);
+
+      generation = 0;
+      evaluations = populationSize;
+    } else {
+      restoreState(checkpoint);
+    }
+
+    try {
+      generationLoop();
+    } finally {
+      checkpointer.close();
+    }
+  }
+
+  @Override
+  public void setCheckpointFile(String checkpointFileName) {
+    super.setCheckpointFile(checkpointFileName);
+  }
+
+  @Override
+  public String getCheckpointFile() {
+    return super.getCheckpointFile();
+  }
+
+  @Override
+  public void setCheckpointPeriod(long milliseconds) {
+    super.setCheckpointPeriod(milliseconds);
+  }
+
+  private void generationLoop() {
+    while (evaluations < maxEvaluations) {
       int[] permutation = new int[populationSize];
       MOEADUtils.randomPermutation(permutation, populationSize);
       offspringPopulation.clear();
@@ -105,8 +146,29 @@ public class MOEADSTM extends AbstractMOEAD<DoubleSolution> {
         utilityFunction();
       }
 
-    } while (evaluations < maxEvaluations);
+      checkpointer.checkpointIfDue(this::saveState);
+    }
+  }
+
+  /** The state also comprises the utilities of the subproblems and the generation counter */
+  @Override
+  protected Checkpoint saveState() {
+    return super.saveState()
+        .put(GENERATION, generation)
+        .put(SAVED_VALUES, savedValues)
+        .put(UTILITY, utility)
+        .put(FREQUENCY, frequency);
+  }
 
+  @Override
+  protected void restoreState(Checkpoint checkpoint) {
+    super.restoreState(checkpoint);
+    generation = checkpoint.getInt(GENERATION);
+    savedValues = checkpoint.get(SAVED_VALUES);
+    utility = checkpoint.get(UTILITY);
+    frequency = checkpoint.get(FREQUENCY);
+    offspringPopulation = new ArrayList<>(populationSize);
+    jointPopulation = new ArrayList<>(populationSize);
   }
 
   protected void initializePopulation() {
@@ -179,67 +241,31 @@ public class MOEADSTM extends AbstractMOEAD<DoubleSolution> {
   }
 
   /**
-   * Select the next parent population, based on the stable matching criteria
+   * Select the next parent population, based on the stable matching criteria. The preferences of
+   * the subproblems and the solutions are not sorted (see {@link StableMatching})
    */
   public void stmSelection() {
-
-    int[] idx = new int[populationSize];
-    double[] nicheCount = new double[populationSize];
-
-    int[][] solPref = new int[jointPopulation.size()][];
-    double[][] solMatrix = new double[jointPopulation.size()][];
-    double[][] distMatrix = new double[jointPopulation.size()][];
-    double[][] fitnessMatrix = new double[jointPopulation.size()][];
-
-    for (int i = 0; i < jointPopulation.size(); i++) {
-      solPref[i] = new int[populationSize];
-      solMatrix[i] = new double[populationSize];
-      distMatrix[i] = new double[populationSize];
-      fitnessMatrix[i] = new double[populationSize];
-    }
-    int[][] subpPref = new int[populationSize][];
-    double[][] subpMatrix = new double[populationSize][];
-    for (int i = 0; i < populationSize; i++) {
-      subpPref[i] = new int[jointPopulation.size()];
-      subpMatrix[i] = new double[jointPopulation.size()];
+    int numberOfSolutions = jointPopulation.size();
+    int numberOfObjectives = problem.getNumberOfObjectives();
+    double[] objectives = new double[numberOfSolutions * numberOfObjectives];
+    for (int i = 0; i < numberOfSolutions; i++) {
+      System.arraycopy(
+          jointPopulation.get(i).objectives(), 0, objectives, i * numberOfObjectives,
+          numberOfObjectives);
     }
 
-    // Calculate the preference values of solution matrix
-    for (int i = 0; i < jointPopulation.size(); i++) {
-      int minIndex = 0;
-      for (int j = 0; j < populationSize; j++) {
-        fitnessMatrix[i][j] = fitnessFunction(jointPopulation.get(i), lambda[j]);
-        distMatrix[i][j] = calculateDistance2(jointPopulation.get(i), lambda[j]);
-        if (distMatrix[i][j] < distMatrix[i][minIndex]) {
-          minIndex = j;
-        }
-      }
-      nicheCount[minIndex] = nicheCount[minIndex] + 1;
-    }
+    // Calculate the fitness values of all the solutions for all the subproblems
+    double[] subproblemValues = new double[populationSize * numberOfSolutions];
+    getScalarizationKernel()
+        .compute(objectives, numberOfSolutions, getIdealPointValues(), subproblemValues);
 
-    // calculate the preference values of subproblem matrix and solution matrix
-    for (int i = 0; i < jointPopulation.size(); i++) {
-      for (int j = 0; j < populationSize; j++) {
-        subpMatrix[j][i] = fitnessFunction(jointPopulation.get(i), lambda[j]);
-        solMatrix[i][j] = distMatrix[i][j] + nicheCount[j];
-      }
-    }
+    // Calculate the preference values of the solutions
+    double[] solutionValues = new double[numberOfSolutions * populationSize];
+    StableMatching.computeSolutionPreferences(
+        objectives, numberOfSolutions, lambda, solutionValues);
 
-    // sort the preference value matrix to get the preference rank matrix
-    for (int i = 0; i < populationSize; i++) {
-      for (int j = 0; j < jointPopulation.size(); j++) {
-        subpPref[i][j] = j;
-      }
-      MOEADUtils.quickSort(subpMatrix[i], subpPref[i], 0, jointPopulation.size() - 1);
-    }
-    for (int i = 0; i < jointPopulation.size(); i++) {
-      for (int j = 0; j < populationSize; j++) {
-        solPref[i][j] = j;
-      }
-      MOEADUtils.quickSort(solMatrix[i], solPref[i], 0, populationSize - 1);
-    }
-
-    idx = stableMatching(subpPref, solPref, populationSize, jointPopulation.size());
+    int[] idx = new int[populationSize];
+    stableMatching.match(subproblemValues, solutionValues, populationSize, numberOfSolutions, idx);
 
     population.clear();
     for (int i = 0; i < populationSize; i++) {
@@ -247,71 +273,6 @@ public class MOEADSTM extends AbstractMOEAD<DoubleSolution> {
     }
   }
 
-  /**
-   * Return the stable matching between 'subproblems' and 'solutions' ('subproblems' propose first).
-   * It is worth noting that the number of solutions is larger than that of the subproblems.
-   */
-  public int[] stableMatching(int[][] manPref, int[][] womanPref, int menSize, int womenSize) {
-
-    // Indicates the mating status
-    int[] statusMan = new int[menSize];
-    int[] statusWoman = new int[womenSize];
-
-    final int NOT_ENGAGED = -1;
-    for (int i = 0; i < womenSize; i++) {
-      statusWoman[i] = NOT_ENGAGED;
-    }
-
-    // List of men that are not currently engaged.
-    LinkedList<Integer> freeMen = new LinkedList<Integer>();
-    for (int i = 0; i < menSize; i++) {
-      freeMen.add(i);
-    }
-
-    // next[i] is the next woman to whom i has not yet proposed.
-    int[] next = new int[womenSize];
-
-    while (!freeMen.isEmpty()) {
-      int m = freeMen.remove();
-      int w = manPref[m][next[m]];
-      next[m]++;
-      if (statusWoman[w] == NOT_ENGAGED) {
-        statusMan[m] = w;
-        statusWoman[w] = m;
-      } else {
-        int m1 = statusWoman[w];
-        if (prefers(m, m1, womanPref[w], menSize)) {
-          statusMan[m] = w;
-          statusWoman[w] = m;
-          freeMen.add(m1);
-        } else {
-          freeMen.add(m);
-        }
-      }
-    }
-
-    return statusMan;
-  }
-
-  /**
-   * Returns true in case that a given woman prefers x to y.
-   */
-  public boolean prefers(int x, int y, int[] womanPref, int size) {
-
-    for (int i = 0; i < size; i++) {
-      int pref = womanPref[i];
-      if (pref == x) {
-        return true;
-      }
-      if (pref == y) {
-        return false;
-      }
-    }
-    // this should never happen.
-    System.out.println("Error in womanPref list!");
-    return false;
-  }
-
   /**
    * Calculate the perpendicular distance between the solution and reference line
    */
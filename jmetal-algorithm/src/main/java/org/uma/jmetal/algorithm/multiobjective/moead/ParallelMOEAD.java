@@ -0,0 +1,327 @@
+package org.uma.jmetal.algorithm.multiobjective.moead;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.uma.jmetal.algorithm.multiobjective.moead.util.MOEADUtils;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Parallel version of {@link MOEAD} which handles several subproblems concurrently. Two modes are
+ * provided:
+ *
+ * <ul>
+ *   <li>{@link Mode#REPRODUCIBLE}: the children of batchSize subproblems are created sequentially,
+ *       evaluated in parallel, and then used to update the ideal point and the neighborhoods in the
+ *       same order as they were created. The results only depend on the seed and the batch size
+ *       (not on the number of threads), and they are the same as those of MOEA/D with a batch size
+ *       of 1.
+ *   <li>{@link Mode#ASYNCHRONOUS}: each thread repeatedly chooses a subproblem, creates and
+ *       evaluates a child, and updates the neighborhood without waiting for the others. The
+ *       population slots are protected with striped locks, so two threads cannot replace the same
+ *       solution at the same time, and the ideal point is updated with compare-and-set operations.
+ *       The results depend on the scheduling of the threads.
+ * </ul>
+ *
+ * <p>The problem must support concurrent evaluations and, in the asynchronous mode, the random
+ * generator must be thread-safe (as the default one, based on {@link java.util.Random}, is).
+ *
+ * <p>Both modes can resume from a checkpoint, but checkpoints are only saved in the reproducible
+ * mode, at the end of each generation; in the asynchronous mode there is no point at which the
+ * population is not being modified by the threads.
+ */
+@SuppressWarnings("serial")
+public class ParallelMOEAD extends MOEAD {
+  public enum Mode {REPRODUCIBLE, ASYNCHRONOUS}
+
+  private static final int NUMBER_OF_STRIPES = 64;
+
+  private final int numberOfThreads;
+  private final Mode mode;
+  private final int batchSize;
+
+  private final Object[] locks;
+  private AtomicLongArray idealPointValues;
+  private final ThreadLocal<double[]> idealPointSnapshot;
+  private boolean asynchronous;
+
+  public ParallelMOEAD(Problem<DoubleSolution> problem,
+      int populationSize,
+      int resultPopulationSize,
+      int maxEvaluations,
+      MutationOperator<DoubleSolution> mutation,
+      CrossoverOperator<DoubleSolution> crossover,
+      FunctionType functionType,
+      String dataDirectory,
+      double neighborhoodSelectionProbability,
+      int maximumNumberOfReplacedSolutions,
+      int neighborSize,
+      int numberOfThreads,
+      Mode mode,
+      int batchSize) {
+    super(problem, populationSize, resultPopulationSize, maxEvaluations, mutation, crossover,
+        functionType, dataDirectory, neighborhoodSelectionProbability,
+        maximumNumberOfReplacedSolutions, neighborSize);
+    Check.that(numberOfThreads > 0, "The number of threads must be positive: " + numberOfThreads);
+    Check.that(batchSize > 0, "The batch size must be positive: " + batchSize);
+    Check.notNull(mode);
+
+    this.numberOfThreads = numberOfThreads;
+    this.mode = mode;
+    this.batchSize = batchSize;
+
+    locks = new Object[Math.min(populationSize, NUMBER_OF_STRIPES)];
+    for (int i = 0; i < locks.length; i++) {
+      locks[i] = new Object();
+    }
+    idealPointSnapshot =
+        ThreadLocal.withInitial(() -> new double[problem.getNumberOfObjectives()]);
+  }
+
+  @Override public void run() {
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+    try {
+      Checkpoint checkpoint = checkpointer.read();
+      if (checkpoint == null) {
+        checkpointer.start();
+        initializePopulation(executor);
+        initializeUniformWeight();
+        initializeNeighborhood();
+        idealPoint.update(population);
+
+        evaluations = populationSize;
+      } else {
+        restoreState(checkpoint);
+      }
+
+      if (mode == Mode.REPRODUCIBLE) {
+        runInBatches(executor);
+      } else {
+        runAsynchronously(executor);
+      }
+    } finally {
+      checkpointer.close();
+      executor.shutdownNow();
+    }
+  }
+
+  private void initializePopulation(ExecutorService executor) {
+    population = new ArrayList<>(populationSize);
+    for (int i = 0; i < populationSize; i++) {
+      population.add(problem.createSolution());
+    }
+
+    evaluate(population, executor);
+  }
+
+  private void runInBatches(ExecutorService executor) {
+    while (evaluations < maxEvaluations) {
+      int[] permutation = new int[populationSize];
+      MOEADUtils.randomPermutation(permutation, populationSize);
+
+      for (int first = 0; first < populationSize; first += batchSize) {
+        int last = Math.min(first + batchSize, populationSize);
+
+        List<DoubleSolution> children = new ArrayList<>(last - first);
+        List<NeighborType> neighborTypes = new ArrayList<>(last - first);
+        for (int i = first; i < last; i++) {
+          NeighborType neighborType = chooseNeighborType();
+          neighborTypes.add(neighborType);
+          children.add(createChild(permutation[i], neighborType, differentialEvolutionCrossover));
+        }
+
+        evaluate(children, executor);
+
+        for (int i = first; i < last; i++) {
+          DoubleSolution child = children.get(i - first);
+          evaluations++;
+
+          idealPoint.update(child.objectives());
+          updateNeighborhood(child, permutation[i], neighborTypes.get(i - first));
+        }
+      }
+
+      checkpointer.checkpointIfDue(this::saveState);
+    }
+  }
+
+  private void runAsynchronously(ExecutorService executor) {
+    AtomicReferenceArray<DoubleSolution> slots =
+        new AtomicReferenceArray<>(population.toArray(new DoubleSolution[0]));
+    population = new SlotList(slots);
+
+    idealPointValues = new AtomicLongArray(problem.getNumberOfObjectives());
+    for (int n = 0; n < problem.getNumberOfObjectives(); n++) {
+      idealPointValues.set(n, Double.doubleToLongBits(idealPoint.getValue(n)));
+    }
+
+    // The kernel of the fitness function is created lazily, so it is created here, before starting
+    // the workers, which only read it
+    getScalarizationKernel();
+
+    AtomicInteger remainingEvaluations = new AtomicInteger(maxEvaluations - evaluations);
+    AtomicInteger performedEvaluations = new AtomicInteger(0);
+
+    asynchronous = true;
+    try {
+      List<Future<?>> workers = new ArrayList<>(numberOfThreads);
+      for (int t = 0; t < numberOfThreads; t++) {
+        // The crossover keeps the current solution, so each thread needs its own operator
+        DifferentialEvolutionCrossover crossover =
+            new DifferentialEvolutionCrossover(
+                differentialEvolutionCrossover.getCr(),
+                differentialEvolutionCrossover.getF(),
+                differentialEvolutionCrossover.getVariant());
+        workers.add(
+            executor.submit(
+                () -> {
+                  while (remainingEvaluations.getAndDecrement() > 0) {
+                    int subProblemId = randomGenerator.nextInt(0, populationSize - 1);
+                    NeighborType neighborType = chooseNeighborType();
+                    DoubleSolution child = createChild(subProblemId, neighborType, crossover);
+                    problem.evaluate(child);
+                    performedEvaluations.incrementAndGet();
+
+                    updateIdealPoint(child.objectives());
+                    updateNeighborhood(child, subProblemId, neighborType);
+                  }
+                }));
+      }
+      waitFor(workers);
+    } finally {
+      asynchronous = false;
+    }
+
+    population = new ArrayList<>(population);
+    for (int n = 0; n < problem.getNumberOfObjectives(); n++) {
+      idealPoint.setValue(n, Double.longBitsToDouble(idealPointValues.get(n)));
+    }
+    evaluations += performedEvaluations.get();
+  }
+
+  private DoubleSolution createChild(
+      int subProblemId, NeighborType neighborType, DifferentialEvolutionCrossover crossover) {
+    List<DoubleSolution> parents = parentSelection(subProblemId, neighborType);
+
+    crossover.setCurrentSolution(population.get(subProblemId));
+    DoubleSolution child = crossover.execute(parents).get(0);
+    mutationOperator.execute(child);
+
+    return child;
+  }
+
+  private void evaluate(List<DoubleSolution> solutionList, ExecutorService executor) {
+    List<Future<?>> tasks = new ArrayList<>(solutionList.size());
+    for (DoubleSolution solution : solutionList) {
+      tasks.add(executor.submit(() -> problem.evaluate(solution)));
+    }
+    waitFor(tasks);
+  }
+
+  private void waitFor(List<Future<?>> tasks) {
+    try {
+      for (Future<?> task : tasks) {
+        task.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the threads", e);
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error in a parallel task of " + getName(), e);
+    }
+  }
+
+  /** Lock-free update of the ideal point used in the asynchronous mode */
+  private void updateIdealPoint(double[] objectives) {
+    for (int n = 0; n < objectives.length; n++) {
+      long current = idealPointValues.get(n);
+      while (objectives[n] < Double.longBitsToDouble(current)
+          && !idealPointValues.compareAndSet(n, current, Double.doubleToLongBits(objectives[n]))) {
+        current = idealPointValues.get(n);
+      }
+    }
+  }
+
+  @Override
+  protected boolean replaceIfBetter(DoubleSolution individual, int k) {
+    if (!asynchronous) {
+      return super.replaceIfBetter(individual, k);
+    }
+
+    synchronized (locks[k % locks.length]) {
+      return super.replaceIfBetter(individual, k);
+    }
+  }
+
+  @Override
+  protected double[] getIdealPointValues() {
+    if (!asynchronous) {
+      return super.getIdealPointValues();
+    }
+
+    double[] values = idealPointSnapshot.get();
+    for (int n = 0; n < values.length; n++) {
+      values[n] = Double.longBitsToDouble(idealPointValues.get(n));
+    }
+
+    return values;
+  }
+
+  public int getNumberOfThreads() {
+    return numberOfThreads;
+  }
+
+  public Mode getMode() {
+    return mode;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  @Override public String getName() {
+    return "ParallelMOEAD" ;
+  }
+
+  @Override public String getDescription() {
+    return "Parallel Multi-Objective Evolutionary Algorithm based on Decomposition" ;
+  }
+
+  /** View of the population slots as a list, whose reads and writes are volatile */
+  private static class SlotList extends AbstractList<DoubleSolution> {
+    private final AtomicReferenceArray<DoubleSolution> slots;
+
+    SlotList(AtomicReferenceArray<DoubleSolution> slots) {
+      this.slots = slots;
+    }
+
+    @Override
+    public DoubleSolution get(int index) {
+      return slots.get(index);
+    }
+
+    @Override
+    public DoubleSolution set(int index, DoubleSolution solution) {
+      return slots.getAndSet(index, solution);
+    }
+
+    @Override
+    public int size() {
+      return slots.length();
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package org.uma.jmetal.algorithm.multiobjective.moead.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Partition of (some of) the indices 0 .. n-1 into groups, such as the non-domination levels or
+ * the subregions of the solutions of a population. Each index belongs to at most one group; the
+ * group of an index is obtained in constant time, and the members of a group are kept sorted, so
+ * they are visited in the same order as when scanning a row of a n x n membership matrix. The
+ * memory used is O(n + number of groups).
+ *
+ * <p>The number of groups grows when an index is added to a group which does not exist yet.
+ */
+public class IndexPartition implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private static final int INITIAL_GROUP_CAPACITY = 4;
+  private static final int[] EMPTY_GROUP = new int[0];
+
+  private final int[] groupOf;
+  private int[][] members;
+  private int[] sizes;
+  private int numberOfGroups;
+
+  /**
+   * Constructor
+   *
+   * @param numberOfIndices Number of indices (n)
+   * @param numberOfGroups Initial number of groups, all of them empty
+   */
+  public IndexPartition(int numberOfIndices, int numberOfGroups) {
+    Check.that(numberOfIndices >= 0, "The number of indices is negative: " + numberOfIndices);
+    Check.that(numberOfGroups >= 0, "The number of groups is negative: " + numberOfGroups);
+
+    groupOf = new int[numberOfIndices];
+    Arrays.fill(groupOf, -1);
+    members = new int[Math.max(numberOfGroups, INITIAL_GROUP_CAPACITY)][];
+    sizes = new int[members.length];
+    this.numberOfGroups = 0;
+    ensureGroup(numberOfGroups - 1);
+  }
+
+  public int getNumberOfIndices() {
+    return groupOf.length;
+  }
+
+  public int getNumberOfGroups() {
+    return numberOfGroups;
+  }
+
+  /** Returns the group of an index, or -1 if it does not belong to any group */
+  public int groupOf(int index) {
+    return groupOf[index];
+  }
+
+  /** Returns the number of indices of a group (zero if the group does not exist) */
+  public int size(int group) {
+    return (group < numberOfGroups) ? sizes[group] : 0;
+  }
+
+  /** Returns the position-th index of a group, in increasing order */
+  public int get(int group, int position) {
+    Check.valueIsInRange(position, 0, size(group) - 1);
+
+    return members[group][position];
+  }
+
+  /** Returns a copy of the indices of a group, in increasing order */
+  public int[] members(int group) {
+    return (group < numberOfGroups) ? Arrays.copyOf(members[group], sizes[group]) : EMPTY_GROUP;
+  }
+
+  /** Adds an index which does not belong to any group to a group */
+  public void add(int index, int group) {
+    Check.that(groupOf[index] == -1, "The index " + index + " already belongs to a group");
+    Check.that(group >= 0, "The group is negative: " + group);
+
+    ensureGroup(group);
+    int[] groupMembers = members[group];
+    int size = sizes[group];
+    if (size == groupMembers.length) {
+      groupMembers = Arrays.copyOf(groupMembers, Math.max(INITIAL_GROUP_CAPACITY, 2 * size));
+      members[group] = groupMembers;
+    }
+    int position = -(Arrays.binarySearch(groupMembers, 0, size, index) + 1);
+    System.arraycopy(groupMembers, position, groupMembers, position + 1, size - position);
+    groupMembers[position] = index;
+    sizes[group]++;
+    groupOf[index] = group;
+  }
+
+  /** Removes an index from its group, if any */
+  public void remove(int index) {
+    int group = groupOf[index];
+    if (group != -1) {
+      int[] groupMembers = members[group];
+      int size = sizes[group];
+      int position = Arrays.binarySearch(groupMembers, 0, size, index);
+      System.arraycopy(groupMembers, position + 1, groupMembers, position, size - position - 1);
+      sizes[group]--;
+      groupOf[index] = -1;
+    }
+  }
+
+  /** Moves an index to a group */
+  public void move(int index, int group) {
+    remove(index);
+    add(index, group);
+  }
+
+  /**
+   * Moves the indices of each group from 'from' to 'to' - 1 to the next group. The group 'to' must
+   * be empty, and the group 'from' becomes empty. The cost is proportional to the number of indices
+   * moved
+   */
+  public void shiftGroups(int from, int to) {
+    Check.that(from <= to, "The first group " + from + " is greater than the last one " + to);
+    Check.that(size(to) == 0, "The group " + to + " is not empty");
+
+    ensureGroup(to);
+    int[] emptyGroup = members[to];
+    for (int group = to; group > from; group--) {
+      members[group] = members[group - 1];
+      sizes[group] = sizes[group - 1];
+      for (int i = 0; i < sizes[group]; i++) {
+        groupOf[members[group][i]] = group;
+      }
+    }
+    members[from] = emptyGroup;
+    sizes[from] = 0;
+  }
+
+  private void ensureGroup(int group) {
+    if (group >= members.length) {
+      int capacity = Math.max(group + 1, 2 * members.length);
+      members = Arrays.copyOf(members, capacity);
+      sizes = Arrays.copyOf(sizes, capacity);
+    }
+    for (int i = numberOfGroups; i <= group; i++) {
+      members[i] = EMPTY_GROUP;
+      sizes[i] = 0;
+    }
+    numberOfGroups = Math.max(numberOfGroups, group + 1);
+  }
+}
@@ -0,0 +1,266 @@
+package org.uma.jmetal.algorithm.multiobjective.moead.util;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import org.uma.jmetal.util.ParallelUtils;
+import org.uma.jmetal.util.aggregativefunction.AggregativeFunction;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Stable matching between subproblems and solutions, as used in the MOEA/D-STM algorithm (K. Li,
+ * Q. Zhang, S. Kwong, M. Li and R. Wang, "Stable Matching-Based Selection in Evolutionary
+ * Multiobjective Optimization", IEEE TEVC 18(6): 909-923, 2014). The subproblems propose first
+ * (Gale-Shapley algorithm), and the number of solutions must not be lower than the number of
+ * subproblems.
+ *
+ * <p>The preferences are given as matrices of values (the lower, the better) stored by rows in
+ * flat arrays, which are never sorted: the preference list of a subproblem is a binary heap which
+ * is built when the subproblem is rejected for the first time, so only the solutions it actually
+ * proposes to are extracted, and a solution compares two subproblems by looking up their values.
+ * Ties are broken in favour of the lowest index. The working arrays are kept between calls, so
+ * matching populations of the same size does not allocate memory.
+ */
+public class StableMatching {
+  private static final long PARALLEL_THRESHOLD = 1000000;
+  private static final int NOT_ENGAGED = -1;
+
+  private int[] heaps = new int[0];
+  private int[] heapSizes = new int[0];
+  private int[] firstChoice = new int[0];
+  private int[] statusOfSolution = new int[0];
+  private int[] freeSubproblems = new int[0];
+
+  /**
+   * Computes the stable matching
+   *
+   * @param subproblemValues Values of the solutions for each subproblem (the value of the c-th
+   *     solution for the j-th subproblem is subproblemValues[j * numberOfSolutions + c])
+   * @param solutionValues Values of the subproblems for each solution (the value of the j-th
+   *     subproblem for the c-th solution is solutionValues[c * numberOfSubproblems + j])
+   * @param numberOfSubproblems Number of subproblems
+   * @param numberOfSolutions Number of solutions
+   * @param matching Array where the index of the solution matched to each subproblem is stored
+   */
+  public void match(
+      double[] subproblemValues,
+      double[] solutionValues,
+      int numberOfSubproblems,
+      int numberOfSolutions,
+      int[] matching) {
+    Check.that(
+        numberOfSolutions >= numberOfSubproblems,
+        "The number of solutions "
+            + numberOfSolutions
+            + " is lower than the number of subproblems "
+            + numberOfSubproblems);
+    Check.that(
+        subproblemValues.length >= numberOfSubproblems * numberOfSolutions,
+        "The array of subproblem values is too small: " + subproblemValues.length);
+    Check.that(
+        solutionValues.length >= numberOfSubproblems * numberOfSolutions,
+        "The array of solution values is too small: " + solutionValues.length);
+    Check.that(
+        matching.length >= numberOfSubproblems,
+        "The matching array is too small: " + matching.length);
+
+    ensureCapacity(numberOfSubproblems, numberOfSolutions);
+    Arrays.fill(heapSizes, 0, numberOfSubproblems, -1);
+    Arrays.fill(statusOfSolution, 0, numberOfSolutions, NOT_ENGAGED);
+
+    // Queue of the subproblems which are not currently engaged
+    int head = 0;
+    int numberOfFreeSubproblems = numberOfSubproblems;
+    for (int i = 0; i < numberOfSubproblems; i++) {
+      freeSubproblems[i] = i;
+    }
+
+    while (numberOfFreeSubproblems > 0) {
+      int m = freeSubproblems[head];
+      head = (head + 1) % numberOfSubproblems;
+      numberOfFreeSubproblems--;
+
+      int w = nextChoice(m, subproblemValues, numberOfSolutions);
+      int rejected;
+      if (statusOfSolution[w] == NOT_ENGAGED) {
+        matching[m] = w;
+        statusOfSolution[w] = m;
+        rejected = NOT_ENGAGED;
+      } else if (better(solutionValues, w * numberOfSubproblems, m, statusOfSolution[w])) {
+        rejected = statusOfSolution[w];
+        matching[m] = w;
+        statusOfSolution[w] = m;
+      } else {
+        rejected = m;
+      }
+
+      if (rejected != NOT_ENGAGED) {
+        freeSubproblems[(head + numberOfFreeSubproblems) % numberOfSubproblems] = rejected;
+        numberOfFreeSubproblems++;
+      }
+    }
+  }
+
+  /**
+   * Computes the values of a set of solutions for each subproblem, in parallel if the matrix is
+   * large
+   *
+   * @param objectives Objective values of the solutions, stored by rows
+   * @param numberOfSolutions Number of solutions
+   * @param weightVectors Weight vectors of the subproblems
+   * @param aggregativeFunction Function computing the value of a solution for a weight vector
+   * @param values Array where the values are stored (see {@link #match})
+   */
+  public static void computeSubproblemPreferences(
+      double[] objectives,
+      int numberOfSolutions,
+      double[][] weightVectors,
+      AggregativeFunction aggregativeFunction,
+      double[] values) {
+    int numberOfObjectives = weightVectors[0].length;
+    rows(weightVectors.length, numberOfSolutions, numberOfObjectives)
+        .forEach(
+            j -> {
+              double[] vector = new double[numberOfObjectives];
+              for (int c = 0; c < numberOfSolutions; c++) {
+                System.arraycopy(
+                    objectives, c * numberOfObjectives, vector, 0, numberOfObjectives);
+                values[j * numberOfSolutions + c] =
+                    aggregativeFunction.compute(vector, weightVectors[j]);
+              }
+            });
+  }
+
+  /**
+   * Computes the values of the subproblems for a set of solutions, in parallel if the matrix is
+   * large. The value of a subproblem is the distance between the solution, normalized so that its
+   * objectives sum one, and the weight vector, plus the number of solutions whose closest weight
+   * vector is the one of the subproblem
+   *
+   * @param objectives Objective values of the solutions, stored by rows
+   * @param numberOfSolutions Number of solutions
+   * @param weightVectors Weight vectors of the subproblems
+   * @param values Array where the values are stored (see {@link #match})
+   */
+  public static void computeSolutionPreferences(
+      double[] objectives, int numberOfSolutions, double[][] weightVectors, double[] values) {
+    int numberOfSubproblems = weightVectors.length;
+    int numberOfObjectives = weightVectors[0].length;
+    int[] closestSubproblem = new int[numberOfSolutions];
+
+    rows(numberOfSolutions, numberOfSubproblems, numberOfObjectives)
+        .forEach(
+            c -> {
+              int offset = c * numberOfObjectives;
+              double sum = 0.0;
+              for (int i = 0; i < numberOfObjectives; i++) {
+                sum += objectives[offset + i];
+              }
+
+              int row = c * numberOfSubproblems;
+              int minIndex = 0;
+              for (int j = 0; j < numberOfSubproblems; j++) {
+                double distance = 0.0;
+                for (int i = 0; i < numberOfObjectives; i++) {
+                  double difference = objectives[offset + i] / sum - weightVectors[j][i];
+                  distance += difference * difference;
+                }
+                values[row + j] = Math.sqrt(distance);
+                if (values[row + j] < values[row + minIndex]) {
+                  minIndex = j;
+                }
+              }
+              closestSubproblem[c] = minIndex;
+            });
+
+    int[] nicheCount = new int[numberOfSubproblems];
+    for (int c = 0; c < numberOfSolutions; c++) {
+      nicheCount[closestSubproblem[c]]++;
+    }
+    for (int c = 0; c < numberOfSolutions; c++) {
+      int row = c * numberOfSubproblems;
+      for (int j = 0; j < numberOfSubproblems; j++) {
+        values[row + j] += nicheCount[j];
+      }
+    }
+  }
+
+  /** Returns the next solution the subproblem m proposes to */
+  private int nextChoice(int m, double[] subproblemValues, int numberOfSolutions) {
+    int row = m * numberOfSolutions;
+    if (heapSizes[m] == -1) {
+      // First proposal: the best solution is found without building the heap
+      int best = 0;
+      for (int c = 1; c < numberOfSolutions; c++) {
+        if (subproblemValues[row + c] < subproblemValues[row + best]) {
+          best = c;
+        }
+      }
+      firstChoice[m] = best;
+      heapSizes[m] = 0;
+      return best;
+    }
+
+    if (heapSizes[m] == 0) {
+      // Second proposal: the rest of the solutions are put in a heap
+      int size = 0;
+      for (int c = 0; c < numberOfSolutions; c++) {
+        if (c != firstChoice[m]) {
+          heaps[row + size++] = c;
+        }
+      }
+      for (int i = size / 2 - 1; i >= 0; i--) {
+        siftDown(subproblemValues, row, i, size);
+      }
+      heapSizes[m] = size;
+    }
+
+    int best = heaps[row];
+    int size = --heapSizes[m];
+    heaps[row] = heaps[row + size];
+    siftDown(subproblemValues, row, 0, size);
+
+    return best;
+  }
+
+  private void siftDown(double[] values, int row, int position, int size) {
+    int element = heaps[row + position];
+    int child = 2 * position + 1;
+    while (child < size) {
+      if ((child + 1 < size) && better(values, row, heaps[row + child + 1], heaps[row + child])) {
+        child++;
+      }
+      if (!better(values, row, heaps[row + child], element)) {
+        break;
+      }
+      heaps[row + position] = heaps[row + child];
+      position = child;
+      child = 2 * position + 1;
+    }
+    heaps[row + position] = element;
+  }
+
+  /** Returns true if the element x of a row of values is preferred to the element y */
+  private static boolean better(double[] values, int row, int x, int y) {
+    return (values[row + x] < values[row + y])
+        || ((values[row + x] == values[row + y]) && (x < y));
+  }
+
+  private void ensureCapacity(int numberOfSubproblems, int numberOfSolutions) {
+    if (heaps.length < numberOfSubproblems * numberOfSolutions) {
+      heaps = new int[numberOfSubproblems * numberOfSolutions];
+    }
+    if (heapSizes.length < numberOfSubproblems) {
+      heapSizes = new int[numberOfSubproblems];
+      firstChoice = new int[numberOfSubproblems];
+      freeSubproblems = new int[numberOfSubproblems];
+    }
+    if (statusOfSolution.length < numberOfSolutions) {
+      statusOfSolution = new int[numberOfSolutions];
+    }
+  }
+
+  private static IntStream rows(int numberOfRows, int numberOfColumns, int numberOfObjectives) {
+    return ParallelUtils.range(
+        numberOfRows, (long) numberOfRows * numberOfColumns * numberOfObjectives, PARALLEL_THRESHOLD);
+  }
+}
@@ -9,6 +9,7 @@ import org.uma.jmetal.operator.selection.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.measure.instrumentation.AlgorithmPhase;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 /**
@@ -125,16 +126,46 @@ public abstract class AbstractMOMBI<S extends Solution<?>> extends AbstractGenet
 		List<S> offspringPopulation;
 		List<S> matingPopulation;
 
-		this.setPopulation(createInitialPopulation());
-		this.evaluatePopulation(this.getPopulation());
+		instrumentation.begin(AlgorithmPhase.INITIAL_CREATION);
+		try {
+			this.setPopulation(createInitialPopulation());
+		} finally {
+			instrumentation.end(AlgorithmPhase.INITIAL_CREATION);
+		}
+		instrumentation.begin(AlgorithmPhase.EVALUATION);
+		try {
+			this.evaluatePopulation(this.getPopulation());
+		} finally {
+			instrumentation.end(AlgorithmPhase.EVALUATION);
+		}
 		initProgress();
 		//specific GA needed computations
 		this.specificMOEAComputations();
 		while (!isStoppingConditionReached()) {
-			matingPopulation = selection(this.getPopulation());
-			offspringPopulation = reproduction(matingPopulation);
-			offspringPopulation = evaluatePopulation(offspringPopulation);
-			this.setPopulation(replacement(this.getPopulation(), offspringPopulation));
+			instrumentation.begin(AlgorithmPhase.SELECTION);
+			try {
+				matingPopulation = selection(this.getPopulation());
+			} finally {
+				instrumentation.end(AlgorithmPhase.SELECTION);
+			}
+			instrumentation.begin(AlgorithmPhase.VARIATION);
+			try {
+				offspringPopulation = reproduction(matingPopulation);
+			} finally {
+				instrumentation.end(AlgorithmPhase.VARIATION);
+			}
+			instrumentation.begin(AlgorithmPhase.EVALUATION);
+			try {
+				offspringPopulation = evaluatePopulation(offspringPopulation);
+			} finally {
+				instrumentation.end(AlgorithmPhase.EVALUATION);
+			}
+			instrumentation.begin(AlgorithmPhase.REPLACEMENT);
+			try {
+				this.setPopulation(replacement(this.getPopulation(), offspringPopulation));
+			} finally {
+				instrumentation.end(AlgorithmPhase.REPLACEMENT);
+			}
 			updateProgress();
 			// specific GA needed computations
 			this.specificMOEAComputations();
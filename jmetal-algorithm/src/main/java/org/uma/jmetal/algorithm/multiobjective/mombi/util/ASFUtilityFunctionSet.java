@@ -3,6 +3,7 @@ package org.uma.jmetal.algorithm.multiobjective.mombi.util;
 import java.util.ArrayList;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.aggregativefunction.ScalarizationKernel;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
 /**
@@ -16,6 +17,8 @@ public class ASFUtilityFunctionSet<S extends Solution<?>> extends AbstractUtilit
 
 	private final List<Double> referencePoint; 
 	private Normalizer normalizer = null;
+	private transient ScalarizationKernel kernel;
+	private transient double[][] kernelWeights;
 	
 	public ASFUtilityFunctionSet(double [][] weights, List<Double> referencePoint) {
 		super(weights);
@@ -47,26 +50,44 @@ public class ASFUtilityFunctionSet<S extends Solution<?>> extends AbstractUtilit
 			throw new JMetalException("Vector value " + vector + " invalid") ;
 		}
 
-		double result = Double.NEGATIVE_INFINITY;
-		List<Double> weightVector 	 =  this.getWeightVector(vector);
-		List<Double> objectiveValues =  new ArrayList<>(solution.objectives().length);
-		for (int i = 0; i < solution.objectives().length;i++) 
-			if (normalizer==null) {
-        objectiveValues.add(solution.objectives()[i]);
-      }
-			else {
-        objectiveValues.add(this.normalizer.normalize(solution.objectives()[i], i));
-      }
-		
-		for (int i = 0; i < weightVector.size(); i++) {
-			result = Math.max(result, 
-							  Math.abs(objectiveValues.get(i) - this.referencePoint.get(i))
-							  /(weightVector.get(i) > 0.0 ? weightVector.get(i):1e-2));
+		return getKernel().compute(normalize(solution.objectives()), vector, toArray(referencePoint));
+	}
+
+	@Override
+	public double[] evaluateAll(List<S> solutionList) {
+		double[] objectiveValues = objectiveValues(solutionList, this.getVectorSize());
+		if (normalizer != null) {
+			for (int j = 0; j < objectiveValues.length; j++) {
+				objectiveValues[j] = this.normalizer.normalize(objectiveValues[j], j % this.getVectorSize());
+			}
 		}
+
+		double[] result = new double[this.getSize() * solutionList.size()];
+		getKernel().compute(objectiveValues, solutionList.size(), toArray(referencePoint), result);
+
 		return result;
-		
 	}
-	
+
+	private double[] normalize(double[] objectives) {
+		double[] objectiveValues = new double[objectives.length];
+		for (int i = 0; i < objectives.length; i++) {
+			if (normalizer == null) {
+				objectiveValues[i] = objectives[i];
+			} else {
+				objectiveValues[i] = this.normalizer.normalize(objectives[i], i);
+			}
+		}
+		return objectiveValues;
+	}
+
+	private ScalarizationKernel getKernel() {
+		if ((kernel == null) || (kernelWeights != this.getWeightMatrix())) {
+			kernelWeights = this.getWeightMatrix();
+			kernel = ScalarizationKernel.achievement(kernelWeights);
+		}
+		return kernel;
+	}
+
 	public void setNormalizer(Normalizer normalizer) {
 		this.normalizer = normalizer;
 	}
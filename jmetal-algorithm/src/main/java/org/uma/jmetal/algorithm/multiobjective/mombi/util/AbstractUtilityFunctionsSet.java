@@ -28,6 +28,7 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
 public abstract class AbstractUtilityFunctionsSet<S extends Solution<?>> implements Serializable {
 
 	private List<List<Double>> weightVectors;
+	private double[][] weightMatrix;
 	private int vectorSize;
 	
 	public AbstractUtilityFunctionsSet(double [][] weights) {
@@ -41,7 +42,7 @@ public abstract class AbstractUtilityFunctionsSet<S extends Solution<?>> impleme
 		if (this.weightVectors.size() > 0) {
 			this.vectorSize = this.weightVectors.get(0).size();
 		}
-				
+		this.weightMatrix = toMatrix(this.weightVectors, this.vectorSize);
 	}
 	
 	public AbstractUtilityFunctionsSet(String file_path) {
@@ -73,6 +74,64 @@ public abstract class AbstractUtilityFunctionsSet<S extends Solution<?>> impleme
 		return this.weightVectors.get(index);
 	}
 	
+	/**
+	 * Returns the weight vectors as a matrix. The matrix is replaced (not modified) when the weights
+	 * are loaded again, so it can be used as a key
+	 */
+	public double[][] getWeightMatrix() {
+		return this.weightMatrix;
+	}
+
+	/**
+	 * Evaluates a list of solutions using all the utility functions stored in this set
+	 * @param solutionList
+	 * @return An array where the value of the j-th solution for the i-th utility function is stored
+	 * at position i * solutionList.size() + j
+	 */
+	public double[] evaluateAll(List<S> solutionList) {
+		double[] result = new double[this.getSize() * solutionList.size()];
+		for (int i = 0; i < this.getSize(); i++) {
+			for (int j = 0; j < solutionList.size(); j++) {
+				result[i * solutionList.size() + j] = evaluate(solutionList.get(j), i);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Copies the objective values of a list of solutions into an array, by rows
+	 */
+	protected static <S extends Solution<?>> double[] objectiveValues(List<S> solutionList,
+			int numberOfObjectives) {
+		double[] values = new double[solutionList.size() * numberOfObjectives];
+		for (int j = 0; j < solutionList.size(); j++) {
+			System.arraycopy(solutionList.get(j).objectives(), 0, values, j * numberOfObjectives,
+					numberOfObjectives);
+		}
+		return values;
+	}
+
+	/**
+	 * Copies a point into an array
+	 */
+	protected static double[] toArray(List<Double> point) {
+		double[] array = new double[point.size()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = point.get(i);
+		}
+		return array;
+	}
+
+	private static double[][] toMatrix(List<List<Double>> vectors, int vectorSize) {
+		double[][] matrix = new double[vectors.size()][vectorSize];
+		for (int i = 0; i < vectors.size(); i++) {
+			for (int j = 0; j < vectorSize; j++) {
+				matrix[i][j] = vectors.get(i).get(j);
+			}
+		}
+		return matrix;
+	}
+
 	/**
 	 * Evaluates a solution using all the utility functions stored in this set
 	 * @param solution
@@ -146,6 +205,7 @@ public abstract class AbstractUtilityFunctionsSet<S extends Solution<?>> impleme
 					new_vector.add(parseDouble(st.nextToken()));
 				this.weightVectors.add(new_vector);
 			}
+			this.weightMatrix = toMatrix(this.weightVectors, this.vectorSize);
 		} catch (IOException e) {
 			throw new JMetalException("loadWeightsFromFile: failed when reading for file: "
 							+ "/" + filePath) ;
@@ -30,10 +30,14 @@ public class R2Ranking<S extends Solution<?>> extends GenericSolutionAttribute<S
       solution.attributes().put(getAttributeIdentifier(), new R2SolutionData());
     }
 
+    // The population is sorted below, so the values are computed for a copy of the list
+    List<S> solutions = new ArrayList<>(population);
+    double[] values = this.utilityFunctions.evaluateAll(solutions);
+
     for (int i = 0; i < this.utilityFunctions.getSize(); i++) {
-      for (S solution : population) {
-        R2SolutionData solutionData = this.getAttribute(solution);
-        solutionData.alpha = this.utilityFunctions.evaluate(solution, i);
+      for (int j = 0; j < solutions.size(); j++) {
+        R2SolutionData solutionData = this.getAttribute(solutions.get(j));
+        solutionData.alpha = values[i * solutions.size() + j];
 
         if (solutionData.alpha < solutionData.utility)
           solutionData.utility = solutionData.alpha;
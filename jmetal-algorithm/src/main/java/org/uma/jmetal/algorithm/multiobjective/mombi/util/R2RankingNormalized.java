@@ -42,10 +42,14 @@ public class R2RankingNormalized<S extends Solution<?>> extends R2Ranking<S> {
       solution.attributes().put(getAttributeIdentifier(), data);
     }
 
+    // The population is sorted below, so the values are computed for a copy of the list
+    List<S> solutions = new ArrayList<>(population);
+    double[] values = this.getUtilityFunctions().evaluateAll(solutions);
+
     for (int i = 0; i < this.getUtilityFunctions().getSize(); i++) {
-      for (S solution : population) {
-        R2SolutionData solutionData = this.getAttribute(solution);
-        solutionData.alpha = this.getUtilityFunctions().evaluate(solution, i);
+      for (int j = 0; j < solutions.size(); j++) {
+        R2SolutionData solutionData = this.getAttribute(solutions.get(j));
+        solutionData.alpha = values[i * solutions.size() + j];
       }
 
       Collections.sort(
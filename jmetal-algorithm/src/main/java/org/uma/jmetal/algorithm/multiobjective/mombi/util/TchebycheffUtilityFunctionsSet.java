@@ -3,6 +3,7 @@ package org.uma.jmetal.algorithm.multiobjective.mombi.util;
 import java.util.ArrayList;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.aggregativefunction.ScalarizationKernel;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
 /**
@@ -17,6 +18,8 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
 public class TchebycheffUtilityFunctionsSet<S extends Solution<?>>
     extends AbstractUtilityFunctionsSet<S> {
   private final List<Double> referencePoint;
+  private transient ScalarizationKernel kernel;
+  private transient double[][] kernelWeights;
 
   public TchebycheffUtilityFunctionsSet(String file_path, List<Double> referencePoint) {
     super(file_path);
@@ -34,15 +37,30 @@ public class TchebycheffUtilityFunctionsSet<S extends Solution<?>>
     if ((vector < 0) || (vector >= this.getSize()))
       throw new JMetalException("Vector value " + vector + " invalid");
 
-    double result = Double.NEGATIVE_INFINITY;
-    List<Double> weightVector = this.getWeightVector(vector);
-    for (int i = 0; i < weightVector.size(); i++)
-      result =
-          Math.max(
-              result,
-              weightVector.get(i)
-                  * Math.abs(solution.objectives()[i] - this.referencePoint.get(i)));
+    return getKernel().compute(solution.objectives(), vector, toArray(referencePoint));
+  }
+
+  @Override
+  public double[] evaluateAll(List<S> solutionList) {
+    double[] result = new double[this.getSize() * solutionList.size()];
+    getKernel()
+        .compute(
+            objectiveValues(solutionList, this.getVectorSize()),
+            solutionList.size(),
+            toArray(referencePoint),
+            result);
 
     return result;
   }
+
+  /** The weights are multiplied by the differences, so the null weights are not replaced */
+  private ScalarizationKernel getKernel() {
+    if ((kernel == null) || (kernelWeights != this.getWeightMatrix())) {
+      kernelWeights = this.getWeightMatrix();
+      kernel =
+          new ScalarizationKernel(ScalarizationKernel.Type.TCHEBYCHEFF, 0.0, kernelWeights);
+    }
+
+    return kernel;
+  }
 }
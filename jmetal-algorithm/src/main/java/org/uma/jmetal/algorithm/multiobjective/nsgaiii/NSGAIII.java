@@ -29,6 +29,8 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
 
   protected int numberOfDivisions  ;
   protected List<ReferencePoint<S>> referencePoints = new Vector<>() ;
+  /** Positions of the reference points, used by the environmental selection */
+  protected double[][] referenceDirections ;
 
   /** Constructor */
   public NSGAIII(NSGAIIIBuilder<S> builder) { // can be created from the NSGAIIIBuilder within the same package
@@ -46,6 +48,12 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
 
     (new ReferencePoint<S>()).generateReferencePoints(referencePoints,getProblem().getNumberOfObjectives() , numberOfDivisions);
 
+    referenceDirections = new double[referencePoints.size()][] ;
+    for (int i = 0; i < referencePoints.size(); i++) {
+      referenceDirections[i] =
+          referencePoints.get(i).position.stream().mapToDouble(Double::doubleValue).toArray() ;
+    }
+
     int populationSize = referencePoints.size();
     while (populationSize%4>0) {
       populationSize++;
@@ -108,15 +116,6 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     return offspringPopulation ;
   }
 
-  
-  private List<ReferencePoint<S>> getReferencePointsCopy() {
-	  List<ReferencePoint<S>> copy = new ArrayList<>();
-	  for (ReferencePoint<S> r : this.referencePoints) {
-		  copy.add(new ReferencePoint<>(r));
-	  }
-	  return copy;
-  }
-  
   @Override
   protected List<S> replacement(List<S> population, List<S> offspringPopulation) {
    
@@ -144,9 +143,9 @@ public class NSGAIII<S extends Solution<?>> extends AbstractGeneticAlgorithm<S,
     if (pop.size() == this.getMaxPopulationSize())
       return pop;
     
-    // A copy of the reference list should be used as parameter of the environmental selection
+    // The niche counts of the reference points are kept by the environmental selection
     EnvironmentalSelection<S> selection =
-            new EnvironmentalSelection<>(fronts,getMaxPopulationSize() - pop.size(),getReferencePointsCopy(),
+            new EnvironmentalSelection<>(fronts,getMaxPopulationSize() - pop.size(),referenceDirections,
                     getProblem().getNumberOfObjectives());
     
     var choosen = selection.execute(last);
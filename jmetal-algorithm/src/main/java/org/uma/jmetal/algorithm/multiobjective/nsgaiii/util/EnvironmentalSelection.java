@@ -2,27 +2,71 @@ package org.uma.jmetal.algorithm.multiobjective.nsgaiii.util;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.TreeMap;
 import org.uma.jmetal.operator.selection.SelectionOperator;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.ParallelUtils;
+import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.solutionattribute.SolutionAttribute;
 
+/**
+ * Environmental selection of NSGA-III. The translated and normalized objectives of the solutions,
+ * the reference directions and the number of members of the reference points (niche counts) are
+ * stored in primitive arrays. The squared norms of the reference directions are computed only once,
+ * and the solutions are associated with the reference points in parallel when the number of
+ * solutions, reference points and objectives is large.
+ *
+ * <p>The public methods of the steps of the selection of the previous implementation, which stored
+ * the converted objectives as an attribute of the solutions, are kept as deprecated methods.
+ *
+ * <p>This implementation is based on the code of Tsung-Che Chiang
+ * http://web.ntnu.edu.tw/~tcchiang/publications/nsga3cpp/nsga3cpp.htm
+ */
 @SuppressWarnings("serial")
 public class EnvironmentalSelection<S extends Solution<?>>
     implements SelectionOperator<List<S>, List<S>>, SolutionAttribute<S, List<Double>> {
+  private static final int PARALLEL_THRESHOLD = 1000000;
 
   private List<List<S>> fronts;
   private int solutionsToSelect;
-  private List<ReferencePoint<S>> referencePoints;
   private int numberOfObjectives;
+  /** Reference points given to the constructor, only used by the deprecated methods */
+  private List<ReferencePoint<S>> referencePoints;
+
+  /** Reference directions, stored by rows */
+  private double[] referenceDirections;
+  private double[] referenceDirectionSquaredNorms;
+  private int numberOfReferencePoints;
+
+  /** Solutions of all the fronts */
+  private List<S> solutions;
+  /** Index in {@link #solutions} of the first solution of the last front */
+  private int lastFrontStart;
+  /** Translated and then normalized objectives of the solutions, stored by rows */
+  private double[] normalizedObjectives;
+  /** Reference point associated with each solution, and its perpendicular distance */
+  private int[] associatedReferencePoint;
+  private double[] distanceToReferencePoint;
+
+  /** Niche count of each reference point */
+  private int[] memberSize;
+  /**
+   * Potential members (solutions of the last front) of each reference point. The ones of the r-th
+   * reference point are the indices stored in potentialMembers[potentialMembersStart[r]] ..
+   * potentialMembers[potentialMembersStart[r] + potentialMembersSize[r] - 1], sorted by decreasing
+   * distance
+   */
+  private int[] potentialMembers;
+  private int[] potentialMembersStart;
+  private int[] potentialMembersSize;
 
   public EnvironmentalSelection(Builder<S> builder) {
-    fronts = builder.getFronts();
-    solutionsToSelect = builder.getSolutionsToSelet();
-    referencePoints = builder.getReferencePoints();
-    numberOfObjectives = builder.getNumberOfObjectives();
+    this(
+        builder.getFronts(),
+        builder.getSolutionsToSelet(),
+        builder.getReferencePoints(),
+        builder.getNumberOfObjectives());
   }
 
   public EnvironmentalSelection(
@@ -30,35 +74,81 @@ public class EnvironmentalSelection<S extends Solution<?>>
       int solutionsToSelect,
       List<ReferencePoint<S>> referencePoints,
       int numberOfObjectives) {
+    this(fronts, solutionsToSelect, toMatrix(referencePoints), numberOfObjectives);
+    this.referencePoints = referencePoints;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceDirections Matrix where each row is the position of a reference point
+   */
+  public EnvironmentalSelection(
+      List<List<S>> fronts,
+      int solutionsToSelect,
+      double[][] referenceDirections,
+      int numberOfObjectives) {
     this.fronts = fronts;
     this.solutionsToSelect = solutionsToSelect;
-    this.referencePoints = referencePoints;
     this.numberOfObjectives = numberOfObjectives;
+
+    numberOfReferencePoints = referenceDirections.length;
+    this.referenceDirections = new double[numberOfReferencePoints * numberOfObjectives];
+    referenceDirectionSquaredNorms = new double[numberOfReferencePoints];
+    for (int r = 0; r < numberOfReferencePoints; r++) {
+      double squaredNorm = 0.0;
+      for (int f = 0; f < numberOfObjectives; f++) {
+        double value = referenceDirections[r][f];
+        this.referenceDirections[r * numberOfObjectives + f] = value;
+        squaredNorm += value * value;
+      }
+      referenceDirectionSquaredNorms[r] = squaredNorm;
+    }
   }
 
-  public List<Double> translateObjectives(List<S> population) {
-    List<Double> ideal_point;
-    ideal_point = new ArrayList<>(numberOfObjectives);
-
-    for (int f = 0; f < numberOfObjectives; f += 1) {
-      double minf = Double.MAX_VALUE;
-      for (int i = 0; i < fronts.get(0).size(); i += 1) // min values must appear in the first front
-      {
-        minf = Math.min(minf, fronts.get(0).get(i).objectives()[f]);
+  private static <S extends Solution<?>> double[][] toMatrix(
+      List<ReferencePoint<S>> referencePoints) {
+    double[][] matrix = new double[referencePoints.size()][];
+    for (int r = 0; r < matrix.length; r++) {
+      List<Double> position = referencePoints.get(r).position;
+      matrix[r] = new double[position.size()];
+      for (int f = 0; f < matrix[r].length; f++) {
+        matrix[r][f] = position.get(f);
       }
-      ideal_point.add(minf);
+    }
 
-      for (List<S> list : fronts) {
-        for (S s : list) {
-          if (f == 0) // in the first objective we create the vector of conv_objs
-          setAttribute(s, new ArrayList<Double>());
+    return matrix;
+  }
 
-          getAttribute(s).add(s.objectives()[f] - minf);
-        }
+  /**
+   * Stores the solutions of all the fronts and their objectives translated by the ideal point, which
+   * is returned
+   */
+  private double[] translateObjectives() {
+    solutions = new ArrayList<>();
+    for (List<S> front : fronts) {
+      lastFrontStart = solutions.size();
+      solutions.addAll(front);
+    }
+
+    double[] idealPoint = new double[numberOfObjectives];
+    for (int f = 0; f < numberOfObjectives; f++) {
+      double min = Double.MAX_VALUE;
+      for (S s : fronts.get(0)) { // min values must appear in the first front
+        min = Math.min(min, s.objectives()[f]);
+      }
+      idealPoint[f] = min;
+    }
+
+    normalizedObjectives = new double[solutions.size() * numberOfObjectives];
+    for (int i = 0; i < solutions.size(); i++) {
+      double[] objectives = solutions.get(i).objectives();
+      for (int f = 0; f < numberOfObjectives; f++) {
+        normalizedObjectives[i * numberOfObjectives + f] = objectives[f] - idealPoint[f];
       }
     }
 
-    return ideal_point;
+    return idealPoint;
   }
 
   // ----------------------------------------------------------------------
@@ -67,109 +157,359 @@ public class EnvironmentalSelection<S extends Solution<?>>
   // of the objective which uses 1.0; the rest will use 0.00001. This is
   // different to the one impelemented in C++
   // ----------------------------------------------------------------------
-  private double ASF(S s, int index) {
+  private static double ASF(double[] objectives, int index) {
     double max_ratio = Double.NEGATIVE_INFINITY;
-    for (int i = 0; i < s.objectives().length; i++) {
+    for (int i = 0; i < objectives.length; i++) {
       double weight = (index == i) ? 1.0 : 0.000001;
-      max_ratio = Math.max(max_ratio, s.objectives()[i] / weight);
+      max_ratio = Math.max(max_ratio, objectives[i] / weight);
     }
     return max_ratio;
   }
 
-  // ----------------------------------------------------------------------
-  private List<S> findExtremePoints(List<S> population) {
-    List<S> extremePoints = new ArrayList<>();
-    S min_indv = null;
-    for (int f = 0; f < numberOfObjectives; f += 1) {
+  /** Returns the index of the extreme point of each objective */
+  private int[] findExtremePoints() {
+    int[] extremePoints = new int[numberOfObjectives];
+    int min_indv = -1;
+    for (int f = 0; f < numberOfObjectives; f++) {
       double min_ASF = Double.MAX_VALUE;
-      for (S s : fronts.get(0)) { // only consider the individuals in the first front
-        double asf = ASF(s, f);
+      for (int i = 0; i < fronts.get(0).size(); i++) { // only consider the first front
+        double asf = ASF(solutions.get(i).objectives(), f);
         if (asf < min_ASF) {
           min_ASF = asf;
-          min_indv = s;
+          min_indv = i;
         }
       }
 
-      extremePoints.add(min_indv);
+      extremePoints[f] = min_indv;
     }
     return extremePoints;
   }
 
-  public List<Double> guassianElimination(List<List<Double>> A, List<Double> b) {
-    List<Double> x = new ArrayList<>();
-
-    int N = A.size();
-    for (int i = 0; i < N; i += 1) {
-      A.get(i).add(b.get(i));
-    }
-
-    for (int base = 0; base < N - 1; base += 1) {
-      for (int target = base + 1; target < N; target += 1) {
-        double ratio = A.get(target).get(base) / A.get(base).get(base);
-        for (int term = 0; term < A.get(base).size(); term += 1) {
-          A.get(target).set(term, A.get(target).get(term) - A.get(base).get(term) * ratio);
+  /**
+   * Solves the system A x = b with Gaussian elimination (without pivoting). The matrix A is
+   * modified.
+   */
+  public static double[] gaussianElimination(double[][] A, double[] b) {
+    int N = A.length;
+    double[] rhs = b.clone();
+
+    for (int base = 0; base < N - 1; base++) {
+      for (int target = base + 1; target < N; target++) {
+        double ratio = A[target][base] / A[base][base];
+        for (int term = 0; term < N; term++) {
+          A[target][term] -= A[base][term] * ratio;
         }
+        rhs[target] -= rhs[base] * ratio;
       }
     }
 
-    for (int i = 0; i < N; i++) x.add(0.0);
-
-    for (int i = N - 1; i >= 0; i -= 1) {
-      for (int known = i + 1; known < N; known += 1) {
-        A.get(i).set(N, A.get(i).get(N) - A.get(i).get(known) * x.get(known));
+    double[] x = new double[N];
+    for (int i = N - 1; i >= 0; i--) {
+      for (int known = i + 1; known < N; known++) {
+        rhs[i] -= A[i][known] * x[known];
       }
-      x.set(i, A.get(i).get(N) / A.get(i).get(i));
+      x[i] = rhs[i] / A[i][i];
     }
     return x;
   }
 
-  public List<Double> constructHyperplane(List<S> population, List<S> extreme_points) {
+  private double[] constructHyperplane(int[] extremePoints) {
+    List<S> extremeSolutions = new ArrayList<>(extremePoints.length);
+    for (int extremePoint : extremePoints) {
+      extremeSolutions.add(solutions.get(extremePoint));
+    }
+
+    return intercepts(extremeSolutions);
+  }
+
+  private double[] intercepts(List<S> extremePoints) {
     // Check whether there are duplicate extreme points.
     // This might happen but the original paper does not mention how to deal with it.
     boolean duplicate = false;
-    for (int i = 0; !duplicate && i < extreme_points.size(); i += 1) {
-      for (int j = i + 1; !duplicate && j < extreme_points.size(); j += 1) {
-        duplicate = extreme_points.get(i).equals(extreme_points.get(j));
+    for (int i = 0; !duplicate && i < extremePoints.size(); i++) {
+      for (int j = i + 1; !duplicate && j < extremePoints.size(); j++) {
+        duplicate = extremePoints.get(i).equals(extremePoints.get(j));
       }
     }
 
-    List<Double> intercepts = new ArrayList<>();
+    double[] intercepts = new double[numberOfObjectives];
 
-    if (duplicate) // cannot construct the unique hyperplane (this is a casual method to deal with
-                   // the condition)
-    {
-      for (int f = 0; f < numberOfObjectives; f += 1) {
+    if (duplicate) { // cannot construct the unique hyperplane (this is a casual method to deal with
+                     // the condition)
+      for (int f = 0; f < numberOfObjectives; f++) {
         // extreme_points[f] stands for the individual with the largest value of objective f
-        intercepts.add(extreme_points.get(f).objectives()[f]);
+        intercepts[f] = extremePoints.get(f).objectives()[f];
       }
     } else {
       // Find the equation of the hyperplane
-      List<Double> b = new ArrayList<>(); // (pop[0].objs().size(), 1.0);
-      for (int i = 0; i < numberOfObjectives; i++) b.add(1.0);
-
-      List<List<Double>> A = new ArrayList<>();
-      for (S s : extreme_points) {
-        List<Double> aux = new ArrayList<>();
-        for (int i = 0; i < numberOfObjectives; i++) aux.add(s.objectives()[i]);
-        A.add(aux);
+      double[] b = new double[numberOfObjectives];
+      double[][] A = new double[numberOfObjectives][];
+      for (int f = 0; f < numberOfObjectives; f++) {
+        b[f] = 1.0;
+        A[f] = extremePoints.get(f).objectives().clone();
       }
-      List<Double> x = guassianElimination(A, b);
+      double[] x = gaussianElimination(A, b);
 
       // Find intercepts
-      for (int f = 0; f < numberOfObjectives; f += 1) {
-        intercepts.add(1.0 / x.get(f));
+      for (int f = 0; f < numberOfObjectives; f++) {
+        intercepts[f] = 1.0 / x[f];
       }
     }
     return intercepts;
   }
 
+  private void normalizeObjectives(double[] intercepts, double[] idealPoint) {
+    double[] denominators = new double[numberOfObjectives];
+    for (int f = 0; f < numberOfObjectives; f++) {
+      denominators[f] =
+          (Math.abs(intercepts[f] - idealPoint[f]) > 10e-10)
+              ? intercepts[f] - idealPoint[f]
+              : 10e-10;
+    }
+
+    for (int i = 0; i < normalizedObjectives.length; i++) {
+      normalizedObjectives[i] /= denominators[i % numberOfObjectives];
+    }
+  }
+
+  /** Distance from the i-th solution to the line of the r-th reference direction */
+  private double perpendicularDistance(int r, int i) {
+    int directionBase = r * numberOfObjectives;
+    int pointBase = i * numberOfObjectives;
+
+    double numerator = 0;
+    for (int f = 0; f < numberOfObjectives; f++) {
+      numerator += referenceDirections[directionBase + f] * normalizedObjectives[pointBase + f];
+    }
+    double k = numerator / referenceDirectionSquaredNorms[r];
+
+    double d = 0;
+    for (int f = 0; f < numberOfObjectives; f++) {
+      double difference =
+          k * referenceDirections[directionBase + f] - normalizedObjectives[pointBase + f];
+      d += difference * difference;
+    }
+    return Math.sqrt(d);
+  }
+
+  /**
+   * Associates each solution with its closest reference point. The solutions of the last front
+   * become potential members of the reference points, and the rest are counted as members
+   */
+  private void associate() {
+    int numberOfSolutions = solutions.size();
+    associatedReferencePoint = new int[numberOfSolutions];
+    distanceToReferencePoint = new double[numberOfSolutions];
+
+    ParallelUtils.range(
+            numberOfSolutions,
+            (long) numberOfSolutions * numberOfReferencePoints * numberOfObjectives,
+            PARALLEL_THRESHOLD)
+        .forEach(
+        i -> {
+          int min_rp = -1;
+          double min_dist = Double.MAX_VALUE;
+          for (int r = 0; r < numberOfReferencePoints; r++) {
+            double d = perpendicularDistance(r, i);
+            if (d < min_dist) {
+              min_dist = d;
+              min_rp = r;
+            }
+          }
+          associatedReferencePoint[i] = min_rp;
+          distanceToReferencePoint[i] = min_dist;
+        });
+
+    memberSize = new int[numberOfReferencePoints];
+    potentialMembersStart = new int[numberOfReferencePoints + 1];
+    potentialMembersSize = new int[numberOfReferencePoints];
+    for (int i = 0; i < numberOfSolutions; i++) {
+      if (i < lastFrontStart) {
+        memberSize[associatedReferencePoint[i]]++;
+      } else {
+        potentialMembersStart[associatedReferencePoint[i] + 1]++;
+      }
+    }
+    for (int r = 0; r < numberOfReferencePoints; r++) {
+      potentialMembersStart[r + 1] += potentialMembersStart[r];
+    }
+
+    potentialMembers = new int[numberOfSolutions - lastFrontStart];
+    for (int i = lastFrontStart; i < numberOfSolutions; i++) {
+      int r = associatedReferencePoint[i];
+      potentialMembers[potentialMembersStart[r] + potentialMembersSize[r]++] = i;
+    }
+
+    for (int r = 0; r < numberOfReferencePoints; r++) {
+      sortPotentialMembers(r);
+    }
+  }
+
+  /**
+   * Sorts the potential members of a reference point by decreasing distance with a (stable)
+   * insertion sort; the number of potential members of a reference point is usually very small
+   */
+  private void sortPotentialMembers(int r) {
+    int start = potentialMembersStart[r];
+    int end = start + potentialMembersSize[r];
+    for (int i = start + 1; i < end; i++) {
+      int member = potentialMembers[i];
+      double distance = distanceToReferencePoint[member];
+      int j = i - 1;
+      while ((j >= start)
+          && (Double.compare(distanceToReferencePoint[potentialMembers[j]], distance) < 0)) {
+        potentialMembers[j + 1] = potentialMembers[j];
+        j--;
+      }
+      potentialMembers[j + 1] = member;
+    }
+  }
+
+  /** Removes the potential member of a reference point at a given position */
+  private int removePotentialMember(int r, int position) {
+    int start = potentialMembersStart[r];
+    int member = potentialMembers[start + position];
+    System.arraycopy(
+        potentialMembers,
+        start + position + 1,
+        potentialMembers,
+        start + position,
+        potentialMembersSize[r] - position - 1);
+    potentialMembersSize[r]--;
+
+    return member;
+  }
+
+  // ----------------------------------------------------------------------
+  // SelectClusterMember():
+  //
+  // Select a potential member (an individual in the front Fl) and associate
+  // it with the reference point. Returns -1 if there are no potential members.
+  //
+  // Check the last two paragraphs in Section IV-E in the original paper.
+  // ----------------------------------------------------------------------
+  private int selectClusterMember(int r, JMetalRandom random) {
+    int chosen = -1;
+    int size = potentialMembersSize[r];
+    if (size > 0) {
+      if (memberSize[r] == 0) { // currently has no member: the closest one
+        chosen = removePotentialMember(r, size - 1);
+      } else {
+        int position = size > 1 ? random.nextInt(0, size - 1) : 0;
+        chosen = removePotentialMember(r, position);
+      }
+    }
+    return chosen;
+  }
+
+  @Override
+  /* This method performs the environmental Selection indicated in the paper describing NSGAIII*/
+  public List<S> execute(List<S> source) throws JMetalException {
+    // ---------- Steps 9-10 in Algorithm 1 ----------
+    if (source.size() == this.solutionsToSelect) return source;
+
+    // ---------- Step 14 / Algorithm 2 ----------
+    double[] idealPoint = translateObjectives();
+    int[] extremePoints = findExtremePoints();
+    double[] intercepts = constructHyperplane(extremePoints);
+
+    normalizeObjectives(intercepts, idealPoint);
+    // ---------- Step 15 / Algorithm 3, Step 16 ----------
+    associate();
+
+    // The reference points are grouped by niche count; within a group, they are kept in order of
+    // insertion
+    List<ReferencePointList> groups = new ArrayList<>();
+    for (int r = 0; r < numberOfReferencePoints; r++) {
+      groupOf(groups, memberSize[r]).add(r);
+    }
+    int minimumNicheCount = 0;
+
+    JMetalRandom random = JMetalRandom.getInstance();
+    List<S> result = new ArrayList<>(solutionsToSelect);
+
+    // ---------- Step 17 / Algorithm 4 ----------
+    while (result.size() < this.solutionsToSelect) {
+      while ((minimumNicheCount < groups.size()) && groups.get(minimumNicheCount).isEmpty()) {
+        minimumNicheCount++;
+      }
+      if (minimumNicheCount == groups.size()) {
+        throw new JMetalException(
+            "There are not enough solutions to select: " + result.size() + " of "
+                + solutionsToSelect);
+      }
+
+      ReferencePointList first = groups.get(minimumNicheCount);
+      int min_rp = first.remove(first.size() == 1 ? 0 : random.nextInt(0, first.size() - 1));
+      int chosen = selectClusterMember(min_rp, random);
+      if (chosen != -1) {
+        memberSize[min_rp]++;
+        groupOf(groups, memberSize[min_rp]).add(min_rp);
+        result.add(solutions.get(chosen));
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Stores in each solution of the fronts its objectives translated by the ideal point, which is
+   * returned
+   *
+   * @deprecated The objectives are stored in primitive arrays instead of attributes of the solutions
+   */
+  @Deprecated
+  public List<Double> translateObjectives(List<S> population) {
+    List<Double> idealPoint = toList(translateObjectives());
+
+    for (List<S> front : fronts) {
+      for (S s : front) {
+        List<Double> convertedObjectives = new ArrayList<>(numberOfObjectives);
+        for (int f = 0; f < numberOfObjectives; f++) {
+          convertedObjectives.add(s.objectives()[f] - idealPoint.get(f));
+        }
+        setAttribute(s, convertedObjectives);
+      }
+    }
+
+    return idealPoint;
+  }
+
+  /**
+   * Solves the system A x = b. Unlike the previous implementation, the matrix A is not modified
+   *
+   * @deprecated Use {@link #gaussianElimination(double[][], double[])}
+   */
+  @Deprecated
+  public List<Double> guassianElimination(List<List<Double>> A, List<Double> b) {
+    double[][] matrix = new double[A.size()][];
+    double[] vector = new double[b.size()];
+    for (int i = 0; i < A.size(); i++) {
+      matrix[i] = A.get(i).stream().mapToDouble(Double::doubleValue).toArray();
+      vector[i] = b.get(i);
+    }
+
+    return toList(gaussianElimination(matrix, vector));
+  }
+
+  /** @deprecated The hyperplane is constructed during {@link #execute(List)} */
+  @Deprecated
+  public List<Double> constructHyperplane(List<S> population, List<S> extreme_points) {
+    return toList(intercepts(extreme_points));
+  }
+
+  /**
+   * Normalizes the translated objectives stored by {@link #translateObjectives(List)}
+   *
+   * @deprecated The objectives are stored in primitive arrays instead of attributes of the solutions
+   */
+  @Deprecated
   public void normalizeObjectives(
       List<S> population, List<Double> intercepts, List<Double> ideal_point) {
-    for (int t = 0; t < fronts.size(); t += 1) {
-      for (S s : fronts.get(t)) {
-
+    for (List<S> front : fronts) {
+      for (S s : front) {
+        List<Double> conv_obj = getAttribute(s);
         for (int f = 0; f < numberOfObjectives; f++) {
-          List<Double> conv_obj = (List<Double>) getAttribute(s);
           if (Math.abs(intercepts.get(f) - ideal_point.get(f)) > 10e-10) {
             conv_obj.set(f, conv_obj.get(f) / (intercepts.get(f) - ideal_point.get(f)));
           } else {
@@ -180,116 +520,122 @@ public class EnvironmentalSelection<S extends Solution<?>>
     }
   }
 
+  /** @deprecated The distances are computed during {@link #execute(List)} */
+  @Deprecated
   public double perpendicularDistance(List<Double> direction, List<Double> point) {
     double numerator = 0, denominator = 0;
     for (int i = 0; i < direction.size(); i += 1) {
       numerator += direction.get(i) * point.get(i);
-      denominator += Math.pow(direction.get(i), 2.0);
+      denominator += direction.get(i) * direction.get(i);
     }
     double k = numerator / denominator;
 
     double d = 0;
     for (int i = 0; i < direction.size(); i += 1) {
-      d += Math.pow(k * direction.get(i) - point.get(i), 2.0);
+      double difference = k * direction.get(i) - point.get(i);
+      d += difference * difference;
     }
     return Math.sqrt(d);
   }
 
+  /**
+   * Associates each solution of the fronts, using the objectives normalized by {@link
+   * #normalizeObjectives(List, List, List)}, with its closest {@link ReferencePoint}. Requires the
+   * selection to be constructed with a list of reference points
+   *
+   * @deprecated The solutions are associated during {@link #execute(List)}
+   */
+  @Deprecated
   public void associate(List<S> population) {
-
+    Check.notNull(referencePoints);
     for (int t = 0; t < fronts.size(); t++) {
       for (S s : fronts.get(t)) {
         int min_rp = -1;
         double min_dist = Double.MAX_VALUE;
-        for (int r = 0; r < this.referencePoints.size(); r++) {
-          double d =
-              perpendicularDistance(
-                  this.referencePoints.get(r).position, (List<Double>) getAttribute(s));
+        for (int r = 0; r < referencePoints.size(); r++) {
+          double d = perpendicularDistance(referencePoints.get(r).position, getAttribute(s));
           if (d < min_dist) {
             min_dist = d;
             min_rp = r;
           }
         }
         if (t + 1 != fronts.size()) {
-          this.referencePoints.get(min_rp).AddMember();
+          referencePoints.get(min_rp).AddMember();
         } else {
-          this.referencePoints.get(min_rp).AddPotentialMember(s, min_dist);
+          referencePoints.get(min_rp).AddPotentialMember(s, min_dist);
         }
       }
     }
   }
 
-  // ----------------------------------------------------------------------
-  // SelectClusterMember():
-  //
-  // Select a potential member (an individual in the front Fl) and associate
-  // it with the reference point.
-  //
-  // Check the last two paragraphs in Section IV-E in the original paper.
-  // ----------------------------------------------------------------------
-  S SelectClusterMember(ReferencePoint<S> rp) {
-    S chosen = null;
-    if (rp.HasPotentialMember()) {
-      if (rp.MemberSize() == 0) // currently has no member
-      {
-        chosen = rp.FindClosestMember();
-      } else {
-        chosen = rp.RandomMember();
-      }
-    }
-    return chosen;
+  /** @deprecated The converted objectives are not stored as an attribute of the solutions */
+  @Deprecated
+  @Override
+  public void setAttribute(S solution, List<Double> value) {
+    solution.attributes().put(getAttributeIdentifier(), value);
   }
 
-  private TreeMap<Integer, ArrayList<ReferencePoint<S>>> referencePointsTree = new TreeMap<>();
-
-  private void addToTree(ReferencePoint<S> rp) {
-    var key = rp.MemberSize();
-    if (!this.referencePointsTree.containsKey(key))
-      this.referencePointsTree.put(key, new ArrayList<>());
-    this.referencePointsTree.get(key).add(rp);
+  /** @deprecated The converted objectives are not stored as an attribute of the solutions */
+  @Deprecated
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<Double> getAttribute(S solution) {
+    return (List<Double>) solution.attributes().get(getAttributeIdentifier());
   }
 
+  /** @deprecated The converted objectives are not stored as an attribute of the solutions */
+  @Deprecated
   @Override
-  /* This method performs the environmental Selection indicated in the paper describing NSGAIII*/
-  public List<S> execute(List<S> source) throws JMetalException {
-    // The comments show the C++ code
-
-    // ---------- Steps 9-10 in Algorithm 1 ----------
-    if (source.size() == this.solutionsToSelect) return source;
+  public Object getAttributeIdentifier() {
+    return this.getClass();
+  }
 
-    // ---------- Step 14 / Algorithm 2 ----------
-    // vector<double> ideal_point = TranslateObjectives(&cur, fronts);
-    List<Double> ideal_point = translateObjectives(source);
-    List<S> extreme_points = findExtremePoints(source);
-    List<Double> intercepts = constructHyperplane(source, extreme_points);
+  private static List<Double> toList(double[] values) {
+    List<Double> list = new ArrayList<>(values.length);
+    for (double value : values) {
+      list.add(value);
+    }
 
-    normalizeObjectives(source, intercepts, ideal_point);
-    // ---------- Step 15 / Algorithm 3, Step 16 ----------
-    associate(source);
+    return list;
+  }
 
-    for (var rp : this.referencePoints) {
-      rp.sort();
-      this.addToTree(rp);
+  private static ReferencePointList groupOf(List<ReferencePointList> groups, int nicheCount) {
+    while (groups.size() <= nicheCount) {
+      groups.add(new ReferencePointList());
     }
 
-    var rand = JMetalRandom.getInstance();
-    List<S> result = new ArrayList<>();
+    return groups.get(nicheCount);
+  }
 
-    // ---------- Step 17 / Algorithm 4 ----------
-    while (result.size() < this.solutionsToSelect) {
-      final var first = this.referencePointsTree.firstEntry().getValue();
-      final var min_rp_index = 1 == first.size() ? 0 : rand.nextInt(0, first.size() - 1);
-      final var min_rp = first.remove(min_rp_index);
-      if (first.isEmpty()) this.referencePointsTree.pollFirstEntry();
-      S chosen = SelectClusterMember(min_rp);
-      if (chosen != null) {
-        min_rp.AddMember();
-        this.addToTree(min_rp);
-        result.add(chosen);
+  /** List of indices of reference points */
+  private static class ReferencePointList {
+    private int[] indices = new int[8];
+    private int size = 0;
+
+    void add(int index) {
+      if (size == indices.length) {
+        int[] newIndices = new int[2 * size];
+        System.arraycopy(indices, 0, newIndices, 0, size);
+        indices = newIndices;
       }
+      indices[size++] = index;
     }
 
-    return result;
+    int remove(int position) {
+      int index = indices[position];
+      System.arraycopy(indices, position + 1, indices, position, size - position - 1);
+      size--;
+
+      return index;
+    }
+
+    int size() {
+      return size;
+    }
+
+    boolean isEmpty() {
+      return size == 0;
+    }
   }
 
   public static class Builder<S extends Solution<?>> {
@@ -340,20 +686,4 @@ public class EnvironmentalSelection<S extends Solution<?>>
       return this.numberOfObjctives;
     }
   }
-
-  @Override
-  public void setAttribute(S solution, List<Double> value) {
-    solution.attributes().put(getAttributeIdentifier(), value);
-  }
-
-  @Override
-  @SuppressWarnings("unchecked")
-  public List<Double> getAttribute(S solution) {
-    return (List<Double>) solution.attributes().get(getAttributeIdentifier());
-  }
-
-  @Override
-  public Object getAttributeIdentifier() {
-    return this.getClass();
-  }
 }
@@ -7,6 +7,7 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.weightvector.WeightVectorGenerator;
 
 /**
  * Created by ajnebro on 5/11/14.
@@ -40,34 +41,21 @@ public class ReferencePoint<S extends Solution<?>> {
     potentialMembers = new ArrayList<>();
   }
 
+  /** Generates the points of a simplex-lattice design (see {@link WeightVectorGenerator}) */
   public void generateReferencePoints(
           List<ReferencePoint<S>> referencePoints,
           int numberOfObjectives,
           int numberOfDivisions) {
 
-    ReferencePoint<S> refPoint = new ReferencePoint<>(numberOfObjectives) ;
-    generateRecursive(referencePoints, refPoint, numberOfObjectives, numberOfDivisions, numberOfDivisions, 0);
-  }
-
-  private void generateRecursive(
-          List<ReferencePoint<S>> referencePoints,
-          ReferencePoint<S> refPoint,
-          int numberOfObjectives,
-          int left,
-          int total,
-          int element) {
-    if (element == (numberOfObjectives - 1)) {
-      refPoint.position.set(element, (double) left / total) ;
-      referencePoints.add(new ReferencePoint<>(refPoint)) ;
-    } else {
-      for (int i = 0 ; i <= left; i +=1) {
-        refPoint.position.set(element, (double)i/total) ;
-
-        generateRecursive(referencePoints, refPoint, numberOfObjectives, left-i, total, element+1);
+    for (double[] vector : WeightVectorGenerator.dasDennis(numberOfObjectives, numberOfDivisions)) {
+      ReferencePoint<S> refPoint = new ReferencePoint<>(numberOfObjectives) ;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        refPoint.position.set(i, vector[i]) ;
       }
+      referencePoints.add(refPoint) ;
     }
   }
-  
+
   public List<Double> pos()  { return this.position; }
   public int  MemberSize(){ return memberSize; }
   public boolean HasPotentialMember() { return potentialMembers.size()>0; }
@@ -4,21 +4,23 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.algorithm.impl.AbstractParticleSwarmOptimization;
+import org.uma.jmetal.algorithm.impl.ParticleSwarmKernel;
 import org.uma.jmetal.operator.mutation.impl.NonUniformMutation;
 import org.uma.jmetal.operator.mutation.impl.UniformMutation;
 import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
 import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
-import org.uma.jmetal.util.bounds.Bounds;
-import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.EpsilonDominanceComparator;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
-/** Class implementing the OMOPSO algorithm */
+/**
+ * Class implementing the OMOPSO algorithm. The positions, velocities and personal bests of the
+ * particles are kept in a {@link ParticleSwarmKernel}.
+ */
 @SuppressWarnings("serial")
 public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, List<DoubleSolution>> {
 
@@ -30,13 +32,14 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
   private int maxIterations;
   private int currentIteration;
 
-  private DoubleSolution[] localBest;
+  private ParticleSwarmKernel kernel;
+  private double[] globalBest;
+  private double[] inertiaWeight;
+  private double[] cognitiveFactor;
+  private double[] socialFactor;
   private CrowdingDistanceArchive<DoubleSolution> leaderArchive;
   private NonDominatedSolutionListArchive<DoubleSolution> epsilonArchive;
 
-  private double[][] speed;
-
-  private final Comparator<DoubleSolution> dominanceComparator;
   private final Comparator<DoubleSolution> crowdingDistanceComparator;
 
   private final UniformMutation uniformMutation;
@@ -60,17 +63,19 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
     this.uniformMutation = uniformMutation ;
     this.nonUniformMutation = nonUniformMutation ;
 
-    localBest = new DoubleSolution[swarmSize];
+    kernel = new ParticleSwarmKernel(problem, swarmSize);
+    setSwarmKernel(kernel);
+    globalBest = new double[swarmSize * problem.getNumberOfVariables()];
+    inertiaWeight = new double[swarmSize];
+    cognitiveFactor = new double[swarmSize];
+    socialFactor = new double[swarmSize];
     leaderArchive = new CrowdingDistanceArchive<>(archiveSize);
     epsilonArchive = new NonDominatedSolutionListArchive<>(new EpsilonDominanceComparator<>(eta));
 
     crowdingDistance = new CrowdingDistanceDensityEstimator<>();
 
-    dominanceComparator = new DominanceComparator<>();
     crowdingDistanceComparator = crowdingDistance.getComparator();
 
-    speed = new double[swarmSize][problem.getNumberOfVariables()];
-
     randomGenerator = JMetalRandom.getInstance() ;
   }
 
@@ -126,8 +131,7 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
   @Override
   protected void initializeParticlesMemory(List<DoubleSolution> swarm)  {
     for (int i = 0; i < swarm.size(); i++) {
-      DoubleSolution particle = (DoubleSolution) swarm.get(i).copy();
-      localBest[i] = particle;
+      kernel.storePersonalBest(i, swarm.get(i));
     }
   }
 
@@ -135,11 +139,9 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
   protected void updateVelocity(List<DoubleSolution> swarm)  {
     double r1, r2, W, C1, C2;
     DoubleSolution bestGlobal;
+    int numberOfVariables = problem.getNumberOfVariables();
 
     for (int i = 0; i < swarmSize; i++) {
-      DoubleSolution particle = swarm.get(i);
-      DoubleSolution bestParticle = (DoubleSolution) localBest[i];
-
       //Select a global localBest for calculate the speed of particle i, bestGlobal
       DoubleSolution one ;
       DoubleSolution two;
@@ -153,6 +155,7 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
       } else {
         bestGlobal = two ;
       }
+      kernel.copyVariables(bestGlobal, globalBest, kernel.offset(i));
 
       //Parameters for velocity equation
       r1 = randomGenerator.nextDouble();
@@ -160,56 +163,48 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
       C1 = randomGenerator.nextDouble(1.5, 2.0);
       C2 = randomGenerator.nextDouble(1.5, 2.0);
       W = randomGenerator.nextDouble(0.1, 0.5);
-      //
 
-      for (int var = 0; var < particle.variables().size(); var++) {
+      inertiaWeight[i] = W;
+      cognitiveFactor[i] = C1 * r1;
+      socialFactor[i] = C2 * r2;
+    }
+
+    double[] position = kernel.getPosition();
+    double[] velocity = kernel.getVelocity();
+    double[] bestPosition = kernel.getBestPosition();
+
+    kernel.forEachParticle(i -> {
+      int base = kernel.offset(i);
+      for (int var = 0; var < numberOfVariables; var++) {
+        int k = base + var;
         //Computing the velocity of this particle
-        speed[i][var] = W * speed[i][var] + C1 * r1 * (bestParticle.variables().get(var) -
-            particle.variables().get(var)) +
-            C2 * r2 * (bestGlobal.variables().get(var) - particle.variables().get(var));
+        velocity[k] = inertiaWeight[i] * velocity[k] +
+            cognitiveFactor[i] * (bestPosition[k] - position[k]) +
+            socialFactor[i] * (globalBest[k] - position[k]);
       }
-    }
+    });
   }
 
   /** Update the position of each particle */
   @Override
   protected void updatePosition(List<DoubleSolution> swarm)  {
-    for (int i = 0; i < swarmSize; i++) {
-      DoubleSolution particle = swarm.get(i);
-      for (int var = 0; var < particle.variables().size(); var++) {
-        particle.variables().set(var, particle.variables().get(var) + speed[i][var]);
-        Bounds<Double> bounds = problem.getBoundsForVariables().get(var) ;
-        Double lowerBound = bounds.getLowerBound() ;
-        Double upperBound = bounds.getUpperBound() ;
-        if (particle.variables().get(var) < lowerBound) {
-          particle.variables().set(var, lowerBound);
-          speed[i][var] = speed[i][var] * -1.0;
-        }
-        if (particle.variables().get(var) > upperBound) {
-          particle.variables().set(var, upperBound);
-          speed[i][var] = speed[i][var] * -1.0;
-        }
-      }
-    }
+    kernel.updatePositions(-1.0, -1.0);
+    kernel.writePositions(swarm);
   }
 
   @Override
   protected void updateParticlesMemory(List<DoubleSolution> swarm) {
     for (int i = 0; i < swarm.size(); i++) {
-      int flag = dominanceComparator.compare(swarm.get(i), localBest[i]);
+      int flag = kernel.compareWithPersonalBest(i, swarm.get(i));
       if (flag != 1) {
-        DoubleSolution particle = (DoubleSolution) swarm.get(i).copy();
-        localBest[i] = particle;
+        kernel.storePersonalBest(i, swarm.get(i));
       }
     }
   }
 
   @Override protected void initializeVelocity(List<DoubleSolution> swarm) {
-    for (int i = 0; i < swarm.size(); i++) {
-      for (int j = 0; j < problem.getNumberOfVariables(); j++) {
-        speed[i][j] = 0.0;
-      }
-    }
+    kernel.readPositions(swarm);
+    kernel.resetVelocities();
   }
 
   /**  Apply a mutation operator to all particles in the swarm (perturbation) */
@@ -220,8 +215,10 @@ public class OMOPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Li
     for (int i = 0; i < swarm.size(); i++) {
       if (i % 3 == 0) {
         nonUniformMutation.execute(swarm.get(i));
+        kernel.readPosition(i, swarm.get(i));
       } else if (i % 3 == 1) {
         uniformMutation.execute(swarm.get(i));
+        kernel.readPosition(i, swarm.get(i));
       }
     }
   }
@@ -1,24 +1,26 @@
 package org.uma.jmetal.algorithm.multiobjective.smpso;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.algorithm.impl.AbstractParticleSwarmOptimization;
+import org.uma.jmetal.algorithm.impl.ParticleSwarmKernel;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.archive.BoundedArchive;
 import org.uma.jmetal.util.bounds.Bounds;
-import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
-import org.uma.jmetal.util.solutionattribute.impl.GenericSolutionAttribute;
 
 /**
  * This class implements the SMPSO algorithm described in:
  * SMPSO: A new PSO-based metaheuristic for multi-objective optimization
  * MCDM 2009. DOI: http://dx.doi.org/10.1109/MCDM.2009.4938830
  *
+ * The positions, velocities and personal bests of the particles are kept in a
+ * {@link ParticleSwarmKernel}; the velocity update can be run in parallel by calling
+ * <code>getSwarmKernel().setParallel(true)</code>.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
@@ -42,13 +44,15 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
   private int maxIterations;
   private int iterations;
 
-  private GenericSolutionAttribute<DoubleSolution, DoubleSolution> localBest;
-  private double[][] speed;
+  private ParticleSwarmKernel kernel;
+  private double[] globalBest;
+  private double[] cognitiveFactor;
+  private double[] socialFactor;
+  private double[] constriction;
 
   private JMetalRandom randomGenerator;
 
   private BoundedArchive<DoubleSolution> leaders;
-  private Comparator<DoubleSolution> dominanceComparator;
 
   private MutationOperator<DoubleSolution> mutation;
 
@@ -87,9 +91,12 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     randomGenerator = JMetalRandom.getInstance();
     this.evaluator = evaluator;
 
-    dominanceComparator = new DominanceComparator<DoubleSolution>();
-    localBest = new GenericSolutionAttribute<DoubleSolution, DoubleSolution>();
-    speed = new double[swarmSize][problem.getNumberOfVariables()];
+    kernel = new ParticleSwarmKernel(problem, swarmSize);
+    setSwarmKernel(kernel);
+    globalBest = new double[swarmSize * problem.getNumberOfVariables()];
+    cognitiveFactor = new double[swarmSize];
+    socialFactor = new double[swarmSize];
+    constriction = new double[swarmSize];
 
     deltaMax = new double[problem.getNumberOfVariables()];
     deltaMin = new double[problem.getNumberOfVariables()];
@@ -144,75 +151,65 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
   @Override
   protected void initializeLeader(List<DoubleSolution> swarm) {
     for (DoubleSolution particle : swarm) {
-      leaders.add(particle);
+      leaders.add((DoubleSolution) particle.copy());
     }
   }
 
   @Override
   protected void initializeVelocity(List<DoubleSolution> swarm) {
-    for (int i = 0; i < swarm.size(); i++) {
-      for (int j = 0; j < problem.getNumberOfVariables(); j++) {
-        speed[i][j] = 0.0;
-      }
-    }
+    kernel.readPositions(swarm);
+    kernel.resetVelocities();
   }
 
   @Override
   protected void initializeParticlesMemory(List<DoubleSolution> swarm) {
-    for (DoubleSolution particle : swarm) {
-      localBest.setAttribute(particle, (DoubleSolution) particle.copy());
+    for (int i = 0; i < swarm.size(); i++) {
+      kernel.storePersonalBest(i, swarm.get(i));
     }
   }
 
   @Override
   protected void updateVelocity(List<DoubleSolution> swarm) {
     double r1, r2, c1, c2;
-    double wmax, wmin;
-    DoubleSolution bestGlobal;
+    int numberOfVariables = problem.getNumberOfVariables();
 
+    // The random numbers are drawn sequentially, so the result does not depend on the kernel
+    // being run in parallel
     for (int i = 0; i < swarm.size(); i++) {
-      DoubleSolution particle = (DoubleSolution) swarm.get(i).copy();
-      DoubleSolution bestParticle = (DoubleSolution) localBest.getAttribute(swarm.get(i)).copy();
-
-      bestGlobal = selectGlobalBest();
+      kernel.copyVariables(selectGlobalBest(), globalBest, kernel.offset(i));
 
       r1 = randomGenerator.nextDouble(r1Min, r1Max);
       r2 = randomGenerator.nextDouble(r2Min, r2Max);
       c1 = randomGenerator.nextDouble(c1Min, c1Max);
       c2 = randomGenerator.nextDouble(c2Min, c2Max);
-      wmax = weightMax;
-      wmin = weightMin;
-
-      for (int var = 0; var < particle.variables().size(); var++) {
-        speed[i][var] = velocityConstriction(constrictionCoefficient(c1, c2) * (
-                        inertiaWeight(iterations, maxIterations, wmax, wmin) * speed[i][var] +
-                                c1 * r1 * (bestParticle.variables().get(var) - particle.variables().get(var)) +
-                                c2 * r2 * (bestGlobal.variables().get(var) - particle.variables().get(var))),
+
+      cognitiveFactor[i] = c1 * r1;
+      socialFactor[i] = c2 * r2;
+      constriction[i] = constrictionCoefficient(c1, c2);
+    }
+
+    double inertiaWeight = inertiaWeight(iterations, maxIterations, weightMax, weightMin);
+    double[] position = kernel.getPosition();
+    double[] velocity = kernel.getVelocity();
+    double[] bestPosition = kernel.getBestPosition();
+
+    kernel.forEachParticle(i -> {
+      int base = kernel.offset(i);
+      for (int var = 0; var < numberOfVariables; var++) {
+        int k = base + var;
+        velocity[k] = velocityConstriction(constriction[i] * (
+                        inertiaWeight * velocity[k] +
+                                cognitiveFactor[i] * (bestPosition[k] - position[k]) +
+                                socialFactor[i] * (globalBest[k] - position[k])),
                 deltaMax, deltaMin, var);
       }
-    }
+    });
   }
 
   @Override
   protected void updatePosition(List<DoubleSolution> swarm) {
-    for (int i = 0; i < swarmSize; i++) {
-      DoubleSolution particle = swarm.get(i);
-      for (int j = 0; j < particle.variables().size(); j++) {
-        particle.variables().set(j, particle.variables().get(j) + speed[i][j]);
-
-        Bounds<Double> bounds = problem.getBoundsForVariables().get(j) ;
-        Double lowerBound = bounds.getLowerBound() ;
-        Double upperBound = bounds.getUpperBound() ;
-        if (particle.variables().get(j) < lowerBound) {
-          particle.variables().set(j, lowerBound);
-          speed[i][j] = speed[i][j] * changeVelocity1;
-        }
-        if (particle.variables().get(j) > upperBound) {
-          particle.variables().set(j, upperBound);
-          speed[i][j] = speed[i][j] * changeVelocity2;
-        }
-      }
-    }
+    kernel.updatePositions(changeVelocity1, changeVelocity2);
+    kernel.writePositions(swarm);
   }
 
   @Override
@@ -220,6 +217,7 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     for (int i = 0; i < swarm.size(); i++) {
       if ((i % 6) == 0) {
         mutation.execute(swarm.get(i));
+        kernel.readPosition(i, swarm.get(i));
       }
     }
   }
@@ -234,10 +232,9 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
   @Override
   protected void updateParticlesMemory(List<DoubleSolution> swarm) {
     for (int i = 0; i < swarm.size(); i++) {
-      int flag = dominanceComparator.compare(swarm.get(i), localBest.getAttribute(swarm.get(i)));
+      int flag = kernel.compareWithPersonalBest(i, swarm.get(i));
       if (flag != 1) {
-        DoubleSolution particle = (DoubleSolution) swarm.get(i).copy();
-        localBest.setAttribute(swarm.get(i), particle);
+        kernel.storePersonalBest(i, swarm.get(i));
       }
     }
   }
@@ -256,9 +253,9 @@ public class SMPSO extends AbstractParticleSwarmOptimization<DoubleSolution, Lis
     two = leaders.getSolutionList().get(pos2);
 
     if (leaders.getComparator().compare(one, two) < 1) {
-      bestGlobal = (DoubleSolution) one.copy();
+      bestGlobal = one;
     } else {
-      bestGlobal = (DoubleSolution) two.copy();
+      bestGlobal = two;
     }
 
     return bestGlobal;
@@ -4,11 +4,11 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.algorithm.impl.AbstractParticleSwarmOptimization;
+import org.uma.jmetal.algorithm.impl.ParticleSwarmKernel;
 import org.uma.jmetal.operator.Operator;
 import org.uma.jmetal.operator.selection.impl.BestSolutionSelection;
 import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
-import org.uma.jmetal.util.bounds.Bounds;
 import org.uma.jmetal.util.comparator.ObjectiveComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.neighborhood.impl.AdaptiveRandomNeighborhood;
@@ -31,9 +31,10 @@ public class StandardPSO2007 extends AbstractParticleSwarmOptimization<DoubleSol
   private int maxIterations;
   private int iterations;
   private int numberOfParticlesToInform;
-  private DoubleSolution[] localBest;
-  private DoubleSolution[] neighborhoodBest;
-  private double[][] speed;
+  private ParticleSwarmKernel kernel;
+  private int[] neighborhoodBest;
+  private double[] cognitiveFactor;
+  private double[] socialFactor;
   private AdaptiveRandomNeighborhood<DoubleSolution> neighborhood;
   private GenericSolutionAttribute<DoubleSolution, Integer> positionInSwarm;
   private double weight;
@@ -69,9 +70,11 @@ public class StandardPSO2007 extends AbstractParticleSwarmOptimization<DoubleSol
     fitnessComparator = new ObjectiveComparator<DoubleSolution>(objectiveId);
     findBestSolution = new BestSolutionSelection<DoubleSolution>(fitnessComparator);
 
-    localBest = new DoubleSolution[swarmSize];
-    neighborhoodBest = new DoubleSolution[swarmSize];
-    speed = new double[swarmSize][problem.getNumberOfVariables()];
+    kernel = new ParticleSwarmKernel(problem, swarmSize);
+    setSwarmKernel(kernel);
+    neighborhoodBest = new int[swarmSize];
+    cognitiveFactor = new double[swarmSize];
+    socialFactor = new double[swarmSize];
 
     positionInSwarm = new GenericSolutionAttribute<DoubleSolution, Integer>();
 
@@ -139,70 +142,67 @@ public class StandardPSO2007 extends AbstractParticleSwarmOptimization<DoubleSol
   @Override
   public void initializeParticlesMemory(List<DoubleSolution> swarm) {
     for (int i = 0; i < swarm.size(); i++) {
-      localBest[i] = (DoubleSolution) swarm.get(i).copy();
+      kernel.storePersonalBest(i, swarm.get(i));
     }
   }
 
   @Override
   public void initializeVelocity(List<DoubleSolution> swarm) {
+    kernel.readPositions(swarm);
+
+    double[] position = kernel.getPosition();
+    double[] velocity = kernel.getVelocity();
+    double[] lowerBound = kernel.getLowerBound();
+    double[] upperBound = kernel.getUpperBound();
     for (int i = 0; i < swarm.size(); i++) {
-      DoubleSolution particle = swarm.get(i);
+      int base = kernel.offset(i);
       for (int j = 0; j < problem.getNumberOfVariables(); j++) {
-        Bounds<Double> bounds = particle.getBounds(j) ;
-        speed[i][j] =
-                (randomGenerator.nextDouble(bounds.getLowerBound(), bounds.getUpperBound())
-                        - particle.variables().get(j)) / 2.0;
+        velocity[base + j] =
+                (randomGenerator.nextDouble(lowerBound[j], upperBound[j])
+                        - position[base + j]) / 2.0;
       }
     }
   }
 
   @Override
   public void updateVelocity(List<DoubleSolution> swarm) {
-    double r1, r2;
-
     for (int i = 0; i < swarmSize; i++) {
-      DoubleSolution particle = swarm.get(i);
-
-      r1 = randomGenerator.nextDouble(0, c);
-      r2 = randomGenerator.nextDouble(0, c);
+      cognitiveFactor[i] = randomGenerator.nextDouble(0, c);
+      socialFactor[i] = randomGenerator.nextDouble(0, c);
+    }
 
-      if (localBest[i] != neighborhoodBest[i]) {
-        for (int var = 0; var < particle.variables().size(); var++) {
-          speed[i][var] = weight * speed[i][var] +
-                  r1 * (localBest[i].variables().get(var) - particle.variables().get(var)) +
-                  r2 * (neighborhoodBest[i].variables().get(var) - particle.variables().get
-                          (var));
+    int numberOfVariables = problem.getNumberOfVariables();
+    double[] position = kernel.getPosition();
+    double[] velocity = kernel.getVelocity();
+    double[] bestPosition = kernel.getBestPosition();
+
+    kernel.forEachParticle(i -> {
+      int base = kernel.offset(i);
+      double r1 = cognitiveFactor[i];
+      double r2 = socialFactor[i];
+
+      if (neighborhoodBest[i] != i) {
+        int neighborBase = kernel.offset(neighborhoodBest[i]);
+        for (int var = 0; var < numberOfVariables; var++) {
+          int k = base + var;
+          velocity[k] = weight * velocity[k] +
+                  r1 * (bestPosition[k] - position[k]) +
+                  r2 * (bestPosition[neighborBase + var] - position[k]);
         }
       } else {
-        for (int var = 0; var < particle.variables().size(); var++) {
-          speed[i][var] = weight * speed[i][var] +
-                  r1 * (localBest[i].variables().get(var) -
-                          particle.variables().get(var));
+        for (int var = 0; var < numberOfVariables; var++) {
+          int k = base + var;
+          velocity[k] = weight * velocity[k] +
+                  r1 * (bestPosition[k] - position[k]);
         }
       }
-    }
+    });
   }
 
   @Override
   public void updatePosition(List<DoubleSolution> swarm) {
-    for (int i = 0; i < swarmSize; i++) {
-      DoubleSolution particle = swarm.get(i);
-      for (int var = 0; var < particle.variables().size(); var++) {
-        particle.variables().set(var, particle.variables().get(var) + speed[i][var]);
-
-        Bounds<Double> bounds = problem.getBoundsForVariables().get(var) ;
-        Double lowerBound = bounds.getLowerBound() ;
-        Double upperBound = bounds.getUpperBound() ;
-        if (particle.variables().get(var) < lowerBound) {
-          particle.variables().set(var, lowerBound);
-          speed[i][var] = 0;
-        }
-        if (particle.variables().get(var) > upperBound) {
-          particle.variables().set(var, upperBound);
-          speed[i][var] = 0;
-        }
-      }
-    }
+    kernel.updatePositions(0.0, 0.0);
+    kernel.writePositions(swarm);
   }
 
   @Override
@@ -239,8 +239,8 @@ public class StandardPSO2007 extends AbstractParticleSwarmOptimization<DoubleSol
   @Override
   public void updateParticlesMemory(List<DoubleSolution> swarm) {
     for (int i = 0; i < swarm.size(); i++) {
-      if ((swarm.get(i).objectives()[objectiveId] < localBest[i].objectives()[0])) {
-        localBest[i] = (DoubleSolution) swarm.get(i).copy();
+      if ((swarm.get(i).objectives()[objectiveId] < personalBestFitness(i))) {
+        kernel.storePersonalBest(i, swarm.get(i));
       }
     }
   }
@@ -250,26 +250,34 @@ public class StandardPSO2007 extends AbstractParticleSwarmOptimization<DoubleSol
     return bestFoundParticle;
   }
 
-  private DoubleSolution getNeighborBest(int i) {
-    DoubleSolution bestLocalBestSolution = null;
+  private int getNeighborBest(int i) {
+    int bestLocalBest = -1;
 
     for (DoubleSolution solution : neighborhood.getNeighbors(getSwarm(), i)) {
       int solutionPositionInSwarm = positionInSwarm.getAttribute(solution);
-      if ((bestLocalBestSolution == null) || (bestLocalBestSolution.objectives()[0]
-              > localBest[solutionPositionInSwarm].objectives()[0])) {
-        bestLocalBestSolution = localBest[solutionPositionInSwarm];
+      if ((bestLocalBest == -1) || (personalBestFitness(bestLocalBest)
+              > personalBestFitness(solutionPositionInSwarm))) {
+        bestLocalBest = solutionPositionInSwarm;
       }
     }
 
-    return bestLocalBestSolution ;
+    return bestLocalBest ;
+  }
+
+  private double personalBestFitness(int i) {
+    return kernel.getBestObjectives()[i * kernel.getNumberOfObjectives()] ;
   }
 
   /* Getters */
   public double[][]getSwarmSpeedMatrix() {
-    return speed ;
+    return kernel.velocityMatrix() ;
   }
 
   public DoubleSolution[] getLocalBest() {
+    DoubleSolution[] localBest = new DoubleSolution[swarmSize] ;
+    for (int i = 0; i < swarmSize; i++) {
+      localBest[i] = kernel.personalBestAsSolution(i, getSwarm().get(i)) ;
+    }
     return localBest ;
   }
 
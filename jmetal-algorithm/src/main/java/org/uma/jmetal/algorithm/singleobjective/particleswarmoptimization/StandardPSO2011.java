@@ -4,12 +4,11 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.algorithm.impl.AbstractParticleSwarmOptimization;
+import org.uma.jmetal.algorithm.impl.ParticleSwarmKernel;
 import org.uma.jmetal.operator.Operator;
 import org.uma.jmetal.operator.selection.impl.BestSolutionSelection;
 import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
-import org.uma.jmetal.util.SolutionUtils;
-import org.uma.jmetal.util.bounds.Bounds;
 import org.uma.jmetal.util.comparator.ObjectiveComparator;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.neighborhood.impl.AdaptiveRandomNeighborhood;
@@ -34,9 +33,10 @@ public class StandardPSO2011 extends AbstractParticleSwarmOptimization<DoubleSol
   private int maxIterations;
   private int iterations;
   private int numberOfParticlesToInform;
-  private DoubleSolution[] localBest;
-  private DoubleSolution[] neighborhoodBest;
-  private double[][] speed;
+  private ParticleSwarmKernel kernel;
+  private int[] neighborhoodBest;
+  private double[] cognitiveFactor;
+  private double[] socialFactor;
   private AdaptiveRandomNeighborhood<DoubleSolution> neighborhood;
   private GenericSolutionAttribute<DoubleSolution, Integer> positionInSwarm;
   private double weight;
@@ -74,9 +74,11 @@ public class StandardPSO2011 extends AbstractParticleSwarmOptimization<DoubleSol
     fitnessComparator = new ObjectiveComparator<DoubleSolution>(objectiveId);
     findBestSolution = new BestSolutionSelection<DoubleSolution>(fitnessComparator);
 
-    localBest = new DoubleSolution[swarmSize];
-    neighborhoodBest = new DoubleSolution[swarmSize];
-    speed = new double[swarmSize][problem.getNumberOfVariables()];
+    kernel = new ParticleSwarmKernel(problem, swarmSize);
+    setSwarmKernel(kernel);
+    neighborhoodBest = new int[swarmSize];
+    cognitiveFactor = new double[swarmSize];
+    socialFactor = new double[swarmSize];
 
     positionInSwarm = new GenericSolutionAttribute<DoubleSolution, Integer>();
 
@@ -147,108 +149,94 @@ public class StandardPSO2011 extends AbstractParticleSwarmOptimization<DoubleSol
   @Override
   public void initializeParticlesMemory(List<DoubleSolution> swarm) {
     for (int i = 0; i < swarm.size(); i++) {
-      localBest[i] = (DoubleSolution) swarm.get(i).copy();
+      kernel.storePersonalBest(i, swarm.get(i));
     }
   }
 
   @Override
   public void initializeVelocity(List<DoubleSolution> swarm) {
+    kernel.readPositions(swarm);
+
+    double[] position = kernel.getPosition();
+    double[] velocity = kernel.getVelocity();
+    double[] lowerBound = kernel.getLowerBound();
+    double[] upperBound = kernel.getUpperBound();
     for (int i = 0; i < swarmSize; i++) {
-      DoubleSolution particle = swarm.get(i);
+      int base = kernel.offset(i);
       for (int j = 0; j < problem.getNumberOfVariables(); j++) {
-        Bounds<Double> bounds = particle.getBounds(j) ;
-        speed[i][j] = (randomGenerator.nextDouble(
-                bounds.getLowerBound() - particle.variables().get(0),
-                bounds.getUpperBound() - particle.variables().get(0)));
+        velocity[base + j] = (randomGenerator.nextDouble(
+                lowerBound[j] - position[base],
+                upperBound[j] - position[base]));
       }
     }
   }
 
   @Override
   public void updateVelocity(List<DoubleSolution> swarm) {
-    double r1, r2;
-
+    int numberOfVariables = problem.getNumberOfVariables();
+    double[][] random = new double[swarmSize][];
     for (int i = 0; i < swarmSize; i++) {
-      DoubleSolution particle = swarm.get(i);
-
-      r1 = randomGenerator.nextDouble(0, c);
-      r2 = randomGenerator.nextDouble(0, c);
-
-      DoubleSolution gravityCenter = problem.createSolution();
-
-      if (this.localBest[i] != this.neighborhoodBest[i]) {
-        for (int var = 0; var < particle.variables().size(); var++) {
-          double G;
-          G = particle.variables().get(var) +
-                  c * (localBest[i].variables().get(var) +
-                          neighborhoodBest[i].variables().get(var) - 2 *
-                          particle.variables().get(var)) / 3.0;
-
-          gravityCenter.variables().set(var, G);
-        }
-      } else {
-        for (int var = 0; var < particle.variables().size(); var++) {
-          double g  = particle.variables().get(var) +
-                  c * (localBest[i].variables().get(var) - particle.variables().get(var)) / 2.0;
+      cognitiveFactor[i] = randomGenerator.nextDouble(0, c);
+      socialFactor[i] = randomGenerator.nextDouble(0, c);
+      random[i] = ((ExtendedPseudoRandomGenerator)randomGenerator.getRandomGenerator()).randSphere(numberOfVariables);
+    }
 
-          gravityCenter.variables().set(var, g);
+    double[] position = kernel.getPosition();
+    double[] velocity = kernel.getVelocity();
+    double[] bestPosition = kernel.getBestPosition();
+
+    kernel.forEachParticle(i -> {
+      int base = kernel.offset(i);
+      double r1 = cognitiveFactor[i];
+      double r2 = socialFactor[i];
+      int neighborBase = kernel.offset(neighborhoodBest[i]);
+      boolean informed = neighborhoodBest[i] != i;
+
+      // The radius is the distance between the gravity center and the particle in the decision
+      // space, as computed by SolutionUtils.distanceBetweenSolutionsInObjectiveSpace(), which
+      // despite its name compares the variables of the solutions
+      double[] gravityCenter = new double[numberOfVariables];
+      double radius = 0.0;
+      for (int var = 0; var < numberOfVariables; var++) {
+        int k = base + var;
+        if (informed) {
+          gravityCenter[var] = position[k] +
+                  c * (bestPosition[k] + bestPosition[neighborBase + var] - 2 * position[k]) / 3.0;
+        } else {
+          gravityCenter[var] = position[k] + c * (bestPosition[k] - position[k]) / 2.0;
         }
+        double diff = gravityCenter[var] - position[k];
+        radius += diff * diff;
       }
+      radius = Math.sqrt(radius);
 
-      DoubleSolution randomParticle = problem.createSolution() ;
-
-      double radius = 0;
-      radius = SolutionUtils.distanceBetweenSolutionsInObjectiveSpace(gravityCenter, particle);
-
-      double[] random = ((ExtendedPseudoRandomGenerator)randomGenerator.getRandomGenerator()).randSphere(problem.getNumberOfVariables());
-
-      for (int var = 0; var < particle.variables().size(); var++) {
-        randomParticle.variables().set(var, gravityCenter.variables().get(var) + radius * random[var]);
+      for (int var = 0; var < numberOfVariables; var++) {
+        int k = base + var;
+        double randomParticle = gravityCenter[var] + radius * random[i][var];
+        velocity[k] = weight * velocity[k] + randomParticle - position[k];
       }
 
-      for (int var = 0; var < particle.variables().size(); var++) {
-        speed[i][var] =
-                weight * speed[i][var] + randomParticle.variables().get(var) - particle.variables().get(var);
-      }
-
-
-      if (localBest[i] != neighborhoodBest[i]) {
-        for (int var = 0; var < particle.variables().size(); var++) {
-          speed[i][var] = weight * speed[i][var] +
-                  r1 * (localBest[i].variables().get(var) - particle.variables().get(var)) +
-                  r2 * (neighborhoodBest[i].variables().get(var) - particle.variables().get
-                          (var));
+      if (informed) {
+        for (int var = 0; var < numberOfVariables; var++) {
+          int k = base + var;
+          velocity[k] = weight * velocity[k] +
+                  r1 * (bestPosition[k] - position[k]) +
+                  r2 * (bestPosition[neighborBase + var] - position[k]);
         }
       } else {
-        for (int var = 0; var < particle.variables().size(); var++) {
-          speed[i][var] = weight * speed[i][var] +
-                  r1 * (localBest[i].variables().get(var) -
-                          particle.variables().get(var));
+        for (int var = 0; var < numberOfVariables; var++) {
+          int k = base + var;
+          velocity[k] = weight * velocity[k] +
+                  r1 * (bestPosition[k] - position[k]);
         }
       }
-    }
+    });
   }
 
   @Override
   public void updatePosition(List<DoubleSolution> swarm) {
-    for (int i = 0; i < swarmSize; i++) {
-      DoubleSolution particle = swarm.get(i);
-      for (int var = 0; var < particle.variables().size(); var++) {
-        particle.variables().set(var, particle.variables().get(var) + speed[i][var]);
-
-        Bounds<Double> bounds = problem.getBoundsForVariables().get(var) ;
-        Double lowerBound = bounds.getLowerBound() ;
-        Double upperBound = bounds.getUpperBound() ;
-        if (particle.variables().get(var) < lowerBound) {
-          particle.variables().set(var, lowerBound);
-          speed[i][var] = changeVelocity * speed[i][var];
-        }
-        if (particle.variables().get(var) > upperBound) {
-          particle.variables().set(var, upperBound);
-          speed[i][var] = changeVelocity * speed[i][var];
-        }
-      }
-    }
+    kernel.updatePositions(changeVelocity, changeVelocity);
+    kernel.writePositions(swarm);
   }
 
   @Override
@@ -285,8 +273,8 @@ public class StandardPSO2011 extends AbstractParticleSwarmOptimization<DoubleSol
   @Override
   public void updateParticlesMemory(List<DoubleSolution> swarm) {
     for (int i = 0; i < swarm.size(); i++) {
-      if ((swarm.get(i).objectives()[objectiveId] < localBest[i].objectives()[0])) {
-        localBest[i] = (DoubleSolution) swarm.get(i).copy();
+      if ((swarm.get(i).objectives()[objectiveId] < personalBestFitness(i))) {
+        kernel.storePersonalBest(i, swarm.get(i));
       }
     }
   }
@@ -296,26 +284,34 @@ public class StandardPSO2011 extends AbstractParticleSwarmOptimization<DoubleSol
     return bestFoundParticle;
   }
 
-  private DoubleSolution getNeighborBest(int i) {
-    DoubleSolution bestLocalBestSolution = null;
+  private int getNeighborBest(int i) {
+    int bestLocalBest = -1;
 
     for (DoubleSolution solution : neighborhood.getNeighbors(getSwarm(), i)) {
       int solutionPositionInSwarm = positionInSwarm.getAttribute(solution);
-      if ((bestLocalBestSolution == null) || (bestLocalBestSolution.objectives()[0]
-              > localBest[solutionPositionInSwarm].objectives()[0])) {
-        bestLocalBestSolution = localBest[solutionPositionInSwarm];
+      if ((bestLocalBest == -1) || (personalBestFitness(bestLocalBest)
+              > personalBestFitness(solutionPositionInSwarm))) {
+        bestLocalBest = solutionPositionInSwarm;
       }
     }
 
-    return bestLocalBestSolution ;
+    return bestLocalBest ;
+  }
+
+  private double personalBestFitness(int i) {
+    return kernel.getBestObjectives()[i * kernel.getNumberOfObjectives()] ;
   }
 
   /* Getters */
   public double[][]getSwarmSpeedMatrix() {
-    return speed ;
+    return kernel.velocityMatrix() ;
   }
 
   public DoubleSolution[] getLocalBest() {
+    DoubleSolution[] localBest = new DoubleSolution[swarmSize] ;
+    for (int i = 0; i < swarmSize; i++) {
+      localBest[i] = kernel.personalBestAsSolution(i, getSwarm().get(i)) ;
+    }
     return localBest ;
   }
 
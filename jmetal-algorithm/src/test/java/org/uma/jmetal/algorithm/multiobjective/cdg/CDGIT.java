@@ -0,0 +1,110 @@
+package org.uma.jmetal.algorithm.multiobjective.cdg;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.FailingDoubleProblem;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+public class CDGIT {
+  Algorithm<List<DoubleSolution>> algorithm;
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private Algorithm<List<DoubleSolution>> createAlgorithm(DoubleProblem problem) {
+    return createAlgorithm(problem, 10000);
+  }
+
+  private CDG createAlgorithm(DoubleProblem problem, int maxEvaluations) {
+    return (CDG) new CDGBuilder(problem)
+        .setCrossover(
+            new DifferentialEvolutionCrossover(
+                1.0, 0.5, DifferentialEvolutionCrossover.DE_VARIANT.RAND_1_BIN))
+        .setMaxEvaluations(maxEvaluations)
+        .setPopulationSize(100)
+        .setResultPopulationSize(100)
+        .build();
+  }
+
+  @Test
+  public void shouldTheAlgorithmReturnANumberOfSolutionsWhenSolvingASimpleProblem() {
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+    algorithm = createAlgorithm(new ZDT1());
+
+    algorithm.run();
+
+    assertEquals(100, algorithm.getResult().size());
+  }
+
+  @Test
+  public void shouldTheAlgorithmRunWithManyObjectives() {
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+    algorithm = createAlgorithm(new DTLZ2(15, 6));
+
+    algorithm.run();
+
+    assertEquals(100, algorithm.getResult().size());
+  }
+
+  @Test
+  public void shouldTheAsynchronousVariantReturnANumberOfSolutionsWhenSolvingASimpleProblem() {
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+    algorithm =
+        new CDGBuilder(new ZDT1())
+            .setCrossover(
+                new DifferentialEvolutionCrossover(
+                    1.0, 0.5, DifferentialEvolutionCrossover.DE_VARIANT.RAND_1_BIN))
+            .setMaxEvaluations(5000)
+            .setPopulationSize(100)
+            .setResultPopulationSize(100)
+            .setVariant(CDGBuilder.CDGVariant.AsynchronousCDG)
+            .setNumberOfThreads(4)
+            .build();
+
+    algorithm.run();
+
+    assertEquals(100, algorithm.getResult().size());
+  }
+
+  @Test
+  public void shouldTheResumedAlgorithmReturnTheSameResultAsAnUninterruptedRun() {
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+    algorithm = createAlgorithm(new ZDT1(), 5000);
+    algorithm.run();
+    double[][] expectedFront =
+        SolutionListUtils.getMatrixWithObjectiveValues(algorithm.getResult());
+
+    // The first run fails in the middle of a generation, after having saved a checkpoint
+    String checkpointFile = new File(folder.getRoot(), "CHECKPOINT").getPath();
+    JMetalRandom.getInstance().setSeed(1446505566148L);
+    CDG interruptedAlgorithm = createAlgorithm(new FailingDoubleProblem(new ZDT1(), 3050), 5000);
+    interruptedAlgorithm.setCheckpointFile(checkpointFile);
+    interruptedAlgorithm.setCheckpointPeriod(0);
+    assertThrows(JMetalException.class, interruptedAlgorithm::run);
+    assertTrue(new File(checkpointFile).exists());
+
+    JMetalRandom.getInstance().setSeed(1);
+    CDG resumedAlgorithm = createAlgorithm(new ZDT1(), 5000);
+    resumedAlgorithm.setCheckpointFile(checkpointFile);
+    resumedAlgorithm.run();
+
+    assertArrayEquals(
+        expectedFront,
+        SolutionListUtils.getMatrixWithObjectiveValues(resumedAlgorithm.getResult()));
+  }
+}
@@ -0,0 +1,50 @@
+package org.uma.jmetal.algorithm.multiobjective.cdg.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+public class ExtremePointTrackerTest {
+
+  @Test
+  public void shouldTheExtremesBeUpdatedWhenPointsAreAddedAndRemoved() {
+    ExtremePointTracker tracker = new ExtremePointTracker(2);
+    tracker.add(new double[] {1.0, 4.0});
+    tracker.add(new double[] {2.0, 3.0});
+    tracker.add(new double[] {1.0, 5.0});
+
+    assertEquals(3, tracker.size());
+    assertEquals(1.0, tracker.getMinimum(0), 0.0);
+    assertEquals(5.0, tracker.getMaximum(1), 0.0);
+
+    tracker.remove(new double[] {1.0, 5.0});
+
+    assertEquals(1.0, tracker.getMinimum(0), 0.0);
+    assertEquals(4.0, tracker.getMaximum(1), 0.0);
+
+    tracker.remove(new double[] {1.0, 4.0});
+
+    assertEquals(2.0, tracker.getMinimum(0), 0.0);
+    assertEquals(3.0, tracker.getMaximum(1), 0.0);
+  }
+
+  @Test
+  public void shouldContainsConsiderZeroAndMinusZeroEqual() {
+    ExtremePointTracker tracker = new ExtremePointTracker(1);
+    tracker.add(new double[] {-0.0});
+
+    assertTrue(tracker.contains(0, 0.0));
+    assertFalse(tracker.contains(0, 1.0));
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldRemoveRaiseAnExceptionIfThePointIsNotTracked() {
+    ExtremePointTracker tracker = new ExtremePointTracker(2);
+    tracker.add(new double[] {1.0, 4.0});
+
+    tracker.remove(new double[] {1.0, 3.0});
+  }
+}
@@ -0,0 +1,149 @@
+package org.uma.jmetal.algorithm.multiobjective.cdg.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+public class RankBasedSelectionTest {
+
+  @Test
+  public void shouldComputeRankTheSolutionsOfTheSameSubproblem() {
+    RankBasedSelection selection = new RankBasedSelection(2);
+    selection.reset(3);
+    selection.setSolution(0, new double[] {0.5, 0.0}, new int[] {5, 0});
+    selection.setSolution(1, new double[] {0.1, 1.0}, new int[] {1, 0});
+    selection.setSolution(2, new double[] {0.2, 2.0}, new int[] {2, 1});
+
+    int[] order = selection.compute(new double[] {0.1, 1.0});
+
+    // Objective 0: solutions 1 and 0 share g[1] = 0, so solution 0 gets rank ceil(0.4 / 0.1) + 1
+    assertEquals(1, selection.getRank(1, 0));
+    assertEquals(1, selection.getRank(1, 1));
+    assertArrayEquals(new int[] {1, 2, 0}, order);
+  }
+
+  @Test
+  public void shouldSpecialSolutionsGetTheSpecialRankInAllTheObjectives() {
+    RankBasedSelection selection = new RankBasedSelection(3);
+    selection.reset(2);
+    selection.setSolution(0, new double[] {0.0, 0.0, 0.0}, new int[] {0, 0, 0});
+    selection.setSolution(1, new double[] {1.0, 1.0, 1.0}, new int[] {1, 1, 1});
+    selection.setSpecialSolution(0);
+
+    int[] order = selection.compute(new double[] {1.0, 1.0, 1.0});
+
+    for (int j = 0; j < 3; j++) {
+      assertEquals(RankBasedSelection.SPECIAL_RANK, selection.getRank(0, j));
+    }
+    assertArrayEquals(new int[] {1, 0}, order);
+  }
+
+  @Test
+  public void shouldComputeReturnTheSameResultAsComparisonSorts() {
+    Random random = new Random(1);
+    int numberOfObjectives = 4;
+    RankBasedSelection selection = new RankBasedSelection(numberOfObjectives);
+
+    for (int run = 0; run < 20; run++) {
+      int size = 1 + random.nextInt(200);
+      double[][] objectives = new double[size][numberOfObjectives];
+      int[][] g = new int[size][numberOfObjectives];
+      boolean[] special = new boolean[size];
+      double[] d = new double[numberOfObjectives];
+      Arrays.fill(d, 0.05);
+
+      selection.reset(size);
+      for (int i = 0; i < size; i++) {
+        for (int j = 0; j < numberOfObjectives; j++) {
+          // Few distinct values, so that there are ties and shared grid coordinates
+          objectives[i][j] = (random.nextInt(20) - 5) / 10.0;
+          g[i][j] = random.nextInt(3);
+        }
+        selection.setSolution(i, objectives[i], g[i]);
+        if (random.nextInt(20) == 0) {
+          special[i] = true;
+          selection.setSpecialSolution(i);
+        }
+      }
+
+      int[] order = selection.compute(d);
+      int[][] expectedRanks = new int[size][];
+      List<Integer> expectedOrder = referenceSelection(objectives, g, special, d, expectedRanks);
+
+      for (int p = 0; p < size; p++) {
+        assertEquals((int) expectedOrder.get(p), order[p]);
+        for (int j = 0; j < numberOfObjectives; j++) {
+          assertEquals(expectedRanks[order[p]][j], selection.getRank(order[p], j));
+        }
+      }
+    }
+  }
+
+  /** Straightforward implementation with stable comparison sorts */
+  private List<Integer> referenceSelection(
+      double[][] objectives, int[][] g, boolean[] special, double[] d, int[][] ranks) {
+    int size = objectives.length;
+    int numberOfObjectives = d.length;
+    for (int i = 0; i < size; i++) {
+      ranks[i] = new int[numberOfObjectives];
+    }
+
+    for (int objD = 0; objD < numberOfObjectives; objD++) {
+      List<List<Integer>> subproblems = new ArrayList<>();
+      for (int i = 0; i < size; i++) {
+        List<Integer> subproblem = null;
+        for (List<Integer> candidate : subproblems) {
+          if (sameSubproblem(g[candidate.get(0)], g[i], objD)) {
+            subproblem = candidate;
+          }
+        }
+        if (subproblem == null) {
+          subproblem = new ArrayList<>();
+          subproblems.add(subproblem);
+        }
+        subproblem.add(i);
+      }
+
+      for (List<Integer> subproblem : subproblems) {
+        int j = objD;
+        subproblem.sort(Comparator.comparingDouble(i -> objectives[i][j]));
+        double firstValue = objectives[subproblem.get(0)][objD];
+        for (int p = 0; p < subproblem.size(); p++) {
+          int i = subproblem.get(p);
+          int gridRank = (int) Math.ceil((objectives[i][objD] - firstValue) / d[objD]);
+          ranks[i][objD] = Math.max(gridRank + 1, p + 1);
+        }
+      }
+    }
+
+    for (int i = 0; i < size; i++) {
+      if (special[i]) {
+        Arrays.fill(ranks[i], RankBasedSelection.SPECIAL_RANK);
+      }
+      Arrays.sort(ranks[i]);
+    }
+
+    List<Integer> order = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      order.add(i);
+    }
+    order.sort((i1, i2) -> Arrays.compare(ranks[i1], ranks[i2]));
+
+    return order;
+  }
+
+  private boolean sameSubproblem(int[] g1, int[] g2, int objD) {
+    for (int k = 0; k < g1.length; k++) {
+      if (k != objD && g1[k] != g2[k]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,59 @@
+package org.uma.jmetal.algorithm.multiobjective.espea.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+public class ScalarizationUtilsTest {
+  private static final double EPSILON = 0.0000000001;
+
+  private final ScalarizationValue<DoubleSolution> scalarizationValue = new ScalarizationValue<>();
+
+  @Test
+  public void shouldWeightedSumWorkProperly() {
+    List<DoubleSolution> solutionList = solutionList();
+
+    ScalarizationUtils.weightedSum(solutionList, new double[] {0.5, 2.0});
+
+    assertEquals(8.5, scalarizationValue.getAttribute(solutionList.get(0)), EPSILON);
+    assertEquals(5.5, scalarizationValue.getAttribute(solutionList.get(1)), EPSILON);
+  }
+
+  @Test
+  public void shouldChebyshevUseTheIdealPointOfTheList() {
+    List<DoubleSolution> solutionList = solutionList();
+
+    ScalarizationUtils.chebyshev(solutionList);
+
+    // The ideal point is (1.0, 2.0)
+    assertEquals(2.0, scalarizationValue.getAttribute(solutionList.get(0)), EPSILON);
+    assertEquals(2.0, scalarizationValue.getAttribute(solutionList.get(1)), EPSILON);
+  }
+
+  @Test
+  public void shouldWeightedChebyshevWorkProperly() {
+    List<DoubleSolution> solutionList = solutionList();
+
+    ScalarizationUtils.weightedChebyshev(
+        solutionList, new double[] {0.0, 0.0}, new double[] {0.5, 0.25});
+
+    assertEquals(1.0, scalarizationValue.getAttribute(solutionList.get(0)), EPSILON);
+    assertEquals(1.5, scalarizationValue.getAttribute(solutionList.get(1)), EPSILON);
+  }
+
+  private static List<DoubleSolution> solutionList() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    DoubleSolution solution1 = problem.createSolution();
+    solution1.objectives()[0] = 1.0;
+    solution1.objectives()[1] = 4.0;
+    DoubleSolution solution2 = problem.createSolution();
+    solution2.objectives()[0] = 3.0;
+    solution2.objectives()[1] = 2.0;
+
+    return Arrays.asList(solution1, solution2);
+  }
+}
@@ -0,0 +1,66 @@
+package org.uma.jmetal.algorithm.multiobjective.moead;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.VectorUtils;
+
+public class MOEADDIT {
+
+  private Algorithm<List<DoubleSolution>> createAlgorithm(
+      Problem<DoubleSolution> problem, int populationSize, int maxEvaluations) {
+    return new MOEADBuilder(problem, MOEADBuilder.Variant.MOEADD)
+        .setCrossover(new SBXCrossover(1.0, 30.0))
+        .setMutation(new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+        .setMaxEvaluations(maxEvaluations)
+        .setPopulationSize(populationSize)
+        .setResultPopulationSize(populationSize)
+        .setNeighborhoodSelectionProbability(0.9)
+        .setMaximumNumberOfReplacedSolutions(1)
+        .setNeighborSize(20)
+        .setFunctionType(AbstractMOEAD.FunctionType.PBI)
+        .setDataDirectory("MOEAD_Weights")
+        .build();
+  }
+
+  @Test
+  public void shouldTheHypervolumeHaveAMinimumValueWhenSolvingTheZDT1Instance() throws IOException {
+    Algorithm<List<DoubleSolution>> algorithm = createAlgorithm(new ZDT1(), 100, 25000);
+
+    algorithm.run();
+    List<DoubleSolution> population = algorithm.getResult();
+
+    QualityIndicator hypervolume =
+        new PISAHypervolume(VectorUtils.readVectors("../resources/referenceFrontsCSV/ZDT1.csv", ","));
+
+    // Rationale: MOEA/DD, configured with standard settings, should find a front with a
+    // hypervolume value higher than 0.6 when solving ZDT1
+
+    double hv = hypervolume.compute(SolutionListUtils.getMatrixWithObjectiveValues(population));
+
+    assertEquals(100, population.size());
+    assertTrue(hv > 0.6);
+  }
+
+  @Test
+  public void shouldTheAlgorithmWorkWithALargePopulation() {
+    Algorithm<List<DoubleSolution>> algorithm = createAlgorithm(new DTLZ2(), 2000, 10000);
+
+    algorithm.run();
+
+    assertEquals(2000, algorithm.getResult().size());
+  }
+}
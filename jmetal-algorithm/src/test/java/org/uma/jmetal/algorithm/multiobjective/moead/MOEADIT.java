@@ -1,28 +1,42 @@
 package org.uma.jmetal.algorithm.multiobjective.moead;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.CheckpointableAlgorithm;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.FailingDoubleProblem;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
 import org.uma.jmetal.problem.multiobjective.lz09.LZ09F2;
 import org.uma.jmetal.problem.multiobjective.lz09.LZ09F6;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 public class MOEADIT {
 
   Algorithm<List<DoubleSolution>> algorithm;
 
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
   @Test
   public void shouldTheAlgorithmReturnANumberOfSolutionsWhenSolvingASimpleProblem() {
     LZ09F2 problem = new LZ09F2();
@@ -57,6 +71,28 @@ public class MOEADIT {
     assertTrue(population.size() == 100);
   }
 
+  @Test
+  public void shouldTheAlgorithmGenerateTheWeightVectorsIfThereIsNoFileForThePopulationSize() {
+    DTLZ2 problem = new DTLZ2();
+
+    algorithm = new MOEADBuilder(problem, MOEADBuilder.Variant.MOEAD)
+        .setCrossover(new DifferentialEvolutionCrossover(1.0, 0.5,
+            DifferentialEvolutionCrossover.DE_VARIANT.RAND_1_BIN))
+        .setMutation(new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+        .setMaxEvaluations(5000)
+        .setPopulationSize(123)
+        .setResultPopulationSize(123)
+        .setNeighborSize(20)
+        .setFunctionType(AbstractMOEAD.FunctionType.TCHE)
+        .setDataDirectory("MOEAD_Weights")
+        .build();
+
+    algorithm.run() ;
+    List<DoubleSolution> population = algorithm.getResult();
+
+    assertTrue(population.size() == 123);
+  }
+
   @Test
   public void shouldTheHypervolumeHaveAMinimumValueWhenSolvingTheLZ09F2Instance() throws IOException {
     LZ09F2 problem = new LZ09F2();
@@ -144,4 +180,69 @@ public class MOEADIT {
 
     JMetalRandom.getInstance().setSeed(System.currentTimeMillis());
   }
+
+  @Test
+  public void shouldTheResumedAlgorithmReturnTheSameResultAsAnUninterruptedRun() {
+    MOEADBuilder.Variant[] variants = {
+        MOEADBuilder.Variant.MOEAD,
+        MOEADBuilder.Variant.ConstraintMOEAD,
+        MOEADBuilder.Variant.MOEADDRA,
+        MOEADBuilder.Variant.MOEADSTM,
+        MOEADBuilder.Variant.MOEADD
+    };
+
+    for (MOEADBuilder.Variant variant : variants) {
+      JMetalRandom.getInstance().setSeed(1);
+      algorithm = createZDT1Algorithm(variant, new ZDT1());
+      algorithm.run();
+      double[][] expectedFront =
+          SolutionListUtils.getMatrixWithObjectiveValues(algorithm.getResult());
+
+      // The first run fails in the middle of a generation, after having saved a checkpoint
+      String checkpointFile = new File(folder.getRoot(), "CHECKPOINT_" + variant).getPath();
+      JMetalRandom.getInstance().setSeed(1);
+      CheckpointableAlgorithm<List<DoubleSolution>> interruptedAlgorithm =
+          createZDT1Algorithm(variant, new FailingDoubleProblem(new ZDT1(), 5050));
+      interruptedAlgorithm.setCheckpointFile(checkpointFile);
+      interruptedAlgorithm.setCheckpointPeriod(0);
+      assertThrows(JMetalException.class, interruptedAlgorithm::run);
+      assertTrue(new File(checkpointFile).exists());
+
+      JMetalRandom.getInstance().setSeed(2);
+      CheckpointableAlgorithm<List<DoubleSolution>> resumedAlgorithm =
+          createZDT1Algorithm(variant, new ZDT1());
+      resumedAlgorithm.setCheckpointFile(checkpointFile);
+      resumedAlgorithm.run();
+
+      assertArrayEquals(
+          variant.toString(),
+          expectedFront,
+          SolutionListUtils.getMatrixWithObjectiveValues(resumedAlgorithm.getResult()));
+    }
+
+    JMetalRandom.getInstance().setSeed(System.currentTimeMillis());
+  }
+
+  /** MOEA/DD uses the SBX crossover, and the rest of variants the differential evolution one */
+  @SuppressWarnings("unchecked")
+  private CheckpointableAlgorithm<List<DoubleSolution>> createZDT1Algorithm(
+      MOEADBuilder.Variant variant, DoubleProblem problem) {
+    CrossoverOperator<DoubleSolution> crossover =
+        variant.equals(MOEADBuilder.Variant.MOEADD)
+            ? new SBXCrossover(1.0, 20.0)
+            : new DifferentialEvolutionCrossover(1.0, 0.5,
+                DifferentialEvolutionCrossover.DE_VARIANT.RAND_1_BIN);
+
+    return (CheckpointableAlgorithm<List<DoubleSolution>>)
+        new MOEADBuilder(problem, variant)
+            .setCrossover(crossover)
+            .setMutation(new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+            .setMaxEvaluations(10000)
+            .setPopulationSize(100)
+            .setResultPopulationSize(100)
+            .setNeighborSize(20)
+            .setFunctionType(AbstractMOEAD.FunctionType.TCHE)
+            .setDataDirectory("MOEAD_Weights")
+            .build();
+  }
 }
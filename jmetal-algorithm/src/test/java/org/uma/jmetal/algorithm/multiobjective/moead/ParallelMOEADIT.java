@@ -0,0 +1,127 @@
+package org.uma.jmetal.algorithm.multiobjective.moead;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import org.junit.Test;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.operator.crossover.impl.DifferentialEvolutionCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.multiobjective.lz09.LZ09F2;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+public class ParallelMOEADIT {
+
+  private Algorithm<List<DoubleSolution>> createAlgorithm(
+      MOEADBuilder.Variant variant,
+      ParallelMOEAD.Mode mode,
+      int numberOfThreads,
+      int batchSize,
+      int maxEvaluations,
+      int populationSize) {
+    LZ09F2 problem = new LZ09F2();
+
+    return new MOEADBuilder(problem, variant)
+        .setCrossover(
+            new DifferentialEvolutionCrossover(
+                1.0, 0.5, DifferentialEvolutionCrossover.DE_VARIANT.RAND_1_BIN))
+        .setMutation(new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0))
+        .setMaxEvaluations(maxEvaluations)
+        .setPopulationSize(populationSize)
+        .setResultPopulationSize(100)
+        .setNeighborhoodSelectionProbability(0.9)
+        .setMaximumNumberOfReplacedSolutions(2)
+        .setNeighborSize(20)
+        .setFunctionType(AbstractMOEAD.FunctionType.TCHE)
+        .setNumberOfThreads(numberOfThreads)
+        .setParallelMode(mode)
+        .setBatchSize(batchSize)
+        .build();
+  }
+
+  private List<DoubleSolution> run(Algorithm<List<DoubleSolution>> algorithm) {
+    JMetalRandom.getInstance().setSeed(1);
+    algorithm.run();
+    JMetalRandom.getInstance().setSeed(System.currentTimeMillis());
+
+    return algorithm.getResult();
+  }
+
+  @Test
+  public void shouldTheReproducibleModeWithABatchOfOneSolutionReturnTheSameResultAsMOEAD() {
+    List<DoubleSolution> expected =
+        run(
+            createAlgorithm(
+                MOEADBuilder.Variant.MOEAD, ParallelMOEAD.Mode.REPRODUCIBLE, 1, 1, 30000, 100));
+    List<DoubleSolution> result =
+        run(
+            createAlgorithm(
+                MOEADBuilder.Variant.ParallelMOEAD,
+                ParallelMOEAD.Mode.REPRODUCIBLE,
+                4,
+                1,
+                30000,
+                100));
+
+    assertEquals(expected.size(), result.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).variables(), result.get(i).variables());
+    }
+  }
+
+  @Test
+  public void shouldTheReproducibleModeNotDependOnTheNumberOfThreads() {
+    List<DoubleSolution> expected =
+        run(
+            createAlgorithm(
+                MOEADBuilder.Variant.ParallelMOEAD,
+                ParallelMOEAD.Mode.REPRODUCIBLE,
+                2,
+                8,
+                30000,
+                100));
+    List<DoubleSolution> result =
+        run(
+            createAlgorithm(
+                MOEADBuilder.Variant.ParallelMOEAD,
+                ParallelMOEAD.Mode.REPRODUCIBLE,
+                4,
+                8,
+                30000,
+                100));
+
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).variables(), result.get(i).variables());
+    }
+  }
+
+  @Test
+  public void shouldTheHypervolumeHaveAMinimumValueInTheAsynchronousMode() throws IOException {
+    List<DoubleSolution> population =
+        run(
+            createAlgorithm(
+                MOEADBuilder.Variant.ParallelMOEAD,
+                ParallelMOEAD.Mode.ASYNCHRONOUS,
+                4,
+                1,
+                150000,
+                300));
+
+    QualityIndicator hypervolume =
+        new PISAHypervolume(
+            VectorUtils.readVectors("../resources/referenceFrontsCSV/LZ09_F2.csv", ","));
+    double hv = hypervolume.compute(SolutionListUtils.getMatrixWithObjectiveValues(population));
+
+    // Rationale: the asynchronous mode should find fronts of the same quality as MOEA/D (see
+    // MOEADIT), although the results are not reproducible
+    assertEquals(100, population.size());
+    assertTrue(hv > 0.6);
+  }
+}
@@ -0,0 +1,82 @@
+package org.uma.jmetal.algorithm.multiobjective.moead.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+public class IndexPartitionTest {
+
+  @Test
+  public void shouldTheMembersOfAGroupBeSortedInIncreasingOrder() {
+    IndexPartition partition = new IndexPartition(10, 2);
+    partition.add(7, 1);
+    partition.add(2, 1);
+    partition.add(9, 1);
+    partition.add(4, 0);
+
+    assertArrayEquals(new int[] {2, 7, 9}, partition.members(1));
+    assertEquals(7, partition.get(1, 1));
+    assertEquals(1, partition.groupOf(9));
+    assertEquals(-1, partition.groupOf(3));
+  }
+
+  @Test
+  public void shouldMoveChangeTheGroupOfAnIndex() {
+    IndexPartition partition = new IndexPartition(5, 2);
+    partition.add(3, 0);
+    partition.add(1, 0);
+
+    partition.move(3, 1);
+
+    assertArrayEquals(new int[] {1}, partition.members(0));
+    assertArrayEquals(new int[] {3}, partition.members(1));
+    assertEquals(1, partition.groupOf(3));
+  }
+
+  @Test
+  public void shouldAddingAnIndexToANewGroupIncreaseTheNumberOfGroups() {
+    IndexPartition partition = new IndexPartition(5, 0);
+
+    partition.add(4, 6);
+
+    assertEquals(7, partition.getNumberOfGroups());
+    assertEquals(0, partition.size(3));
+    assertEquals(0, partition.size(20));
+  }
+
+  @Test
+  public void shouldShiftGroupsMoveTheIndicesToTheNextGroups() {
+    IndexPartition partition = new IndexPartition(6, 3);
+    partition.add(0, 0);
+    partition.add(3, 1);
+    partition.add(5, 1);
+    partition.add(1, 2);
+
+    partition.shiftGroups(1, 3);
+
+    assertArrayEquals(new int[] {0}, partition.members(0));
+    assertArrayEquals(new int[0], partition.members(1));
+    assertArrayEquals(new int[] {3, 5}, partition.members(2));
+    assertArrayEquals(new int[] {1}, partition.members(3));
+    assertEquals(2, partition.groupOf(5));
+    assertEquals(3, partition.groupOf(1));
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldShiftGroupsRaiseAnExceptionIfTheLastGroupIsNotEmpty() {
+    IndexPartition partition = new IndexPartition(3, 2);
+    partition.add(0, 1);
+
+    partition.shiftGroups(0, 1);
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldAddRaiseAnExceptionIfTheIndexAlreadyBelongsToAGroup() {
+    IndexPartition partition = new IndexPartition(3, 2);
+    partition.add(0, 1);
+
+    partition.add(0, 0);
+  }
+}
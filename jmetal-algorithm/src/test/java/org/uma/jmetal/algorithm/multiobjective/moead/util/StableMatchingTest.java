@@ -0,0 +1,157 @@
+package org.uma.jmetal.algorithm.multiobjective.moead.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+public class StableMatchingTest {
+
+  @Test
+  public void shouldMatchReturnTheMatchingOfASmallInstance() {
+    // Subproblem preferences: 0 -> {1, 0, 2}, 1 -> {1, 2, 0}
+    double[] subproblemValues = {1.0, 0.0, 2.0, 2.0, 0.0, 1.0};
+    // Solution 1 prefers subproblem 1
+    double[] solutionValues = {0.0, 1.0, 1.0, 0.0, 0.0, 1.0};
+    int[] matching = new int[2];
+
+    new StableMatching().match(subproblemValues, solutionValues, 2, 3, matching);
+
+    assertArrayEquals(new int[] {0, 1}, matching);
+  }
+
+  @Test
+  public void shouldMatchReturnTheSameMatchingAsTheGaleShapleyAlgorithmWithSortedPreferences() {
+    Random random = new Random(1);
+    StableMatching stableMatching = new StableMatching();
+    for (int run = 0; run < 20; run++) {
+      int numberOfSubproblems = 1 + random.nextInt(30);
+      int numberOfSolutions = numberOfSubproblems + random.nextInt(30);
+      double[] subproblemValues = randomValues(random, numberOfSubproblems * numberOfSolutions);
+      double[] solutionValues = randomValues(random, numberOfSubproblems * numberOfSolutions);
+
+      int[] matching = new int[numberOfSubproblems];
+      stableMatching.match(
+          subproblemValues, solutionValues, numberOfSubproblems, numberOfSolutions, matching);
+
+      assertArrayEquals(
+          galeShapley(subproblemValues, solutionValues, numberOfSubproblems, numberOfSolutions),
+          matching);
+      assertFalse(
+          hasBlockingPair(
+              matching, subproblemValues, solutionValues, numberOfSubproblems, numberOfSolutions));
+    }
+  }
+
+  @Test
+  public void shouldMatchBreakTiesInFavourOfTheLowestIndex() {
+    double[] subproblemValues = {1.0, 1.0, 1.0, 1.0};
+    double[] solutionValues = {1.0, 1.0, 1.0, 1.0};
+    int[] matching = new int[2];
+
+    new StableMatching().match(subproblemValues, solutionValues, 2, 2, matching);
+
+    assertArrayEquals(new int[] {0, 1}, matching);
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldMatchRaiseAnExceptionIfThereAreLessSolutionsThanSubproblems() {
+    new StableMatching().match(new double[6], new double[6], 3, 2, new int[3]);
+  }
+
+  @Test
+  public void shouldComputeSolutionPreferencesAddTheNicheCountToTheDistance() {
+    double[][] weightVectors = {{1.0, 0.0}, {0.0, 1.0}};
+    double[] objectives = {1.0, 0.0, 2.0, 0.0, 0.0, 3.0};
+    double[] values = new double[6];
+
+    StableMatching.computeSolutionPreferences(objectives, 3, weightVectors, values);
+
+    double distance = Math.sqrt(2.0);
+    assertEquals(0.0 + 2, values[0], 1e-12);
+    assertEquals(distance + 1, values[1], 1e-12);
+    assertEquals(0.0 + 2, values[2], 1e-12);
+    assertEquals(distance + 2, values[4], 1e-12);
+    assertEquals(0.0 + 1, values[5], 1e-12);
+  }
+
+  private static double[] randomValues(Random random, int size) {
+    double[] values = new double[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = random.nextDouble();
+    }
+    return values;
+  }
+
+  /** Textbook Gale-Shapley algorithm with fully sorted preference lists */
+  private static int[] galeShapley(
+      double[] subproblemValues, double[] solutionValues, int subproblems, int solutions) {
+    Integer[][] preferences = new Integer[subproblems][solutions];
+    for (int j = 0; j < subproblems; j++) {
+      final int row = j * solutions;
+      for (int c = 0; c < solutions; c++) {
+        preferences[j][c] = c;
+      }
+      Arrays.sort(
+          preferences[j],
+          (x, y) -> Double.compare(subproblemValues[row + x], subproblemValues[row + y]));
+    }
+
+    int[] matching = new int[subproblems];
+    int[] partner = new int[solutions];
+    Arrays.fill(partner, -1);
+    int[] next = new int[subproblems];
+    ArrayDeque<Integer> free = new ArrayDeque<>();
+    for (int j = 0; j < subproblems; j++) {
+      free.add(j);
+    }
+    while (!free.isEmpty()) {
+      int j = free.poll();
+      int c = preferences[j][next[j]++];
+      if (partner[c] == -1) {
+        partner[c] = j;
+        matching[j] = c;
+      } else if (solutionValues[c * subproblems + j]
+          < solutionValues[c * subproblems + partner[c]]) {
+        free.add(partner[c]);
+        partner[c] = j;
+        matching[j] = c;
+      } else {
+        free.add(j);
+      }
+    }
+    return matching;
+  }
+
+  private static boolean hasBlockingPair(
+      int[] matching,
+      double[] subproblemValues,
+      double[] solutionValues,
+      int subproblems,
+      int solutions) {
+    int[] partner = new int[solutions];
+    Arrays.fill(partner, -1);
+    for (int j = 0; j < subproblems; j++) {
+      partner[matching[j]] = j;
+    }
+    for (int j = 0; j < subproblems; j++) {
+      for (int c = 0; c < solutions; c++) {
+        boolean subproblemPrefers =
+            subproblemValues[j * solutions + c] < subproblemValues[j * solutions + matching[j]];
+        boolean solutionPrefers =
+            (partner[c] == -1)
+                || (solutionValues[c * subproblems + j]
+                    < solutionValues[c * subproblems + partner[c]]);
+        if (subproblemPrefers && solutionPrefers) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,100 @@
+package org.uma.jmetal.algorithm.multiobjective.nsgaiii.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.Test;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+
+public class EnvironmentalSelectionTest {
+  private static int counter = 0;
+
+  private static DoubleSolution solution(double... objectives) {
+    DoubleSolution solution =
+        new DefaultDoubleSolution(objectives.length, Arrays.asList(Bounds.create(0.0, 1000.0)));
+    solution.variables().set(0, (double) counter++);
+    System.arraycopy(objectives, 0, solution.objectives(), 0, objectives.length);
+
+    return solution;
+  }
+
+  @Test
+  public void shouldGaussianEliminationSolveASystemOfLinearEquations() {
+    double[][] A = {{2.0, 1.0, -1.0}, {-3.0, -1.0, 2.0}, {-2.0, 1.0, 2.0}};
+    double[] b = {8.0, -11.0, -3.0};
+
+    assertArrayEquals(
+        new double[] {2.0, 3.0, -1.0},
+        EnvironmentalSelection.gaussianElimination(A, b),
+        0.0000000001);
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void shouldTheDeprecatedGuassianEliminationGiveTheSameSolution() {
+    List<List<Double>> A =
+        Arrays.asList(
+            Arrays.asList(2.0, 1.0, -1.0),
+            Arrays.asList(-3.0, -1.0, 2.0),
+            Arrays.asList(-2.0, 1.0, 2.0));
+    EnvironmentalSelection<DoubleSolution> selection =
+        new EnvironmentalSelection<>(null, 1, new double[0][], 3);
+
+    List<Double> x = selection.guassianElimination(A, Arrays.asList(8.0, -11.0, -3.0));
+
+    assertEquals(2.0, x.get(0), 0.0000000001);
+    assertEquals(3.0, x.get(1), 0.0000000001);
+    assertEquals(-1.0, x.get(2), 0.0000000001);
+  }
+
+  @Test
+  public void shouldExecuteSelectTheClosestSolutionsToTheReferencePointsWithoutMembers() {
+    DoubleSolution extreme1 = solution(0.0, 1.0);
+    DoubleSolution extreme2 = solution(1.0, 0.0);
+    List<DoubleSolution> firstFront = Arrays.asList(extreme1, extreme2);
+
+    DoubleSolution closest = solution(0.5, 0.52);
+    DoubleSolution farthest = solution(0.4, 0.7);
+    List<DoubleSolution> lastFront = Arrays.asList(farthest, closest);
+
+    double[][] referenceDirections = {{0.0, 1.0}, {0.5, 0.5}, {1.0, 0.0}};
+    EnvironmentalSelection<DoubleSolution> selection =
+        new EnvironmentalSelection<>(
+            Arrays.asList(firstFront, lastFront), 1, referenceDirections, 2);
+
+    List<DoubleSolution> result = selection.execute(lastFront);
+
+    assertEquals(1, result.size());
+    assertSame(closest, result.get(0));
+  }
+
+  @Test
+  public void shouldExecuteReturnTheRequestedNumberOfDifferentSolutionsOfTheLastFront() {
+    List<DoubleSolution> firstFront = Arrays.asList(solution(0.0, 1.0), solution(1.0, 0.0));
+    List<DoubleSolution> lastFront =
+        Arrays.asList(
+            solution(0.1, 1.0), solution(0.3, 0.8), solution(0.35, 0.8), solution(0.6, 0.5),
+            solution(0.9, 0.2), solution(0.95, 0.15));
+
+    double[][] referenceDirections = new double[11][];
+    for (int i = 0; i < referenceDirections.length; i++) {
+      referenceDirections[i] = new double[] {i / 10.0, 1.0 - i / 10.0};
+    }
+    EnvironmentalSelection<DoubleSolution> selection =
+        new EnvironmentalSelection<>(
+            Arrays.asList(firstFront, lastFront), 4, referenceDirections, 2);
+
+    List<DoubleSolution> result = selection.execute(lastFront);
+
+    assertEquals(4, result.size());
+    assertEquals(4, new HashSet<>(result).size());
+    assertTrue(lastFront.containsAll(result));
+  }
+}
@@ -0,0 +1,65 @@
+package org.uma.jmetal.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+
+/**
+ * Benchmark of the insertion of a list of solutions in an empty archive. The solutions are
+ * mutually non-dominated, so the unbounded archive grows up to the number of solutions and the
+ * bounded one is pruned once it is full
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArchiveBenchmark {
+  private static final int CROWDING_DISTANCE_ARCHIVE_SIZE = 100;
+
+  @Param({"200", "1000"})
+  public int numberOfSolutions;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives;
+
+  private List<DoubleSolution> solutions;
+
+  @Setup
+  public void setup() {
+    solutions = BenchmarkData.nonDominatedSolutions(numberOfObjectives, numberOfSolutions);
+  }
+
+  @Benchmark
+  public int nonDominatedSolutionListArchive() {
+    return fill(new NonDominatedSolutionListArchive<>());
+  }
+
+  @Benchmark
+  public int crowdingDistanceArchive() {
+    return fill(new CrowdingDistanceArchive<>(CROWDING_DISTANCE_ARCHIVE_SIZE));
+  }
+
+  private int fill(Archive<DoubleSolution> archive) {
+    for (DoubleSolution solution : solutions) {
+      archive.add(solution);
+    }
+
+    return archive.size();
+  }
+}
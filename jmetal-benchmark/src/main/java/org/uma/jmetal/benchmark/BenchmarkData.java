@@ -0,0 +1,58 @@
+package org.uma.jmetal.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+/**
+ * Factory of the solution lists used as input by the benchmarks. The lists are generated with a
+ * fixed seed, so all the runs of a benchmark (and the runs of different versions of the code)
+ * measure the same work.
+ */
+public class BenchmarkData {
+  public static final long SEED = 1;
+
+  private BenchmarkData() {}
+
+  /**
+   * Returns a list of solutions with random objective values in [0, 1), which are distributed in
+   * several non-dominated fronts
+   */
+  public static List<DoubleSolution> randomSolutions(int numberOfObjectives, int size) {
+    Random random = new Random(SEED);
+    DummyDoubleProblem problem = new DummyDoubleProblem(1, numberOfObjectives, 0);
+
+    List<DoubleSolution> solutions = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.objectives()[j] = random.nextDouble();
+      }
+      solutions.add(solution);
+    }
+
+    return solutions;
+  }
+
+  /**
+   * Returns a list of mutually non-dominated solutions, whose objective values are random points
+   * of the hyperplane f_1 + ... + f_m = 1
+   */
+  public static List<DoubleSolution> nonDominatedSolutions(int numberOfObjectives, int size) {
+    List<DoubleSolution> solutions = randomSolutions(numberOfObjectives, size);
+    for (DoubleSolution solution : solutions) {
+      double sum = 0.0;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.objectives()[j] = -Math.log(1.0 - solution.objectives()[j]);
+        sum += solution.objectives()[j];
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.objectives()[j] /= sum;
+      }
+    }
+
+    return solutions;
+  }
+}
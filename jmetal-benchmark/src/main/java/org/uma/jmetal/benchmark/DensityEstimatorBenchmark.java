@@ -0,0 +1,59 @@
+package org.uma.jmetal.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.densityestimator.DensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.CrowdingDistanceDensityEstimator;
+import org.uma.jmetal.util.densityestimator.impl.KnnDensityEstimator;
+
+/**
+ * Benchmark of the density estimators, applied to a non-dominated front
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DensityEstimatorBenchmark {
+  @Param({"100", "1000"})
+  public int populationSize;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives;
+
+  private List<DoubleSolution> population;
+  private DensityEstimator<DoubleSolution> crowdingDistance;
+  private DensityEstimator<DoubleSolution> knn;
+
+  @Setup
+  public void setup() {
+    population = BenchmarkData.nonDominatedSolutions(numberOfObjectives, populationSize);
+    crowdingDistance = new CrowdingDistanceDensityEstimator<>();
+    knn = new KnnDensityEstimator<>(1);
+  }
+
+  @Benchmark
+  public Double crowdingDistanceDensityEstimator() {
+    crowdingDistance.compute(population);
+    return crowdingDistance.getValue(population.get(0));
+  }
+
+  @Benchmark
+  public Double knnDensityEstimator() {
+    knn.compute(population);
+    return knn.getValue(population.get(0));
+  }
+}
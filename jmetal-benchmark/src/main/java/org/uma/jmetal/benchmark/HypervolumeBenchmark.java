@@ -0,0 +1,63 @@
+package org.uma.jmetal.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.qualityindicator.QualityIndicator;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.impl.WFGHypervolume;
+import org.uma.jmetal.util.SolutionListUtils;
+
+/**
+ * Benchmark of the hypervolume algorithms, applied to a non-dominated front with reference point
+ * (1.1, ..., 1.1)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HypervolumeBenchmark {
+  @Param({"50", "200"})
+  public int frontSize;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives;
+
+  private double[][] front;
+  private QualityIndicator wfgHypervolume;
+  private QualityIndicator pisaHypervolume;
+
+  @Setup
+  public void setup() {
+    front =
+        SolutionListUtils.getMatrixWithObjectiveValues(
+            BenchmarkData.nonDominatedSolutions(numberOfObjectives, frontSize));
+
+    double[] referencePoint = new double[numberOfObjectives];
+    Arrays.fill(referencePoint, 1.1);
+    wfgHypervolume = new WFGHypervolume(referencePoint);
+    pisaHypervolume = new PISAHypervolume(referencePoint);
+  }
+
+  @Benchmark
+  public double wfgHypervolume() {
+    return wfgHypervolume.compute(front);
+  }
+
+  @Benchmark
+  public double pisaHypervolume() {
+    return pisaHypervolume.compute(front);
+  }
+}
@@ -0,0 +1,83 @@
+package org.uma.jmetal.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.problem.multiobjective.lsmop.LSMOP1;
+import org.uma.jmetal.problem.multiobjective.wfg.WFG1;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Benchmark of the evaluation of a population of random solutions of ZDT1 (30 variables), DTLZ2
+ * (m + 9 variables), WFG1 (2 (m - 1) position and 4 distance parameters) and LSMOP1 (300
+ * variables), where m is the number of objectives (ZDT1 has always two objectives)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProblemEvaluationBenchmark {
+  private static final int POPULATION_SIZE = 100;
+
+  @Param({"ZDT1", "DTLZ2", "WFG1", "LSMOP1"})
+  public String problemName;
+
+  @Param({"3"})
+  public int numberOfObjectives;
+
+  private DoubleProblem problem;
+  private List<DoubleSolution> population;
+
+  @Setup
+  public void setup() {
+    JMetalRandom.getInstance().setSeed(BenchmarkData.SEED);
+    problem = createProblem(problemName, numberOfObjectives);
+
+    population = new ArrayList<>(POPULATION_SIZE);
+    for (int i = 0; i < POPULATION_SIZE; i++) {
+      population.add(problem.createSolution());
+    }
+  }
+
+  @Benchmark
+  public List<DoubleSolution> evaluate() {
+    for (DoubleSolution solution : population) {
+      problem.evaluate(solution);
+    }
+
+    return population;
+  }
+
+  static DoubleProblem createProblem(String problemName, int numberOfObjectives) {
+    switch (problemName) {
+      case "ZDT1":
+        return new ZDT1();
+      case "DTLZ2":
+        return new DTLZ2(numberOfObjectives + 9, numberOfObjectives);
+      case "WFG1":
+        return new WFG1(2 * (numberOfObjectives - 1), 4, numberOfObjectives);
+      case "LSMOP1":
+        return new LSMOP1(5, 300, numberOfObjectives);
+      default:
+        throw new JMetalException("Unknown problem: " + problemName);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package org.uma.jmetal.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.ranking.Ranking;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortRanking;
+import org.uma.jmetal.util.ranking.impl.MergeNonDominatedSortRanking;
+
+/**
+ * Benchmark of the non-dominated sorting algorithms
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RankingBenchmark {
+  @Param({"100", "1000", "5000"})
+  public int populationSize;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives;
+
+  private List<DoubleSolution> population;
+
+  @Setup
+  public void setup() {
+    population = BenchmarkData.randomSolutions(numberOfObjectives, populationSize);
+  }
+
+  @Benchmark
+  public int fastNonDominatedSortRanking() {
+    Ranking<DoubleSolution> ranking = new FastNonDominatedSortRanking<>();
+    return ranking.compute(population).getNumberOfSubFronts();
+  }
+
+  @Benchmark
+  public int mergeNonDominatedSortRanking() {
+    Ranking<DoubleSolution> ranking = new MergeNonDominatedSortRanking<>();
+    return ranking.compute(population).getNumberOfSubFronts();
+  }
+}
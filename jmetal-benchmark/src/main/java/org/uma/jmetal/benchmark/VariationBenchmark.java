@@ -0,0 +1,60 @@
+package org.uma.jmetal.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Benchmark of the SBX crossover and polynomial mutation operators
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariationBenchmark {
+  @Param({"30", "1000"})
+  public int numberOfVariables;
+
+  private List<DoubleSolution> parents;
+  private DoubleSolution solution;
+  private SBXCrossover crossover;
+  private PolynomialMutation mutation;
+
+  @Setup
+  public void setup() {
+    JMetalRandom.getInstance().setSeed(BenchmarkData.SEED);
+    DummyDoubleProblem problem = new DummyDoubleProblem(numberOfVariables, 2, 0);
+    parents = List.of(problem.createSolution(), problem.createSolution());
+    solution = problem.createSolution();
+
+    crossover = new SBXCrossover(1.0, 20.0);
+    mutation = new PolynomialMutation(1.0 / numberOfVariables, 20.0);
+  }
+
+  @Benchmark
+  public List<DoubleSolution> sbxCrossover() {
+    return crossover.execute(parents);
+  }
+
+  @Benchmark
+  public DoubleSolution polynomialMutation() {
+    return mutation.execute(solution);
+  }
+}
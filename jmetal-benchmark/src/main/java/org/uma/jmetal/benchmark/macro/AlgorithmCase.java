@@ -0,0 +1,186 @@
+package org.uma.jmetal.benchmark.macro;
+
+import java.util.List;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.multiobjective.cdg.CDGBuilder;
+import org.uma.jmetal.algorithm.multiobjective.moead.AbstractMOEAD;
+import org.uma.jmetal.algorithm.multiobjective.moead.MOEADBuilder;
+import org.uma.jmetal.algorithm.multiobjective.nsgaii.NSGAIIBuilder;
+import org.uma.jmetal.algorithm.multiobjective.smpso.SMPSOBuilder;
+import org.uma.jmetal.algorithm.multiobjective.smsemoa.SMSEMOABuilder;
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.moead.MOEADDE;
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.nsgaii.NSGAII;
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.smpso.SMPSO;
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.smsemoa.SMSEMOA;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.impl.SequentialEvaluation;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.aggregativefunction.impl.Tschebyscheff;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.termination.impl.TerminationByEvaluations;
+
+/**
+ * Algorithm configuration benchmarked by {@link MacroBenchmark}. The algorithms are built with
+ * their default settings (population size of 100, SBX crossover and polynomial mutation, or the
+ * differential evolution operator in the case of MOEA/D) either with the builders of the classic
+ * algorithms or as component based algorithms.
+ */
+public class AlgorithmCase {
+  public static final int POPULATION_SIZE = 100;
+  public static final String WEIGHT_VECTOR_DIRECTORY = "resources/weightVectorFiles/moead";
+
+  public enum Variant {
+    CLASSIC,
+    COMPONENT_BASED
+  }
+
+  /** Creates an algorithm solving a problem with a maximum number of evaluations */
+  @FunctionalInterface
+  public interface Factory {
+    Algorithm<List<DoubleSolution>> create(DoubleProblem problem, int maxEvaluations);
+  }
+
+  private final String name;
+  private final Variant variant;
+  private final Factory factory;
+
+  public AlgorithmCase(String name, Variant variant, Factory factory) {
+    this.name = name;
+    this.variant = variant;
+    this.factory = factory;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Variant getVariant() {
+    return variant;
+  }
+
+  /** Returns the tag of the case, which is the algorithm name followed by the variant */
+  public String getTag() {
+    return name + "-" + variant;
+  }
+
+  public Algorithm<List<DoubleSolution>> create(DoubleProblem problem, int maxEvaluations) {
+    return factory.create(problem, maxEvaluations);
+  }
+
+  /**
+   * Returns the default cases: NSGA-II, MOEA/D, SMPSO and SMS-EMOA in both variants, and CDG, which
+   * only has a classic implementation
+   */
+  public static List<AlgorithmCase> defaultCases() {
+    return List.of(
+        new AlgorithmCase("NSGAII", Variant.CLASSIC, AlgorithmCase::classicNSGAII),
+        new AlgorithmCase("NSGAII", Variant.COMPONENT_BASED, AlgorithmCase::componentBasedNSGAII),
+        new AlgorithmCase("MOEAD", Variant.CLASSIC, AlgorithmCase::classicMOEAD),
+        new AlgorithmCase("MOEAD", Variant.COMPONENT_BASED, AlgorithmCase::componentBasedMOEAD),
+        new AlgorithmCase("SMPSO", Variant.CLASSIC, AlgorithmCase::classicSMPSO),
+        new AlgorithmCase("SMPSO", Variant.COMPONENT_BASED, AlgorithmCase::componentBasedSMPSO),
+        new AlgorithmCase("SMSEMOA", Variant.CLASSIC, AlgorithmCase::classicSMSEMOA),
+        new AlgorithmCase("SMSEMOA", Variant.COMPONENT_BASED, AlgorithmCase::componentBasedSMSEMOA),
+        new AlgorithmCase("CDG", Variant.CLASSIC, AlgorithmCase::classicCDG));
+  }
+
+  private static SBXCrossover crossover() {
+    return new SBXCrossover(0.9, 20.0);
+  }
+
+  private static PolynomialMutation mutation(DoubleProblem problem) {
+    return new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0);
+  }
+
+  private static Algorithm<List<DoubleSolution>> classicNSGAII(
+      DoubleProblem problem, int maxEvaluations) {
+    return new NSGAIIBuilder<>(problem, crossover(), mutation(problem), POPULATION_SIZE)
+        .setMaxEvaluations(maxEvaluations)
+        .build();
+  }
+
+  private static Algorithm<List<DoubleSolution>> componentBasedNSGAII(
+      DoubleProblem problem, int maxEvaluations) {
+    return new NSGAII<>(
+        problem,
+        POPULATION_SIZE,
+        POPULATION_SIZE,
+        crossover(),
+        mutation(problem),
+        new TerminationByEvaluations(maxEvaluations));
+  }
+
+  private static Algorithm<List<DoubleSolution>> classicMOEAD(
+      DoubleProblem problem, int maxEvaluations) {
+    return new MOEADBuilder(problem, MOEADBuilder.Variant.MOEAD)
+        .setMutation(mutation(problem))
+        .setMaxEvaluations(maxEvaluations)
+        .setPopulationSize(POPULATION_SIZE)
+        .setResultPopulationSize(POPULATION_SIZE)
+        .setNeighborhoodSelectionProbability(0.9)
+        .setMaximumNumberOfReplacedSolutions(2)
+        .setNeighborSize(20)
+        .setFunctionType(AbstractMOEAD.FunctionType.TCHE)
+        .build();
+  }
+
+  private static Algorithm<List<DoubleSolution>> componentBasedMOEAD(
+      DoubleProblem problem, int maxEvaluations) {
+    return new MOEADDE(
+        problem,
+        POPULATION_SIZE,
+        1.0,
+        0.5,
+        new Tschebyscheff(),
+        0.9,
+        2,
+        20,
+        WEIGHT_VECTOR_DIRECTORY,
+        new TerminationByEvaluations(maxEvaluations));
+  }
+
+  private static Algorithm<List<DoubleSolution>> classicSMPSO(
+      DoubleProblem problem, int maxEvaluations) {
+    return new SMPSOBuilder(problem, new CrowdingDistanceArchive<>(POPULATION_SIZE))
+        .setMutation(mutation(problem))
+        .setSwarmSize(POPULATION_SIZE)
+        .setMaxIterations(maxEvaluations / POPULATION_SIZE)
+        .build();
+  }
+
+  private static Algorithm<List<DoubleSolution>> componentBasedSMPSO(
+      DoubleProblem problem, int maxEvaluations) {
+    return new SMPSO(
+        problem,
+        POPULATION_SIZE,
+        new CrowdingDistanceArchive<>(POPULATION_SIZE),
+        mutation(problem),
+        new SequentialEvaluation<>(problem),
+        new TerminationByEvaluations(maxEvaluations));
+  }
+
+  private static Algorithm<List<DoubleSolution>> classicSMSEMOA(
+      DoubleProblem problem, int maxEvaluations) {
+    return new SMSEMOABuilder<>(problem, crossover(), mutation(problem))
+        .setPopulationSize(POPULATION_SIZE)
+        .setMaxEvaluations(maxEvaluations)
+        .build();
+  }
+
+  private static Algorithm<List<DoubleSolution>> componentBasedSMSEMOA(
+      DoubleProblem problem, int maxEvaluations) {
+    return new SMSEMOA<>(
+        problem,
+        POPULATION_SIZE,
+        crossover(),
+        mutation(problem),
+        new TerminationByEvaluations(maxEvaluations));
+  }
+
+  private static Algorithm<List<DoubleSolution>> classicCDG(
+      DoubleProblem problem, int maxEvaluations) {
+    return new CDGBuilder(problem).setMaxEvaluations(maxEvaluations).build();
+  }
+}
@@ -0,0 +1,33 @@
+package org.uma.jmetal.benchmark.macro;
+
+/**
+ * Fixed budgets of the macro benchmarks. The warm-up runs are executed before the measured ones
+ * to let the JIT compiler optimize the code, and their results are discarded.
+ */
+public enum BudgetProfile {
+  SMOKE(5000, 0, 1),
+  STANDARD(25000, 1, 3),
+  LONG(100000, 1, 5);
+
+  private final int evaluations;
+  private final int warmupRuns;
+  private final int runs;
+
+  BudgetProfile(int evaluations, int warmupRuns, int runs) {
+    this.evaluations = evaluations;
+    this.warmupRuns = warmupRuns;
+    this.runs = runs;
+  }
+
+  public int getEvaluations() {
+    return evaluations;
+  }
+
+  public int getWarmupRuns() {
+    return warmupRuns;
+  }
+
+  public int getRuns() {
+    return runs;
+  }
+}
@@ -0,0 +1,64 @@
+package org.uma.jmetal.benchmark.macro;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Samples periodically the total heap usage in a daemon thread, keeping the maximum value. Unlike
+ * adding up the peak usages of the memory pools, which are reached at different times, the
+ * samples measure the whole heap at once; the peak between two samples can be missed, so the
+ * sampling period has to be short compared with the duration of the measured run.
+ */
+public class HeapUsageSampler {
+  private static final MemoryMXBean MEMORY_BEAN = ManagementFactory.getMemoryMXBean();
+
+  private final AtomicLong peakHeapBytes;
+  private final Thread thread;
+
+  /** Starts sampling the heap usage every samplingPeriod milliseconds */
+  public HeapUsageSampler(long samplingPeriod) {
+    Check.that(samplingPeriod > 0, "The sampling period must be positive: " + samplingPeriod);
+    peakHeapBytes = new AtomicLong(usedHeapBytes());
+    thread =
+        new Thread(
+            () -> {
+              try {
+                while (!Thread.currentThread().isInterrupted()) {
+                  sample();
+                  Thread.sleep(samplingPeriod);
+                }
+              } catch (InterruptedException e) {
+                // The sampling is stopped
+              }
+            },
+            "heap-usage-sampler");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private static long usedHeapBytes() {
+    return MEMORY_BEAN.getHeapMemoryUsage().getUsed();
+  }
+
+  private void sample() {
+    peakHeapBytes.accumulateAndGet(usedHeapBytes(), Math::max);
+  }
+
+  /** Returns the maximum heap usage sampled so far */
+  public long getPeakHeapBytes() {
+    return peakHeapBytes.get();
+  }
+
+  /** Stops the sampling after taking a last sample */
+  public void stop() {
+    thread.interrupt();
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    sample();
+  }
+}
@@ -0,0 +1,171 @@
+package org.uma.jmetal.benchmark.macro;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.impl.AbstractEvolutionaryAlgorithm;
+import org.uma.jmetal.example.AlgorithmRunner;
+import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.multiobjective.dtlz.DTLZ2;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.measure.instrumentation.PhaseInstrumentation;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * End-to-end benchmark of complete algorithm runs with a fixed budget of evaluations (see {@link
+ * BudgetProfile}). Each {@link AlgorithmCase} solves each problem a number of times, and each run
+ * reports the evaluations per second, the time spent in each phase of the algorithm loop, the
+ * allocated bytes and allocation rate, and the peak heap usage (sampled with a {@link
+ * HeapUsageSampler}). The phases are measured with the {@link PhaseInstrumentation} of the
+ * algorithms extending {@link AbstractEvolutionaryAlgorithm}; only the evaluations are measured in
+ * the rest of algorithms, by decorating the problem. The runs are executed with an {@link
+ * AlgorithmRunner} and the random generator is seeded with the run index, so two executions of the
+ * benchmark perform exactly the same work.
+ *
+ * <p>Usage: {@code MacroBenchmark [SMOKE|STANDARD|LONG] [output.json]}. The results are written in
+ * JSON to track them over time (by default, to the file macro-benchmark.json) and a summary is
+ * logged. The benchmark is run from Maven with: {@code mvn -pl jmetal-benchmark -am package -Pmacro
+ * -DskipTests -Dgpg.skip}.
+ */
+public class MacroBenchmark {
+  public static final String DEFAULT_OUTPUT_FILE = "macro-benchmark.json";
+  /** Milliseconds between two samples of the heap usage */
+  private static final long HEAP_SAMPLING_PERIOD = 1;
+
+  private final BudgetProfile profile;
+  private final List<AlgorithmCase> algorithmCases;
+  private final List<ExperimentProblem<DoubleSolution>> problems;
+
+  public MacroBenchmark(
+      BudgetProfile profile,
+      List<AlgorithmCase> algorithmCases,
+      List<ExperimentProblem<DoubleSolution>> problems) {
+    Check.notNull(profile);
+    Check.collectionIsNotEmpty(algorithmCases);
+    Check.collectionIsNotEmpty(problems);
+    problems.forEach(
+        problem ->
+            Check.that(
+                problem.getProblem() instanceof DoubleProblem,
+                "The problem " + problem.getTag() + " is not a DoubleProblem"));
+
+    this.profile = profile;
+    this.algorithmCases = algorithmCases;
+    this.problems = problems;
+  }
+
+  public MacroBenchmark(BudgetProfile profile) {
+    this(profile, AlgorithmCase.defaultCases(), defaultProblems());
+  }
+
+  /** Returns ZDT1 and the three-objective DTLZ2 */
+  public static List<ExperimentProblem<DoubleSolution>> defaultProblems() {
+    return List.of(new ExperimentProblem<>(new ZDT1()), new ExperimentProblem<>(new DTLZ2(12, 3)));
+  }
+
+  public List<MacroBenchmarkResult> run() {
+    List<MacroBenchmarkResult> results = new ArrayList<>();
+    for (ExperimentProblem<DoubleSolution> problem : problems) {
+      for (AlgorithmCase algorithmCase : algorithmCases) {
+        for (int run = 0; run < profile.getWarmupRuns(); run++) {
+          run(algorithmCase, problem, run);
+        }
+        for (int run = 0; run < profile.getRuns(); run++) {
+          MacroBenchmarkResult result = run(algorithmCase, problem, run);
+          JMetalLogger.logger.info(
+              String.format(
+                  "%s on %s, run %d: %.1f evaluations/s",
+                  algorithmCase.getTag(), problem.getTag(), run, result.getEvaluationsPerSecond()));
+          results.add(result);
+        }
+      }
+    }
+
+    return results;
+  }
+
+  private MacroBenchmarkResult run(
+      AlgorithmCase algorithmCase, ExperimentProblem<DoubleSolution> problem, int run) {
+    TimedDoubleProblem timedProblem =
+        new TimedDoubleProblem(
+            (DoubleProblem) problem.getProblem(), new PhaseInstrumentation().setEnabled(true));
+
+    JMetalRandom.getInstance().setSeed(run);
+    Algorithm<List<DoubleSolution>> benchmarkedAlgorithm =
+        algorithmCase.create(timedProblem, profile.getEvaluations());
+    PhaseInstrumentation instrumentation = timedProblem.getInstrumentation();
+    if (benchmarkedAlgorithm instanceof AbstractEvolutionaryAlgorithm) {
+      timedProblem.getInstrumentation().setEnabled(false);
+      instrumentation =
+          ((AbstractEvolutionaryAlgorithm<?, ?>) benchmarkedAlgorithm)
+              .getInstrumentation()
+              .setEnabled(true);
+    }
+    MeasuredAlgorithm<List<DoubleSolution>> algorithm =
+        new MeasuredAlgorithm<>(benchmarkedAlgorithm);
+
+    System.gc();
+    HeapUsageSampler heapUsageSampler = new HeapUsageSampler(HEAP_SAMPLING_PERIOD);
+    AlgorithmRunner algorithmRunner;
+    try {
+      algorithmRunner = new AlgorithmRunner.Executor(algorithm).execute();
+    } finally {
+      heapUsageSampler.stop();
+    }
+
+    return new MacroBenchmarkResult(
+        algorithmCase.getName(),
+        algorithmCase.getVariant().name(),
+        problem.getTag(),
+        run,
+        timedProblem.getEvaluations(),
+        algorithmRunner.getComputingTime(),
+        algorithm.getElapsedNanoseconds(),
+        instrumentation,
+        algorithm.getAllocatedBytes(),
+        heapUsageSampler.getPeakHeapBytes());
+  }
+
+  /** Returns a JSON document with the profile, the environment and the results of the runs */
+  public String toJson(List<MacroBenchmarkResult> results) {
+    StringBuilder json = new StringBuilder("{\n");
+    json.append("  \"profile\": ").append(MacroBenchmarkResult.jsonString(profile.name()));
+    json.append(",\n  \"evaluations\": ").append(profile.getEvaluations());
+    json.append(",\n  \"javaVersion\": ")
+        .append(MacroBenchmarkResult.jsonString(System.getProperty("java.version")));
+    json.append(",\n  \"availableProcessors\": ")
+        .append(Runtime.getRuntime().availableProcessors());
+    json.append(",\n  \"maxHeapBytes\": ").append(Runtime.getRuntime().maxMemory());
+    json.append(",\n  \"results\": [");
+    for (int i = 0; i < results.size(); i++) {
+      json.append(i == 0 ? "\n    " : ",\n    ").append(results.get(i).toJson());
+    }
+    json.append("\n  ]\n}\n");
+
+    return json.toString();
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length > 2) {
+      throw new JMetalException(
+          "Wrong number of arguments. Usage: MacroBenchmark [SMOKE|STANDARD|LONG] [output.json]");
+    }
+    BudgetProfile profile =
+        (args.length > 0) ? BudgetProfile.valueOf(args[0]) : BudgetProfile.STANDARD;
+    Path outputFile = Path.of((args.length > 1) ? args[1] : DEFAULT_OUTPUT_FILE);
+
+    MacroBenchmark benchmark = new MacroBenchmark(profile);
+    List<MacroBenchmarkResult> results = benchmark.run();
+    Files.writeString(outputFile, benchmark.toJson(results));
+
+    JMetalLogger.logger.info("Results written to file " + outputFile.toAbsolutePath());
+  }
+}
@@ -0,0 +1,166 @@
+package org.uma.jmetal.benchmark.macro;
+
+import org.uma.jmetal.util.measure.instrumentation.AlgorithmPhase;
+import org.uma.jmetal.util.measure.instrumentation.Histogram;
+import org.uma.jmetal.util.measure.instrumentation.PhaseInstrumentation;
+
+/**
+ * Measures of a run of an algorithm in a macro benchmark. The allocated bytes and the peak heap
+ * are -1 if they could not be measured.
+ */
+public class MacroBenchmarkResult {
+  private final String algorithm;
+  private final String variant;
+  private final String problem;
+  private final int run;
+  private final long evaluations;
+  private final long computingTime;
+  private final long elapsedNanoseconds;
+  private final PhaseInstrumentation instrumentation;
+  private final long allocatedBytes;
+  private final long peakHeapBytes;
+
+  public MacroBenchmarkResult(
+      String algorithm,
+      String variant,
+      String problem,
+      int run,
+      long evaluations,
+      long computingTime,
+      long elapsedNanoseconds,
+      PhaseInstrumentation instrumentation,
+      long allocatedBytes,
+      long peakHeapBytes) {
+    this.algorithm = algorithm;
+    this.variant = variant;
+    this.problem = problem;
+    this.run = run;
+    this.evaluations = evaluations;
+    this.computingTime = computingTime;
+    this.elapsedNanoseconds = elapsedNanoseconds;
+    this.instrumentation = instrumentation;
+    this.allocatedBytes = allocatedBytes;
+    this.peakHeapBytes = peakHeapBytes;
+  }
+
+  public String getAlgorithm() {
+    return algorithm;
+  }
+
+  public String getVariant() {
+    return variant;
+  }
+
+  public String getProblem() {
+    return problem;
+  }
+
+  public int getRun() {
+    return run;
+  }
+
+  public long getEvaluations() {
+    return evaluations;
+  }
+
+  /** Computing time in milliseconds, as reported by the algorithm runner */
+  public long getComputingTime() {
+    return computingTime;
+  }
+
+  public long getElapsedNanoseconds() {
+    return elapsedNanoseconds;
+  }
+
+  public double getEvaluationsPerSecond() {
+    return evaluations * 1.0e9 / elapsedNanoseconds;
+  }
+
+  /** Returns the measures of the phases of the run */
+  public PhaseInstrumentation getInstrumentation() {
+    return instrumentation;
+  }
+
+  public long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  /** Returns the allocated bytes per second, or -1 if they could not be measured */
+  public double getAllocationRate() {
+    return (allocatedBytes < 0) ? -1 : allocatedBytes * 1.0e9 / elapsedNanoseconds;
+  }
+
+  public long getPeakHeapBytes() {
+    return peakHeapBytes;
+  }
+
+  /**
+   * Returns the result as a JSON object. The phases that have not been measured (i.e., with no
+   * executions) are null.
+   */
+  public String toJson() {
+    StringBuilder json = new StringBuilder("{");
+    json.append("\"algorithm\": ").append(jsonString(algorithm));
+    json.append(", \"variant\": ").append(jsonString(variant));
+    json.append(", \"problem\": ").append(jsonString(problem));
+    json.append(", \"run\": ").append(run);
+    json.append(", \"evaluations\": ").append(evaluations);
+    json.append(", \"computingTimeMs\": ").append(computingTime);
+    json.append(", \"elapsedNanoseconds\": ").append(elapsedNanoseconds);
+    json.append(", \"evaluationsPerSecond\": ").append(jsonNumber(getEvaluationsPerSecond()));
+    json.append(", \"phases\": {");
+    for (AlgorithmPhase phase : AlgorithmPhase.values()) {
+      json.append(phase.ordinal() == 0 ? "" : ", ")
+          .append(jsonString(phase.name().toLowerCase()))
+          .append(": ")
+          .append(phaseToJson(phase));
+    }
+    json.append("}");
+    json.append(", \"allocatedBytes\": ").append(allocatedBytes);
+    json.append(", \"allocationRateBytesPerSecond\": ").append(jsonNumber(getAllocationRate()));
+    json.append(", \"peakHeapBytes\": ").append(peakHeapBytes);
+    json.append("}");
+
+    return json.toString();
+  }
+
+  private String phaseToJson(AlgorithmPhase phase) {
+    if (instrumentation.getCount(phase) == 0) {
+      return "null";
+    }
+    Histogram histogram = instrumentation.getHistogram(phase);
+
+    return "{\"nanoseconds\": "
+        + instrumentation.getNanoseconds(phase)
+        + ", \"count\": "
+        + instrumentation.getCount(phase)
+        + ", \"allocatedBytes\": "
+        + (instrumentation.isAllocationTracking() ? instrumentation.getAllocatedBytes(phase) : -1)
+        + ", \"p50Nanoseconds\": "
+        + histogram.getValueAtPercentile(50.0)
+        + ", \"p99Nanoseconds\": "
+        + histogram.getValueAtPercentile(99.0)
+        + ", \"maxNanoseconds\": "
+        + histogram.getMax()
+        + "}";
+  }
+
+  static String jsonNumber(double value) {
+    return Double.isFinite(value) ? Double.toString(value) : "null";
+  }
+
+  static String jsonString(String value) {
+    StringBuilder json = new StringBuilder("\"");
+    for (char c : value.toCharArray()) {
+      if (c == '"' || c == '\\') {
+        json.append('\\').append(c);
+      } else if (c < 0x20) {
+        json.append(String.format("\\u%04x", (int) c));
+      } else {
+        json.append(c);
+      }
+    }
+
+    return json.append('"').toString();
+  }
+}
@@ -0,0 +1,71 @@
+package org.uma.jmetal.benchmark.macro;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.measure.instrumentation.ThreadAllocation;
+
+/**
+ * Decorator of an {@link Algorithm} that measures the elapsed time of its {@link #run()} method and
+ * the bytes allocated by the thread executing it. The allocated bytes are obtained with {@link
+ * ThreadAllocation}, so they are -1 if the JVM does not support it, and they do not include the
+ * allocations of other threads (the benchmarked algorithms are configured to evaluate the solutions
+ * sequentially).
+ *
+ * @param <Result> Result of the algorithm
+ */
+@SuppressWarnings("serial")
+public class MeasuredAlgorithm<Result> implements Algorithm<Result> {
+  private final Algorithm<Result> algorithm;
+  private long elapsedNanoseconds;
+  private long allocatedBytes;
+
+  public MeasuredAlgorithm(Algorithm<Result> algorithm) {
+    Check.notNull(algorithm);
+    this.algorithm = algorithm;
+    this.elapsedNanoseconds = -1;
+    this.allocatedBytes = -1;
+  }
+
+  @Override
+  public void run() {
+    long initialAllocatedBytes = ThreadAllocation.currentThread();
+    long start = System.nanoTime();
+    algorithm.run();
+    elapsedNanoseconds = System.nanoTime() - start;
+
+    long finalAllocatedBytes = ThreadAllocation.currentThread();
+    allocatedBytes =
+        (initialAllocatedBytes < 0 || finalAllocatedBytes < 0)
+            ? -1
+            : finalAllocatedBytes - initialAllocatedBytes;
+  }
+
+  /** Returns the elapsed time of the last run in nanoseconds, or -1 if it has not been run */
+  public long getElapsedNanoseconds() {
+    return elapsedNanoseconds;
+  }
+
+  /** Returns the bytes allocated in the last run, or -1 if they could not be measured */
+  public long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  public Algorithm<Result> getAlgorithm() {
+    return algorithm;
+  }
+
+  @Override
+  public Result getResult() {
+    return algorithm.getResult();
+  }
+
+  @Override
+  public String getName() {
+    return algorithm.getName();
+  }
+
+  @Override
+  public String getDescription() {
+    return algorithm.getDescription();
+  }
+}
@@ -0,0 +1,101 @@
+package org.uma.jmetal.benchmark.macro;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.tuple.Pair;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.measure.instrumentation.AlgorithmPhase;
+import org.uma.jmetal.util.measure.instrumentation.PhaseInstrumentation;
+
+/**
+ * Decorator of a {@link DoubleProblem} that counts the evaluations and measures them as the {@link
+ * AlgorithmPhase#EVALUATION} phase of a {@link PhaseInstrumentation}. As it only wraps the problem,
+ * it measures the evaluations of the algorithms that are not instrumented (i.e., those not
+ * extending {@code AbstractEvolutionaryAlgorithm}).
+ */
+@SuppressWarnings("serial")
+public class TimedDoubleProblem implements DoubleProblem {
+  private final DoubleProblem problem;
+  private final PhaseInstrumentation instrumentation;
+  private final LongAdder evaluations = new LongAdder();
+
+  public TimedDoubleProblem(DoubleProblem problem, PhaseInstrumentation instrumentation) {
+    Check.notNull(problem);
+    Check.notNull(instrumentation);
+    this.problem = problem;
+    this.instrumentation = instrumentation;
+  }
+
+  @Override
+  public DoubleSolution evaluate(DoubleSolution solution) {
+    DoubleSolution result;
+    instrumentation.begin(AlgorithmPhase.EVALUATION);
+    try {
+      result = problem.evaluate(solution);
+    } finally {
+      instrumentation.end(AlgorithmPhase.EVALUATION);
+    }
+    evaluations.increment();
+
+    return result;
+  }
+
+  public PhaseInstrumentation getInstrumentation() {
+    return instrumentation;
+  }
+
+  public long getEvaluations() {
+    return evaluations.sum();
+  }
+
+  @Override
+  public DoubleSolution createSolution() {
+    return problem.createSolution();
+  }
+
+  @Override
+  public int getNumberOfVariables() {
+    return problem.getNumberOfVariables();
+  }
+
+  @Override
+  public int getNumberOfObjectives() {
+    return problem.getNumberOfObjectives();
+  }
+
+  @Override
+  public int getNumberOfConstraints() {
+    return problem.getNumberOfConstraints();
+  }
+
+  @Override
+  public String getName() {
+    return problem.getName();
+  }
+
+  @Override
+  @Deprecated
+  public Double getLowerBound(int index) {
+    return problem.getLowerBound(index);
+  }
+
+  @Override
+  @Deprecated
+  public Double getUpperBound(int index) {
+    return problem.getUpperBound(index);
+  }
+
+  @Override
+  @Deprecated
+  public List<Pair<Double, Double>> getBounds() {
+    return problem.getBounds();
+  }
+
+  @Override
+  public List<Bounds<Double>> getBoundsForVariables() {
+    return problem.getBoundsForVariables();
+  }
+}
@@ -0,0 +1,175 @@
+package org.uma.jmetal.benchmark.report;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Compares the results of two runs of the benchmarks (e.g., the ones of a baseline version and the
+ * ones of a modified version) written by JMH with the option "-rf csv". A benchmark is considered
+ * to be slower or faster if the relative difference of the scores is greater than a tolerance and
+ * the confidence intervals of both scores do not overlap.
+ *
+ * <p>Usage: {@code BaselineComparison baseline.csv current.csv [tolerance]}, where the tolerance
+ * is 0.1 (i.e., 10%) by default. The report is printed in the standard output, and the exit status
+ * is 1 if any benchmark is slower, so it can be used to gate changes on the measured performance.
+ */
+public class BaselineComparison {
+  public static final double DEFAULT_TOLERANCE = 0.1;
+  private static final String REPORT_LINE_FORMAT = "%-10s %9s %15s %15s  %-8s %s%n";
+
+  public enum Verdict {
+    FASTER,
+    UNCHANGED,
+    SLOWER,
+    NEW,
+    MISSING
+  }
+
+  /** Comparison of the results of a benchmark */
+  public static class Entry {
+    private final String key;
+    private final BenchmarkResult baseline;
+    private final BenchmarkResult current;
+    private final Verdict verdict;
+
+    Entry(String key, BenchmarkResult baseline, BenchmarkResult current, Verdict verdict) {
+      this.key = key;
+      this.baseline = baseline;
+      this.current = current;
+      this.verdict = verdict;
+    }
+
+    public String getKey() {
+      return key;
+    }
+
+    /** Returns the result of the baseline, or null if the benchmark is new */
+    public BenchmarkResult getBaseline() {
+      return baseline;
+    }
+
+    /** Returns the current result, or null if the benchmark is missing */
+    public BenchmarkResult getCurrent() {
+      return current;
+    }
+
+    public Verdict getVerdict() {
+      return verdict;
+    }
+
+    /**
+     * Returns the speedup of the current result with respect to the baseline (greater than one if
+     * the current result is better), or NaN if one of the results is missing
+     */
+    public double getSpeedup() {
+      return ((baseline == null) || (current == null)) ? Double.NaN : speedup(baseline, current);
+    }
+  }
+
+  private BaselineComparison() {}
+
+  public static List<Entry> compare(
+      List<BenchmarkResult> baseline, List<BenchmarkResult> current, double tolerance) {
+    Check.that(tolerance >= 0.0, "The tolerance is negative: " + tolerance);
+
+    Map<String, BenchmarkResult> baselineResults = new LinkedHashMap<>();
+    baseline.forEach(result -> baselineResults.put(result.getKey(), result));
+
+    List<Entry> entries = new ArrayList<>();
+    for (BenchmarkResult result : current) {
+      BenchmarkResult baselineResult = baselineResults.remove(result.getKey());
+      if (baselineResult == null) {
+        entries.add(new Entry(result.getKey(), null, result, Verdict.NEW));
+      } else {
+        Check.that(
+            baselineResult.getUnit().equals(result.getUnit()),
+            "The units of " + result.getKey() + " are different");
+        entries.add(
+            new Entry(
+                result.getKey(),
+                baselineResult,
+                result,
+                verdict(baselineResult, result, tolerance)));
+      }
+    }
+    baselineResults.forEach(
+        (key, result) -> entries.add(new Entry(key, result, null, Verdict.MISSING)));
+
+    return entries;
+  }
+
+  private static double speedup(BenchmarkResult baseline, BenchmarkResult current) {
+    return current.isHigherBetter()
+        ? current.getScore() / baseline.getScore()
+        : baseline.getScore() / current.getScore();
+  }
+
+  private static Verdict verdict(
+      BenchmarkResult baseline, BenchmarkResult current, double tolerance) {
+    double speedup = speedup(baseline, current);
+    double difference = Math.abs(current.getScore() - baseline.getScore());
+    double error = errorOf(baseline) + errorOf(current);
+    if ((Math.abs(speedup - 1.0) <= tolerance) || (difference <= error)) {
+      return Verdict.UNCHANGED;
+    }
+
+    return speedup > 1.0 ? Verdict.FASTER : Verdict.SLOWER;
+  }
+
+  private static double errorOf(BenchmarkResult result) {
+    return Double.isNaN(result.getScoreError()) ? 0.0 : result.getScoreError();
+  }
+
+  /** Returns a report with a line per benchmark */
+  public static String format(List<Entry> entries) {
+    StringBuilder report = new StringBuilder();
+    report.append(
+        String.format(
+            REPORT_LINE_FORMAT, "Verdict", "Speedup", "Baseline", "Current", "Unit", "Benchmark"));
+    for (Entry entry : entries) {
+      BenchmarkResult result =
+          (entry.getCurrent() != null) ? entry.getCurrent() : entry.getBaseline();
+      report.append(
+          String.format(
+              REPORT_LINE_FORMAT,
+              entry.getVerdict(),
+              Double.isNaN(entry.getSpeedup()) ? "-" : String.format("%.3fx", entry.getSpeedup()),
+              scoreOf(entry.getBaseline()),
+              scoreOf(entry.getCurrent()),
+              result.getUnit(),
+              entry.getKey()));
+    }
+
+    return report.toString();
+  }
+
+  private static String scoreOf(BenchmarkResult result) {
+    return (result == null) ? "-" : String.format("%.3f", result.getScore());
+  }
+
+  public static void main(String[] args) throws IOException {
+    if ((args.length < 2) || (args.length > 3)) {
+      throw new JMetalException(
+          "Wrong number of arguments. "
+              + "Usage: BaselineComparison baseline.csv current.csv [tolerance]");
+    }
+    double tolerance = (args.length == 3) ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE;
+
+    List<Entry> entries =
+        compare(
+            BenchmarkResult.readCsv(Path.of(args[0])),
+            BenchmarkResult.readCsv(Path.of(args[1])),
+            tolerance);
+    System.out.print(format(entries));
+
+    if (entries.stream().anyMatch(entry -> entry.getVerdict() == Verdict.SLOWER)) {
+      System.exit(1);
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package org.uma.jmetal.benchmark.report;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Result of a JMH benchmark (i.e., a benchmark method and a combination of parameter values), as
+ * written by JMH with the option "-rf csv"
+ */
+public class BenchmarkResult {
+  private static final String PARAMETER_PREFIX = "Param: ";
+
+  private final String benchmark;
+  private final String mode;
+  private final Map<String, String> parameters;
+  private final double score;
+  private final double scoreError;
+  private final String unit;
+
+  public BenchmarkResult(
+      String benchmark,
+      String mode,
+      Map<String, String> parameters,
+      double score,
+      double scoreError,
+      String unit) {
+    this.benchmark = benchmark;
+    this.mode = mode;
+    this.parameters = new TreeMap<>(parameters);
+    this.score = score;
+    this.scoreError = scoreError;
+    this.unit = unit;
+  }
+
+  public String getBenchmark() {
+    return benchmark;
+  }
+
+  public String getMode() {
+    return mode;
+  }
+
+  public Map<String, String> getParameters() {
+    return parameters;
+  }
+
+  public double getScore() {
+    return score;
+  }
+
+  /** Half width of the confidence interval of the score (NaN if there is only one sample) */
+  public double getScoreError() {
+    return scoreError;
+  }
+
+  public String getUnit() {
+    return unit;
+  }
+
+  /** Returns true if a higher score is better (i.e., the score is a throughput) */
+  public boolean isHigherBetter() {
+    return "thrpt".equals(mode);
+  }
+
+  /** Returns the benchmark name followed by the parameter values, which identifies the result */
+  public String getKey() {
+    StringBuilder key = new StringBuilder(benchmark).append(" [").append(mode).append("]");
+    parameters.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+
+    return key.toString();
+  }
+
+  /** Reads the results of a CSV file written by JMH */
+  public static List<BenchmarkResult> readCsv(Path file) throws IOException {
+    List<String> lines = Files.readAllLines(file);
+    if (lines.isEmpty()) {
+      throw new JMetalException("The file " + file + " is empty");
+    }
+
+    List<String> header = splitCsvLine(lines.get(0));
+    int benchmarkColumn = column(header, "Benchmark", file);
+    int modeColumn = column(header, "Mode", file);
+    int scoreColumn = column(header, "Score", file);
+    int errorColumn = column(header, "Score Error (99.9%)", file);
+    int unitColumn = column(header, "Unit", file);
+
+    List<BenchmarkResult> results = new ArrayList<>();
+    for (String line : lines.subList(1, lines.size())) {
+      if (line.isBlank()) {
+        continue;
+      }
+      List<String> fields = splitCsvLine(line);
+      Map<String, String> parameters = new TreeMap<>();
+      for (int i = 0; i < header.size(); i++) {
+        if (header.get(i).startsWith(PARAMETER_PREFIX) && !fields.get(i).isEmpty()) {
+          parameters.put(header.get(i).substring(PARAMETER_PREFIX.length()), fields.get(i));
+        }
+      }
+
+      results.add(
+          new BenchmarkResult(
+              fields.get(benchmarkColumn),
+              fields.get(modeColumn),
+              parameters,
+              Double.parseDouble(fields.get(scoreColumn)),
+              parseDouble(fields.get(errorColumn)),
+              fields.get(unitColumn)));
+    }
+
+    return results;
+  }
+
+  private static int column(List<String> header, String name, Path file) {
+    int column = header.indexOf(name);
+    if (column == -1) {
+      throw new JMetalException("The column " + name + " is missing in the file " + file);
+    }
+
+    return column;
+  }
+
+  private static double parseDouble(String value) {
+    return value.isEmpty() || "NaN".equals(value) ? Double.NaN : Double.parseDouble(value);
+  }
+
+  /** Splits a line of a CSV file; the fields can be quoted, and quotes are escaped by doubling them */
+  static List<String> splitCsvLine(String line) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          field.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    fields.add(field.toString());
+
+    return fields;
+  }
+}
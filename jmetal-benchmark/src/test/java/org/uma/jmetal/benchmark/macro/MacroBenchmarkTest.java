@@ -0,0 +1,75 @@
+package org.uma.jmetal.benchmark.macro;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.Test;
+import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.measure.instrumentation.AlgorithmPhase;
+import org.uma.jmetal.util.measure.instrumentation.PhaseInstrumentation;
+
+public class MacroBenchmarkTest {
+  private static final List<AlgorithmCase> NSGAII_AND_MOEAD_CASES =
+      AlgorithmCase.defaultCases().subList(0, 4);
+
+  @Test
+  public void shouldRunMeasureTheEvaluationsOfTheBudget() {
+    List<MacroBenchmarkResult> results = smokeBenchmark().run();
+
+    assertEquals(4, results.size());
+    for (MacroBenchmarkResult result : results) {
+      assertEquals("ZDT1", result.getProblem());
+      assertEquals(BudgetProfile.SMOKE.getEvaluations(), result.getEvaluations());
+      assertTrue(result.getEvaluationsPerSecond() > 0.0);
+      assertTrue(result.getInstrumentation().getNanoseconds(AlgorithmPhase.EVALUATION) > 0);
+      assertTrue(result.getPeakHeapBytes() > 0);
+    }
+  }
+
+  @Test
+  public void shouldRunMeasureAllThePhasesOfTheInstrumentedAlgorithmsOnly() {
+    List<MacroBenchmarkResult> results = smokeBenchmark().run();
+
+    for (int i : new int[] {0, 1, 3}) {
+      for (AlgorithmPhase phase :
+          List.of(
+              AlgorithmPhase.INITIAL_CREATION,
+              AlgorithmPhase.SELECTION,
+              AlgorithmPhase.VARIATION,
+              AlgorithmPhase.REPLACEMENT)) {
+        assertTrue(results.get(i).getInstrumentation().getCount(phase) > 0);
+      }
+    }
+    assertEquals("MOEAD", results.get(2).getAlgorithm());
+    assertEquals("CLASSIC", results.get(2).getVariant());
+    assertEquals(0, results.get(2).getInstrumentation().getCount(AlgorithmPhase.SELECTION));
+  }
+
+  @Test
+  public void shouldToJsonWriteNullForThePhasesNotExecuted() {
+    PhaseInstrumentation instrumentation = new PhaseInstrumentation().setEnabled(true);
+    instrumentation.begin(AlgorithmPhase.EVALUATION);
+    instrumentation.end(AlgorithmPhase.EVALUATION);
+    MacroBenchmarkResult result =
+        new MacroBenchmarkResult(
+            "NSGAII", "CLASSIC", "ZDT\"1", 0, 10, 1, 1000000, instrumentation, -1, 5);
+
+    String json = result.toJson();
+
+    assertTrue(json.contains("\"problem\": \"ZDT\\\"1\""));
+    assertTrue(json.contains("\"evaluationsPerSecond\": 10000.0"));
+    assertTrue(json.contains("\"initial_creation\": null, \"evaluation\": {\"nanoseconds\": "));
+    assertTrue(json.contains("\"selection\": null"));
+    assertTrue(json.contains("\"allocationRateBytesPerSecond\": -1.0"));
+  }
+
+  private MacroBenchmark smokeBenchmark() {
+    return new MacroBenchmark(
+        BudgetProfile.SMOKE,
+        NSGAII_AND_MOEAD_CASES,
+        List.<ExperimentProblem<DoubleSolution>>of(new ExperimentProblem<>(new ZDT1())));
+  }
+}
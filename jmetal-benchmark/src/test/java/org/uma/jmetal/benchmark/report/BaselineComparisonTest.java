@@ -0,0 +1,101 @@
+package org.uma.jmetal.benchmark.report;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.benchmark.report.BaselineComparison.Entry;
+import org.uma.jmetal.benchmark.report.BaselineComparison.Verdict;
+
+public class BaselineComparisonTest {
+  private static final String HEADER =
+      "\"Benchmark\",\"Mode\",\"Threads\",\"Samples\",\"Score\",\"Score Error (99.9%)\",\"Unit\","
+          + "\"Param: numberOfObjectives\",\"Param: populationSize\"";
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldReadCsvParseTheScoresAndTheParameters() throws IOException {
+    Path file =
+        write(
+            HEADER,
+            "\"org.uma.jmetal.benchmark.RankingBenchmark.fast\",\"avgt\",1,5,12.5,0.5,\"us/op\",3,100");
+
+    List<BenchmarkResult> results = BenchmarkResult.readCsv(file);
+
+    assertEquals(1, results.size());
+    assertEquals(12.5, results.get(0).getScore(), 0.0);
+    assertEquals(0.5, results.get(0).getScoreError(), 0.0);
+    assertEquals("us/op", results.get(0).getUnit());
+    assertEquals("3", results.get(0).getParameters().get("numberOfObjectives"));
+    assertEquals(
+        "org.uma.jmetal.benchmark.RankingBenchmark.fast [avgt] numberOfObjectives=3 "
+            + "populationSize=100",
+        results.get(0).getKey());
+  }
+
+  @Test
+  public void shouldCompareDetectSlowerAndFasterBenchmarks() throws IOException {
+    List<BenchmarkResult> baseline =
+        BenchmarkResult.readCsv(
+            write(
+                HEADER,
+                "\"a\",\"avgt\",1,5,10.0,0.1,\"us/op\",2,100",
+                "\"b\",\"avgt\",1,5,10.0,0.1,\"us/op\",2,100",
+                "\"c\",\"thrpt\",1,5,10.0,0.1,\"ops/us\",2,100"));
+    List<BenchmarkResult> current =
+        BenchmarkResult.readCsv(
+            write(
+                HEADER,
+                "\"a\",\"avgt\",1,5,20.0,0.1,\"us/op\",2,100",
+                "\"b\",\"avgt\",1,5,10.5,0.1,\"us/op\",2,100",
+                "\"c\",\"thrpt\",1,5,20.0,0.1,\"ops/us\",2,100"));
+
+    List<Entry> entries = BaselineComparison.compare(baseline, current, 0.1);
+
+    assertEquals(Verdict.SLOWER, entries.get(0).getVerdict());
+    assertEquals(0.5, entries.get(0).getSpeedup(), 1e-12);
+    assertEquals(Verdict.UNCHANGED, entries.get(1).getVerdict());
+    assertEquals(Verdict.FASTER, entries.get(2).getVerdict());
+    assertEquals(2.0, entries.get(2).getSpeedup(), 1e-12);
+  }
+
+  @Test
+  public void shouldCompareConsiderUnchangedTheDifferencesWithinTheScoreErrors() throws IOException {
+    List<BenchmarkResult> baseline =
+        BenchmarkResult.readCsv(write(HEADER, "\"a\",\"avgt\",1,5,10.0,3.0,\"us/op\",2,100"));
+    List<BenchmarkResult> current =
+        BenchmarkResult.readCsv(write(HEADER, "\"a\",\"avgt\",1,5,14.0,3.0,\"us/op\",2,100"));
+
+    assertEquals(
+        Verdict.UNCHANGED, BaselineComparison.compare(baseline, current, 0.1).get(0).getVerdict());
+  }
+
+  @Test
+  public void shouldCompareReportNewAndMissingBenchmarks() throws IOException {
+    List<BenchmarkResult> baseline =
+        BenchmarkResult.readCsv(write(HEADER, "\"a\",\"avgt\",1,5,10.0,0.1,\"us/op\",2,100"));
+    List<BenchmarkResult> current =
+        BenchmarkResult.readCsv(write(HEADER, "\"a\",\"avgt\",1,5,10.0,0.1,\"us/op\",3,100"));
+
+    List<Entry> entries = BaselineComparison.compare(baseline, current, 0.1);
+
+    assertEquals(2, entries.size());
+    assertEquals(Verdict.NEW, entries.get(0).getVerdict());
+    assertNull(entries.get(0).getBaseline());
+    assertEquals(Verdict.MISSING, entries.get(1).getVerdict());
+    assertNull(entries.get(1).getCurrent());
+  }
+
+  private Path write(String... lines) throws IOException {
+    Path file = folder.newFile().toPath();
+    Files.write(file, List.of(lines));
+    return file;
+  }
+}
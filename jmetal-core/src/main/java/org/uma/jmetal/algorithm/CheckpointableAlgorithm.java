@@ -0,0 +1,17 @@
+package org.uma.jmetal.algorithm;
+
+/**
+ * Interface representing an algorithm able to save snapshots of its state while running. When a
+ * checkpoint file has been set, the algorithm periodically writes its state into it and, if the
+ * file exists when {@link #run()} is invoked, the execution resumes from the stored state instead
+ * of starting from scratch.
+ *
+ * @param <Result> Result
+ */
+public interface CheckpointableAlgorithm<Result> extends Algorithm<Result> {
+  void setCheckpointFile(String checkpointFileName) ;
+  String getCheckpointFile() ;
+
+  /** Sets the minimum time, in milliseconds, between two checkpoints */
+  void setCheckpointPeriod(long milliseconds) ;
+}
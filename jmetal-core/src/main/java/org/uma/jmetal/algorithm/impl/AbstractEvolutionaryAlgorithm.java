@@ -3,9 +3,23 @@ package org.uma.jmetal.algorithm.impl;
 import java.util.List;
 import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.checkpoint.Checkpointer;
+import org.uma.jmetal.util.measure.instrumentation.AlgorithmPhase;
+import org.uma.jmetal.util.measure.instrumentation.PhaseInstrumentation;
 
 /**
- * Abstract class representing an evolutionary algorithm
+ * Abstract class representing an evolutionary algorithm. The phases of the generation loop can be
+ * measured by enabling its {@link PhaseInstrumentation} (see {@link #getInstrumentation()}).
+ *
+ * <p>The class provides the support to save checkpoints of the state of the algorithm after each
+ * iteration of the generation loop and to resume the execution from them. The base state
+ * comprises the population and the state of the random generator; the subclasses adding more state
+ * (e.g., the number of evaluations) have to extend {@link #saveState()} and {@link
+ * #restoreState(Checkpoint)}, and they declare that they support checkpoints by implementing
+ * {@link org.uma.jmetal.algorithm.CheckpointableAlgorithm} and making the checkpoint methods
+ * public. The checkpoints can not be enabled in the rest of subclasses.
+ *
  * @param <S> Solution
  * @param <R> Result
  *
@@ -15,6 +29,8 @@ import org.uma.jmetal.problem.Problem;
 public abstract class AbstractEvolutionaryAlgorithm<S, R>  implements Algorithm<R>{
   protected List<S> population;
   protected Problem<S> problem ;
+  protected PhaseInstrumentation instrumentation = new PhaseInstrumentation() ;
+  protected Checkpointer checkpointer = new Checkpointer() ;
 
   public List<S> getPopulation() {
     return population;
@@ -30,6 +46,40 @@ public abstract class AbstractEvolutionaryAlgorithm<S, R>  implements Algorithm<
     return problem ;
   }
 
+  /** Returns the instrumentation of the phases of the algorithm, which is disabled by default */
+  public PhaseInstrumentation getInstrumentation() {
+    return instrumentation ;
+  }
+
+  /**
+   * Sets the checkpoint file. The method is protected because the base state is not enough to
+   * resume most of the algorithms; the subclasses implementing {@link
+   * org.uma.jmetal.algorithm.CheckpointableAlgorithm} make it public
+   */
+  protected void setCheckpointFile(String checkpointFileName) {
+    checkpointer.setFile(checkpointFileName) ;
+  }
+
+  protected String getCheckpointFile() {
+    return checkpointer.getFile() ;
+  }
+
+  protected void setCheckpointPeriod(long milliseconds) {
+    checkpointer.setPeriod(milliseconds) ;
+  }
+
+  /** Returns a checkpoint containing the state of the algorithm at the end of an iteration */
+  protected Checkpoint saveState() {
+    return new Checkpoint(getName()).putList(Checkpoint.POPULATION, population) ;
+  }
+
+  /** Restores the state of the algorithm from a checkpoint created by {@link #saveState()} */
+  protected void restoreState(Checkpoint checkpoint) {
+    checkpoint.checkAlgorithmName(getName()) ;
+    checkpoint.restoreRandomGenerator() ;
+    population = checkpoint.getList(Checkpoint.POPULATION) ;
+  }
+
   protected abstract void initProgress();
 
   protected abstract void updateProgress();
@@ -49,18 +99,64 @@ public abstract class AbstractEvolutionaryAlgorithm<S, R>  implements Algorithm<
   @Override public abstract R getResult();
 
   @Override public void run() {
+    Checkpoint checkpoint = checkpointer.read();
+    if (checkpoint == null) {
+      checkpointer.start();
+      instrumentation.begin(AlgorithmPhase.INITIAL_CREATION);
+      try {
+        population = createInitialPopulation();
+      } finally {
+        instrumentation.end(AlgorithmPhase.INITIAL_CREATION);
+      }
+      instrumentation.begin(AlgorithmPhase.EVALUATION);
+      try {
+        population = evaluatePopulation(population);
+      } finally {
+        instrumentation.end(AlgorithmPhase.EVALUATION);
+      }
+      initProgress();
+    } else {
+      restoreState(checkpoint);
+    }
+
+    try {
+      generationLoop();
+    } finally {
+      checkpointer.close();
+    }
+  }
+
+  private void generationLoop() {
     List<S> offspringPopulation;
     List<S> matingPopulation;
 
-    population = createInitialPopulation();
-    population = evaluatePopulation(population);
-    initProgress();
     while (!isStoppingConditionReached()) {
-      matingPopulation = selection(population);
-      offspringPopulation = reproduction(matingPopulation);
-      offspringPopulation = evaluatePopulation(offspringPopulation);
-      population = replacement(population, offspringPopulation);
+      instrumentation.begin(AlgorithmPhase.SELECTION);
+      try {
+        matingPopulation = selection(population);
+      } finally {
+        instrumentation.end(AlgorithmPhase.SELECTION);
+      }
+      instrumentation.begin(AlgorithmPhase.VARIATION);
+      try {
+        offspringPopulation = reproduction(matingPopulation);
+      } finally {
+        instrumentation.end(AlgorithmPhase.VARIATION);
+      }
+      instrumentation.begin(AlgorithmPhase.EVALUATION);
+      try {
+        offspringPopulation = evaluatePopulation(offspringPopulation);
+      } finally {
+        instrumentation.end(AlgorithmPhase.EVALUATION);
+      }
+      instrumentation.begin(AlgorithmPhase.REPLACEMENT);
+      try {
+        population = replacement(population, offspringPopulation);
+      } finally {
+        instrumentation.end(AlgorithmPhase.REPLACEMENT);
+      }
       updateProgress();
+      checkpointer.checkpointIfDue(this::saveState);
     }
   }
 }
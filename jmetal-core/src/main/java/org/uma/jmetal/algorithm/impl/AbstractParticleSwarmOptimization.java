@@ -4,13 +4,17 @@ import java.util.List;
 import org.uma.jmetal.algorithm.Algorithm;
 
 /**
- * Abstract class representing a PSO algorithm
+ * Abstract class representing a PSO algorithm. Algorithms working with {@link
+ * org.uma.jmetal.solution.doublesolution.DoubleSolution} particles can keep their positions,
+ * velocities and personal bests in a {@link ParticleSwarmKernel}.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public abstract class AbstractParticleSwarmOptimization<S, Result> implements Algorithm <Result> {
   private List<S> swarm;
+  private ParticleSwarmKernel swarmKernel;
+
   public List<S> getSwarm() {
     return swarm;
   }
@@ -18,6 +22,14 @@ public abstract class AbstractParticleSwarmOptimization<S, Result> implements Al
     this.swarm = swarm;
   }
 
+  /** Returns the swarm kernel of the algorithm, or null if it does not use one */
+  public ParticleSwarmKernel getSwarmKernel() {
+    return swarmKernel;
+  }
+  protected void setSwarmKernel(ParticleSwarmKernel swarmKernel) {
+    this.swarmKernel = swarmKernel;
+  }
+
   protected abstract void initProgress() ;
   protected abstract void updateProgress() ;
 
@@ -0,0 +1,291 @@
+package org.uma.jmetal.algorithm.impl;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.ConstraintHandling;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Structure-of-arrays representation of a swarm of particles of a {@link DoubleProblem}. The
+ * positions, velocities and personal best positions of all the particles are stored in flat
+ * row-major arrays of size swarmSize x numberOfVariables, so that the velocity and position
+ * updates can be done in tight loops without accessing the (boxed) variable lists of the
+ * solutions. {@link DoubleSolution} objects are only read/written when the particles have to be
+ * evaluated or inserted into an archive.
+ *
+ * <p>The per-particle updates can optionally be carried out in parallel (see
+ * {@link #setParallel(boolean)}). In that case, the actions passed to {@link
+ * #forEachParticle(IntConsumer)} must only write to the row of the particle they receive, and
+ * any random number must be drawn before calling it, as {@link
+ * org.uma.jmetal.util.pseudorandom.JMetalRandom} is not thread-safe.
+ */
+@SuppressWarnings("serial")
+public class ParticleSwarmKernel implements Serializable {
+  private final int swarmSize;
+  private final int numberOfVariables;
+  private final int numberOfObjectives;
+
+  private final double[] lowerBound;
+  private final double[] upperBound;
+
+  private final double[] position;
+  private final double[] velocity;
+  private final double[] bestPosition;
+  private final double[] bestObjectives;
+  private final double[] bestConstraintViolation;
+
+  private boolean parallel;
+
+  /**
+   * Constructor
+   *
+   * @param problem Problem whose number of variables, objectives and bounds define the kernel
+   * @param swarmSize Number of particles
+   */
+  public ParticleSwarmKernel(DoubleProblem problem, int swarmSize) {
+    Check.notNull(problem);
+    Check.that(swarmSize > 0, "The swarm size must be positive: " + swarmSize);
+
+    this.swarmSize = swarmSize;
+    this.numberOfVariables = problem.getNumberOfVariables();
+    this.numberOfObjectives = problem.getNumberOfObjectives();
+
+    lowerBound = new double[numberOfVariables];
+    upperBound = new double[numberOfVariables];
+    List<Bounds<Double>> bounds = problem.getBoundsForVariables();
+    for (int j = 0; j < numberOfVariables; j++) {
+      lowerBound[j] = bounds.get(j).getLowerBound();
+      upperBound[j] = bounds.get(j).getUpperBound();
+    }
+
+    position = new double[swarmSize * numberOfVariables];
+    velocity = new double[swarmSize * numberOfVariables];
+    bestPosition = new double[swarmSize * numberOfVariables];
+    bestObjectives = new double[swarmSize * numberOfObjectives];
+    bestConstraintViolation = new double[swarmSize];
+
+    parallel = false;
+  }
+
+  /**
+   * Enables or disables the parallel execution of {@link #forEachParticle(IntConsumer)} and
+   * {@link #updatePositions(double, double)}
+   */
+  public ParticleSwarmKernel setParallel(boolean parallel) {
+    this.parallel = parallel;
+    return this;
+  }
+
+  public boolean isParallel() {
+    return parallel;
+  }
+
+  /** Returns the index of the first variable of a particle in the flat arrays */
+  public int offset(int particle) {
+    return particle * numberOfVariables;
+  }
+
+  /** Applies an action to every particle index, in parallel if the kernel is set as parallel */
+  public void forEachParticle(IntConsumer action) {
+    if (parallel) {
+      IntStream.range(0, swarmSize).parallel().forEach(action);
+    } else {
+      for (int i = 0; i < swarmSize; i++) {
+        action.accept(i);
+      }
+    }
+  }
+
+  /**
+   * Moves every particle by adding its velocity to its position. When a variable leaves its
+   * bounds, it is set to the violated bound and its velocity is multiplied by the given factor.
+   *
+   * @param lowerBoundVelocityFactor Factor applied to the velocity when the lower bound is violated
+   * @param upperBoundVelocityFactor Factor applied to the velocity when the upper bound is violated
+   */
+  public void updatePositions(double lowerBoundVelocityFactor, double upperBoundVelocityFactor) {
+    forEachParticle(
+        i -> {
+          int base = i * numberOfVariables;
+          for (int j = 0; j < numberOfVariables; j++) {
+            int k = base + j;
+            double x = position[k] + velocity[k];
+            if (x < lowerBound[j]) {
+              x = lowerBound[j];
+              velocity[k] *= lowerBoundVelocityFactor;
+            }
+            if (x > upperBound[j]) {
+              x = upperBound[j];
+              velocity[k] *= upperBoundVelocityFactor;
+            }
+            position[k] = x;
+          }
+        });
+  }
+
+  /** Copies the variables of the solutions into the position array */
+  public void readPositions(List<DoubleSolution> swarm) {
+    Check.that(swarm.size() == swarmSize, "The swarm size is not " + swarmSize + ": " + swarm.size());
+    for (int i = 0; i < swarmSize; i++) {
+      readPosition(i, swarm.get(i));
+    }
+  }
+
+  /** Copies the variables of a solution into the position of a particle */
+  public void readPosition(int particle, DoubleSolution solution) {
+    copyVariables(solution, position, particle * numberOfVariables);
+  }
+
+  /** Copies the positions of the particles into the variables of the solutions */
+  public void writePositions(List<DoubleSolution> swarm) {
+    Check.that(swarm.size() == swarmSize, "The swarm size is not " + swarmSize + ": " + swarm.size());
+    for (int i = 0; i < swarmSize; i++) {
+      writePosition(i, swarm.get(i));
+    }
+  }
+
+  /** Copies the position of a particle into the variables of a solution */
+  public void writePosition(int particle, DoubleSolution solution) {
+    int base = particle * numberOfVariables;
+    List<Double> variables = solution.variables();
+    for (int j = 0; j < numberOfVariables; j++) {
+      variables.set(j, position[base + j]);
+    }
+  }
+
+  /**
+   * Stores a solution as the personal best of a particle. Only its variables, objectives and
+   * overall constraint violation degree are kept.
+   */
+  public void storePersonalBest(int particle, DoubleSolution solution) {
+    copyVariables(solution, bestPosition, particle * numberOfVariables);
+    System.arraycopy(
+        solution.objectives(),
+        0,
+        bestObjectives,
+        particle * numberOfObjectives,
+        numberOfObjectives);
+    bestConstraintViolation[particle] =
+        ConstraintHandling.overallConstraintViolationDegree(solution);
+  }
+
+  /**
+   * Compares a solution against the personal best of a particle following the same criteria as
+   * {@link org.uma.jmetal.util.comparator.DominanceComparator}: the overall constraint violation
+   * degree first, and Pareto dominance after.
+   *
+   * @return -1, or 0, or 1 if the solution dominates the personal best, both are non-dominated, or
+   *     the solution is dominated by the personal best, respectively.
+   */
+  public int compareWithPersonalBest(int particle, DoubleSolution solution) {
+    double violation1 = ConstraintHandling.overallConstraintViolationDegree(solution);
+    double violation2 = bestConstraintViolation[particle];
+    if ((violation1 < 0) && (violation2 < 0)) {
+      int result = Double.compare(violation2, violation1);
+      if (result != 0) {
+        return result;
+      }
+    } else if ((violation1 == 0) && (violation2 < 0)) {
+      return -1;
+    } else if ((violation1 < 0) && (violation2 == 0)) {
+      return 1;
+    }
+
+    double[] objectives = solution.objectives();
+    int base = particle * numberOfObjectives;
+    int bestIsOne = 0;
+    int bestIsTwo = 0;
+    for (int k = 0; k < numberOfObjectives; k++) {
+      double value1 = objectives[k];
+      double value2 = bestObjectives[base + k];
+      if (value1 < value2) {
+        bestIsOne = 1;
+      } else if (value2 < value1) {
+        bestIsTwo = 1;
+      }
+    }
+
+    return Integer.compare(bestIsTwo, bestIsOne);
+  }
+
+  /** Copies the variables of a solution into a flat array starting at the given offset */
+  public void copyVariables(DoubleSolution solution, double[] target, int offset) {
+    List<Double> variables = solution.variables();
+    for (int j = 0; j < numberOfVariables; j++) {
+      target[offset + j] = variables.get(j);
+    }
+  }
+
+  /** Fills the velocity array with zeros */
+  public void resetVelocities() {
+    Arrays.fill(velocity, 0.0);
+  }
+
+  /** Returns the velocities as a swarmSize x numberOfVariables matrix (a copy) */
+  public double[][] velocityMatrix() {
+    double[][] matrix = new double[swarmSize][numberOfVariables];
+    for (int i = 0; i < swarmSize; i++) {
+      System.arraycopy(velocity, i * numberOfVariables, matrix[i], 0, numberOfVariables);
+    }
+    return matrix;
+  }
+
+  /**
+   * Returns a copy of a solution (e.g., the current position of the particle) whose variables and
+   * objectives are those of the personal best of a particle. The solution is copied instead of
+   * being created by the problem, so no random numbers are consumed
+   */
+  public DoubleSolution personalBestAsSolution(int particle, DoubleSolution template) {
+    DoubleSolution solution = (DoubleSolution) template.copy();
+    int base = particle * numberOfVariables;
+    for (int j = 0; j < numberOfVariables; j++) {
+      solution.variables().set(j, bestPosition[base + j]);
+    }
+    System.arraycopy(
+        bestObjectives, particle * numberOfObjectives, solution.objectives(), 0, numberOfObjectives);
+    return solution;
+  }
+
+  /* Getters */
+  public int getSwarmSize() {
+    return swarmSize;
+  }
+
+  public int getNumberOfVariables() {
+    return numberOfVariables;
+  }
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives;
+  }
+
+  public double[] getLowerBound() {
+    return lowerBound;
+  }
+
+  public double[] getUpperBound() {
+    return upperBound;
+  }
+
+  public double[] getPosition() {
+    return position;
+  }
+
+  public double[] getVelocity() {
+    return velocity;
+  }
+
+  public double[] getBestPosition() {
+    return bestPosition;
+  }
+
+  public double[] getBestObjectives() {
+    return bestObjectives;
+  }
+}
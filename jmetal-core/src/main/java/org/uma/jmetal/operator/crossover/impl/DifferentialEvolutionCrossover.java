@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.stream.IntStream;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.util.pool.SolutionPool;
 import org.uma.jmetal.solution.util.repairsolution.RepairDoubleSolution;
 import org.uma.jmetal.solution.util.repairsolution.impl.RepairDoubleSolutionWithBoundValue;
 import org.uma.jmetal.util.bounds.Bounds;
@@ -76,6 +77,7 @@ public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleS
   private BoundedRandomGenerator<Double> crRandomGenerator;
 
   private RepairDoubleSolution solutionRepair;
+  private transient SolutionPool<DoubleSolution> solutionPool;
 
   /**
    * Constructor
@@ -268,12 +270,20 @@ public class DifferentialEvolutionCrossover implements CrossoverOperator<DoubleS
     this.f = f;
   }
 
+  /** Sets a pool whose solutions are overwritten to create the children (null by default) */
+  public void setSolutionPool(SolutionPool<DoubleSolution> solutionPool) {
+    this.solutionPool = solutionPool;
+  }
+
   /**
    * Execute() method
    */
   @Override
   public List<DoubleSolution> execute(List<DoubleSolution> parentSolutions) {
-    DoubleSolution child = (DoubleSolution) currentSolution.copy();
+    DoubleSolution child =
+        (solutionPool == null)
+            ? (DoubleSolution) currentSolution.copy()
+            : solutionPool.copyOf(currentSolution);
 
     int numberOfVariables = parentSolutions.get(0).variables().size();
     int jrand = jRandomGenerator.getRandomValue(0, numberOfVariables - 1);
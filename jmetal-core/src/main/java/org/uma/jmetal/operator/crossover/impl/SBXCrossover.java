@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.util.pool.SolutionPool;
 import org.uma.jmetal.solution.util.repairsolution.RepairDoubleSolution;
 import org.uma.jmetal.solution.util.repairsolution.impl.RepairDoubleSolutionWithBoundValue;
 import org.uma.jmetal.util.bounds.Bounds;
@@ -32,6 +33,7 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
   private RepairDoubleSolution solutionRepair;
 
   private RandomGenerator<Double> randomGenerator;
+  private transient SolutionPool<DoubleSolution> solutionPool;
 
   /** Constructor */
   public SBXCrossover(double crossoverProbability, double distributionIndex) {
@@ -94,6 +96,11 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
     this.distributionIndex = distributionIndex;
   }
 
+  /** Sets a pool whose solutions are overwritten to create the offspring (null by default) */
+  public void setSolutionPool(SolutionPool<DoubleSolution> solutionPool) {
+    this.solutionPool = solutionPool;
+  }
+
   /** Execute() method */
   @Override
   public List<DoubleSolution> execute(List<DoubleSolution> solutions) {
@@ -108,8 +115,8 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
       double probability, DoubleSolution parent1, DoubleSolution parent2) {
     List<DoubleSolution> offspring = new ArrayList<DoubleSolution>(2);
 
-    offspring.add((DoubleSolution) parent1.copy());
-    offspring.add((DoubleSolution) parent2.copy());
+    offspring.add(copyOf(parent1));
+    offspring.add(copyOf(parent2));
 
     int i;
     double rand;
@@ -181,6 +188,10 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
     return offspring;
   }
 
+  private DoubleSolution copyOf(DoubleSolution solution) {
+    return (solutionPool == null) ? (DoubleSolution) solution.copy() : solutionPool.copyOf(solution);
+  }
+
   @Override
   public int getNumberOfRequiredParents() {
     return 2;
@@ -0,0 +1,85 @@
+package org.uma.jmetal.problem.doubleproblem.impl;
+
+import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Decorator of a {@link DoubleProblem} which raises a {@link JMetalException} when the number of
+ * evaluations exceeds a given value, so it simulates the failure of a run. Intended to be used in
+ * the tests of the algorithms supporting checkpoints.
+ */
+@SuppressWarnings("serial")
+public class FailingDoubleProblem implements DoubleProblem {
+  private final DoubleProblem problem;
+  private final int maxEvaluations;
+  private int evaluations;
+
+  public FailingDoubleProblem(DoubleProblem problem, int maxEvaluations) {
+    Check.notNull(problem);
+    this.problem = problem;
+    this.maxEvaluations = maxEvaluations;
+    this.evaluations = 0;
+  }
+
+  @Override
+  public DoubleSolution evaluate(DoubleSolution solution) {
+    if (++evaluations > maxEvaluations) {
+      throw new JMetalException("Simulated failure after " + maxEvaluations + " evaluations");
+    }
+
+    return problem.evaluate(solution);
+  }
+
+  @Override
+  public DoubleSolution createSolution() {
+    return problem.createSolution();
+  }
+
+  @Override
+  public int getNumberOfVariables() {
+    return problem.getNumberOfVariables();
+  }
+
+  @Override
+  public int getNumberOfObjectives() {
+    return problem.getNumberOfObjectives();
+  }
+
+  @Override
+  public int getNumberOfConstraints() {
+    return problem.getNumberOfConstraints();
+  }
+
+  @Override
+  public String getName() {
+    return problem.getName();
+  }
+
+  @Override
+  @Deprecated
+  public Double getLowerBound(int index) {
+    return problem.getLowerBound(index);
+  }
+
+  @Override
+  @Deprecated
+  public Double getUpperBound(int index) {
+    return problem.getUpperBound(index);
+  }
+
+  @Override
+  @Deprecated
+  public List<Pair<Double, Double>> getBounds() {
+    return problem.getBounds();
+  }
+
+  @Override
+  public List<Bounds<Double>> getBoundsForVariables() {
+    return problem.getBoundsForVariables();
+  }
+}
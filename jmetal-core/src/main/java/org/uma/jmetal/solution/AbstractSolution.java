@@ -61,6 +61,31 @@ public abstract class AbstractSolution<T> implements Solution<T> {
     attributes = new HashMap<>();
   }
 
+  /**
+   * Copies the variables, objectives, constraints and attributes of this solution into another one
+   * with the same number of variables, objectives and constraints. The values of the variables are
+   * not copied, so this method is only valid for immutable variable types.
+   *
+   * @return false if the target solution has a different size
+   */
+  protected boolean copyStateInto(AbstractSolution<T> target) {
+    if ((target.variables.size() != variables.size())
+        || (target.objectives.length != objectives.length)
+        || (target.constraints.length != constraints.length)) {
+      return false;
+    }
+
+    for (int i = 0; i < variables.size(); i++) {
+      target.variables.set(i, variables.get(i));
+    }
+    System.arraycopy(objectives, 0, target.objectives, 0, objectives.length);
+    System.arraycopy(constraints, 0, target.constraints, 0, constraints.length);
+    target.attributes.clear();
+    target.attributes.putAll(attributes);
+
+    return true;
+  }
+
   @Override
   public String toString() {
     StringBuilder result = new StringBuilder("Variables: ");
@@ -17,4 +17,16 @@ public interface Solution<T> extends Serializable {
   Map<Object,Object> attributes() ;
 
   Solution<T> copy() ;
+
+  /**
+   * Copies this solution into another one, which is returned, so the target can be reused instead
+   * of allocating a new solution (see {@link org.uma.jmetal.solution.util.pool.SolutionPool}). The
+   * default implementation ignores the target and returns {@link #copy()}.
+   *
+   * @param target Solution which is no longer used
+   * @return The target solution, or a new copy if the target can not be overwritten
+   */
+  default Solution<T> copyInto(Solution<T> target) {
+    return copy() ;
+  }
 }
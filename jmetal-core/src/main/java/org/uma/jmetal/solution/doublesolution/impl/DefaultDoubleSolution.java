@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.stream.IntStream;
 import org.uma.jmetal.solution.AbstractSolution;
+import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.bounds.Bounds;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -66,4 +67,20 @@ public class DefaultDoubleSolution extends AbstractSolution<Double> implements D
   public DefaultDoubleSolution copy() {
     return new DefaultDoubleSolution(this);
   }
+
+  /**
+   * Overwrites the target if it is a {@link DefaultDoubleSolution} of the same size; otherwise,
+   * returns a new copy
+   */
+  @Override
+  public DefaultDoubleSolution copyInto(Solution<Double> target) {
+    if ((target != this)
+        && (target.getClass() == DefaultDoubleSolution.class)
+        && copyStateInto((DefaultDoubleSolution) target)) {
+      ((DefaultDoubleSolution) target).bounds = bounds;
+      return (DefaultDoubleSolution) target;
+    }
+
+    return copy();
+  }
 }
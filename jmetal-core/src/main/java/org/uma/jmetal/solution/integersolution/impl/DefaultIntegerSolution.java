@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.stream.IntStream;
 import org.uma.jmetal.solution.AbstractSolution;
+import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.integersolution.IntegerSolution;
 import org.uma.jmetal.util.bounds.Bounds;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
@@ -62,4 +63,20 @@ public class DefaultIntegerSolution extends AbstractSolution<Integer> implements
   public DefaultIntegerSolution copy() {
     return new DefaultIntegerSolution(this);
   }
+
+  /**
+   * Overwrites the target if it is a {@link DefaultIntegerSolution} of the same size; otherwise,
+   * returns a new copy
+   */
+  @Override
+  public DefaultIntegerSolution copyInto(Solution<Integer> target) {
+    if ((target != this)
+        && (target.getClass() == DefaultIntegerSolution.class)
+        && copyStateInto((DefaultIntegerSolution) target)) {
+      ((DefaultIntegerSolution) target).bounds = bounds;
+      return (DefaultIntegerSolution) target;
+    }
+
+    return copy();
+  }
 }
@@ -0,0 +1,100 @@
+package org.uma.jmetal.solution.util.pool;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Pool of solutions which are no longer used (e.g., the solutions discarded by the replacement of
+ * an evolutionary algorithm), so they can be overwritten by {@link Solution#copyInto(Solution)}
+ * when the operators create new solutions instead of allocating new ones. Each thread has its own
+ * pool, so the solutions released by a thread are only reused by the same thread and no
+ * synchronization is needed.
+ *
+ * <p>The use of a pool is optional, and it is only safe if no other object (e.g., an external
+ * archive or an observer) keeps references to the released solutions.
+ *
+ * @param <S> Type of the solutions
+ */
+public class SolutionPool<S extends Solution<?>> {
+  public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+  private final int maximumSize;
+  private final ThreadLocal<ArrayDeque<S>> solutions = ThreadLocal.withInitial(ArrayDeque::new);
+  private final LongAdder numberOfReusedSolutions = new LongAdder();
+  private final LongAdder numberOfAllocatedSolutions = new LongAdder();
+
+  public SolutionPool() {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /** @param maximumSize Maximum number of solutions kept in the pool of each thread */
+  public SolutionPool(int maximumSize) {
+    Check.that(maximumSize > 0, "The maximum size must be positive: " + maximumSize);
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Returns a copy of a solution. If the pool of the current thread is not empty, the copy
+   * overwrites one of its solutions
+   */
+  @SuppressWarnings("unchecked")
+  public S copyOf(S solution) {
+    S target = solutions.get().pollLast();
+    if (target == null) {
+      numberOfAllocatedSolutions.increment();
+      return (S) solution.copy();
+    }
+
+    numberOfReusedSolutions.increment();
+    return (S) ((Solution<Object>) solution).copyInto((Solution<Object>) target);
+  }
+
+  /** Adds a solution which is no longer used to the pool of the current thread, if it is not full */
+  public void release(S solution) {
+    ArrayDeque<S> pool = solutions.get();
+    if (pool.size() < maximumSize) {
+      pool.addLast(solution);
+    }
+  }
+
+  /**
+   * Releases the solutions of a list which are not included in another one (e.g., the joint
+   * population and the population returned by a replacement). The solutions are compared by
+   * identity, and each one is released only once.
+   */
+  public void releaseDiscarded(List<S> solutionList, List<S> survivors) {
+    Set<S> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+    kept.addAll(survivors);
+    for (S solution : solutionList) {
+      if (kept.add(solution)) {
+        release(solution);
+      }
+    }
+  }
+
+  /** Returns the number of solutions in the pool of the current thread */
+  public int size() {
+    return solutions.get().size();
+  }
+
+  /** Empties the pool of the current thread */
+  public void clear() {
+    solutions.get().clear();
+  }
+
+  /** Returns the number of copies which have overwritten a pooled solution */
+  public long getNumberOfReusedSolutions() {
+    return numberOfReusedSolutions.sum();
+  }
+
+  /** Returns the number of copies which have allocated a new solution */
+  public long getNumberOfAllocatedSolutions() {
+    return numberOfAllocatedSolutions.sum();
+  }
+}
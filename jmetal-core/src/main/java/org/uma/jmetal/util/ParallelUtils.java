@@ -0,0 +1,29 @@
+package org.uma.jmetal.util;
+
+import java.util.stream.IntStream;
+
+/**
+ * Class with utilities for the computations which are run in parallel only when they are large
+ * enough to pay off the overhead of a parallel stream
+ */
+public class ParallelUtils {
+
+  private ParallelUtils() {}
+
+  /**
+   * Returns the stream of the indices 0 .. size - 1. The stream is parallel (so it is run in the
+   * common fork-join pool) if the amount of work of the computation reaches a threshold.
+   *
+   * @param size Number of indices
+   * @param work Amount of work of the computation (e.g., the number of scalar operations)
+   * @param threshold Minimum amount of work to run the computation in parallel
+   */
+  public static IntStream range(int size, long work, long threshold) {
+    IntStream indices = IntStream.range(0, size);
+    if (work >= threshold) {
+      indices = indices.parallel();
+    }
+
+    return indices;
+  }
+}
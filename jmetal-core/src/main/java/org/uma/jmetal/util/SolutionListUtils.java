@@ -16,6 +16,7 @@ import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.ObjectiveComparator;
 import org.uma.jmetal.util.distance.Distance;
+import org.uma.jmetal.util.distance.PairwiseDistances;
 import org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenSolutionAndASolutionListInObjectiveSpace;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
@@ -280,32 +281,23 @@ public class SolutionListUtils {
    * @return
    */
   public static <S extends Solution<?>> double[][] distanceMatrix(List<S> solutionSet) {
-    double[][] distance = new double[solutionSet.size()][solutionSet.size()];
-    for (int i = 0; i < solutionSet.size(); i++) {
-      distance[i][i] = 0.0;
-      for (int j = i + 1; j < solutionSet.size(); j++) {
-        distance[i][j] =
-            SolutionUtils.distanceBetweenObjectives(solutionSet.get(i), solutionSet.get(j));
-        distance[j][i] = distance[i][j];
-      }
-    }
-    return distance;
+    return PairwiseDistances.euclideanDistanceMatrix(getMatrixWithObjectiveValues(solutionSet));
   }
 
   public static <S extends Solution<?>> double[][] normalizedDistanceMatrix(
       List<S> solutionSet, double maxs[], double mins[]) {
-    double[][] distance = new double[solutionSet.size()][solutionSet.size()];
+    double[][] normalizedObjectives = new double[solutionSet.size()][];
     for (int i = 0; i < solutionSet.size(); i++) {
-      distance[i][i] = 0.0;
-      for (int j = i + 1; j < solutionSet.size(); j++) {
-        distance[i][j] =
-            SolutionUtils.normalizedDistanceBetweenObjectives(
-                solutionSet.get(i), solutionSet.get(j), maxs, mins);
-        distance[j][i] = distance[i][j];
+      double[] objectives = solutionSet.get(i).objectives();
+      normalizedObjectives[i] = new double[objectives.length];
+      for (int nObj = 0; nObj < objectives.length; nObj++) {
+        normalizedObjectives[i][nObj] = objectives[nObj] / (maxs[nObj] - mins[nObj]);
       }
     }
-    return distance;
+
+    return PairwiseDistances.euclideanDistanceMatrix(normalizedObjectives);
   }
+
   /**
    * Compares two solution lists to determine if both are equals
    *
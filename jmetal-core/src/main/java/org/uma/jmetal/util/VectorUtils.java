@@ -10,6 +10,7 @@ import org.uma.jmetal.util.distance.Distance;
 import org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.fileinput.BinaryFrontReader;
 
 public class VectorUtils {
   /**
@@ -42,6 +43,10 @@ public class VectorUtils {
   }
 
   /**
+   * Reads a file of vectors. Besides text files, files in the binary format of {@link
+   * org.uma.jmetal.util.fileoutput.BinaryFrontWriter} are accepted (they are detected by their
+   * header, so the separator is ignored for them).
+   *
    * @param filePath the file need to read
    * @return referenceVectors. referenceVectors[i][j] means the i-th vector's j-th value
    * @throws JMetalException if error while read file
@@ -59,6 +64,10 @@ public class VectorUtils {
       }
     }
 
+    if (BinaryFrontReader.isBinaryFrontFile(path)) {
+      return BinaryFrontReader.read(path);
+    }
+
     List<String> vectorStrList = Files.readAllLines(Paths.get(path));
 
     referenceVectors = new double[vectorStrList.size()][];
@@ -0,0 +1,405 @@
+package org.uma.jmetal.util.aggregativefunction;
+
+import java.util.stream.IntStream;
+import org.uma.jmetal.util.ParallelUtils;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Class computing the scalarizing functions used by decomposition and indicator-based algorithms
+ * (MOEA/D and its variants, MOMBI, ESPEA, ...) on flat arrays of doubles. A kernel contains a set of
+ * weight vectors and can compute the value of a single pair (candidate, weight vector) or the matrix
+ * of values of all the weight vectors and a set of candidates, which is computed in parallel if it
+ * is large enough.
+ *
+ * <p>The functions using a reference point are computed with respect to the point passed to each
+ * method. If the reference point is an ideal point which moves only by decreasing some of its
+ * components, the matrix of values can be updated with {@link #update(double[], int, double[],
+ * double[], double[])} at the cost of the changed components only.
+ *
+ * <p>The supported functions (w is a weight vector and z the reference point) are:
+ *
+ * <ul>
+ *   <li>WEIGHTED_SUM: sum of w_i f_i
+ *   <li>TCHEBYCHEFF: max of w_i |f_i - z_i|, where the null weights are replaced by a parameter
+ *       (10^-4 in MOEA/D)
+ *   <li>WEIGHTED_CHEBYSHEV: max of w_i (f_i - z_i)
+ *   <li>ACHIEVEMENT: max of |f_i - z_i| / w_i, where the non-positive weights are replaced by a
+ *       parameter (10^-2 in MOMBI)
+ *   <li>PBI: penalty-based boundary intersection, d1 + theta d2, where the parameter is theta
+ * </ul>
+ */
+public class ScalarizationKernel {
+  public enum Type {
+    WEIGHTED_SUM,
+    TCHEBYCHEFF,
+    WEIGHTED_CHEBYSHEV,
+    ACHIEVEMENT,
+    PBI
+  }
+
+  public static final double DEFAULT_TCHEBYCHEFF_NULL_WEIGHT = 0.0001;
+  public static final double DEFAULT_ACHIEVEMENT_NULL_WEIGHT = 0.01;
+  public static final double DEFAULT_PBI_THETA = 5.0;
+
+  private static final long PARALLEL_THRESHOLD = 1000000;
+
+  private final Type type;
+  private final double parameter;
+  private final int numberOfWeights;
+  private final int numberOfObjectives;
+
+  /** Weight vectors stored by rows */
+  private final double[] weights;
+  /**
+   * Per-component values derived from the weights: the multipliers (TCHEBYCHEFF), the divisors
+   * (ACHIEVEMENT) or the components of the normalized weight vectors (PBI)
+   */
+  private final double[] coefficients;
+  /** Norms of the weight vectors (PBI) */
+  private final double[] norms;
+
+  /** Creates a kernel without weight vectors, which can only compute single values */
+  public ScalarizationKernel(Type type, double parameter) {
+    this(type, parameter, new double[0][]);
+  }
+
+  public ScalarizationKernel(Type type, double parameter, double[][] weightVectors) {
+    Check.notNull(type);
+    Check.notNull(weightVectors);
+
+    this.type = type;
+    this.parameter = parameter;
+    this.numberOfWeights = weightVectors.length;
+    this.numberOfObjectives = (numberOfWeights == 0) ? 0 : weightVectors[0].length;
+
+    weights = new double[numberOfWeights * numberOfObjectives];
+    coefficients = new double[numberOfWeights * numberOfObjectives];
+    norms = new double[numberOfWeights];
+    for (int j = 0; j < numberOfWeights; j++) {
+      Check.that(
+          weightVectors[j].length == numberOfObjectives,
+          "The weight vector " + j + " has " + weightVectors[j].length + " components");
+      System.arraycopy(weightVectors[j], 0, weights, j * numberOfObjectives, numberOfObjectives);
+      norms[j] = norm(weightVectors[j]);
+      for (int i = 0; i < numberOfObjectives; i++) {
+        coefficients[j * numberOfObjectives + i] =
+            coefficient(weightVectors[j][i], norms[j]);
+      }
+    }
+  }
+
+  public static ScalarizationKernel weightedSum(double[][] weightVectors) {
+    return new ScalarizationKernel(Type.WEIGHTED_SUM, 0.0, weightVectors);
+  }
+
+  public static ScalarizationKernel tchebycheff(double[][] weightVectors) {
+    return new ScalarizationKernel(
+        Type.TCHEBYCHEFF, DEFAULT_TCHEBYCHEFF_NULL_WEIGHT, weightVectors);
+  }
+
+  public static ScalarizationKernel weightedChebyshev(double[][] weightVectors) {
+    return new ScalarizationKernel(Type.WEIGHTED_CHEBYSHEV, 0.0, weightVectors);
+  }
+
+  public static ScalarizationKernel achievement(double[][] weightVectors) {
+    return new ScalarizationKernel(
+        Type.ACHIEVEMENT, DEFAULT_ACHIEVEMENT_NULL_WEIGHT, weightVectors);
+  }
+
+  public static ScalarizationKernel pbi(double[][] weightVectors) {
+    return new ScalarizationKernel(Type.PBI, DEFAULT_PBI_THETA, weightVectors);
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  public double getParameter() {
+    return parameter;
+  }
+
+  public int getNumberOfWeights() {
+    return numberOfWeights;
+  }
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives;
+  }
+
+  /** Computes the value of a candidate for one of the weight vectors of the kernel */
+  public double compute(double[] objectives, int weight, double[] referencePoint) {
+    Check.valueIsInRange(weight, 0, numberOfWeights - 1);
+
+    return compute(objectives, 0, weight, referencePoint);
+  }
+
+  /**
+   * Computes the value of a candidate for any weight vector. The coefficients derived from the
+   * weight vector are computed on the fly
+   */
+  public double compute(double[] objectives, double[] weightVector, double[] referencePoint) {
+    switch (type) {
+      case WEIGHTED_SUM:
+        {
+          double sum = 0.0;
+          for (int i = 0; i < objectives.length; i++) {
+            sum += weightVector[i] * objectives[i];
+          }
+          return sum;
+        }
+      case PBI:
+        {
+          double norm = norm(weightVector);
+          double d1 = 0.0;
+          for (int i = 0; i < objectives.length; i++) {
+            d1 += (objectives[i] - referencePoint[i]) * weightVector[i];
+          }
+          d1 = Math.abs(d1) / norm;
+
+          double d2 = 0.0;
+          for (int i = 0; i < objectives.length; i++) {
+            double difference =
+                (objectives[i] - referencePoint[i]) - d1 * (weightVector[i] / norm);
+            d2 += difference * difference;
+          }
+          return d1 + parameter * Math.sqrt(d2);
+        }
+      default:
+        {
+          double max = Double.NEGATIVE_INFINITY;
+          for (int i = 0; i < objectives.length; i++) {
+            double term =
+                term(
+                    objectives[i],
+                    referencePoint[i],
+                    weightVector[i],
+                    coefficient(weightVector[i], 0.0));
+            if (term > max) {
+              max = term;
+            }
+          }
+          return max;
+        }
+    }
+  }
+
+  /**
+   * Computes the values of a set of candidates for all the weight vectors of the kernel
+   *
+   * @param candidates Objective values of the candidates, stored by rows (the i-th objective of the
+   *     c-th candidate is candidates[c * numberOfObjectives + i])
+   * @param numberOfCandidates Number of candidates
+   * @param referencePoint The reference point
+   * @param values Array of numberOfWeights * numberOfCandidates values where the result is stored
+   *     by rows (the value of the c-th candidate for the j-th weight vector is values[j *
+   *     numberOfCandidates + c])
+   */
+  public void compute(
+      double[] candidates, int numberOfCandidates, double[] referencePoint, double[] values) {
+    checkMatrixSizes(candidates, numberOfCandidates, values);
+
+    weightIndices(numberOfCandidates)
+        .forEach(
+            j -> {
+              for (int c = 0; c < numberOfCandidates; c++) {
+                values[j * numberOfCandidates + c] = compute(candidates, c, j, referencePoint);
+              }
+            });
+  }
+
+  /**
+   * Computes the values of a set of candidates for all the weight vectors of the kernel
+   *
+   * @return A matrix where the c-th value of the j-th row is the value of the c-th candidate for
+   *     the j-th weight vector
+   */
+  public double[][] compute(double[][] candidates, double[] referencePoint) {
+    double[] values = new double[numberOfWeights * candidates.length];
+    compute(flatten(candidates, numberOfObjectives), candidates.length, referencePoint, values);
+
+    double[][] matrix = new double[numberOfWeights][candidates.length];
+    for (int j = 0; j < numberOfWeights; j++) {
+      System.arraycopy(values, j * candidates.length, matrix[j], 0, candidates.length);
+    }
+
+    return matrix;
+  }
+
+  /**
+   * Updates a matrix of values computed with {@link #compute(double[], int, double[], double[])}
+   * after a change of the reference point. If the reference point has only decreased, the terms of
+   * the Tchebycheff-like functions cannot decrease, so the value of a candidate is the maximum of
+   * its former value and the terms of the changed components; this holds for the candidates whose
+   * objective values are not lower than the former reference point, and the rest of values are
+   * computed again. The values of the PBI function are always computed again, and the ones of the
+   * weighted sum do not depend on the reference point.
+   */
+  public void update(
+      double[] candidates,
+      int numberOfCandidates,
+      double[] oldReferencePoint,
+      double[] newReferencePoint,
+      double[] values) {
+    checkMatrixSizes(candidates, numberOfCandidates, values);
+
+    if (type == Type.WEIGHTED_SUM) {
+      return;
+    }
+
+    int[] changedComponents = new int[numberOfObjectives];
+    int numberOfChangedComponents = 0;
+    boolean onlyDecreased = true;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      if (Double.compare(newReferencePoint[i], oldReferencePoint[i]) != 0) {
+        changedComponents[numberOfChangedComponents++] = i;
+        onlyDecreased &= newReferencePoint[i] < oldReferencePoint[i];
+      }
+    }
+
+    if (numberOfChangedComponents == 0) {
+      return;
+    }
+    if ((type == Type.PBI) || !onlyDecreased) {
+      compute(candidates, numberOfCandidates, newReferencePoint, values);
+      return;
+    }
+
+    int changed = numberOfChangedComponents;
+    weightIndices(numberOfCandidates)
+        .forEach(
+            j -> {
+              for (int c = 0; c < numberOfCandidates; c++) {
+                int base = c * numberOfObjectives;
+                double value = values[j * numberOfCandidates + c];
+                boolean monotone = true;
+                for (int k = 0; (k < changed) && monotone; k++) {
+                  int i = changedComponents[k];
+                  monotone = candidates[base + i] >= oldReferencePoint[i];
+                  double term = term(candidates, base, j, i, newReferencePoint);
+                  if (term > value) {
+                    value = term;
+                  }
+                }
+                values[j * numberOfCandidates + c] =
+                    monotone ? value : compute(candidates, c, j, newReferencePoint);
+              }
+            });
+  }
+
+  /** Copies a matrix into an array, by rows */
+  public static double[] flatten(double[][] matrix, int numberOfColumns) {
+    double[] array = new double[matrix.length * numberOfColumns];
+    for (int c = 0; c < matrix.length; c++) {
+      System.arraycopy(matrix[c], 0, array, c * numberOfColumns, numberOfColumns);
+    }
+
+    return array;
+  }
+
+  private double compute(double[] candidates, int candidate, int weight, double[] referencePoint) {
+    int base = candidate * numberOfObjectives;
+    int weightBase = weight * numberOfObjectives;
+
+    switch (type) {
+      case WEIGHTED_SUM:
+        {
+          double sum = 0.0;
+          for (int i = 0; i < numberOfObjectives; i++) {
+            sum += weights[weightBase + i] * candidates[base + i];
+          }
+          return sum;
+        }
+      case PBI:
+        {
+          double norm = norms[weight];
+          double d1 = 0.0;
+          for (int i = 0; i < numberOfObjectives; i++) {
+            d1 += (candidates[base + i] - referencePoint[i]) * weights[weightBase + i];
+          }
+          d1 = Math.abs(d1) / norm;
+
+          double d2 = 0.0;
+          for (int i = 0; i < numberOfObjectives; i++) {
+            double difference =
+                (candidates[base + i] - referencePoint[i]) - d1 * coefficients[weightBase + i];
+            d2 += difference * difference;
+          }
+          return d1 + parameter * Math.sqrt(d2);
+        }
+      default:
+        {
+          double max = Double.NEGATIVE_INFINITY;
+          for (int i = 0; i < numberOfObjectives; i++) {
+            double term = term(candidates, base, weight, i, referencePoint);
+            if (term > max) {
+              max = term;
+            }
+          }
+          return max;
+        }
+    }
+  }
+
+  private double term(
+      double[] candidates, int base, int weight, int component, double[] referencePoint) {
+    int index = weight * numberOfObjectives + component;
+
+    return term(
+        candidates[base + component],
+        referencePoint[component],
+        weights[index],
+        coefficients[index]);
+  }
+
+  /** Term of a component in the Tchebycheff-like functions */
+  private double term(double objective, double reference, double weight, double coefficient) {
+    switch (type) {
+      case TCHEBYCHEFF:
+        return Math.abs(objective - reference) * coefficient;
+      case WEIGHTED_CHEBYSHEV:
+        return weight * (objective - reference);
+      case ACHIEVEMENT:
+        return Math.abs(objective - reference) / coefficient;
+      default:
+        throw new IllegalStateException("Unexpected function: " + type);
+    }
+  }
+
+  private double coefficient(double weight, double norm) {
+    switch (type) {
+      case TCHEBYCHEFF:
+        return (weight == 0) ? parameter : weight;
+      case ACHIEVEMENT:
+        return (weight > 0.0) ? weight : parameter;
+      case PBI:
+        return weight / norm;
+      default:
+        return weight;
+    }
+  }
+
+  private static double norm(double[] vector) {
+    double sum = 0.0;
+    for (double value : vector) {
+      sum += value * value;
+    }
+
+    return Math.sqrt(sum);
+  }
+
+  private IntStream weightIndices(int numberOfCandidates) {
+    return ParallelUtils.range(
+        numberOfWeights,
+        (long) numberOfWeights * numberOfCandidates * numberOfObjectives,
+        PARALLEL_THRESHOLD);
+  }
+
+  private void checkMatrixSizes(double[] candidates, int numberOfCandidates, double[] values) {
+    Check.that(
+        candidates.length >= numberOfCandidates * numberOfObjectives,
+        "The array of candidates is too small: " + candidates.length);
+    Check.that(
+        values.length >= numberOfWeights * numberOfCandidates,
+        "The array of values is too small: " + values.length);
+  }
+}
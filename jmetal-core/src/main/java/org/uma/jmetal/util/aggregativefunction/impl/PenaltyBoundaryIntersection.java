@@ -1,41 +1,27 @@
 package org.uma.jmetal.util.aggregativefunction.impl;
 
+import java.io.Serializable;
 import org.uma.jmetal.util.aggregativefunction.AggregativeFunction;
+import org.uma.jmetal.util.aggregativefunction.ScalarizationKernel;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
 import org.uma.jmetal.util.point.impl.IdealPoint;
 
-public class PenaltyBoundaryIntersection implements AggregativeFunction {
+public class PenaltyBoundaryIntersection implements AggregativeFunction, CheckpointableComponent {
   private IdealPoint idealPoint ;
-  private final double theta ;
+  private final ScalarizationKernel kernel ;
 
   public PenaltyBoundaryIntersection() {
-    this(5.0) ;
+    this(ScalarizationKernel.DEFAULT_PBI_THETA) ;
   }
 
   public PenaltyBoundaryIntersection(double theta) {
     this.idealPoint = null ;
-    this.theta = theta ;
+    this.kernel = new ScalarizationKernel(ScalarizationKernel.Type.PBI, theta) ;
   }
 
   @Override
   public double compute(double[] vector, double[] weightVector) {
-    double d1, d2, nl;
-
-    d1 = d2 = nl = 0.0;
-
-    for (int i = 0; i < vector.length; i++) {
-      d1 += (vector[i] - idealPoint.getValue(i)) * weightVector[i];
-      nl += Math.pow(weightVector[i], 2.0);
-    }
-    nl = Math.sqrt(nl);
-    d1 = Math.abs(d1) / nl;
-
-    for (int i = 0; i < vector.length; i++) {
-      d2 += Math.pow((vector[i] - idealPoint.getValue(i)) -
-          d1 * (weightVector[i] / nl), 2.0);
-    }
-    d2 = Math.sqrt(d2);
-
-    return (d1 + theta * d2) ;
+    return kernel.compute(vector, weightVector, idealPoint.getValues()) ;
   }
 
   @Override
@@ -45,4 +31,20 @@ public class PenaltyBoundaryIntersection implements AggregativeFunction {
     }
     idealPoint.update(vector);
   }
+
+  @Override
+  public Serializable saveState() {
+    return (idealPoint == null) ? null : idealPoint.getValues() ;
+  }
+
+  @Override
+  public void restoreState(Serializable state) {
+    if (state == null) {
+      idealPoint = null ;
+    } else {
+      double[] values = (double[]) state ;
+      idealPoint = new IdealPoint(values.length) ;
+      idealPoint.set(values) ;
+    }
+  }
 }
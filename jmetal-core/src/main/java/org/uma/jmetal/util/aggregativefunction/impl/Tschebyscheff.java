@@ -1,34 +1,26 @@
 package org.uma.jmetal.util.aggregativefunction.impl;
 
+import java.io.Serializable;
 import org.uma.jmetal.util.aggregativefunction.AggregativeFunction;
+import org.uma.jmetal.util.aggregativefunction.ScalarizationKernel;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
 import org.uma.jmetal.util.point.impl.IdealPoint;
 
-public class Tschebyscheff implements AggregativeFunction {
+public class Tschebyscheff implements AggregativeFunction, CheckpointableComponent {
   private IdealPoint idealPoint ;
+  private final ScalarizationKernel kernel ;
 
   public Tschebyscheff() {
     this.idealPoint = null ;
+    this.kernel =
+        new ScalarizationKernel(
+            ScalarizationKernel.Type.TCHEBYCHEFF,
+            ScalarizationKernel.DEFAULT_TCHEBYCHEFF_NULL_WEIGHT) ;
   }
 
   @Override
   public double compute(double[] vector, double[] weightVector) {
-    double maxFun = -1.0e+30;
-
-    for (int n = 0; n < vector.length; n++) {
-      double diff = Math.abs(vector[n] - idealPoint.getValue(n));
-
-      double feval;
-      if (weightVector[n] == 0) {
-        feval = 0.0001 * diff;
-      } else {
-        feval = diff * weightVector[n];
-      }
-      if (feval > maxFun) {
-        maxFun = feval;
-      }
-    }
-
-    return maxFun;
+    return kernel.compute(vector, weightVector, idealPoint.getValues()) ;
   }
 
 
@@ -39,4 +31,20 @@ public class Tschebyscheff implements AggregativeFunction {
     }
     idealPoint.update(vector);
   }
+
+  @Override
+  public Serializable saveState() {
+    return (idealPoint == null) ? null : idealPoint.getValues() ;
+  }
+
+  @Override
+  public void restoreState(Serializable state) {
+    if (state == null) {
+      idealPoint = null ;
+    } else {
+      double[] values = (double[]) state ;
+      idealPoint = new IdealPoint(values.length) ;
+      idealPoint.set(values) ;
+    }
+  }
 }
@@ -1,17 +1,15 @@
 package org.uma.jmetal.util.aggregativefunction.impl;
 
 import org.uma.jmetal.util.aggregativefunction.AggregativeFunction;
+import org.uma.jmetal.util.aggregativefunction.ScalarizationKernel;
 
 public class WeightedSum implements AggregativeFunction {
+  private final ScalarizationKernel kernel =
+      new ScalarizationKernel(ScalarizationKernel.Type.WEIGHTED_SUM, 0.0);
 
   @Override
   public double compute(double[] vector, double[] weightVector) {
-    double sum = 0.0;
-    for (int n = 0; n < vector.length; n++) {
-      sum += weightVector[n] * vector[n];
-    }
-
-    return sum;
+    return kernel.compute(vector, weightVector, null);
   }
 
   @Override
@@ -8,6 +8,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.EqualSolutionsComparator;
+import org.uma.jmetal.util.duplicateelimination.DuplicateSolutionDetector;
 
 /**
  * This class implements an archive containing non-dominated solutions
@@ -20,6 +21,7 @@ public class NonDominatedSolutionListArchive<S extends Solution<?>> implements A
   private List<S> solutionList;
   private Comparator<S> dominanceComparator;
   private Comparator<S> equalSolutions = new EqualSolutionsComparator<S>();
+  private DuplicateSolutionDetector<S> duplicateSolutionDetector;
 
   /**
    * Constructor
@@ -85,8 +87,22 @@ public class NonDominatedSolutionListArchive<S extends Solution<?>> implements A
     return this.addAll(archive.getSolutionList());
   }
 
+  /**
+   * Sets a detector used by {@link #addAll(List)} to discard the duplicated solutions of the list
+   * before inserting them, so the duplicates do not have to be compared with all the solutions of
+   * the archive
+   */
+  public NonDominatedSolutionListArchive<S> setDuplicateSolutionDetector(
+      DuplicateSolutionDetector<S> duplicateSolutionDetector) {
+    this.duplicateSolutionDetector = duplicateSolutionDetector;
+
+    return this;
+  }
+
   public Archive<S> addAll(List<S> list) {
-    for (S solution : list) {
+    List<S> solutionsToAdd =
+        (duplicateSolutionDetector == null) ? list : duplicateSolutionDetector.removeDuplicates(list);
+    for (S solution : solutionsToAdd) {
       this.add(solution) ;
     }
 
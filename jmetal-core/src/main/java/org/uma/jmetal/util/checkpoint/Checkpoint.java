@@ -0,0 +1,108 @@
+package org.uma.jmetal.util.checkpoint;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+/**
+ * Snapshot of the state of a running algorithm, composed of named values (the population, the
+ * number of evaluations, the structures of the algorithm, etc.). A checkpoint also stores the name
+ * of the algorithm that created it, so that it can not be restored by another algorithm, and the
+ * state of the {@link JMetalRandom} generator at the time of its creation.
+ *
+ * <p>The values are serialized when the checkpoint is written by a {@link Checkpointer}, so they
+ * can be references to the structures of the algorithm: copies are not needed.
+ */
+public class Checkpoint implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  public static final String POPULATION = "POPULATION";
+  public static final String ARCHIVE = "ARCHIVE";
+  public static final String EVALUATIONS = "EVALUATIONS";
+
+  private final String algorithmName;
+  private final PseudoRandomGenerator randomGenerator;
+  private final Map<String, Serializable> values;
+
+  /** Creates a checkpoint storing the current state of the {@link JMetalRandom} generator */
+  public Checkpoint(String algorithmName) {
+    Check.notNull(algorithmName);
+    this.algorithmName = algorithmName;
+    this.randomGenerator = JMetalRandom.getInstance().getRandomGenerator();
+    this.values = new LinkedHashMap<>();
+  }
+
+  public String getAlgorithmName() {
+    return algorithmName;
+  }
+
+  /**
+   * Checks that the checkpoint has been created by an algorithm with the given name
+   *
+   * @throws JMetalException if the names are different
+   */
+  public void checkAlgorithmName(String algorithmName) {
+    if (!this.algorithmName.equals(algorithmName)) {
+      throw new JMetalException(
+          "The checkpoint has been created by "
+              + this.algorithmName
+              + " and can not be restored by "
+              + algorithmName);
+    }
+  }
+
+  /**
+   * Sets the state of the {@link JMetalRandom} generator to the one it had when the checkpoint was
+   * created. Note that the generator is shared by all the algorithms of the JVM, so the execution
+   * of a resumed run is the same as the one of the interrupted run only if no other algorithm is
+   * running at the same time.
+   */
+  public void restoreRandomGenerator() {
+    JMetalRandom.getInstance().setRandomGenerator(randomGenerator);
+  }
+
+  public Checkpoint put(String key, Serializable value) {
+    Check.notNull(key);
+    values.put(key, value);
+
+    return this;
+  }
+
+  /** Stores a list of values; the list is stored as an {@link ArrayList} if it is not serializable */
+  public <T> Checkpoint putList(String key, List<T> list) {
+    return put(key, (list instanceof Serializable) ? (Serializable) list : new ArrayList<>(list));
+  }
+
+  public boolean contains(String key) {
+    return values.containsKey(key);
+  }
+
+  /**
+   * Returns the value of a key
+   *
+   * @throws JMetalException if the checkpoint does not contain the key
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String key) {
+    if (!values.containsKey(key)) {
+      throw new JMetalException("The checkpoint does not contain the value " + key);
+    }
+
+    return (T) values.get(key);
+  }
+
+  /** Returns a copy of a list stored with {@link #putList(String, List)}, which can be modified */
+  public <T> List<T> getList(String key) {
+    return new ArrayList<>(this.<List<T>>get(key));
+  }
+
+  public int getInt(String key) {
+    return this.<Integer>get(key);
+  }
+}
@@ -0,0 +1,19 @@
+package org.uma.jmetal.util.checkpoint;
+
+import java.io.Serializable;
+
+/**
+ * Interface representing a component of an algorithm (an aggregative function, a sequence
+ * generator, etc.) having an internal state which is not reflected in the population, so it has to
+ * be stored in the checkpoints of the algorithm to resume a run exactly.
+ */
+public interface CheckpointableComponent {
+  /**
+   * Returns the state of the component. As in {@link Checkpoint}, it can contain references to the
+   * structures of the component
+   */
+  Serializable saveState() ;
+
+  /** Restores the state of the component from a value returned by {@link #saveState()} */
+  void restoreState(Serializable state) ;
+}
@@ -0,0 +1,180 @@
+package org.uma.jmetal.util.checkpoint;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Class in charge of writing periodically the {@link Checkpoint}s of an algorithm into a file and
+ * of reading them back when the algorithm is resumed. Checkpointing is disabled until a file is
+ * set with {@link #setFile(String)}.
+ *
+ * <p>The checkpoints are written asynchronously, so the generation loop of the algorithm is not
+ * stalled by the disk: the state of the algorithm is serialized in the thread calling {@link
+ * #checkpointIfDue(Supplier)} (so the snapshot is consistent and it is not affected by the later
+ * changes of the algorithm), and its compression and writing are carried out by a background
+ * thread. If a checkpoint is requested while the previous one is being written, only the newest
+ * pending snapshot is written. Each snapshot is written into a temporary file which then replaces
+ * the checkpoint file atomically, so an interrupted write never corrupts the last checkpoint.
+ */
+public class Checkpointer implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  public static final long DEFAULT_PERIOD = 60000;
+
+  private String fileName;
+  private long period;
+  private long lastCheckpointTime;
+
+  private transient ExecutorService executor;
+  private transient AtomicReference<byte[]> pendingSnapshot;
+  private transient Future<?> pendingWrite;
+
+  public Checkpointer() {
+    this.period = DEFAULT_PERIOD;
+  }
+
+  /** Sets the checkpoint file; checkpointing is disabled if it is null */
+  public void setFile(String fileName) {
+    this.fileName = fileName;
+  }
+
+  public String getFile() {
+    return fileName;
+  }
+
+  public boolean isEnabled() {
+    return fileName != null;
+  }
+
+  /** Sets the minimum time, in milliseconds, between two checkpoints */
+  public void setPeriod(long period) {
+    Check.that(period >= 0, "The checkpoint period is negative: " + period);
+    this.period = period;
+  }
+
+  public long getPeriod() {
+    return period;
+  }
+
+  /**
+   * Returns the checkpoint stored in the file, or null if checkpointing is disabled or the file
+   * does not exist
+   */
+  public Checkpoint read() {
+    if (!isEnabled() || !Files.exists(Path.of(fileName))) {
+      return null;
+    }
+    lastCheckpointTime = System.currentTimeMillis();
+
+    return read(fileName);
+  }
+
+  /** Reads a checkpoint file */
+  public static Checkpoint read(String fileName) {
+    try (ObjectInputStream input =
+        new ObjectInputStream(
+            new GZIPInputStream(new BufferedInputStream(Files.newInputStream(Path.of(fileName)))))) {
+      return (Checkpoint) input.readObject();
+    } catch (IOException | ClassNotFoundException exception) {
+      throw new JMetalException("Error reading the checkpoint file " + fileName, exception);
+    }
+  }
+
+  /** Marks the beginning of a run, from which the period of the first checkpoint is counted */
+  public void start() {
+    lastCheckpointTime = System.currentTimeMillis();
+  }
+
+  /**
+   * Writes a checkpoint if checkpointing is enabled and the period since the last one has elapsed.
+   * The checkpoint is created by the supplier only in that case.
+   */
+  public void checkpointIfDue(Supplier<Checkpoint> checkpointSupplier) {
+    if (isEnabled() && (System.currentTimeMillis() - lastCheckpointTime >= period)) {
+      write(checkpointSupplier.get());
+    }
+  }
+
+  /** Writes a checkpoint asynchronously */
+  public synchronized void write(Checkpoint checkpoint) {
+    Check.that(isEnabled(), "The checkpoint file has not been set");
+    lastCheckpointTime = System.currentTimeMillis();
+
+    byte[] snapshot = serialize(checkpoint);
+    if (executor == null) {
+      executor =
+          Executors.newSingleThreadExecutor(
+              runnable -> {
+                Thread thread = new Thread(runnable, "checkpointer");
+                thread.setDaemon(true);
+                return thread;
+              });
+      pendingSnapshot = new AtomicReference<>();
+    }
+
+    if (pendingSnapshot.getAndSet(snapshot) == null) {
+      Path file = Path.of(fileName);
+      pendingWrite = executor.submit(() -> writeSnapshot(pendingSnapshot.getAndSet(null), file));
+    }
+  }
+
+  /** Waits until the pending checkpoint, if any, has been written, and releases the thread */
+  public synchronized void close() {
+    if (executor != null) {
+      try {
+        pendingWrite.get();
+      } catch (Exception exception) {
+        throw new JMetalException("Error writing the checkpoint file " + fileName, exception);
+      } finally {
+        executor.shutdown();
+        executor = null;
+      }
+    }
+  }
+
+  private static byte[] serialize(Checkpoint checkpoint) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(checkpoint);
+    } catch (IOException exception) {
+      throw new JMetalException("Error serializing the checkpoint", exception);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  private static void writeSnapshot(byte[] snapshot, Path file) {
+    Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try {
+      try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(temporaryFile))) {
+        output.write(snapshot);
+      }
+      Files.move(
+          temporaryFile,
+          file,
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException exception) {
+      JMetalLogger.logger.warning("Error writing the checkpoint file " + file + ": " + exception);
+      throw new JMetalException("Error writing the checkpoint file " + file, exception);
+    }
+  }
+}
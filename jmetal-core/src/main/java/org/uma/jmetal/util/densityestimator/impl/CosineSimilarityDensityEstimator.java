@@ -8,6 +8,7 @@ import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.ObjectiveComparator;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.distance.Distance;
+import org.uma.jmetal.util.distance.PairwiseDistances;
 import org.uma.jmetal.util.distance.impl.CosineSimilarityBetweenVectors;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
@@ -65,7 +66,6 @@ public class CosineSimilarityDensityEstimator<S extends Solution<?>> implements
       referencePoint.update(solution.objectives());
     }
 
-    double[][] distanceMatrix = new double[solutionList.size()][solutionList.size()];
     double[][] solutionMatrix = null;
     if (normalize) {
       try {
@@ -77,12 +77,7 @@ public class CosineSimilarityDensityEstimator<S extends Solution<?>> implements
       solutionMatrix = SolutionListUtils.getMatrixWithObjectiveValues(solutionList);
     }
 
-    for (int i = 0; i < solutionList.size(); i++) {
-      for (int j = i + 1; j < solutionList.size(); j++) {
-        distanceMatrix[i][j] = distance.compute(solutionMatrix[i], solutionMatrix[j]);
-        distanceMatrix[j][i] = distanceMatrix[i][j];
-      }
-    }
+    double[][] distanceMatrix = PairwiseDistances.distanceMatrix(solutionMatrix, distance);
 
     for (int i = 0; i < solutionList.size(); i++) {
       double currentMaximumDistance = 0.0;
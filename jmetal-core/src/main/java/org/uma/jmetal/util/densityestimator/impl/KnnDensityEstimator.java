@@ -1,27 +1,25 @@
 package org.uma.jmetal.util.densityestimator.impl;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.NormalizeUtils;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
-import org.uma.jmetal.util.distance.Distance;
-import org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors;
+import org.uma.jmetal.util.distance.PairwiseDistances;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
 /**
- * This class implements the a density estimator based on the distance to the k-th nearest solution
+ * This class implements the a density estimator based on the distance to the k-th nearest solution.
+ * The distances are computed with {@link PairwiseDistances#kthNearestNeighborDistances(double[][],
+ * int)}, so the distance matrix is not stored.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstimator<S> {
   private final String attributeId = getClass().getName();
-  private Distance<double[], double[]> distance = new EuclideanDistanceBetweenVectors();
   private int k;
-  private double[][] distanceMatrix;
   private boolean normalize ;
 
   public KnnDensityEstimator(int k) {
@@ -47,9 +45,6 @@ public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstima
       return;
     }
 
-    /* Compute the distance matrix */
-    distanceMatrix = new double[solutionList.size()][solutionList.size()];
-
     double[][] solutionMatrix = null;
     if (normalize) {
       try {
@@ -61,25 +56,13 @@ public class KnnDensityEstimator<S extends Solution<?>> implements DensityEstima
       solutionMatrix = SolutionListUtils.getMatrixWithObjectiveValues(solutionList);
     }
 
-    for (int i = 0; i < solutionList.size(); i++) {
-      for (int j = i + 1; j < solutionList.size(); j++) {
-        distanceMatrix[i][j] = distance.compute(solutionMatrix[i], solutionMatrix[j]) ;
-        distanceMatrix[j][i] = distanceMatrix[i][j] ;
-      }
-    }
-
     /* Get the k-nearest distance of all the solutions */
+    double[] kthNearestDistances = PairwiseDistances.kthNearestNeighborDistances(solutionMatrix, k);
     for (int i = 0; i < solutionList.size(); i++) {
-      List<Double> distances = new ArrayList<>();
-      for (int j = 0; j < solutionList.size(); j++) {
-        distances.add(distanceMatrix[i][j]);
-      }
-      distances.sort(Comparator.naturalOrder());
-      solutionList.get(i).attributes().put(attributeId, distances.get(k));
+      solutionList.get(i).attributes().put(attributeId, kthNearestDistances[i]);
     }
   }
 
-
   @Override
   public Double getValue(S solution) {
     Check.notNull(solution);
@@ -0,0 +1,201 @@
+package org.uma.jmetal.util.distance;
+
+import java.util.function.IntConsumer;
+import org.uma.jmetal.util.ParallelUtils;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Utility methods for computing the distances between all the pairs of a set of points (e.g., the
+ * objective vectors of a solution list), as required by density estimators such as {@link
+ * org.uma.jmetal.util.densityestimator.impl.KnnDensityEstimator}.
+ *
+ * <p>The points are copied into a flat row-major array, and the distance matrix is computed by
+ * square blocks of rows and columns, so the points of a block pair stay in cache. As the matrix is
+ * symmetric, only the blocks above the diagonal are computed. When there are at least {@link
+ * #PARALLEL_THRESHOLD} points, the blocks of rows are processed in parallel with the common
+ * fork-join pool; each distance is computed by one thread only, so the results do not depend on
+ * the number of threads.
+ */
+public class PairwiseDistances {
+  /** Minimum number of points to compute the distances in parallel */
+  public static final int PARALLEL_THRESHOLD = 1000;
+
+  private static final int BLOCK_SIZE = 64;
+
+  private PairwiseDistances() {}
+
+  /** Returns the matrix of Euclidean distances between the points (rows) of a matrix */
+  public static double[][] euclideanDistanceMatrix(double[][] points) {
+    Check.notNull(points);
+    int n = points.length;
+    int dimension = (n == 0) ? 0 : points[0].length;
+    double[] flatPoints = flatten(points, dimension);
+
+    double[][] distances = new double[n][n];
+    forEachBlockOfRows(
+        n,
+        blockOfRows -> {
+          int firstRow = blockOfRows * BLOCK_SIZE;
+          int lastRow = Math.min(n, firstRow + BLOCK_SIZE);
+          for (int firstColumn = firstRow; firstColumn < n; firstColumn += BLOCK_SIZE) {
+            int lastColumn = Math.min(n, firstColumn + BLOCK_SIZE);
+            for (int i = firstRow; i < lastRow; i++) {
+              for (int j = Math.max(i + 1, firstColumn); j < lastColumn; j++) {
+                double distance =
+                    euclideanDistance(flatPoints, i * dimension, j * dimension, dimension);
+                distances[i][j] = distance;
+                distances[j][i] = distance;
+              }
+            }
+          }
+        });
+
+    return distances;
+  }
+
+  /**
+   * Returns the matrix of distances between the points (rows) of a matrix, which is assumed to be
+   * symmetric. The distance is computed concurrently if there are many points, so it must be
+   * thread-safe
+   */
+  public static double[][] distanceMatrix(
+      double[][] points, Distance<double[], double[]> distance) {
+    Check.notNull(points);
+    Check.notNull(distance);
+    int n = points.length;
+
+    double[][] distances = new double[n][n];
+    forEachBlockOfRows(
+        n,
+        blockOfRows -> {
+          int firstRow = blockOfRows * BLOCK_SIZE;
+          int lastRow = Math.min(n, firstRow + BLOCK_SIZE);
+          for (int firstColumn = firstRow; firstColumn < n; firstColumn += BLOCK_SIZE) {
+            int lastColumn = Math.min(n, firstColumn + BLOCK_SIZE);
+            for (int i = firstRow; i < lastRow; i++) {
+              for (int j = Math.max(i + 1, firstColumn); j < lastColumn; j++) {
+                distances[i][j] = distance.compute(points[i], points[j]);
+                distances[j][i] = distances[i][j];
+              }
+            }
+          }
+        });
+
+    return distances;
+  }
+
+  /**
+   * Returns, for each point of a matrix, the Euclidean distance to its k-th nearest point. The
+   * distance matrix is not stored: the distances of each point are computed in a buffer, and the
+   * k-th smallest one is found by partial selection instead of by sorting them. The point itself is
+   * at distance 0 and is not counted, so k must be lower than the number of points.
+   */
+  public static double[] kthNearestNeighborDistances(double[][] points, int k) {
+    Check.notNull(points);
+    int n = points.length;
+    Check.that(k > 0 && k < n, "The value of k (" + k + ") must be in [1, " + (n - 1) + "]");
+    int dimension = points[0].length;
+    double[] flatPoints = flatten(points, dimension);
+
+    double[] kthDistances = new double[n];
+    forEachBlockOfRows(
+        n,
+        blockOfRows -> {
+          double[] rowDistances = new double[n];
+          int firstRow = blockOfRows * BLOCK_SIZE;
+          int lastRow = Math.min(n, firstRow + BLOCK_SIZE);
+          for (int i = firstRow; i < lastRow; i++) {
+            for (int j = 0; j < n; j++) {
+              rowDistances[j] =
+                  euclideanDistance(flatPoints, i * dimension, j * dimension, dimension);
+            }
+            // The distance of the point to itself (0.0) is the smallest one (position 0)
+            kthDistances[i] = kthSmallest(rowDistances, k);
+          }
+        });
+
+    return kthDistances;
+  }
+
+  /**
+   * Returns the k-th smallest value (starting at 0) of an array, which is reordered (quickselect
+   * with median-of-three pivots)
+   */
+  static double kthSmallest(double[] values, int k) {
+    int left = 0;
+    int right = values.length - 1;
+    while (left < right) {
+      int middle = (left + right) >>> 1;
+      if (values[middle] < values[left]) {
+        swap(values, middle, left);
+      }
+      if (values[right] < values[left]) {
+        swap(values, right, left);
+      }
+      if (values[right] < values[middle]) {
+        swap(values, right, middle);
+      }
+      double pivot = values[middle];
+
+      int i = left;
+      int j = right;
+      while (i <= j) {
+        while (values[i] < pivot) {
+          i++;
+        }
+        while (values[j] > pivot) {
+          j--;
+        }
+        if (i <= j) {
+          swap(values, i, j);
+          i++;
+          j--;
+        }
+      }
+
+      if (k <= j) {
+        right = j;
+      } else if (k >= i) {
+        left = i;
+      } else {
+        return values[k];
+      }
+    }
+
+    return values[k];
+  }
+
+  private static void forEachBlockOfRows(int n, IntConsumer action) {
+    int numberOfBlocks = (n + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    ParallelUtils.range(numberOfBlocks, n, PARALLEL_THRESHOLD).forEach(action);
+  }
+
+  private static double[] flatten(double[][] points, int dimension) {
+    double[] flatPoints = new double[points.length * dimension];
+    for (int i = 0; i < points.length; i++) {
+      Check.that(
+          points[i].length == dimension,
+          "The point " + i + " has dimension " + points[i].length + " instead of " + dimension);
+      System.arraycopy(points[i], 0, flatPoints, i * dimension, dimension);
+    }
+
+    return flatPoints;
+  }
+
+  private static double euclideanDistance(
+      double[] flatPoints, int offset1, int offset2, int dimension) {
+    double sum = 0.0;
+    for (int d = 0; d < dimension; d++) {
+      double difference = flatPoints[offset1 + d] - flatPoints[offset2 + d];
+      sum += difference * difference;
+    }
+
+    return Math.sqrt(sum);
+  }
+
+  private static void swap(double[] values, int i, int j) {
+    double value = values[i];
+    values[i] = values[j];
+    values[j] = value;
+  }
+}
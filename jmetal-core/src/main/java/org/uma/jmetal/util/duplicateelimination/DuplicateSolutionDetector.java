@@ -0,0 +1,187 @@
+package org.uma.jmetal.util.duplicateelimination;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.fitnesscache.GenotypeKey;
+import org.uma.jmetal.util.fitnesscache.GenotypeKeyFunction;
+
+/**
+ * Class for detecting duplicated solutions in lists of solutions in linear time. Instead of
+ * comparing the solutions pairwise (e.g., with {@link
+ * org.uma.jmetal.util.comparator.EqualSolutionsComparator}), the key of each solution is computed
+ * by a {@link GenotypeKeyFunction} and inserted into an open-addressing hash table, and two
+ * solutions are duplicates if their keys are equal. The keys can be computed from the objective
+ * values ({@link #byObjectives(double)}), from the variables ({@link
+ * #byGenotype(GenotypeKeyFunction)}), or from both.
+ *
+ * <p>The objective values are compared after rounding them to multiples of a tolerance, so two
+ * solutions whose objectives differ in less than the tolerance are duplicates in most cases, but
+ * not if their values are rounded to different multiples.
+ *
+ * <p>The hash table is reused between calls, so this class is not thread-safe.
+ *
+ * @param <S> Solution
+ */
+@SuppressWarnings("serial")
+public class DuplicateSolutionDetector<S extends Solution<?>> implements Serializable {
+  private static final int MINIMUM_CAPACITY = 16;
+
+  private final GenotypeKeyFunction<S> keyFunction;
+  private transient GenotypeKey[] table;
+  private transient int[] usedSlots;
+  private transient int numberOfUsedSlots;
+
+  public DuplicateSolutionDetector(GenotypeKeyFunction<S> keyFunction) {
+    Check.notNull(keyFunction);
+    this.keyFunction = keyFunction;
+  }
+
+  /**
+   * Returns a detector of solutions with the same objective values
+   *
+   * @param tolerance Precision of the comparison of the objectives (0.0 for an exact comparison)
+   */
+  public static <S extends Solution<?>> DuplicateSolutionDetector<S> byObjectives(
+      double tolerance) {
+    return new DuplicateSolutionDetector<>(objectiveKeyFunction(tolerance));
+  }
+
+  /**
+   * Returns a detector of solutions with the same variables (e.g., {@code GenotypeKey::ofDoubles}
+   * or {@code GenotypeKey::ofBinary})
+   */
+  public static <S extends Solution<?>> DuplicateSolutionDetector<S> byGenotype(
+      GenotypeKeyFunction<S> genotypeKeyFunction) {
+    return new DuplicateSolutionDetector<>(genotypeKeyFunction);
+  }
+
+  /** Returns a detector of solutions with both the same objective values and the same variables */
+  public static <S extends Solution<?>> DuplicateSolutionDetector<S> byObjectivesAndGenotype(
+      double tolerance, GenotypeKeyFunction<S> genotypeKeyFunction) {
+    Check.notNull(genotypeKeyFunction);
+    GenotypeKeyFunction<S> objectiveKeyFunction = objectiveKeyFunction(tolerance);
+
+    return new DuplicateSolutionDetector<>(
+        solution ->
+            GenotypeKey.concatenate(
+                objectiveKeyFunction.keyOf(solution), genotypeKeyFunction.keyOf(solution)));
+  }
+
+  private static <S extends Solution<?>> GenotypeKeyFunction<S> objectiveKeyFunction(
+      double tolerance) {
+    Check.that(tolerance >= 0.0, "The tolerance is negative: " + tolerance);
+
+    return solution -> {
+      double[] objectives = solution.objectives();
+      long[] words = new long[objectives.length];
+      for (int i = 0; i < objectives.length; i++) {
+        words[i] =
+            (tolerance == 0.0)
+                // 0.0 and -0.0 are the same value
+                ? Double.doubleToLongBits(objectives[i] == 0.0 ? 0.0 : objectives[i])
+                : Math.round(objectives[i] / tolerance);
+      }
+
+      return new GenotypeKey(words);
+    };
+  }
+
+  /** Returns the solutions of a list which are not duplicates of a previous solution of the list */
+  public List<S> removeDuplicates(List<S> solutionList) {
+    return filter(Collections.emptyList(), solutionList);
+  }
+
+  /** Returns the solutions of a list which are duplicates of a previous solution of the list */
+  public List<S> getDuplicates(List<S> solutionList) {
+    Check.notNull(solutionList);
+    clear(solutionList.size());
+
+    List<S> duplicates = new ArrayList<>();
+    for (S solution : solutionList) {
+      if (!insert(keyFunction.keyOf(solution))) {
+        duplicates.add(solution);
+      }
+    }
+
+    return duplicates;
+  }
+
+  /** Returns true if a list contains duplicated solutions */
+  public boolean containsDuplicates(List<S> solutionList) {
+    Check.notNull(solutionList);
+    clear(solutionList.size());
+
+    for (S solution : solutionList) {
+      if (!insert(keyFunction.keyOf(solution))) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the candidate solutions which are neither duplicates of a solution of a reference list
+   * nor of a previous candidate (e.g., the offspring which are not duplicates of the population)
+   */
+  public List<S> filter(List<S> referenceList, List<S> candidateList) {
+    Check.notNull(referenceList);
+    Check.notNull(candidateList);
+    clear(referenceList.size() + candidateList.size());
+
+    for (S solution : referenceList) {
+      insert(keyFunction.keyOf(solution));
+    }
+
+    List<S> result = new ArrayList<>(candidateList.size());
+    for (S solution : candidateList) {
+      if (insert(keyFunction.keyOf(solution))) {
+        result.add(solution);
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Empties the table, which is enlarged if needed to keep its load factor below 0.5 when the given
+   * number of keys are inserted
+   */
+  private void clear(int numberOfKeys) {
+    int capacity = MINIMUM_CAPACITY;
+    while (capacity < 2 * numberOfKeys) {
+      capacity <<= 1;
+    }
+
+    if ((table == null) || (table.length < capacity)) {
+      table = new GenotypeKey[capacity];
+      usedSlots = new int[capacity];
+    } else {
+      for (int i = 0; i < numberOfUsedSlots; i++) {
+        table[usedSlots[i]] = null;
+      }
+    }
+    numberOfUsedSlots = 0;
+  }
+
+  /** Inserts a key with linear probing; returns false if the key was already in the table */
+  private boolean insert(GenotypeKey key) {
+    int mask = table.length - 1;
+    int slot = key.hashCode() & mask;
+    while (table[slot] != null) {
+      if (table[slot].equals(key)) {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    table[slot] = key;
+    usedSlots[numberOfUsedSlots++] = slot;
+
+    return true;
+  }
+}
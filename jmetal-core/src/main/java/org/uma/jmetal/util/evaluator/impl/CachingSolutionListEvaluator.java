@@ -0,0 +1,94 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.fitnesscache.FitnessCache;
+import org.uma.jmetal.util.fitnesscache.GenotypeKey;
+
+/**
+ * Decorator of a {@link SolutionListEvaluator} that looks up the solutions in a {@link
+ * FitnessCache} before evaluating them. Only the solutions whose genotype is not in the cache are
+ * evaluated, by the decorated evaluator (so they can be evaluated in parallel), and the duplicated
+ * genotypes within a list are evaluated once (their repetitions are counted as cache hits). The
+ * solutions not evaluated get the objective and constraint values of the cached (or evaluated)
+ * ones, so the problem must be deterministic.
+ *
+ * @param <S> Solution
+ */
+@SuppressWarnings("serial")
+public class CachingSolutionListEvaluator<S extends Solution<?>>
+    implements SolutionListEvaluator<S> {
+  private final SolutionListEvaluator<S> evaluator;
+  private final FitnessCache<S> cache;
+
+  public CachingSolutionListEvaluator(SolutionListEvaluator<S> evaluator, FitnessCache<S> cache) {
+    Check.notNull(evaluator);
+    Check.notNull(cache);
+    this.evaluator = evaluator;
+    this.cache = cache;
+  }
+
+  /** Creates a sequential evaluator */
+  public CachingSolutionListEvaluator(FitnessCache<S> cache) {
+    this(new SequentialSolutionListEvaluator<>(), cache);
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    Check.notNull(solutionList);
+
+    List<S> solutionsToEvaluate = new ArrayList<>();
+    List<GenotypeKey> keysToEvaluate = new ArrayList<>();
+    Map<GenotypeKey, List<S>> duplicates = new HashMap<>();
+    Map<GenotypeKey, S> pending = new HashMap<>();
+    for (S solution : solutionList) {
+      GenotypeKey key = cache.keyOf(solution);
+      if (pending.containsKey(key)) {
+        duplicates.computeIfAbsent(key, k -> new ArrayList<>()).add(solution);
+      } else if (!cache.lookup(key, solution)) {
+        pending.put(key, solution);
+        solutionsToEvaluate.add(solution);
+        keysToEvaluate.add(key);
+      }
+    }
+
+    if (!solutionsToEvaluate.isEmpty()) {
+      evaluator.evaluate(solutionsToEvaluate, problem);
+    }
+    for (int i = 0; i < solutionsToEvaluate.size(); i++) {
+      cache.put(keysToEvaluate.get(i), solutionsToEvaluate.get(i));
+    }
+    duplicates.forEach(
+        (key, solutions) -> {
+          for (S solution : solutions) {
+            if (!cache.lookup(key, solution)) {
+              // the entry was too heavy to be cached, or it has already been evicted
+              copyFitness(pending.get(key), solution);
+            }
+          }
+        });
+
+    return solutionList;
+  }
+
+  private static <S extends Solution<?>> void copyFitness(S source, S target) {
+    System.arraycopy(source.objectives(), 0, target.objectives(), 0, source.objectives().length);
+    System.arraycopy(
+        source.constraints(), 0, target.constraints(), 0, source.constraints().length);
+  }
+
+  public FitnessCache<S> getCache() {
+    return cache;
+  }
+
+  @Override
+  public void shutdown() {
+    evaluator.shutdown();
+  }
+}
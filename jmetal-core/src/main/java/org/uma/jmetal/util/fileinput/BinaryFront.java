@@ -0,0 +1,80 @@
+package org.uma.jmetal.util.fileinput;
+
+import java.nio.DoubleBuffer;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Read-only view of a front stored in the binary format of {@link
+ * org.uma.jmetal.util.fileoutput.BinaryFrontWriter}. The values are not copied: they are accessed
+ * directly in the (memory-mapped) buffer, where they are stored column by column.
+ */
+public class BinaryFront {
+  private final DoubleBuffer values;
+  private final int numberOfPoints;
+  private final int numberOfDimensions;
+  private final boolean[] minimized;
+
+  BinaryFront(DoubleBuffer values, int numberOfPoints, boolean[] minimized) {
+    this.values = values;
+    this.numberOfPoints = numberOfPoints;
+    this.numberOfDimensions = minimized.length;
+    this.minimized = minimized;
+  }
+
+  public int getNumberOfPoints() {
+    return numberOfPoints;
+  }
+
+  public int getNumberOfDimensions() {
+    return numberOfDimensions;
+  }
+
+  /** Returns false if the dimension is an objective to be maximized whose values were negated */
+  public boolean isMinimized(int dimension) {
+    return minimized[dimension];
+  }
+
+  public double get(int point, int dimension) {
+    Check.valueIsInRange(point, 0, numberOfPoints - 1);
+    Check.valueIsInRange(dimension, 0, numberOfDimensions - 1);
+
+    return values.get(dimension * numberOfPoints + point);
+  }
+
+  /** Returns a copy of a point */
+  public double[] getPoint(int point) {
+    Check.valueIsInRange(point, 0, numberOfPoints - 1);
+
+    double[] vector = new double[numberOfDimensions];
+    for (int j = 0; j < numberOfDimensions; j++) {
+      vector[j] = values.get(j * numberOfPoints + point);
+    }
+
+    return vector;
+  }
+
+  /** Returns a view (not a copy) of the values of a dimension of all the points */
+  public DoubleBuffer getColumn(int dimension) {
+    Check.valueIsInRange(dimension, 0, numberOfDimensions - 1);
+
+    DoubleBuffer column = values.duplicate();
+    column.position(dimension * numberOfPoints);
+    column.limit((dimension + 1) * numberOfPoints);
+
+    return column.slice();
+  }
+
+  /** Copies the front into a matrix where the i-th row is the i-th point */
+  public double[][] toMatrix() {
+    double[][] matrix = new double[numberOfPoints][numberOfDimensions];
+    DoubleBuffer buffer = values.duplicate();
+    buffer.rewind();
+    for (int j = 0; j < numberOfDimensions; j++) {
+      for (int i = 0; i < numberOfPoints; i++) {
+        matrix[i][j] = buffer.get();
+      }
+    }
+
+    return matrix;
+  }
+}
@@ -0,0 +1,101 @@
+package org.uma.jmetal.util.fileinput;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.fileoutput.BinaryFrontWriter;
+
+/**
+ * Class for reading the files written by {@link BinaryFrontWriter}. The files are memory-mapped,
+ * so no parsing is needed: {@link #map(String)} returns a view of the values without copying them,
+ * and {@link #read(String)} copies them into a matrix.
+ */
+public class BinaryFrontReader {
+
+  /**
+   * Returns true if the file starts with the magic number of the binary format. Any other file
+   * (including empty or non existing ones) is considered as not binary.
+   */
+  public static boolean isBinaryFrontFile(String fileName) {
+    Path path = Paths.get(fileName);
+    if (!Files.isRegularFile(path)) {
+      return false;
+    }
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) < 0) {
+          return false;
+        }
+      }
+      buffer.flip();
+
+      return buffer.getInt() == BinaryFrontWriter.MAGIC_NUMBER;
+    } catch (IOException e) {
+      throw new JMetalException("Error reading file " + fileName, e);
+    }
+  }
+
+  /** Maps a file into memory and returns a view of its contents */
+  public static BinaryFront map(String fileName) {
+    try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new JMetalException("The file " + fileName + " is too large to be mapped: " + size);
+      }
+      if (size < BinaryFrontWriter.HEADER_SIZE) {
+        throw new JMetalException("The file " + fileName + " is not a binary front file");
+      }
+
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+      int magicNumber = buffer.getInt();
+      int version = buffer.getInt();
+      int numberOfPoints = buffer.getInt();
+      int numberOfDimensions = buffer.getInt();
+      if (magicNumber != BinaryFrontWriter.MAGIC_NUMBER) {
+        throw new JMetalException("The file " + fileName + " is not a binary front file");
+      }
+      if (version != BinaryFrontWriter.VERSION) {
+        throw new JMetalException("Unsupported version of file " + fileName + ": " + version);
+      }
+
+      int dataOffset = BinaryFrontWriter.dataOffset(numberOfDimensions);
+      long expectedSize = dataOffset + (long) numberOfPoints * numberOfDimensions * Double.BYTES;
+      if (size != expectedSize) {
+        throw new JMetalException(
+            "The size of file " + fileName + " is " + size + " instead of " + expectedSize);
+      }
+
+      boolean[] minimized = new boolean[numberOfDimensions];
+      for (int j = 0; j < numberOfDimensions; j++) {
+        minimized[j] = buffer.get() != 0;
+      }
+
+      buffer.position(dataOffset);
+      ByteBuffer data = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+
+      return new BinaryFront(data.asDoubleBuffer(), numberOfPoints, minimized);
+    } catch (IOException e) {
+      throw new JMetalException("Error reading file " + fileName, e);
+    }
+  }
+
+  /**
+   * Reads a file into a matrix
+   *
+   * @return The matrix of values. matrix[i][j] is the j-th value of the i-th point
+   */
+  public static double[][] read(String fileName) {
+    return map(fileName).toMatrix();
+  }
+}
@@ -35,6 +35,10 @@ public class VectorFileUtils {
       }
     }
 
+    if (BinaryFrontReader.isBinaryFrontFile(path)) {
+      return BinaryFrontReader.read(path);
+    }
+
     List<String> vectorStrList = null;
     try {
       vectorStrList = Files.readAllLines(Paths.get(path));
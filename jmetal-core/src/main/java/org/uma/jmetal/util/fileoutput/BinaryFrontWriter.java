@@ -0,0 +1,192 @@
+package org.uma.jmetal.util.fileoutput;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Class for writing matrices of doubles (typically, the objective or variable values of a list of
+ * solutions) in a compact binary format. The layout of a file is:
+ *
+ * <ul>
+ *   <li>A 16 byte header with four little-endian ints: a magic number ({@link #MAGIC_NUMBER}), the
+ *       version of the format, the number of rows (points) and the number of columns.
+ *   <li>One byte per column with a minimization flag (1: the column is minimized; 0: the column
+ *       corresponds to an objective to be maximized whose values have been negated), padded with
+ *       zeros to a multiple of 8 bytes.
+ *   <li>The values, as little-endian doubles stored column by column (all the values of the first
+ *       column, then all the values of the second one, and so on).
+ * </ul>
+ *
+ * Files written in this format can be read with {@link
+ * org.uma.jmetal.util.fileinput.BinaryFrontReader}, which memory-maps them.
+ */
+public class BinaryFrontWriter {
+  /** Extension of the files that {@link SolutionListOutput} writes in binary format */
+  public static final String FILE_EXTENSION = ".bin";
+
+  /** The bytes "JMFB" read as a little-endian int */
+  public static final int MAGIC_NUMBER = 0x42464D4A;
+
+  public static final int VERSION = 1;
+  public static final int HEADER_SIZE = 16;
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private interface Matrix {
+    double get(int row, int column);
+  }
+
+  /** Returns true if the name of a file has the extension of the binary format */
+  public static boolean isBinaryFileName(String fileName) {
+    return fileName.endsWith(FILE_EXTENSION);
+  }
+
+  /** Returns the position of the first value in a file having a number of columns */
+  public static int dataOffset(int numberOfColumns) {
+    return HEADER_SIZE + ((numberOfColumns + 7) / 8) * 8;
+  }
+
+  /** Writes a matrix whose columns are all minimized */
+  public static void write(String fileName, double[][] matrix) {
+    int numberOfColumns = (matrix.length == 0) ? 0 : matrix[0].length;
+    boolean[] minimized = new boolean[numberOfColumns];
+    Arrays.fill(minimized, true);
+
+    write(fileName, matrix, minimized);
+  }
+
+  /**
+   * Writes a matrix
+   *
+   * @param fileName Name of the file
+   * @param matrix Matrix of values; all the rows must have the same length
+   * @param minimized Minimization flag of each column
+   */
+  public static void write(String fileName, double[][] matrix, boolean[] minimized) {
+    Check.notNull(matrix);
+    Check.notNull(minimized);
+    for (double[] row : matrix) {
+      Check.that(
+          row.length == minimized.length,
+          "The length of a row is " + row.length + " instead of " + minimized.length);
+    }
+
+    write(fileName, matrix.length, minimized, (row, column) -> matrix[row][column]);
+  }
+
+  /** Writes the objective values of a list of solutions */
+  public static void writeObjectives(String fileName, List<? extends Solution<?>> solutionList) {
+    int numberOfObjectives = solutionList.isEmpty() ? 0 : solutionList.get(0).objectives().length;
+    boolean[] minimized = new boolean[numberOfObjectives];
+    Arrays.fill(minimized, true);
+
+    write(
+        fileName,
+        solutionList.size(),
+        minimized,
+        (row, column) -> solutionList.get(row).objectives()[column]);
+  }
+
+  /**
+   * Writes the objective values of a list of solutions, negating those of the objectives to be
+   * maximized (as done by {@link SolutionListOutput}); their columns are flagged as not minimized.
+   */
+  public static void writeObjectives(
+      String fileName, List<? extends Solution<?>> solutionList, List<Boolean> minimizeObjective) {
+    int numberOfObjectives = solutionList.isEmpty() ? 0 : solutionList.get(0).objectives().length;
+    if (!solutionList.isEmpty() && numberOfObjectives != minimizeObjective.size()) {
+      throw new JMetalException(
+          "The size of list minimizeObjective is not correct: " + minimizeObjective.size());
+    }
+    boolean[] minimized = new boolean[numberOfObjectives];
+    for (int j = 0; j < numberOfObjectives; j++) {
+      minimized[j] = minimizeObjective.get(j);
+    }
+
+    write(
+        fileName,
+        solutionList.size(),
+        minimized,
+        (row, column) -> {
+          double value = solutionList.get(row).objectives()[column];
+          return minimized[column] ? value : -1.0 * value;
+        });
+  }
+
+  /** Writes the variable values of a list of solutions, which must be numbers */
+  public static void writeVariables(String fileName, List<? extends Solution<?>> solutionList) {
+    int numberOfVariables = solutionList.isEmpty() ? 0 : solutionList.get(0).variables().size();
+    boolean[] minimized = new boolean[numberOfVariables];
+    Arrays.fill(minimized, true);
+
+    write(
+        fileName,
+        solutionList.size(),
+        minimized,
+        (row, column) -> {
+          Object value = solutionList.get(row).variables().get(column);
+          if (!(value instanceof Number)) {
+            throw new JMetalException(
+                "The binary format only supports numeric variables: " + value.getClass());
+          }
+          return ((Number) value).doubleValue();
+        });
+  }
+
+  private static void write(
+      String fileName, int numberOfRows, boolean[] minimized, Matrix matrix) {
+    int numberOfColumns = minimized.length;
+    int dataOffset = dataOffset(numberOfColumns);
+
+    try (FileChannel channel =
+        FileChannel.open(
+            Paths.get(fileName),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      ByteBuffer buffer =
+          ByteBuffer.allocateDirect(Math.max(BUFFER_SIZE, dataOffset))
+              .order(ByteOrder.LITTLE_ENDIAN);
+
+      buffer.putInt(MAGIC_NUMBER);
+      buffer.putInt(VERSION);
+      buffer.putInt(numberOfRows);
+      buffer.putInt(numberOfColumns);
+      for (boolean flag : minimized) {
+        buffer.put((byte) (flag ? 1 : 0));
+      }
+      while (buffer.position() < dataOffset) {
+        buffer.put((byte) 0);
+      }
+
+      for (int column = 0; column < numberOfColumns; column++) {
+        for (int row = 0; row < numberOfRows; row++) {
+          if (buffer.remaining() < Double.BYTES) {
+            flush(channel, buffer);
+          }
+          buffer.putDouble(matrix.get(row, column));
+        }
+      }
+      flush(channel, buffer);
+    } catch (IOException e) {
+      throw new JMetalException("Error writing binary file " + fileName, e);
+    }
+  }
+
+  private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+}
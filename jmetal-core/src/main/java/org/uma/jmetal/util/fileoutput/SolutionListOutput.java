@@ -7,7 +7,14 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 
-/** @author Antonio J. Nebro <antonio@lcc.uma.es> */
+/**
+ * Class for writing the variables and objectives of a list of solutions into files. The files are
+ * written as text, except those whose name has the extension {@link
+ * BinaryFrontWriter#FILE_EXTENSION}, which are written in the binary format of {@link
+ * BinaryFrontWriter}.
+ *
+ * @author Antonio J. Nebro <antonio@lcc.uma.es>
+ */
 public class SolutionListOutput {
   private FileOutputContext varFileContext;
   private FileOutputContext funFileContext;
@@ -53,6 +60,11 @@ public class SolutionListOutput {
 
   public void printVariablesToFile(
       FileOutputContext context, List<? extends Solution<?>> solutionList) {
+    if (BinaryFrontWriter.isBinaryFileName(context.getFileName())) {
+      BinaryFrontWriter.writeVariables(context.getFileName(), solutionList);
+      return;
+    }
+
     BufferedWriter bufferedWriter = context.getFileWriter();
 
     try {
@@ -77,6 +89,11 @@ public class SolutionListOutput {
 
   public void printObjectivesToFile(
       FileOutputContext context, List<? extends Solution<?>> solutionList) {
+    if (BinaryFrontWriter.isBinaryFileName(context.getFileName())) {
+      BinaryFrontWriter.writeObjectives(context.getFileName(), solutionList);
+      return;
+    }
+
     BufferedWriter bufferedWriter = context.getFileWriter();
 
     try {
@@ -102,6 +119,11 @@ public class SolutionListOutput {
       FileOutputContext context,
       List<? extends Solution<?>> solutionList,
       List<Boolean> minimizeObjective) {
+    if (BinaryFrontWriter.isBinaryFileName(context.getFileName())) {
+      BinaryFrontWriter.writeObjectives(context.getFileName(), solutionList, minimizeObjective);
+      return;
+    }
+
     BufferedWriter bufferedWriter = context.getFileWriter();
 
     try {
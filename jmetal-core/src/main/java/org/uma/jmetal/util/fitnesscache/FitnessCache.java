@@ -0,0 +1,249 @@
+package org.uma.jmetal.util.fitnesscache;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Bounded cache of the objective and constraint values of already evaluated genotypes. It is
+ * intended to avoid evaluating again the solutions that are repeated (e.g., the offspring produced
+ * when no crossover or mutation is applied, or the duplicated genotypes that are very frequent in
+ * binary and permutation problems), which is worth when the evaluation is expensive.
+ *
+ * <p>The entries are distributed by the hash of their {@link GenotypeKey} among a number of
+ * segments, each of them with its own lock and a least recently used eviction policy, so the cache
+ * can be used concurrently. The capacity is given as a maximum weight, where the weight of an entry
+ * is computed by a {@link Weigher}: {@link #ENTRY_COUNT} limits the number of entries, while {@link
+ * #MEMORY_WORDS} limits the memory (in 64-bit words) of the keys and the values. The cache counts
+ * the hits, misses and evictions.
+ *
+ * <p>The cached values are only valid while the problem does not change, so the cache must be
+ * cleared if a dynamic problem is updated.
+ *
+ * @param <S> Solution
+ */
+@SuppressWarnings("serial")
+public class FitnessCache<S extends Solution<?>> implements Serializable {
+  /** Computes the weight of an entry of the cache */
+  @FunctionalInterface
+  public interface Weigher extends Serializable {
+    long weigh(GenotypeKey key, double[] objectives, double[] constraints);
+  }
+
+  public static final Weigher ENTRY_COUNT = (key, objectives, constraints) -> 1;
+  public static final Weigher MEMORY_WORDS =
+      (key, objectives, constraints) -> key.size() + objectives.length + constraints.length;
+
+  private static final int MINIMUM_SEGMENT_WEIGHT = 16;
+
+  private final GenotypeKeyFunction<? super S> keyFunction;
+  private final long maximumWeight;
+  private final Weigher weigher;
+  private final Segment[] segments;
+  private final int segmentShift;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Constructor
+   *
+   * @param keyFunction function computing the key of a solution
+   * @param maximumWeight maximum total weight of the entries
+   * @param weigher function computing the weight of an entry
+   */
+  public FitnessCache(
+      GenotypeKeyFunction<? super S> keyFunction, long maximumWeight, Weigher weigher) {
+    Check.notNull(keyFunction);
+    Check.notNull(weigher);
+    Check.that(maximumWeight > 0, "The maximum weight must be positive: " + maximumWeight);
+    this.keyFunction = keyFunction;
+    this.maximumWeight = maximumWeight;
+    this.weigher = weigher;
+
+    int numberOfSegments = 1;
+    while (numberOfSegments < 4 * Runtime.getRuntime().availableProcessors()
+        && maximumWeight / (2L * numberOfSegments) >= MINIMUM_SEGMENT_WEIGHT) {
+      numberOfSegments *= 2;
+    }
+    segmentShift = 32 - Integer.numberOfTrailingZeros(numberOfSegments);
+    long segmentWeight = (maximumWeight + numberOfSegments - 1) / numberOfSegments;
+    segments = new Segment[numberOfSegments];
+    for (int i = 0; i < numberOfSegments; i++) {
+      segments[i] = new Segment(segmentWeight);
+    }
+  }
+
+  /** Creates a cache with a maximum number of entries */
+  public FitnessCache(GenotypeKeyFunction<? super S> keyFunction, long maximumSize) {
+    this(keyFunction, maximumSize, ENTRY_COUNT);
+  }
+
+  /** Returns the key of a solution */
+  public GenotypeKey keyOf(S solution) {
+    return keyFunction.keyOf(solution);
+  }
+
+  /**
+   * Copies the cached objective and constraint values of a key into a solution.
+   *
+   * @return true if the key was in the cache (a hit), false otherwise (a miss)
+   */
+  public boolean lookup(GenotypeKey key, S solution) {
+    Entry entry = segmentOf(key).get(key);
+    if (entry == null) {
+      misses.increment();
+      return false;
+    }
+    hits.increment();
+    System.arraycopy(entry.objectives, 0, solution.objectives(), 0, entry.objectives.length);
+    System.arraycopy(entry.constraints, 0, solution.constraints(), 0, entry.constraints.length);
+
+    return true;
+  }
+
+  /** Stores the objective and constraint values of an evaluated solution */
+  public void put(GenotypeKey key, S solution) {
+    double[] objectives = solution.objectives().clone();
+    double[] constraints = solution.constraints().clone();
+    long weight = weigher.weigh(key, objectives, constraints);
+
+    evictions.add(segmentOf(key).put(key, new Entry(objectives, constraints, weight)));
+  }
+
+  private Segment segmentOf(GenotypeKey key) {
+    return segments.length == 1
+        ? segments[0]
+        : segments[(key.hashCode() * 0x9E3779B9) >>> segmentShift];
+  }
+
+  /** Removes all the entries; the statistics are kept */
+  public void clear() {
+    for (Segment segment : segments) {
+      segment.clear();
+    }
+  }
+
+  /** Returns the number of entries */
+  public long size() {
+    long size = 0;
+    for (Segment segment : segments) {
+      size += segment.size();
+    }
+
+    return size;
+  }
+
+  /** Returns the total weight of the entries */
+  public long getWeight() {
+    long weight = 0;
+    for (Segment segment : segments) {
+      weight += segment.getWeight();
+    }
+
+    return weight;
+  }
+
+  public long getMaximumWeight() {
+    return maximumWeight;
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  /** Returns the fraction of the lookups that were hits, or 0 if there have been no lookups */
+  public double getHitRate() {
+    long hitCount = getHitCount();
+    long lookups = hitCount + getMissCount();
+
+    return lookups == 0 ? 0.0 : (double) hitCount / lookups;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "FitnessCache[size=%d, weight=%d/%d, hits=%d, misses=%d, evictions=%d, hitRate=%.3f]",
+        size(),
+        getWeight(),
+        maximumWeight,
+        getHitCount(),
+        getMissCount(),
+        getEvictionCount(),
+        getHitRate());
+  }
+
+  private static final class Entry implements Serializable {
+    private final double[] objectives;
+    private final double[] constraints;
+    private final long weight;
+
+    private Entry(double[] objectives, double[] constraints, long weight) {
+      this.objectives = objectives;
+      this.constraints = constraints;
+      this.weight = weight;
+    }
+  }
+
+  /** Part of the cache with its own lock and least recently used eviction */
+  private static final class Segment implements Serializable {
+    private final LinkedHashMap<GenotypeKey, Entry> entries =
+        new LinkedHashMap<>(16, 0.75f, true);
+    private final long maximumWeight;
+    private long weight;
+
+    private Segment(long maximumWeight) {
+      this.maximumWeight = maximumWeight;
+    }
+
+    synchronized Entry get(GenotypeKey key) {
+      return entries.get(key);
+    }
+
+    /** Adds an entry and returns the number of evicted entries */
+    synchronized int put(GenotypeKey key, Entry entry) {
+      if (entry.weight > maximumWeight) {
+        return 0;
+      }
+      Entry previous = entries.put(key, entry);
+      weight += entry.weight - (previous == null ? 0 : previous.weight);
+
+      int evicted = 0;
+      Iterator<Map.Entry<GenotypeKey, Entry>> iterator = entries.entrySet().iterator();
+      while (weight > maximumWeight) {
+        Entry eldest = iterator.next().getValue();
+        iterator.remove();
+        weight -= eldest.weight;
+        evicted++;
+      }
+
+      return evicted;
+    }
+
+    synchronized void clear() {
+      entries.clear();
+      weight = 0;
+    }
+
+    synchronized int size() {
+      return entries.size();
+    }
+
+    synchronized long getWeight() {
+      return weight;
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package org.uma.jmetal.util.fitnesscache;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Immutable key identifying the genotype (i.e., the variables) of a solution in a {@link
+ * FitnessCache}. The variables are packed in an array of longs (the bits of binary variables,
+ * pairs of integers, or the bits or quantised values of doubles) and the hash code is computed
+ * once, so comparing keys is much cheaper than comparing the variable lists.
+ */
+@SuppressWarnings("serial")
+public final class GenotypeKey implements Serializable {
+  private final long[] words;
+  private final int hash;
+
+  /** Creates a key from packed words; the array must not be modified afterwards */
+  public GenotypeKey(long[] words) {
+    Check.notNull(words);
+    this.words = words;
+
+    long h = 0x9E3779B97F4A7C15L * (words.length + 1);
+    for (long word : words) {
+      h = mix(h ^ word) * 0x9E3779B97F4A7C15L;
+    }
+    h = mix(h);
+    this.hash = (int) (h ^ (h >>> 32));
+  }
+
+  /* Finalizer of the 64-bit MurmurHash3 */
+  private static long mix(long value) {
+    long h = value;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+
+    return h;
+  }
+
+  /** Returns the number of 64-bit words of the key */
+  public int size() {
+    return words.length;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof GenotypeKey)) {
+      return false;
+    }
+    GenotypeKey that = (GenotypeKey) o;
+
+    return hash == that.hash && Arrays.equals(words, that.words);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  /**
+   * Returns the key made of the words of two keys (e.g., the keys of the objectives and of the
+   * variables of a solution), preceded by the size of the first one
+   */
+  public static GenotypeKey concatenate(GenotypeKey key1, GenotypeKey key2) {
+    long[] words = new long[1 + key1.words.length + key2.words.length];
+    words[0] = key1.words.length;
+    System.arraycopy(key1.words, 0, words, 1, key1.words.length);
+    System.arraycopy(key2.words, 0, words, 1 + key1.words.length, key2.words.length);
+
+    return new GenotypeKey(words);
+  }
+
+  /** Key of a binary solution: the length of each variable followed by its packed bits */
+  public static GenotypeKey ofBinary(BinarySolution solution) {
+    List<BinarySet> variables = solution.variables();
+    int size = 0;
+    for (BinarySet variable : variables) {
+      size += 1 + (variable.getBinarySetLength() + 63) / 64;
+    }
+
+    long[] words = new long[size];
+    int position = 0;
+    for (BinarySet variable : variables) {
+      int length = variable.getBinarySetLength();
+      words[position] = length;
+      long[] bits = variable.toLongArray();
+      System.arraycopy(bits, 0, words, position + 1, bits.length);
+      position += 1 + (length + 63) / 64;
+    }
+
+    return new GenotypeKey(words);
+  }
+
+  /**
+   * Key of a solution with integer variables (e.g., an integer or a permutation solution): the
+   * number of variables followed by the variables packed in pairs
+   */
+  public static GenotypeKey ofIntegers(Solution<Integer> solution) {
+    List<Integer> variables = solution.variables();
+    int n = variables.size();
+    long[] words = new long[1 + (n + 1) / 2];
+    words[0] = n;
+    for (int i = 0; i < n; i++) {
+      long value = variables.get(i) & 0xFFFFFFFFL;
+      words[1 + i / 2] |= (i % 2 == 0) ? value : value << 32;
+    }
+
+    return new GenotypeKey(words);
+  }
+
+  /** Key of a solution with double variables, which must be exactly equal to have the same key */
+  public static GenotypeKey ofDoubles(Solution<Double> solution) {
+    List<Double> variables = solution.variables();
+    long[] words = new long[variables.size()];
+    for (int i = 0; i < words.length; i++) {
+      double value = variables.get(i);
+      // 0.0 and -0.0 are the same genotype
+      words[i] = Double.doubleToLongBits(value == 0.0 ? 0.0 : value);
+    }
+
+    return new GenotypeKey(words);
+  }
+
+  /**
+   * Returns a function computing the key of a solution with double variables after rounding them to
+   * multiples of a quantum, so the solutions whose variables differ in less than the quantum share
+   * the same key (and fitness) in most cases
+   */
+  public static <S extends Solution<Double>> GenotypeKeyFunction<S> quantisedDoubles(
+      double quantum) {
+    Check.that(quantum > 0.0, "The quantum must be positive: " + quantum);
+
+    return solution -> {
+      List<Double> variables = solution.variables();
+      long[] words = new long[variables.size()];
+      for (int i = 0; i < words.length; i++) {
+        words[i] = Math.round(variables.get(i) / quantum);
+      }
+
+      return new GenotypeKey(words);
+    };
+  }
+}
@@ -0,0 +1,14 @@
+package org.uma.jmetal.util.fitnesscache;
+
+import java.io.Serializable;
+
+/**
+ * Function computing the {@link GenotypeKey} of a solution. The predefined functions are in {@link
+ * GenotypeKey} (e.g., {@code GenotypeKey::ofBinary}).
+ *
+ * @param <S> Solution
+ */
+@FunctionalInterface
+public interface GenotypeKeyFunction<S> extends Serializable {
+  GenotypeKey keyOf(S solution);
+}
@@ -0,0 +1,14 @@
+package org.uma.jmetal.util.measure.instrumentation;
+
+/**
+ * Phases of the loop of an evolutionary algorithm that can be measured with a {@link
+ * PhaseInstrumentation}
+ */
+public enum AlgorithmPhase {
+  INITIAL_CREATION,
+  EVALUATION,
+  SELECTION,
+  VARIATION,
+  REPLACEMENT,
+  ARCHIVE_UPDATE
+}
@@ -0,0 +1,136 @@
+package org.uma.jmetal.util.measure.instrumentation;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Histogram of non-negative long values (e.g., durations in nanoseconds) with a bounded relative
+ * error, in the style of HdrHistogram. The values lower than 2^b, where b is the number of
+ * significant bits, are stored exactly; the other ones are stored in buckets whose width is
+ * proportional to the magnitude of the values, so the relative error of the reported values is
+ * lower than 2^(1-b) while the memory is fixed (about 2^(b-1) * (64 - b) counters) regardless of
+ * the range of the values. The values can be recorded concurrently.
+ */
+@SuppressWarnings("serial")
+public class Histogram implements Serializable {
+  public static final int DEFAULT_SIGNIFICANT_BITS = 6;
+
+  private final int significantBits;
+  private final int subBucketCount;
+  private final int halfSubBucketCount;
+  private final AtomicLongArray counts;
+  private final LongAdder totalCount = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicLong max = new AtomicLong(0);
+
+  public Histogram(int significantBits) {
+    Check.valueIsInRange(significantBits, 2, 16);
+    this.significantBits = significantBits;
+    this.subBucketCount = 1 << significantBits;
+    this.halfSubBucketCount = subBucketCount >> 1;
+    this.counts = new AtomicLongArray(bucketIndex(Long.MAX_VALUE) + 1);
+  }
+
+  public Histogram() {
+    this(DEFAULT_SIGNIFICANT_BITS);
+  }
+
+  /** Records a value; negative values are recorded as zero */
+  public void record(long value) {
+    long v = Math.max(0, value);
+    counts.incrementAndGet(bucketIndex(v));
+    totalCount.increment();
+    sum.add(v);
+    min.accumulateAndGet(v, Math::min);
+    max.accumulateAndGet(v, Math::max);
+  }
+
+  private int bucketIndex(long value) {
+    if (value < subBucketCount) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - significantBits + 1;
+    int subBucket = (int) (value >>> shift);
+
+    return subBucketCount + (shift - 1) * halfSubBucketCount + (subBucket - halfSubBucketCount);
+  }
+
+  /** Returns the highest value stored in a bucket */
+  private long highestValueOf(int index) {
+    if (index < subBucketCount) {
+      return index;
+    }
+    int shift = (index - subBucketCount) / halfSubBucketCount + 1;
+    long subBucket = (index - subBucketCount) % halfSubBucketCount + halfSubBucketCount;
+
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  public long getCount() {
+    return totalCount.sum();
+  }
+
+  public long getSum() {
+    return sum.sum();
+  }
+
+  /** Returns the minimum recorded value, or 0 if the histogram is empty */
+  public long getMin() {
+    return getCount() == 0 ? 0 : min.get();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  /** Returns the mean of the recorded values, or 0 if the histogram is empty */
+  public double getMean() {
+    long count = getCount();
+    return count == 0 ? 0.0 : (double) getSum() / count;
+  }
+
+  /**
+   * Returns the value at a percentile (between 0 and 100), i.e., the highest value of the bucket
+   * containing it, bounded by the maximum recorded value. The result is 0 if the histogram is
+   * empty.
+   */
+  public long getValueAtPercentile(double percentile) {
+    Check.valueIsInRange(percentile, 0.0, 100.0);
+    long count = getCount();
+    if (count == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+    long accumulated = 0;
+    for (int i = 0; i < counts.length(); i++) {
+      accumulated += counts.get(i);
+      if (accumulated >= rank) {
+        return Math.min(highestValueOf(i), getMax());
+      }
+    }
+
+    return getMax();
+  }
+
+  public void reset() {
+    for (int i = 0; i < counts.length(); i++) {
+      counts.set(i, 0);
+    }
+    totalCount.reset();
+    sum.reset();
+    min.set(Long.MAX_VALUE);
+    max.set(0);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "count=%d, mean=%.1f, p50=%d, p99=%d, max=%d",
+        getCount(), getMean(), getValueAtPercentile(50), getValueAtPercentile(99), getMax());
+  }
+}
@@ -0,0 +1,35 @@
+package org.uma.jmetal.util.measure.instrumentation;
+
+import java.io.Serializable;
+import jdk.jfr.EventType;
+
+/**
+ * {@link PhaseListener} that emits a JDK Flight Recorder event ("org.uma.jmetal.AlgorithmPhase")
+ * per executed phase, so the phases can be analyzed along with the rest of the JFR events (GC,
+ * allocations, locks, etc.) of a recording. The events are only created when a recording with the
+ * event enabled is running, e.g.: {@code java -XX:StartFlightRecording=filename=run.jfr ...}
+ */
+@SuppressWarnings("serial")
+public class JfrPhaseListener implements PhaseListener, Serializable {
+  private static final EventType EVENT_TYPE = EventType.getEventType(PhaseEvent.class);
+
+  private final String algorithmName;
+
+  /** @param algorithmName name of the algorithm, which is included in the events */
+  public JfrPhaseListener(String algorithmName) {
+    this.algorithmName = algorithmName;
+  }
+
+  @Override
+  public void phaseCompleted(AlgorithmPhase phase, long nanoseconds, long allocatedBytes) {
+    if (!EVENT_TYPE.isEnabled()) {
+      return;
+    }
+    PhaseEvent event = new PhaseEvent();
+    event.algorithm = algorithmName;
+    event.phase = phase.name();
+    event.phaseDuration = nanoseconds;
+    event.allocatedBytes = allocatedBytes;
+    event.commit();
+  }
+}
@@ -0,0 +1,35 @@
+package org.uma.jmetal.util.measure.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JDK Flight Recorder event of the execution of a phase of an algorithm
+ */
+@Name("org.uma.jmetal.AlgorithmPhase")
+@Label("Algorithm Phase")
+@Category("jMetal")
+@Description("Execution of a phase of the loop of a jMetal algorithm")
+@StackTrace(false)
+class PhaseEvent extends jdk.jfr.Event {
+  @Label("Algorithm")
+  String algorithm;
+
+  @Label("Phase")
+  String phase;
+
+  @Label("Phase Duration")
+  @Description("Time spent in the phase, excluding its nested phases")
+  @Timespan(Timespan.NANOSECONDS)
+  long phaseDuration;
+
+  @Label("Allocated")
+  @Description("Bytes allocated in the phase, excluding its nested phases (-1 if not measured)")
+  @DataAmount
+  long allocatedBytes;
+}
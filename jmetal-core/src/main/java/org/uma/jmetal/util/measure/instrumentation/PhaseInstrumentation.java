@@ -0,0 +1,224 @@
+package org.uma.jmetal.util.measure.instrumentation;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.measure.Measurable;
+import org.uma.jmetal.util.measure.MeasureManager;
+import org.uma.jmetal.util.measure.impl.SimpleMeasureManager;
+import org.uma.jmetal.util.measure.impl.SimplePullMeasure;
+
+/**
+ * Instrumentation of the phases of an evolutionary algorithm (see {@link AlgorithmPhase}). The
+ * algorithm encloses each phase between calls to {@link #begin(AlgorithmPhase)} and {@link
+ * #end(AlgorithmPhase)}, and, if the instrumentation is enabled, the elapsed nanoseconds and the
+ * bytes allocated by the running thread are accumulated in striped counters ({@link LongAdder}) and
+ * the durations are recorded in a {@link Histogram}. The phases can be nested (e.g., the update of
+ * an archive within the evaluation); the measures of a phase exclude the ones of its nested phases,
+ * so the measures of all the phases can be added up. The calls to begin and end must be made by
+ * the thread running the algorithm, but the measures can be read from any thread.
+ *
+ * <p>The instrumentation is disabled by default, and then the cost of a phase is a field read.
+ * The measures are available through the {@link Measurable} interface, with the keys
+ * "PHASE_TIME" (nanoseconds), "PHASE_ALLOCATED_BYTES", "PHASE_COUNT" and "PHASE_HISTOGRAM", where
+ * PHASE is the name of the phase (e.g., "EVALUATION_TIME"), and through {@link PhaseListener}s
+ * (e.g., {@link JfrPhaseListener} to emit JDK Flight Recorder events).
+ */
+@SuppressWarnings("serial")
+public class PhaseInstrumentation implements Measurable, Serializable {
+  private static final int NUMBER_OF_PHASES = AlgorithmPhase.values().length;
+  private static final int MAXIMUM_DEPTH = 16;
+
+  private volatile boolean enabled;
+  private boolean allocationTracking;
+
+  private final LongAdder[] nanoseconds = new LongAdder[NUMBER_OF_PHASES];
+  private final LongAdder[] allocatedBytes = new LongAdder[NUMBER_OF_PHASES];
+  private final LongAdder[] counts = new LongAdder[NUMBER_OF_PHASES];
+  private final Histogram[] histograms = new Histogram[NUMBER_OF_PHASES];
+  private final List<PhaseListener> listeners = new CopyOnWriteArrayList<>();
+
+  /* Stack of the active phases with their start times and the measures of their nested phases */
+  private final AlgorithmPhase[] activePhases = new AlgorithmPhase[MAXIMUM_DEPTH];
+  private final long[] startNanoseconds = new long[MAXIMUM_DEPTH];
+  private final long[] startAllocatedBytes = new long[MAXIMUM_DEPTH];
+  private final long[] nestedNanoseconds = new long[MAXIMUM_DEPTH];
+  private final long[] nestedAllocatedBytes = new long[MAXIMUM_DEPTH];
+  private int depth;
+
+  private transient SimpleMeasureManager measureManager;
+
+  public PhaseInstrumentation() {
+    for (int i = 0; i < NUMBER_OF_PHASES; i++) {
+      nanoseconds[i] = new LongAdder();
+      allocatedBytes[i] = new LongAdder();
+      counts[i] = new LongAdder();
+      histograms[i] = new Histogram();
+    }
+    enabled = false;
+    allocationTracking = ThreadAllocation.isSupported();
+    depth = 0;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Enables or disables the instrumentation; it must not be changed within a phase */
+  public PhaseInstrumentation setEnabled(boolean enabled) {
+    this.enabled = enabled;
+    depth = 0;
+
+    return this;
+  }
+
+  /** Returns true if the allocated bytes are measured (the JVM must support it) */
+  public boolean isAllocationTracking() {
+    return allocationTracking;
+  }
+
+  public PhaseInstrumentation setAllocationTracking(boolean allocationTracking) {
+    this.allocationTracking = allocationTracking && ThreadAllocation.isSupported();
+
+    return this;
+  }
+
+  public PhaseInstrumentation addListener(PhaseListener listener) {
+    Check.notNull(listener);
+    listeners.add(listener);
+
+    return this;
+  }
+
+  public void removeListener(PhaseListener listener) {
+    listeners.remove(listener);
+  }
+
+  /** Marks the beginning of a phase */
+  public void begin(AlgorithmPhase phase) {
+    if (!enabled) {
+      return;
+    }
+    if (depth == MAXIMUM_DEPTH) {
+      throw new JMetalException("Too many nested phases when beginning the phase " + phase);
+    }
+    activePhases[depth] = phase;
+    nestedNanoseconds[depth] = 0;
+    nestedAllocatedBytes[depth] = 0;
+    startAllocatedBytes[depth] = allocationTracking ? ThreadAllocation.currentThread() : 0;
+    startNanoseconds[depth] = System.nanoTime();
+    depth++;
+  }
+
+  /** Marks the end of a phase, which must be the last one that has begun */
+  public void end(AlgorithmPhase phase) {
+    if (!enabled) {
+      return;
+    }
+    long endNanoseconds = System.nanoTime();
+    if ((depth == 0) || (activePhases[depth - 1] != phase)) {
+      throw new JMetalException("The phase " + phase + " ends but it is not the active one");
+    }
+    depth--;
+    long elapsed = endNanoseconds - startNanoseconds[depth];
+    long allocated =
+        allocationTracking ? ThreadAllocation.currentThread() - startAllocatedBytes[depth] : -1;
+    if (depth > 0) {
+      nestedNanoseconds[depth - 1] += elapsed;
+      nestedAllocatedBytes[depth - 1] += Math.max(0, allocated);
+    }
+
+    record(
+        phase,
+        elapsed - nestedNanoseconds[depth],
+        allocationTracking ? allocated - nestedAllocatedBytes[depth] : -1);
+  }
+
+  private void record(AlgorithmPhase phase, long phaseNanoseconds, long phaseAllocatedBytes) {
+    int index = phase.ordinal();
+    nanoseconds[index].add(phaseNanoseconds);
+    counts[index].increment();
+    histograms[index].record(phaseNanoseconds);
+    if (phaseAllocatedBytes >= 0) {
+      allocatedBytes[index].add(phaseAllocatedBytes);
+    }
+    for (PhaseListener listener : listeners) {
+      listener.phaseCompleted(phase, phaseNanoseconds, phaseAllocatedBytes);
+    }
+  }
+
+  /** Returns the total time spent in a phase in nanoseconds */
+  public long getNanoseconds(AlgorithmPhase phase) {
+    return nanoseconds[phase.ordinal()].sum();
+  }
+
+  /** Returns the total bytes allocated in a phase (0 if the allocations are not measured) */
+  public long getAllocatedBytes(AlgorithmPhase phase) {
+    return allocatedBytes[phase.ordinal()].sum();
+  }
+
+  /** Returns the number of executions of a phase */
+  public long getCount(AlgorithmPhase phase) {
+    return counts[phase.ordinal()].sum();
+  }
+
+  /** Returns the histogram of the durations of a phase in nanoseconds */
+  public Histogram getHistogram(AlgorithmPhase phase) {
+    return histograms[phase.ordinal()];
+  }
+
+  /** Resets the measures of all the phases */
+  public void reset() {
+    for (int i = 0; i < NUMBER_OF_PHASES; i++) {
+      nanoseconds[i].reset();
+      allocatedBytes[i].reset();
+      counts[i].reset();
+      histograms[i].reset();
+    }
+    depth = 0;
+  }
+
+  @Override
+  public synchronized MeasureManager getMeasureManager() {
+    if (measureManager == null) {
+      measureManager = new SimpleMeasureManager();
+      for (AlgorithmPhase phase : AlgorithmPhase.values()) {
+        measureManager.setPullMeasure(
+            phase + "_TIME",
+            pullMeasure(
+                phase + "_TIME", "Nanoseconds spent in " + phase, () -> getNanoseconds(phase)));
+        measureManager.setPullMeasure(
+            phase + "_ALLOCATED_BYTES",
+            pullMeasure(
+                phase + "_ALLOCATED_BYTES",
+                "Bytes allocated in " + phase,
+                () -> getAllocatedBytes(phase)));
+        measureManager.setPullMeasure(
+            phase + "_COUNT",
+            pullMeasure(phase + "_COUNT", "Executions of " + phase, () -> getCount(phase)));
+        measureManager.setPullMeasure(
+            phase + "_HISTOGRAM",
+            pullMeasure(
+                phase + "_HISTOGRAM",
+                "Histogram of the nanoseconds spent in " + phase,
+                () -> getHistogram(phase)));
+      }
+    }
+
+    return measureManager;
+  }
+
+  private static <T> SimplePullMeasure<T> pullMeasure(
+      String name, String description, Supplier<T> value) {
+    return new SimplePullMeasure<T>(name, description) {
+      @Override
+      public T get() {
+        return value.get();
+      }
+    };
+  }
+}
@@ -0,0 +1,15 @@
+package org.uma.jmetal.util.measure.instrumentation;
+
+/**
+ * Listener notified by a {@link PhaseInstrumentation} each time the execution of a phase ends
+ */
+@FunctionalInterface
+public interface PhaseListener {
+  /**
+   * @param phase the phase
+   * @param nanoseconds time spent in the phase, excluding the time of the nested phases
+   * @param allocatedBytes bytes allocated in the phase, excluding the nested phases, or -1 if the
+   *     allocations are not measured
+   */
+  void phaseCompleted(AlgorithmPhase phase, long nanoseconds, long allocatedBytes);
+}
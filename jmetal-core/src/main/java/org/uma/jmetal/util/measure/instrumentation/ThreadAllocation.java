@@ -0,0 +1,36 @@
+package org.uma.jmetal.util.measure.instrumentation;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Access to the bytes allocated by the current thread, obtained from the {@link
+ * com.sun.management.ThreadMXBean} of the JVM. The measure is only available if the JVM supports
+ * it and it is enabled (see {@link #isSupported()}).
+ */
+public final class ThreadAllocation {
+  private static final com.sun.management.ThreadMXBean THREAD_BEAN = threadBean();
+
+  private ThreadAllocation() {}
+
+  private static com.sun.management.ThreadMXBean threadBean() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+      if (threadBean.isThreadAllocatedMemorySupported()
+          && threadBean.isThreadAllocatedMemoryEnabled()) {
+        return threadBean;
+      }
+    }
+
+    return null;
+  }
+
+  public static boolean isSupported() {
+    return THREAD_BEAN != null;
+  }
+
+  /** Returns the bytes allocated by the current thread, or -1 if it is not supported */
+  public static long currentThread() {
+    return isSupported() ? THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+  }
+}
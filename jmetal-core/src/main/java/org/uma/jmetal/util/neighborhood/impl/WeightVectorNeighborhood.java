@@ -9,10 +9,10 @@ import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.StringTokenizer;
-import org.apache.commons.math3.ml.distance.EuclideanDistance;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.neighborhood.Neighborhood;
+import org.uma.jmetal.util.weightvector.WeightVectorCache;
 
 /**
  * This class implements a neighborhood based on the weight vectors of MOEA/D
@@ -92,37 +92,7 @@ public class WeightVectorNeighborhood<S extends Solution<?>> implements Neighbor
   }
 
   private void initializeNeighborhood() {
-    EuclideanDistance euclideanDistance = new EuclideanDistance();
-    double[] x = new double[numberOfWeightVectors];
-    int[] idx = new int[numberOfWeightVectors];
-
-    for (int i = 0; i < numberOfWeightVectors; i++) {
-      // calculate the distances based on weight vectors
-      for (int j = 0; j < numberOfWeightVectors; j++) {
-        x[j] = euclideanDistance.compute(weightVector[i], weightVector[j]);
-        idx[j] = j;
-      }
-
-      // find 'niche' nearest neighboring subproblems
-      minFastSort(x, idx, numberOfWeightVectors, neighborhoodSize);
-
-      System.arraycopy(idx, 0, neighborhood[i], 0, neighborhoodSize);
-    }
-  }
-
-  private void minFastSort(double x[], int idx[], int n, int m) {
-    for (int i = 0; i < m; i++) {
-      for (int j = i + 1; j < n; j++) {
-        if (x[i] > x[j]) {
-          double temp = x[i];
-          x[i] = x[j];
-          x[j] = temp;
-          int id = idx[i];
-          idx[i] = idx[j];
-          idx[j] = id;
-        }
-      }
-    }
+    neighborhood = WeightVectorCache.getNeighborhood(weightVector, neighborhoodSize);
   }
 
   @Override
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Map;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.fileoutput.BinaryFrontWriter;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 import org.uma.jmetal.util.observable.Observable;
@@ -13,7 +14,8 @@ import org.uma.jmetal.util.observer.Observer;
 /**
  * This observer stores a solution list in files. Concretely, the variables and objectives are written in files called
  * VAR.x.tsv and VAR.x.tsv, respectively (x is an iteration counter). The frequency of the writes are set by a
- * parameter.
+ * parameter. If the file extension is {@link BinaryFrontWriter#FILE_EXTENSION}, the files are written in binary
+ * format.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
@@ -22,14 +24,20 @@ public class WriteSolutionsToFilesObserver implements Observer<Map<String, Objec
   private Integer frequency ;
   private int counter ;
   private String outputDirectory = "" ;
+  private String fileExtension ;
   /**
    * Constructor
    */
 
   public WriteSolutionsToFilesObserver(Integer frequency, String outputDirectory) {
+    this(frequency, outputDirectory, ".tsv") ;
+  }
+
+  public WriteSolutionsToFilesObserver(Integer frequency, String outputDirectory, String fileExtension) {
     this.frequency = frequency ;
     this.counter = 0 ;
     this.outputDirectory = outputDirectory ;
+    this.fileExtension = fileExtension ;
 
     File file = new File(outputDirectory);
 
@@ -61,8 +69,8 @@ public class WriteSolutionsToFilesObserver implements Observer<Map<String, Objec
     if (population!=null) {
       if (counter % frequency == 0) {
         new SolutionListOutput((List<? extends Solution<?>>) population)
-            .setVarFileOutputContext(new DefaultFileOutputContext(outputDirectory + "/VAR." + counter + ".tsv"))
-            .setFunFileOutputContext(new DefaultFileOutputContext(outputDirectory + "/FUN." + counter + ".tsv"))
+            .setVarFileOutputContext(new DefaultFileOutputContext(outputDirectory + "/VAR." + counter + fileExtension))
+            .setFunFileOutputContext(new DefaultFileOutputContext(outputDirectory + "/FUN." + counter + fileExtension))
             .print();
       }
     } else {
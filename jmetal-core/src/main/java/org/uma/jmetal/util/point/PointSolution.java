@@ -13,6 +13,8 @@ import org.uma.jmetal.solution.Solution;
  */
 @SuppressWarnings("serial")
 public class PointSolution implements Solution<Double> {
+  private static final double[] NO_CONSTRAINTS = new double[0];
+
   private int numberOfObjectives;
   private double[] objectives;
   protected Map<Object, Object> attributes;
@@ -29,7 +31,7 @@ public class PointSolution implements Solution<Double> {
 
   @Override
   public double[] constraints() {
-    return null;
+    return NO_CONSTRAINTS;
   }
 
   @Override
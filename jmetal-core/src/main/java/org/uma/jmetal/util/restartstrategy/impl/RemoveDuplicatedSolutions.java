@@ -0,0 +1,36 @@
+package org.uma.jmetal.util.restartstrategy.impl;
+
+import java.util.List;
+import org.uma.jmetal.problem.DynamicProblem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.duplicateelimination.DuplicateSolutionDetector;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.restartstrategy.RemoveSolutionsStrategy;
+
+/**
+ * Removes the solutions which are duplicates of other solutions of the list, according to a {@link
+ * DuplicateSolutionDetector}, so they are replaced by new ones when the population is restarted
+ */
+public class RemoveDuplicatedSolutions<S extends Solution<?>> implements RemoveSolutionsStrategy<S> {
+  private final DuplicateSolutionDetector<S> duplicateSolutionDetector;
+
+  public RemoveDuplicatedSolutions(DuplicateSolutionDetector<S> duplicateSolutionDetector) {
+    this.duplicateSolutionDetector = duplicateSolutionDetector;
+  }
+
+  @Override
+  public int remove(List<S> solutionList, DynamicProblem<S, ?> problem) {
+    if (solutionList == null) {
+      throw new JMetalException("The solution list is null");
+    } else if (problem == null) {
+      throw new JMetalException("The problem is null");
+    }
+
+    List<S> uniqueSolutions = duplicateSolutionDetector.removeDuplicates(solutionList);
+    int numberOfRemovedSolutions = solutionList.size() - uniqueSolutions.size();
+    solutionList.clear();
+    solutionList.addAll(uniqueSolutions);
+
+    return numberOfRemovedSolutions;
+  }
+}
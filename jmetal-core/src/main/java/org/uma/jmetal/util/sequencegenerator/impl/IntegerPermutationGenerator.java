@@ -1,10 +1,12 @@
 package org.uma.jmetal.util.sequencegenerator.impl;
 
+import java.io.Serializable;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
 import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.sequencegenerator.SequenceGenerator;
 
-public class IntegerPermutationGenerator implements SequenceGenerator<Integer> {
+public class IntegerPermutationGenerator implements SequenceGenerator<Integer>, CheckpointableComponent {
   private int[] sequence;
   private int index;
   private int size ;
@@ -66,4 +68,20 @@ public class IntegerPermutationGenerator implements SequenceGenerator<Integer> {
   public int getSequenceLength() {
     return size ;
   }
+
+  /** The state is the current permutation and the position of the current value in it */
+  @Override
+  public Serializable saveState() {
+    return new int[][] {sequence, {index}} ;
+  }
+
+  @Override
+  public void restoreState(Serializable state) {
+    int[][] permutationAndIndex = (int[][]) state ;
+    Check.that(
+        permutationAndIndex[0].length == size,
+        "The length of the permutation is " + permutationAndIndex[0].length + " instead of " + size) ;
+    sequence = permutationAndIndex[0] ;
+    index = permutationAndIndex[1][0] ;
+  }
 }
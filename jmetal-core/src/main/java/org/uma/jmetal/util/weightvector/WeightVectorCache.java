@@ -0,0 +1,251 @@
+package org.uma.jmetal.util.weightvector;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.uma.jmetal.util.ParallelUtils;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Cache of the weight vectors generated with {@link WeightVectorGenerator#generate(int, int)} and
+ * of the neighborhoods of sets of weight vectors, so that several algorithms (or several runs of
+ * an algorithm) using the same number of objectives (M), of vectors (N) and neighborhood size (T)
+ * compute them only once.
+ *
+ * <p>The neighborhood of a vector contains the indices of its T closest vectors (including the
+ * vector itself) by increasing Euclidean distance; ties are broken by the index of the vectors.
+ * They are obtained with a bounded max-heap per vector, so the cost is O(N^2 (M + log T)) instead
+ * of the O(N^2 T) of the classical selection sort; the vectors are processed in parallel when N is
+ * large.
+ *
+ * <p>The cache keeps the most recently used entries. The returned arrays are copies, so they can
+ * be freely modified.
+ */
+public class WeightVectorCache {
+  private static final int MAX_NUMBER_OF_ENTRIES = 16;
+  private static final int PARALLEL_THRESHOLD = 1000;
+
+  private static final Map<Key, double[][]> weightVectors = createCache();
+  private static final Map<Key, Neighborhood> neighborhoods = createCache();
+
+  private WeightVectorCache() {}
+
+  /** Returns the vectors of {@link WeightVectorGenerator#generate(int, int)} */
+  public static double[][] getWeightVectors(int numberOfObjectives, int numberOfVectors) {
+    Key key = new Key(numberOfObjectives, numberOfVectors, 0);
+    double[][] vectors;
+    synchronized (weightVectors) {
+      vectors = weightVectors.get(key);
+    }
+    if (vectors == null) {
+      vectors = WeightVectorGenerator.generate(numberOfObjectives, numberOfVectors);
+      synchronized (weightVectors) {
+        weightVectors.put(key, vectors);
+      }
+    }
+
+    return copy(vectors);
+  }
+
+  /**
+   * Returns the neighborhoods of a set of weight vectors
+   *
+   * @param vectors The weight vectors, all of them of the same size
+   * @param neighborhoodSize Number of neighbors (T) of each vector
+   * @return A matrix where the i-th row contains the indices of the neighbors of the i-th vector
+   */
+  public static int[][] getNeighborhood(double[][] vectors, int neighborhoodSize) {
+    Check.notNull(vectors);
+    Check.that(vectors.length > 0, "The set of weight vectors is empty");
+    Check.valueIsInRange(neighborhoodSize, 1, vectors.length);
+
+    Key key = new Key(vectors[0].length, vectors.length, neighborhoodSize);
+    Neighborhood neighborhood;
+    synchronized (neighborhoods) {
+      neighborhood = neighborhoods.get(key);
+    }
+    if ((neighborhood == null) || !Arrays.deepEquals(neighborhood.vectors, vectors)) {
+      neighborhood =
+          new Neighborhood(copy(vectors), computeNeighborhood(vectors, neighborhoodSize));
+      synchronized (neighborhoods) {
+        neighborhoods.put(key, neighborhood);
+      }
+    }
+
+    int[][] result = new int[neighborhood.neighbors.length][];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = neighborhood.neighbors[i].clone();
+    }
+
+    return result;
+  }
+
+  /** Removes all the entries of the cache */
+  public static void clear() {
+    synchronized (weightVectors) {
+      weightVectors.clear();
+    }
+    synchronized (neighborhoods) {
+      neighborhoods.clear();
+    }
+  }
+
+  /** Computes the neighborhoods without using the cache */
+  public static int[][] computeNeighborhood(double[][] vectors, int neighborhoodSize) {
+    int[][] neighbors = new int[vectors.length][];
+    ParallelUtils.range(vectors.length, vectors.length, PARALLEL_THRESHOLD)
+        .forEach(i -> neighbors[i] = closestVectors(vectors, i, neighborhoodSize));
+
+    return neighbors;
+  }
+
+  /**
+   * Selects the closest vectors to a given one with a max-heap containing the best candidates found
+   * so far, and sorts them
+   */
+  private static int[] closestVectors(double[][] vectors, int index, int neighborhoodSize) {
+    double[] heapDistances = new double[neighborhoodSize];
+    int[] heapIndices = new int[neighborhoodSize];
+    int heapSize = 0;
+
+    for (int j = 0; j < vectors.length; j++) {
+      double distance = distance(vectors[index], vectors[j]);
+      if (heapSize < neighborhoodSize) {
+        heapDistances[heapSize] = distance;
+        heapIndices[heapSize] = j;
+        siftUp(heapDistances, heapIndices, heapSize);
+        heapSize++;
+      } else if (distance < heapDistances[0]) {
+        // Ties are resolved in favor of the vector with the lowest index, which is already there
+        heapDistances[0] = distance;
+        heapIndices[0] = j;
+        siftDown(heapDistances, heapIndices, heapSize);
+      }
+    }
+
+    // Heapsort: the largest element is moved to the end of the heap until it is empty
+    for (int size = heapSize - 1; size > 0; size--) {
+      swap(heapDistances, heapIndices, 0, size);
+      siftDown(heapDistances, heapIndices, size);
+    }
+
+    return heapIndices;
+  }
+
+  /** Order of the heap: by distance, and then by index */
+  private static boolean isGreater(double[] distances, int[] indices, int i, int j) {
+    return (distances[i] > distances[j])
+        || ((distances[i] == distances[j]) && (indices[i] > indices[j]));
+  }
+
+  private static void siftUp(double[] distances, int[] indices, int position) {
+    while (position > 0) {
+      int parent = (position - 1) / 2;
+      if (!isGreater(distances, indices, position, parent)) {
+        return;
+      }
+      swap(distances, indices, position, parent);
+      position = parent;
+    }
+  }
+
+  private static void siftDown(double[] distances, int[] indices, int size) {
+    int position = 0;
+    while (true) {
+      int largest = position;
+      int left = 2 * position + 1;
+      int right = left + 1;
+      if ((left < size) && isGreater(distances, indices, left, largest)) {
+        largest = left;
+      }
+      if ((right < size) && isGreater(distances, indices, right, largest)) {
+        largest = right;
+      }
+      if (largest == position) {
+        return;
+      }
+      swap(distances, indices, position, largest);
+      position = largest;
+    }
+  }
+
+  private static void swap(double[] distances, int[] indices, int i, int j) {
+    double distance = distances[i];
+    distances[i] = distances[j];
+    distances[j] = distance;
+    int index = indices[i];
+    indices[i] = indices[j];
+    indices[j] = index;
+  }
+
+  private static double distance(double[] vector1, double[] vector2) {
+    double sum = 0.0;
+    for (int k = 0; k < vector1.length; k++) {
+      double difference = vector1[k] - vector2[k];
+      sum += difference * difference;
+    }
+
+    return Math.sqrt(sum);
+  }
+
+  private static double[][] copy(double[][] vectors) {
+    double[][] result = new double[vectors.length][];
+    for (int i = 0; i < vectors.length; i++) {
+      result[i] = vectors[i].clone();
+    }
+
+    return result;
+  }
+
+  @SuppressWarnings("serial")
+  private static <V> Map<Key, V> createCache() {
+    return new LinkedHashMap<>(MAX_NUMBER_OF_ENTRIES, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, V> eldest) {
+        return size() > MAX_NUMBER_OF_ENTRIES;
+      }
+    };
+  }
+
+  private static class Key {
+    private final int numberOfObjectives;
+    private final int numberOfVectors;
+    private final int neighborhoodSize;
+
+    Key(int numberOfObjectives, int numberOfVectors, int neighborhoodSize) {
+      this.numberOfObjectives = numberOfObjectives;
+      this.numberOfVectors = numberOfVectors;
+      this.neighborhoodSize = neighborhoodSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key key = (Key) o;
+      return numberOfObjectives == key.numberOfObjectives
+          && numberOfVectors == key.numberOfVectors
+          && neighborhoodSize == key.neighborhoodSize;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(numberOfObjectives, numberOfVectors, neighborhoodSize);
+    }
+  }
+
+  private static class Neighborhood {
+    private final double[][] vectors;
+    private final int[][] neighbors;
+
+    Neighborhood(double[][] vectors, int[][] neighbors) {
+      this.vectors = vectors;
+      this.neighbors = neighbors;
+    }
+  }
+}
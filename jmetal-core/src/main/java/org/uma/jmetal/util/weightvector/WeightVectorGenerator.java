@@ -0,0 +1,406 @@
+package org.uma.jmetal.util.weightvector;
+
+import java.util.Arrays;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Class for generating weight vectors (i.e., points of the unit simplex), as the ones used by
+ * decomposition-based algorithms (MOEA/D and variants) and the reference points of NSGA-III. Three
+ * methods are provided:
+ *
+ * <ul>
+ *   <li>Simplex-lattice design of Das and Dennis, in one or two layers. The number of vectors is
+ *       C(H + M - 1, M - 1), where H is the number of divisions and M the number of objectives
+ *   <li>Uniform design (Tan et al., "MOEA/D + uniform design: A new version of MOEA/D for
+ *       optimization problems with many objectives", Computers & Operations Research, 2013): a
+ *       good lattice point set of any size in the (M-1)-dimensional unit hypercube is mapped to the
+ *       simplex
+ *   <li>Random points improved by minimizing their Riesz s-energy (Blank et al., "Generating
+ *       well-spaced points on a unit simplex for evolutionary many-objective optimization", IEEE
+ *       TEVC, 2021)
+ * </ul>
+ */
+public class WeightVectorGenerator {
+  private static final double DISCREPANCY_BUDGET = 5.0e7;
+
+  private WeightVectorGenerator() {}
+
+  /**
+   * Generates a set of vectors of any size. If the size is the one of a simplex-lattice design,
+   * the Das and Dennis vectors are returned; otherwise, an uniform design is used. The result is
+   * deterministic.
+   */
+  public static double[][] generate(int numberOfObjectives, int numberOfVectors) {
+    Check.that(numberOfObjectives >= 2, "The number of objectives must be at least 2");
+    Check.that(numberOfVectors > 0, "The number of vectors must be positive");
+
+    int numberOfDivisions = 1;
+    long size = numberOfDasDennisVectors(numberOfObjectives, numberOfDivisions);
+    while (size < numberOfVectors) {
+      numberOfDivisions++;
+      size = numberOfDasDennisVectors(numberOfObjectives, numberOfDivisions);
+    }
+
+    if (size == numberOfVectors) {
+      return dasDennis(numberOfObjectives, numberOfDivisions);
+    }
+    return uniformDesign(numberOfObjectives, numberOfVectors);
+  }
+
+  /** Returns the number of vectors of a simplex-lattice design. The result is saturated */
+  public static long numberOfDasDennisVectors(int numberOfObjectives, int numberOfDivisions) {
+    Check.that(numberOfObjectives >= 1, "The number of objectives must be positive");
+    Check.that(numberOfDivisions >= 0, "The number of divisions cannot be negative");
+
+    // C(H + M - 1, M - 1), computed incrementally as C(H + k, k) for k = 1 .. M - 1
+    long result = 1;
+    for (int k = 1; k < numberOfObjectives; k++) {
+      long numerator = (long) numberOfDivisions + k;
+      if (result > Long.MAX_VALUE / numerator) {
+        return Long.MAX_VALUE;
+      }
+      result = result * numerator / k;
+    }
+
+    return result;
+  }
+
+  /**
+   * Simplex-lattice design of Das and Dennis. The components of the vectors are multiples of
+   * 1/numberOfDivisions; the vectors are generated in the same order as the reference points of
+   * NSGA-III (the first component varies the slowest)
+   */
+  public static double[][] dasDennis(int numberOfObjectives, int numberOfDivisions) {
+    Check.that(numberOfObjectives >= 1, "The number of objectives must be positive");
+    Check.that(numberOfDivisions > 0, "The number of divisions must be positive");
+    long size = numberOfDasDennisVectors(numberOfObjectives, numberOfDivisions);
+    Check.that(size <= Integer.MAX_VALUE, "Too many vectors: " + size);
+
+    double[][] vectors = new double[(int) size][];
+    double[] vector = new double[numberOfObjectives];
+    int count =
+        generateRecursive(vectors, 0, vector, numberOfDivisions, numberOfDivisions, 0);
+
+    return Arrays.copyOf(vectors, count);
+  }
+
+  private static int generateRecursive(
+      double[][] vectors, int count, double[] vector, int left, int total, int element) {
+    if (element == vector.length - 1) {
+      vector[element] = (double) left / total;
+      vectors[count] = vector.clone();
+      return count + 1;
+    }
+
+    for (int i = 0; i <= left; i++) {
+      vector[element] = (double) i / total;
+      count = generateRecursive(vectors, count, vector, left - i, total, element + 1);
+    }
+
+    return count;
+  }
+
+  /**
+   * Two-layer simplex-lattice design, as proposed for NSGA-III: the vectors of the inner layer are
+   * shrunk by a factor of 0.5 towards the center of the simplex, so that they do not lie on its
+   * boundary
+   */
+  public static double[][] twoLayerDasDennis(
+      int numberOfObjectives, int outerDivisions, int innerDivisions) {
+    double[][] outerLayer = dasDennis(numberOfObjectives, outerDivisions);
+    double[][] innerLayer = dasDennis(numberOfObjectives, innerDivisions);
+
+    double[][] vectors = Arrays.copyOf(outerLayer, outerLayer.length + innerLayer.length);
+    for (int i = 0; i < innerLayer.length; i++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        innerLayer[i][j] = innerLayer[i][j] / 2.0 + 1.0 / (2.0 * numberOfObjectives);
+      }
+      vectors[outerLayer.length + i] = innerLayer[i];
+    }
+
+    return vectors;
+  }
+
+  /**
+   * Uniform design. A good lattice point set with a Korobov generating vector (1, a, a^2, ...) mod
+   * N is built, choosing a among a number of candidates to minimize the centered L2-discrepancy,
+   * and it is mapped to the simplex with the transformation of Fang and Wang
+   */
+  public static double[][] uniformDesign(int numberOfObjectives, int numberOfVectors) {
+    Check.that(numberOfObjectives >= 2, "The number of objectives must be at least 2");
+    Check.that(numberOfVectors > 0, "The number of vectors must be positive");
+
+    int dimensions = numberOfObjectives - 1;
+    double[][] bestPoints = null;
+    double bestDiscrepancy = Double.POSITIVE_INFINITY;
+    int[] candidates = korobovCandidates(numberOfVectors, dimensions);
+    for (int a : candidates) {
+      double[][] points = goodLatticePoints(numberOfVectors, dimensions, a);
+      double discrepancy = (candidates.length == 1) ? 0.0 : centeredL2Discrepancy(points);
+      if ((bestPoints == null) || (discrepancy < bestDiscrepancy)) {
+        bestDiscrepancy = discrepancy;
+        bestPoints = points;
+      }
+    }
+
+    double[][] vectors = new double[numberOfVectors][];
+    for (int i = 0; i < numberOfVectors; i++) {
+      vectors[i] = hypercubeToSimplex(bestPoints[i]);
+    }
+
+    return vectors;
+  }
+
+  /**
+   * Returns the values of a to be tried. If the discrepancy of the sets cannot be computed with the
+   * available budget, the integer closest to N times the inverse of the golden ratio is returned
+   */
+  private static int[] korobovCandidates(int numberOfVectors, int dimensions) {
+    double costOfEvaluation = (double) numberOfVectors * numberOfVectors * dimensions;
+    int maxNumberOfCandidates = (int) Math.min(DISCREPANCY_BUDGET / costOfEvaluation, 1000);
+
+    if ((dimensions == 1) || (numberOfVectors <= 2)) {
+      return new int[] {1};
+    }
+    if (maxNumberOfCandidates < 2) {
+      int a = (int) Math.round(numberOfVectors * (Math.sqrt(5.0) - 1.0) / 2.0);
+      while (gcd(a, numberOfVectors) != 1) {
+        a++;
+      }
+      return new int[] {a};
+    }
+
+    int[] coprimes = new int[numberOfVectors];
+    int numberOfCoprimes = 0;
+    for (int a = 2; a < numberOfVectors; a++) {
+      if (gcd(a, numberOfVectors) == 1) {
+        coprimes[numberOfCoprimes++] = a;
+      }
+    }
+    if (numberOfCoprimes == 0) {
+      return new int[] {1};
+    }
+
+    int numberOfCandidates = Math.min(numberOfCoprimes, maxNumberOfCandidates);
+    int[] candidates = new int[numberOfCandidates];
+    for (int i = 0; i < numberOfCandidates; i++) {
+      candidates[i] = coprimes[(int) ((long) i * numberOfCoprimes / numberOfCandidates)];
+    }
+
+    return candidates;
+  }
+
+  private static double[][] goodLatticePoints(int numberOfVectors, int dimensions, int a) {
+    long[] generatingVector = new long[dimensions];
+    generatingVector[0] = 1;
+    for (int k = 1; k < dimensions; k++) {
+      generatingVector[k] = generatingVector[k - 1] * a % numberOfVectors;
+    }
+
+    double[][] points = new double[numberOfVectors][dimensions];
+    for (int i = 0; i < numberOfVectors; i++) {
+      for (int k = 0; k < dimensions; k++) {
+        long value = (i + 1) * generatingVector[k] % numberOfVectors;
+        if (value == 0) {
+          value = numberOfVectors;
+        }
+        points[i][k] = (2.0 * value - 1.0) / (2.0 * numberOfVectors);
+      }
+    }
+
+    return points;
+  }
+
+  /** Squared centered L2-discrepancy of a set of points of the unit hypercube */
+  static double centeredL2Discrepancy(double[][] points) {
+    int n = points.length;
+    int dimensions = points[0].length;
+
+    double sum1 = 0.0;
+    double[][] deviations = new double[n][dimensions];
+    for (int i = 0; i < n; i++) {
+      double product = 1.0;
+      for (int k = 0; k < dimensions; k++) {
+        double deviation = Math.abs(points[i][k] - 0.5);
+        deviations[i][k] = deviation;
+        product *= 1.0 + 0.5 * deviation - 0.5 * deviation * deviation;
+      }
+      sum1 += product;
+    }
+
+    double sum2 = 0.0;
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        double product = 1.0;
+        for (int k = 0; k < dimensions; k++) {
+          product *=
+              1.0
+                  + 0.5 * deviations[i][k]
+                  + 0.5 * deviations[j][k]
+                  - 0.5 * Math.abs(points[i][k] - points[j][k]);
+        }
+        sum2 += product;
+      }
+    }
+
+    return Math.pow(13.0 / 12.0, dimensions) - 2.0 * sum1 / n + sum2 / ((double) n * n);
+  }
+
+  /** Transformation of Fang and Wang from the (M-1)-dimensional unit hypercube to the simplex */
+  private static double[] hypercubeToSimplex(double[] point) {
+    int numberOfObjectives = point.length + 1;
+    double[] vector = new double[numberOfObjectives];
+
+    double product = 1.0;
+    for (int k = 0; k < numberOfObjectives - 1; k++) {
+      double value = Math.pow(point[k], 1.0 / (numberOfObjectives - 1 - k));
+      vector[k] = (1.0 - value) * product;
+      product *= value;
+    }
+    vector[numberOfObjectives - 1] = product;
+
+    return vector;
+  }
+
+  /**
+   * Generates a set of random vectors (including the extreme ones if there are enough vectors) and
+   * spreads them by minimizing their Riesz s-energy (with s = numberOfObjectives) with a gradient
+   * descent, where the step is increased after each improving iteration and halved otherwise. The
+   * extreme vectors are kept fixed. {@link JMetalRandom} is used as source of randomness.
+   */
+  public static double[][] riesz(int numberOfObjectives, int numberOfVectors, int iterations) {
+    Check.that(numberOfObjectives >= 2, "The number of objectives must be at least 2");
+    Check.that(numberOfVectors > 0, "The number of vectors must be positive");
+    Check.that(iterations >= 0, "The number of iterations cannot be negative");
+
+    JMetalRandom random = JMetalRandom.getInstance();
+    double[][] vectors = new double[numberOfVectors][numberOfObjectives];
+    int numberOfFixedVectors = 0;
+    if (numberOfVectors >= numberOfObjectives) {
+      for (int i = 0; i < numberOfObjectives; i++) {
+        vectors[i][i] = 1.0;
+      }
+      numberOfFixedVectors = numberOfObjectives;
+    }
+    for (int i = numberOfFixedVectors; i < numberOfVectors; i++) {
+      double sum = 0.0;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        vectors[i][j] = -Math.log(1.0 - random.nextDouble());
+        sum += vectors[i][j];
+      }
+      for (int j = 0; j < numberOfObjectives; j++) {
+        vectors[i][j] /= sum;
+      }
+    }
+
+    double exponent = numberOfObjectives;
+    double step = 0.1 * Math.pow(numberOfVectors, -1.0 / (numberOfObjectives - 1));
+    double energy = rieszEnergy(vectors, exponent);
+    double[][] forces = new double[numberOfVectors][numberOfObjectives];
+    double[][] candidate = new double[numberOfVectors][numberOfObjectives];
+    for (int iteration = 0; iteration < iterations; iteration++) {
+      computeRieszForces(vectors, exponent, forces);
+      for (int i = 0; i < numberOfVectors; i++) {
+        System.arraycopy(vectors[i], 0, candidate[i], 0, numberOfObjectives);
+        if (i >= numberOfFixedVectors) {
+          move(candidate[i], forces[i], step);
+        }
+      }
+
+      double candidateEnergy = rieszEnergy(candidate, exponent);
+      if (candidateEnergy < energy) {
+        double[][] swap = vectors;
+        vectors = candidate;
+        candidate = swap;
+        energy = candidateEnergy;
+        step *= 1.1;
+      } else {
+        step /= 2.0;
+      }
+    }
+
+    return vectors;
+  }
+
+  private static double rieszEnergy(double[][] vectors, double exponent) {
+    double energy = 0.0;
+    for (int i = 0; i < vectors.length; i++) {
+      for (int j = i + 1; j < vectors.length; j++) {
+        energy += Math.pow(Math.max(distance(vectors[i], vectors[j]), 1.0e-12), -exponent);
+      }
+    }
+
+    return energy;
+  }
+
+  /** Computes the (negative) gradient of the energy with respect to each vector */
+  private static void computeRieszForces(double[][] vectors, double exponent, double[][] forces) {
+    for (double[] force : forces) {
+      Arrays.fill(force, 0.0);
+    }
+
+    int dimensions = vectors[0].length;
+    for (int i = 0; i < vectors.length; i++) {
+      for (int j = i + 1; j < vectors.length; j++) {
+        double distance = Math.max(distance(vectors[i], vectors[j]), 1.0e-12);
+        double factor = exponent * Math.pow(distance, -exponent - 2.0);
+        for (int k = 0; k < dimensions; k++) {
+          double value = factor * (vectors[i][k] - vectors[j][k]);
+          forces[i][k] += value;
+          forces[j][k] -= value;
+        }
+      }
+    }
+  }
+
+  /**
+   * Moves a vector in the direction of a force projected onto the plane of the simplex, and
+   * projects the result back onto the simplex
+   */
+  private static void move(double[] vector, double[] force, double step) {
+    double mean = 0.0;
+    for (double value : force) {
+      mean += value;
+    }
+    mean /= force.length;
+
+    double norm = 0.0;
+    for (double value : force) {
+      norm += (value - mean) * (value - mean);
+    }
+    norm = Math.sqrt(norm);
+    if (norm == 0.0) {
+      return;
+    }
+
+    double sum = 0.0;
+    for (int k = 0; k < vector.length; k++) {
+      vector[k] = Math.max(0.0, vector[k] + step * (force[k] - mean) / norm);
+      sum += vector[k];
+    }
+    for (int k = 0; k < vector.length; k++) {
+      vector[k] /= sum;
+    }
+  }
+
+  private static double distance(double[] vector1, double[] vector2) {
+    double sum = 0.0;
+    for (int k = 0; k < vector1.length; k++) {
+      double difference = vector1[k] - vector2[k];
+      sum += difference * difference;
+    }
+
+    return Math.sqrt(sum);
+  }
+
+  private static int gcd(int a, int b) {
+    while (b != 0) {
+      int remainder = a % b;
+      a = b;
+      b = remainder;
+    }
+
+    return a;
+  }
+}
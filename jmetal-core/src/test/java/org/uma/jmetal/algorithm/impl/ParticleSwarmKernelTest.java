@@ -0,0 +1,146 @@
+package org.uma.jmetal.algorithm.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+public class ParticleSwarmKernelTest {
+
+  private List<DoubleSolution> createSwarm(DummyDoubleProblem problem, double[][] positions) {
+    List<DoubleSolution> swarm = new ArrayList<>();
+    for (double[] position : positions) {
+      DoubleSolution solution = problem.createSolution();
+      for (int j = 0; j < position.length; j++) {
+        solution.variables().set(j, position[j]);
+      }
+      swarm.add(solution);
+    }
+    return swarm;
+  }
+
+  @Test
+  public void shouldReadPositionsCopyTheVariablesOfTheSolutionsIntoAFlatArray() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    ParticleSwarmKernel kernel = new ParticleSwarmKernel(problem, 2);
+
+    kernel.readPositions(createSwarm(problem, new double[][] {{0.1, 0.2}, {0.3, 0.4}}));
+
+    assertArrayEquals(new double[] {0.1, 0.2, 0.3, 0.4}, kernel.getPosition(), 0.0);
+  }
+
+  @Test
+  public void shouldUpdatePositionsClampTheVariablesAndApplyTheVelocityFactors() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    ParticleSwarmKernel kernel = new ParticleSwarmKernel(problem, 1);
+    List<DoubleSolution> swarm = createSwarm(problem, new double[][] {{0.5, 0.5}});
+
+    kernel.readPositions(swarm);
+    kernel.getVelocity()[0] = -1.0;
+    kernel.getVelocity()[1] = 1.0;
+    kernel.updatePositions(-0.5, 0.0);
+    kernel.writePositions(swarm);
+
+    assertArrayEquals(new double[] {0.0, 1.0}, kernel.getPosition(), 0.0);
+    assertArrayEquals(new double[] {0.5, 0.0}, kernel.getVelocity(), 0.0);
+    assertEquals(0.0, swarm.get(0).variables().get(0), 0.0);
+    assertEquals(1.0, swarm.get(0).variables().get(1), 0.0);
+  }
+
+  @Test
+  public void shouldParallelUpdatePositionsGiveTheSameResultAsTheSequentialOne() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(10, 2, 0);
+    ParticleSwarmKernel sequentialKernel = new ParticleSwarmKernel(problem, 50);
+    ParticleSwarmKernel parallelKernel = new ParticleSwarmKernel(problem, 50).setParallel(true);
+
+    for (int k = 0; k < 500; k++) {
+      double velocity = Math.sin(k);
+      sequentialKernel.getVelocity()[k] = velocity;
+      parallelKernel.getVelocity()[k] = velocity;
+    }
+    sequentialKernel.updatePositions(-1.0, -1.0);
+    parallelKernel.updatePositions(-1.0, -1.0);
+
+    assertArrayEquals(sequentialKernel.getPosition(), parallelKernel.getPosition(), 0.0);
+    assertArrayEquals(sequentialKernel.getVelocity(), parallelKernel.getVelocity(), 0.0);
+  }
+
+  @Test
+  public void shouldCompareWithPersonalBestReturnMinusOneIfTheSolutionDominatesThePersonalBest() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    ParticleSwarmKernel kernel = new ParticleSwarmKernel(problem, 1);
+
+    DoubleSolution personalBest = problem.createSolution();
+    personalBest.objectives()[0] = 2.0;
+    personalBest.objectives()[1] = 2.0;
+    kernel.storePersonalBest(0, personalBest);
+
+    DoubleSolution solution = problem.createSolution();
+    solution.objectives()[0] = 1.0;
+    solution.objectives()[1] = 2.0;
+
+    assertEquals(-1, kernel.compareWithPersonalBest(0, solution));
+  }
+
+  @Test
+  public void shouldCompareWithPersonalBestReturnZeroIfBothSolutionsAreNonDominated() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    ParticleSwarmKernel kernel = new ParticleSwarmKernel(problem, 1);
+
+    DoubleSolution personalBest = problem.createSolution();
+    personalBest.objectives()[0] = 2.0;
+    personalBest.objectives()[1] = 1.0;
+    kernel.storePersonalBest(0, personalBest);
+
+    DoubleSolution solution = problem.createSolution();
+    solution.objectives()[0] = 1.0;
+    solution.objectives()[1] = 2.0;
+
+    assertEquals(0, kernel.compareWithPersonalBest(0, solution));
+  }
+
+  @Test
+  public void shouldCompareWithPersonalBestTakeIntoAccountTheConstraintViolation() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 1);
+    ParticleSwarmKernel kernel = new ParticleSwarmKernel(problem, 1);
+
+    DoubleSolution personalBest = problem.createSolution();
+    personalBest.objectives()[0] = 2.0;
+    personalBest.objectives()[1] = 2.0;
+    personalBest.constraints()[0] = 0.0;
+    kernel.storePersonalBest(0, personalBest);
+
+    DoubleSolution solution = problem.createSolution();
+    solution.objectives()[0] = 1.0;
+    solution.objectives()[1] = 1.0;
+    solution.constraints()[0] = -1.0;
+
+    assertEquals(1, kernel.compareWithPersonalBest(0, solution));
+  }
+
+  @Test
+  public void shouldPersonalBestAsSolutionCopyThePersonalBestWithoutConsumingRandomNumbers() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    ParticleSwarmKernel kernel = new ParticleSwarmKernel(problem, 1);
+    List<DoubleSolution> swarm = createSwarm(problem, new double[][] {{0.1, 0.2}});
+    swarm.get(0).objectives()[0] = 1.0;
+    swarm.get(0).objectives()[1] = 2.0;
+    kernel.storePersonalBest(0, swarm.get(0));
+    DoubleSolution template = createSwarm(problem, new double[][] {{0.5, 0.6}}).get(0);
+
+    JMetalRandom.getInstance().setSeed(1);
+    double expectedRandomValue = JMetalRandom.getInstance().nextDouble();
+    JMetalRandom.getInstance().setSeed(1);
+    DoubleSolution personalBest = kernel.personalBestAsSolution(0, template);
+
+    assertEquals(expectedRandomValue, JMetalRandom.getInstance().nextDouble(), 0.0);
+    assertEquals(List.of(0.1, 0.2), personalBest.variables());
+    assertArrayEquals(new double[] {1.0, 2.0}, personalBest.objectives(), 0.0);
+    assertEquals(List.of(0.5, 0.6), template.variables());
+  }
+}
@@ -0,0 +1,126 @@
+package org.uma.jmetal.solution.util.pool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+
+public class SolutionPoolTest {
+  private final DummyDoubleProblem problem = new DummyDoubleProblem(5, 2, 1);
+
+  @Test
+  public void shouldCopyOfAllocateANewSolutionIfThePoolIsEmpty() {
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>();
+    DoubleSolution solution = problem.createSolution();
+
+    DoubleSolution copy = pool.copyOf(solution);
+
+    assertNotSame(solution, copy);
+    assertEquals(solution.variables(), copy.variables());
+    assertEquals(1, pool.getNumberOfAllocatedSolutions());
+    assertEquals(0, pool.getNumberOfReusedSolutions());
+  }
+
+  @Test
+  public void shouldCopyOfOverwriteAPooledSolution() {
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>();
+    DoubleSolution solution = problem.createSolution();
+    solution.objectives()[0] = 1.0;
+    solution.objectives()[1] = 2.0;
+    solution.constraints()[0] = -3.0;
+    solution.attributes().put("rank", 0);
+
+    DoubleSolution discardedSolution = problem.createSolution();
+    discardedSolution.attributes().put("crowding", 1.5);
+    pool.release(discardedSolution);
+
+    DoubleSolution copy = pool.copyOf(solution);
+
+    assertSame(discardedSolution, copy);
+    assertEquals(solution.variables(), copy.variables());
+    assertEquals(1.0, copy.objectives()[0], 0.0);
+    assertEquals(2.0, copy.objectives()[1], 0.0);
+    assertEquals(-3.0, copy.constraints()[0], 0.0);
+    assertEquals(solution.attributes(), copy.attributes());
+    assertEquals(solution.getBounds(0), copy.getBounds(0));
+    assertEquals(0, pool.size());
+    assertEquals(1, pool.getNumberOfReusedSolutions());
+  }
+
+  @Test
+  public void shouldCopyOfAllocateANewSolutionIfThePooledOneHasADifferentSize() {
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>();
+    DoubleSolution discardedSolution = new DummyDoubleProblem(3, 2, 0).createSolution();
+    pool.release(discardedSolution);
+
+    DoubleSolution solution = problem.createSolution();
+    DoubleSolution copy = pool.copyOf(solution);
+
+    assertNotSame(discardedSolution, copy);
+    assertEquals(solution.variables(), copy.variables());
+  }
+
+  @Test
+  public void shouldReleaseNotExceedTheMaximumSize() {
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>(2);
+    for (int i = 0; i < 5; i++) {
+      pool.release(problem.createSolution());
+    }
+
+    assertEquals(2, pool.size());
+  }
+
+  @Test
+  public void shouldReleaseDiscardedReleaseOnlyTheSolutionsNotSurvivingOnce() {
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>();
+    DoubleSolution solution1 = problem.createSolution();
+    DoubleSolution solution2 = problem.createSolution();
+    DoubleSolution solution3 = problem.createSolution();
+
+    pool.releaseDiscarded(
+        Arrays.asList(solution1, solution2, solution3, solution3), List.of(solution1));
+
+    assertEquals(2, pool.size());
+  }
+
+  @Test
+  public void shouldTheSolutionPoolBeEmptyInOtherThreads() throws InterruptedException {
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>();
+    pool.release(problem.createSolution());
+
+    int[] size = new int[1];
+    Thread thread = new Thread(() -> size[0] = pool.size());
+    thread.start();
+    thread.join();
+
+    assertEquals(0, size[0]);
+    assertEquals(1, pool.size());
+  }
+
+  @Test
+  public void shouldSBXCrossoverCreateTheOffspringFromThePooledSolutions() {
+    SolutionPool<DoubleSolution> pool = new SolutionPool<>();
+    DoubleSolution discardedSolution1 = problem.createSolution();
+    DoubleSolution discardedSolution2 = problem.createSolution();
+    pool.release(discardedSolution1);
+    pool.release(discardedSolution2);
+
+    SBXCrossover crossover = new SBXCrossover(0.0, 20.0);
+    crossover.setSolutionPool(pool);
+    DoubleSolution parent1 = problem.createSolution();
+    DoubleSolution parent2 = problem.createSolution();
+
+    List<DoubleSolution> offspring = crossover.execute(List.of(parent1, parent2));
+
+    assertSame(discardedSolution2, offspring.get(0));
+    assertSame(discardedSolution1, offspring.get(1));
+    assertEquals(parent1.variables(), offspring.get(0).variables());
+    assertEquals(parent2.variables(), offspring.get(1).variables());
+  }
+}
@@ -0,0 +1,27 @@
+package org.uma.jmetal.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public class ParallelUtilsTest {
+
+  @Test
+  public void shouldRangeReturnASequentialStreamIfTheWorkIsBelowTheThreshold() {
+    IntStream indices = ParallelUtils.range(5, 999, 1000);
+
+    assertFalse(indices.isParallel());
+    assertArrayEquals(new int[] {0, 1, 2, 3, 4}, indices.toArray());
+  }
+
+  @Test
+  public void shouldRangeReturnAParallelStreamIfTheWorkReachesTheThreshold() {
+    IntStream indices = ParallelUtils.range(5, 1000, 1000);
+
+    assertTrue(indices.isParallel());
+    assertArrayEquals(new int[] {0, 1, 2, 3, 4}, indices.toArray());
+  }
+}
@@ -1,5 +1,6 @@
 package org.uma.jmetal.util;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
@@ -543,6 +544,39 @@ public class SolutionListUtilsTest {
     assertEquals(3, resultList.size());
   }
 
+  @Test
+  public void shouldNormalizedDistanceMatrixNotModifyTheObjectivesOfTheSolutions() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    DoubleSolution s1 = problem.createSolution();
+    s1.objectives()[0] = 6.0;
+    s1.objectives()[1] = 12.0;
+    DoubleSolution s2 = problem.createSolution();
+    s2.objectives()[0] = 2.0;
+    s2.objectives()[1] = 4.0;
+    DoubleSolution s3 = problem.createSolution();
+    s3.objectives()[0] = 5.0;
+    s3.objectives()[1] = 1.0;
+
+    List<DoubleSolution> solutionList = Arrays.asList(s1, s2, s3);
+    double[] maxs = {6.0, 12.0};
+    double[] mins = {2.0, 4.0};
+
+    double[][] distances = SolutionListUtils.normalizedDistanceMatrix(solutionList, maxs, mins);
+
+    assertArrayEquals(new double[] {6.0, 12.0}, s1.objectives(), EPSILON);
+    assertArrayEquals(new double[] {2.0, 4.0}, s2.objectives(), EPSILON);
+    assertArrayEquals(new double[] {5.0, 1.0}, s3.objectives(), EPSILON);
+    for (int i = 0; i < solutionList.size(); i++) {
+      for (int j = 0; j < solutionList.size(); j++) {
+        assertEquals(
+            SolutionUtils.normalizedDistanceBetweenObjectives(
+                solutionList.get(i), solutionList.get(j), maxs, mins),
+            distances[i][j],
+            EPSILON);
+      }
+    }
+  }
+
   /** TODO */
   @Test
   public void shouldRestartRemoveTheRequestedPercentageOfSolutions() {}
@@ -73,6 +73,23 @@ public class SolutionUtilsTest {
     assertEquals(0.42426406871192857, SolutionUtils.distanceBetweenObjectives(solution1, solution2), EPSILON);
   }
 
+  /** The distance "in objective space" is computed between the variables of the solutions */
+  @Test
+  public void shouldDistanceBetweenSolutionsInObjectiveSpaceUseTheVariablesOfTheSolutions() {
+    DoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    DoubleSolution solution1 = problem.createSolution();
+    DoubleSolution solution2 = problem.createSolution();
+
+    solution1.variables().set(0, 0.1);
+    solution1.variables().set(1, 0.1);
+    solution2.variables().set(0, 0.4);
+    solution2.variables().set(1, 0.5);
+    solution1.objectives()[0] = 5.0;
+    solution2.objectives()[0] = 5.0;
+
+    assertEquals(0.5, SolutionUtils.distanceBetweenSolutionsInObjectiveSpace(solution1, solution2), EPSILON);
+  }
+
   /** Case A. Solution = [1], solutionList = [1]] */
   @Test
   public void shouldAverageDistanceToSolutionListWorkProperlyCaseA() {
@@ -0,0 +1,120 @@
+package org.uma.jmetal.util.aggregativefunction;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import org.junit.Test;
+import org.uma.jmetal.util.aggregativefunction.ScalarizationKernel.Type;
+import org.uma.jmetal.util.weightvector.WeightVectorGenerator;
+
+public class ScalarizationKernelTest {
+  private static final double EPSILON = 0.0000000001;
+
+  private static double[][] randomPoints(int numberOfPoints, int numberOfObjectives, long seed) {
+    Random random = new Random(seed);
+    double[][] points = new double[numberOfPoints][numberOfObjectives];
+    for (double[] point : points) {
+      for (int i = 0; i < numberOfObjectives; i++) {
+        point[i] = random.nextDouble();
+      }
+    }
+
+    return points;
+  }
+
+  @Test
+  public void shouldComputeTchebycheffReturnTheMaximumWeightedDistance() {
+    ScalarizationKernel kernel = ScalarizationKernel.tchebycheff(new double[][] {{0.2, 0.8}});
+
+    assertEquals(
+        Math.max(0.2 * 1.0, 0.8 * 2.0),
+        kernel.compute(new double[] {1.5, 3.0}, 0, new double[] {0.5, 1.0}),
+        EPSILON);
+  }
+
+  @Test
+  public void shouldComputeTchebycheffReplaceZeroWeightsByTheDefaultValue() {
+    ScalarizationKernel kernel = ScalarizationKernel.tchebycheff(new double[][] {{0.0, 1.0}});
+
+    assertEquals(
+        Math.max(ScalarizationKernel.DEFAULT_TCHEBYCHEFF_NULL_WEIGHT * 10.0, 1.0 * 0.0),
+        kernel.compute(new double[] {10.0, 0.0}, 0, new double[] {0.0, 0.0}),
+        EPSILON);
+  }
+
+  @Test
+  public void shouldComputeAchievementDivideByTheWeights() {
+    ScalarizationKernel kernel = ScalarizationKernel.achievement(new double[][] {{0.5, 0.0}});
+
+    assertEquals(
+        Math.max(1.0 / 0.5, 1.0 / ScalarizationKernel.DEFAULT_ACHIEVEMENT_NULL_WEIGHT),
+        kernel.compute(new double[] {1.0, 1.0}, 0, new double[] {0.0, 0.0}),
+        EPSILON);
+  }
+
+  @Test
+  public void shouldComputeWeightedSumReturnTheScalarProduct() {
+    ScalarizationKernel kernel = ScalarizationKernel.weightedSum(new double[][] {{0.3, 0.7}});
+
+    assertEquals(
+        0.3 * 2.0 + 0.7 * 4.0,
+        kernel.compute(new double[] {2.0, 4.0}, 0, new double[] {1.0, 1.0}),
+        EPSILON);
+  }
+
+  @Test
+  public void shouldComputePbiAddThePenalizedDistanceToTheWeightVector() {
+    ScalarizationKernel kernel = ScalarizationKernel.pbi(new double[][] {{1.0, 1.0}});
+
+    assertEquals(
+        Math.sqrt(2.0), kernel.compute(new double[] {1.0, 1.0}, 0, new double[] {0.0, 0.0}), EPSILON);
+    assertEquals(
+        ScalarizationKernel.DEFAULT_PBI_THETA * Math.sqrt(2.0),
+        kernel.compute(new double[] {1.0, 0.0}, 0, new double[] {0.0, 1.0}),
+        EPSILON);
+  }
+
+  @Test
+  public void shouldTheMatrixOfValuesBeEqualToTheValuesComputedOneByOne() {
+    double[][] weights = WeightVectorGenerator.dasDennis(3, 12);
+    double[][] candidates = randomPoints(50, 3, 1);
+    double[] referencePoint = {0.05, 0.1, 0.0};
+
+    for (Type type : Type.values()) {
+      ScalarizationKernel kernel = new ScalarizationKernel(type, 0.01, weights);
+      double[][] values = kernel.compute(candidates, referencePoint);
+
+      for (int j = 0; j < weights.length; j++) {
+        for (int c = 0; c < candidates.length; c++) {
+          assertEquals(kernel.compute(candidates[c], j, referencePoint), values[j][c], 0.0);
+          assertEquals(
+              kernel.compute(candidates[c], weights[j], referencePoint), values[j][c], EPSILON);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldUpdateGiveTheSameValuesAsComputingTheMatrixAgain() {
+    double[][] weights = WeightVectorGenerator.dasDennis(3, 12);
+    double[] candidates = ScalarizationKernel.flatten(randomPoints(60, 3, 2), 3);
+    double[][] referencePoints = {
+      {0.2, 0.2, 0.2}, {0.1, 0.2, 0.2}, {0.1, 0.0, 0.15}, {0.3, 0.0, 0.1}, {0.3, 0.0, 0.1}
+    };
+
+    for (Type type : Type.values()) {
+      ScalarizationKernel kernel = new ScalarizationKernel(type, 0.01, weights);
+      double[] values = new double[weights.length * 60];
+      kernel.compute(candidates, 60, referencePoints[0], values);
+
+      for (int r = 1; r < referencePoints.length; r++) {
+        kernel.update(candidates, 60, referencePoints[r - 1], referencePoints[r], values);
+
+        double[] expectedValues = new double[values.length];
+        kernel.compute(candidates, 60, referencePoints[r], expectedValues);
+        assertArrayEquals(expectedValues, values, 0.0);
+      }
+    }
+  }
+}
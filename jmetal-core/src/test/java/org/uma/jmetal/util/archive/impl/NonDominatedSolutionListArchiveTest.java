@@ -6,12 +6,14 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import java.util.List;
 import org.junit.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.solution.integersolution.IntegerSolution;
 import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.duplicateelimination.DuplicateSolutionDetector;
 
 /**
  * @author Antonio J. Nebro <ajnebro@uma.es>.
@@ -242,4 +244,43 @@ public class NonDominatedSolutionListArchiveTest {
 
     assertEquals(2, archive1.getSolutionList().size(), EPSILON);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void shouldAddAllWithADuplicateSolutionDetectorInsertOnlyOneCopyOfEachSolution() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0) ;
+    DoubleSolution solution1 = problem.createSolution() ;
+    solution1.objectives()[0] = 1.0 ;
+    solution1.objectives()[1] = 2.0 ;
+    DoubleSolution solution2 = problem.createSolution() ;
+    solution2.objectives()[0] = 2.0 ;
+    solution2.objectives()[1] = 1.0 ;
+    // Non-dominated with respect to solution1, but the same within the tolerance of the detector
+    DoubleSolution solution3 = problem.createSolution() ;
+    solution3.objectives()[0] = 1.01 ;
+    solution3.objectives()[1] = 1.99 ;
+
+    NonDominatedSolutionListArchive<DoubleSolution> archive =
+        new NonDominatedSolutionListArchive<DoubleSolution>()
+            .setDuplicateSolutionDetector(DuplicateSolutionDetector.byObjectives(0.1)) ;
+    archive.addAll(List.of(solution1, solution3, solution2, (DoubleSolution) solution2.copy())) ;
+
+    assertEquals(List.of(solution1, solution2), archive.getSolutionList()) ;
+  }
+
+  @Test
+  public void shouldAddAllWithoutADuplicateSolutionDetectorInsertTheSolutionsWithinTheTolerance() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0) ;
+    DoubleSolution solution1 = problem.createSolution() ;
+    solution1.objectives()[0] = 1.0 ;
+    solution1.objectives()[1] = 2.0 ;
+    DoubleSolution solution3 = problem.createSolution() ;
+    solution3.objectives()[0] = 1.01 ;
+    solution3.objectives()[1] = 1.99 ;
+
+    NonDominatedSolutionListArchive<DoubleSolution> archive =
+        new NonDominatedSolutionListArchive<DoubleSolution>() ;
+    archive.addAll(List.of(solution1, solution3)) ;
+
+    assertEquals(List.of(solution1, solution3), archive.getSolutionList()) ;
+  }
+}
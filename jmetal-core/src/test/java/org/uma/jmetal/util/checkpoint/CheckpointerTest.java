@@ -0,0 +1,151 @@
+package org.uma.jmetal.util.checkpoint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
+
+public class CheckpointerTest {
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private PseudoRandomGenerator previousRandomGenerator;
+
+  // The checkpoints store the random generator, so it must be serializable
+  @Before
+  public void setup() {
+    previousRandomGenerator = JMetalRandom.getInstance().getRandomGenerator();
+    JMetalRandom.getInstance().setRandomGenerator(new JavaRandomGenerator(1234));
+  }
+
+  @After
+  public void clean() {
+    JMetalRandom.getInstance().setRandomGenerator(previousRandomGenerator);
+  }
+
+  @Test
+  public void shouldReadReturnNullIfCheckpointingIsDisabled() {
+    Checkpointer checkpointer = new Checkpointer();
+
+    assertFalse(checkpointer.isEnabled());
+    assertNull(checkpointer.read());
+  }
+
+  @Test
+  public void shouldReadReturnNullIfTheFileDoesNotExist() {
+    Checkpointer checkpointer = new Checkpointer();
+    checkpointer.setFile(new File(folder.getRoot(), "CHECKPOINT").getPath());
+
+    assertTrue(checkpointer.isEnabled());
+    assertNull(checkpointer.read());
+  }
+
+  @Test
+  public void shouldReadReturnTheCheckpointWrittenPreviously() throws IOException {
+    Checkpointer checkpointer = new Checkpointer();
+    checkpointer.setFile(new File(folder.getRoot(), "CHECKPOINT").getPath());
+
+    List<Integer> population = new ArrayList<>(Arrays.asList(1, 2, 3));
+    checkpointer.write(
+        new Checkpoint("Algorithm")
+            .putList(Checkpoint.POPULATION, population)
+            .put(Checkpoint.EVALUATIONS, 300));
+    // The snapshot must not be affected by the later changes of the state
+    population.add(4);
+    checkpointer.close();
+
+    Checkpoint checkpoint = checkpointer.read();
+    assertEquals("Algorithm", checkpoint.getAlgorithmName());
+    assertEquals(Arrays.asList(1, 2, 3), checkpoint.getList(Checkpoint.POPULATION));
+    assertEquals(300, checkpoint.getInt(Checkpoint.EVALUATIONS));
+    assertFalse(new File(folder.getRoot(), "CHECKPOINT.tmp").exists());
+  }
+
+  @Test
+  public void shouldReadReturnTheLastCheckpointWritten() {
+    Checkpointer checkpointer = new Checkpointer();
+    checkpointer.setFile(new File(folder.getRoot(), "CHECKPOINT").getPath());
+
+    for (int i = 1; i <= 10; i++) {
+      checkpointer.write(new Checkpoint("Algorithm").put(Checkpoint.EVALUATIONS, i));
+    }
+    checkpointer.close();
+
+    assertEquals(10, checkpointer.read().getInt(Checkpoint.EVALUATIONS));
+  }
+
+  @Test
+  public void shouldCheckpointIfDueNotCreateACheckpointBeforeThePeriodHasElapsed() {
+    Checkpointer checkpointer = new Checkpointer();
+    checkpointer.setFile(new File(folder.getRoot(), "CHECKPOINT").getPath());
+    checkpointer.setPeriod(Long.MAX_VALUE);
+    checkpointer.start();
+
+    AtomicInteger createdCheckpoints = new AtomicInteger();
+    checkpointer.checkpointIfDue(
+        () -> {
+          createdCheckpoints.incrementAndGet();
+          return new Checkpoint("Algorithm");
+        });
+    checkpointer.close();
+
+    assertEquals(0, createdCheckpoints.get());
+    assertFalse(new File(folder.getRoot(), "CHECKPOINT").exists());
+  }
+
+  @Test
+  public void shouldCheckpointIfDueCreateACheckpointIfThePeriodIsZero() {
+    Checkpointer checkpointer = new Checkpointer();
+    checkpointer.setFile(new File(folder.getRoot(), "CHECKPOINT").getPath());
+    checkpointer.setPeriod(0);
+    checkpointer.start();
+
+    checkpointer.checkpointIfDue(() -> new Checkpoint("Algorithm"));
+    checkpointer.close();
+
+    assertTrue(new File(folder.getRoot(), "CHECKPOINT").exists());
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldCheckAlgorithmNameRaiseAnExceptionIfTheNamesAreDifferent() {
+    new Checkpoint("NSGAII").checkAlgorithmName("MOEAD");
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldGetRaiseAnExceptionIfTheValueIsMissing() {
+    new Checkpoint("Algorithm").get(Checkpoint.ARCHIVE);
+  }
+
+  @Test
+  public void shouldRestoreRandomGeneratorRepeatTheSequenceOfRandomNumbers() {
+    Checkpointer checkpointer = new Checkpointer();
+    checkpointer.setFile(new File(folder.getRoot(), "CHECKPOINT").getPath());
+
+    checkpointer.write(new Checkpoint("Algorithm"));
+    checkpointer.close();
+    double[] expectedValues = new double[10];
+    for (int i = 0; i < expectedValues.length; i++) {
+      expectedValues[i] = JMetalRandom.getInstance().nextDouble();
+    }
+
+    checkpointer.read().restoreRandomGenerator();
+    for (double expectedValue : expectedValues) {
+      assertEquals(expectedValue, JMetalRandom.getInstance().nextDouble(), 0.0);
+    }
+  }
+}
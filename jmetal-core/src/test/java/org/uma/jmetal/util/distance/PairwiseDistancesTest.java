@@ -0,0 +1,161 @@
+package org.uma.jmetal.util.distance;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+import org.uma.jmetal.util.distance.impl.CosineSimilarityBetweenVectors;
+import org.uma.jmetal.util.distance.impl.EuclideanDistanceBetweenVectors;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+public class PairwiseDistancesTest {
+  private static final double EPSILON = 0.0000000001;
+
+  @Test
+  public void shouldEuclideanDistanceMatrixReturnAnEmptyMatrixIfThereAreNoPoints() {
+    assertEquals(0, PairwiseDistances.euclideanDistanceMatrix(new double[0][]).length);
+  }
+
+  @Test
+  public void shouldEuclideanDistanceMatrixWorkProperlyWithTwoPoints() {
+    double[][] distances =
+        PairwiseDistances.euclideanDistanceMatrix(new double[][] {{0.0, 0.0}, {3.0, 4.0}});
+
+    assertArrayEquals(new double[] {0.0, 5.0}, distances[0], EPSILON);
+    assertArrayEquals(new double[] {5.0, 0.0}, distances[1], EPSILON);
+  }
+
+  @Test
+  public void shouldEuclideanDistanceMatrixBeEqualToTheNaiveOneWithBlocksNotFullyFilled() {
+    double[][] points = randomPoints(150, 3, 1);
+
+    assertMatrixEquals(
+        naiveDistanceMatrix(points, new EuclideanDistanceBetweenVectors()),
+        PairwiseDistances.euclideanDistanceMatrix(points));
+  }
+
+  @Test
+  public void shouldEuclideanDistanceMatrixBeEqualToTheNaiveOneWhenComputedInParallel() {
+    double[][] points = randomPoints(PairwiseDistances.PARALLEL_THRESHOLD + 37, 2, 2);
+
+    assertMatrixEquals(
+        naiveDistanceMatrix(points, new EuclideanDistanceBetweenVectors()),
+        PairwiseDistances.euclideanDistanceMatrix(points));
+  }
+
+  @Test
+  public void shouldDistanceMatrixBeEqualToTheNaiveOneWithAGivenDistance() {
+    double[][] points = randomPoints(200, 3, 3);
+    Distance<double[], double[]> distance = new CosineSimilarityBetweenVectors(new double[3]);
+
+    assertMatrixEquals(
+        naiveDistanceMatrix(points, distance), PairwiseDistances.distanceMatrix(points, distance));
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldEuclideanDistanceMatrixRaiseAnExceptionIfThePointsHaveDifferentDimensions() {
+    PairwiseDistances.euclideanDistanceMatrix(new double[][] {{0.0, 0.0}, {1.0}});
+  }
+
+  @Test
+  public void shouldKthSmallestReturnTheSameValueAsSorting() {
+    Random random = new Random(4);
+    for (int size = 1; size < 60; size++) {
+      double[] values = new double[size];
+      for (int i = 0; i < size; i++) {
+        // Few different values, so there are many ties
+        values[i] = random.nextInt(10);
+      }
+      double[] sortedValues = values.clone();
+      Arrays.sort(sortedValues);
+
+      for (int k = 0; k < size; k++) {
+        assertEquals(sortedValues[k], PairwiseDistances.kthSmallest(values.clone(), k), EPSILON);
+      }
+    }
+  }
+
+  @Test
+  public void shouldKthNearestNeighborDistancesWorkProperlyWithThreePoints() {
+    double[][] points = {{0.0, 0.0}, {1.0, 0.0}, {3.0, 0.0}};
+
+    assertArrayEquals(
+        new double[] {1.0, 1.0, 2.0},
+        PairwiseDistances.kthNearestNeighborDistances(points, 1),
+        EPSILON);
+    assertArrayEquals(
+        new double[] {3.0, 2.0, 3.0},
+        PairwiseDistances.kthNearestNeighborDistances(points, 2),
+        EPSILON);
+  }
+
+  @Test
+  public void shouldKthNearestNeighborDistancesCountDuplicatedPoints() {
+    double[][] points = {{1.0, 1.0}, {1.0, 1.0}, {2.0, 1.0}};
+
+    assertArrayEquals(
+        new double[] {0.0, 0.0, 1.0},
+        PairwiseDistances.kthNearestNeighborDistances(points, 1),
+        EPSILON);
+  }
+
+  @Test
+  public void shouldKthNearestNeighborDistancesBeEqualToTheOnesObtainedBySorting() {
+    double[][] points = randomPoints(PairwiseDistances.PARALLEL_THRESHOLD + 13, 3, 5);
+    double[][] distances = naiveDistanceMatrix(points, new EuclideanDistanceBetweenVectors());
+
+    for (int k : new int[] {1, 5}) {
+      double[] result = PairwiseDistances.kthNearestNeighborDistances(points, k);
+      for (int i = 0; i < points.length; i++) {
+        double[] sortedDistances = distances[i].clone();
+        Arrays.sort(sortedDistances);
+        assertEquals(sortedDistances[k], result[i], EPSILON);
+      }
+    }
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldKthNearestNeighborDistancesRaiseAnExceptionIfKIsNotLowerThanTheNumberOfPoints() {
+    PairwiseDistances.kthNearestNeighborDistances(new double[][] {{0.0}, {1.0}}, 2);
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldKthNearestNeighborDistancesRaiseAnExceptionIfKIsZero() {
+    PairwiseDistances.kthNearestNeighborDistances(new double[][] {{0.0}, {1.0}}, 0);
+  }
+
+  private static double[][] randomPoints(int numberOfPoints, int dimension, long seed) {
+    Random random = new Random(seed);
+    double[][] points = new double[numberOfPoints][dimension];
+    for (double[] point : points) {
+      for (int d = 0; d < dimension; d++) {
+        point[d] = random.nextDouble();
+      }
+    }
+
+    return points;
+  }
+
+  private static double[][] naiveDistanceMatrix(
+      double[][] points, Distance<double[], double[]> distance) {
+    double[][] distances = new double[points.length][points.length];
+    for (int i = 0; i < points.length; i++) {
+      for (int j = 0; j < points.length; j++) {
+        if (i != j) {
+          distances[i][j] = distance.compute(points[i], points[j]);
+        }
+      }
+    }
+
+    return distances;
+  }
+
+  private static void assertMatrixEquals(double[][] expected, double[][] actual) {
+    assertEquals(expected.length, actual.length);
+    for (int i = 0; i < expected.length; i++) {
+      assertArrayEquals(expected[i], actual[i], EPSILON);
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package org.uma.jmetal.util.duplicateelimination;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.uma.jmetal.problem.DynamicProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.fitnesscache.GenotypeKey;
+import org.uma.jmetal.util.restartstrategy.impl.RemoveDuplicatedSolutions;
+
+public class DuplicateSolutionDetectorTest {
+  private final DummyDoubleProblem problem = new DummyDoubleProblem(3, 2, 0);
+
+  private DoubleSolution createSolution(double objective1, double objective2) {
+    DoubleSolution solution = problem.createSolution();
+    solution.objectives()[0] = objective1;
+    solution.objectives()[1] = objective2;
+
+    return solution;
+  }
+
+  @Test
+  public void shouldRemoveDuplicatesKeepTheFirstOccurrenceOfEachSolution() {
+    DoubleSolution solution1 = createSolution(1.0, 2.0);
+    DoubleSolution solution2 = createSolution(2.0, 1.0);
+    DoubleSolution solution3 = createSolution(1.0, 2.0);
+    DoubleSolution solution4 = createSolution(-0.0, 3.0);
+    DoubleSolution solution5 = createSolution(0.0, 3.0);
+
+    DuplicateSolutionDetector<DoubleSolution> detector = DuplicateSolutionDetector.byObjectives(0.0);
+
+    assertEquals(
+        List.of(solution1, solution2, solution4),
+        detector.removeDuplicates(List.of(solution1, solution2, solution3, solution4, solution5)));
+    assertEquals(
+        List.of(solution3, solution5),
+        detector.getDuplicates(List.of(solution1, solution2, solution3, solution4, solution5)));
+  }
+
+  @Test
+  public void shouldByObjectivesWithToleranceConsiderCloseObjectiveValuesAsDuplicates() {
+    List<DoubleSolution> solutionList =
+        List.of(createSolution(1.0, 2.0), createSolution(1.0 + 1e-9, 2.0 - 1e-9));
+
+    assertTrue(
+        DuplicateSolutionDetector.<DoubleSolution>byObjectives(1e-6)
+            .containsDuplicates(solutionList));
+    assertFalse(
+        DuplicateSolutionDetector.<DoubleSolution>byObjectives(0.0)
+            .containsDuplicates(solutionList));
+  }
+
+  @Test
+  public void shouldByGenotypeCompareTheVariables() {
+    DoubleSolution solution = createSolution(1.0, 2.0);
+    DoubleSolution copy = (DoubleSolution) solution.copy();
+    copy.objectives()[0] = 5.0;
+    DoubleSolution otherSolution = createSolution(1.0, 2.0);
+
+    DuplicateSolutionDetector<DoubleSolution> detector =
+        DuplicateSolutionDetector.byGenotype(GenotypeKey::ofDoubles);
+
+    assertEquals(List.of(copy), detector.getDuplicates(List.of(solution, copy, otherSolution)));
+    assertFalse(
+        DuplicateSolutionDetector.byObjectivesAndGenotype(0.0, GenotypeKey::ofDoubles)
+            .containsDuplicates(List.of(solution, copy, otherSolution)));
+  }
+
+  @Test
+  public void shouldFilterDiscardTheCandidatesThatAreDuplicatesOfTheReferenceOrOfOtherCandidates() {
+    DoubleSolution solution1 = createSolution(1.0, 2.0);
+    DoubleSolution solution2 = createSolution(2.0, 1.0);
+    DoubleSolution candidate1 = createSolution(1.0, 2.0);
+    DoubleSolution candidate2 = createSolution(3.0, 0.0);
+    DoubleSolution candidate3 = createSolution(3.0, 0.0);
+
+    DuplicateSolutionDetector<DoubleSolution> detector = DuplicateSolutionDetector.byObjectives(0.0);
+    List<DoubleSolution> result =
+        detector.filter(List.of(solution1, solution2), List.of(candidate1, candidate2, candidate3));
+
+    assertEquals(1, result.size());
+    assertSame(candidate2, result.get(0));
+  }
+
+  @Test
+  public void shouldTheDetectorWorkWithListsLargerThanTheInitialTable() {
+    DuplicateSolutionDetector<DoubleSolution> detector = DuplicateSolutionDetector.byObjectives(0.0);
+    assertFalse(detector.containsDuplicates(List.of(createSolution(0.0, 0.0))));
+
+    List<DoubleSolution> solutionList = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      solutionList.add(createSolution(i % 500, 0.0));
+    }
+
+    assertEquals(500, detector.removeDuplicates(solutionList).size());
+    assertEquals(500, detector.getDuplicates(solutionList).size());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldRemoveDuplicatedSolutionsRemoveTheDuplicatesFromTheList() {
+    List<DoubleSolution> solutionList = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      solutionList.add(createSolution(i % 4, 0.0));
+    }
+
+    int numberOfRemovedSolutions =
+        new RemoveDuplicatedSolutions<>(DuplicateSolutionDetector.<DoubleSolution>byObjectives(0.0))
+            .remove(solutionList, mock(DynamicProblem.class));
+
+    assertEquals(6, numberOfRemovedSolutions);
+    assertEquals(4, solutionList.size());
+  }
+}
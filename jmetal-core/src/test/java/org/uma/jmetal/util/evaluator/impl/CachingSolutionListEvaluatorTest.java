@@ -0,0 +1,83 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.uma.jmetal.problem.binaryproblem.impl.AbstractBinaryProblem;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.util.fitnesscache.FitnessCache;
+import org.uma.jmetal.util.fitnesscache.GenotypeKey;
+
+public class CachingSolutionListEvaluatorTest {
+  @Test
+  public void shouldEvaluateOnlyTheGenotypesNotEvaluatedBefore() {
+    CountingOneMax problem = new CountingOneMax(64);
+    CachingSolutionListEvaluator<BinarySolution> evaluator =
+        new CachingSolutionListEvaluator<>(new FitnessCache<>(GenotypeKey::ofBinary, 1000));
+
+    List<BinarySolution> population = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      population.add(problem.createSolution());
+    }
+    evaluator.evaluate(population, problem);
+
+    List<BinarySolution> offspring = new ArrayList<>();
+    for (BinarySolution solution : population) {
+      BinarySolution copy = (BinarySolution) solution.copy();
+      copy.objectives()[0] = 0.0;
+      offspring.add(copy);
+    }
+    offspring.add(problem.createSolution());
+    evaluator.evaluate(offspring, problem);
+
+    assertEquals(11, problem.evaluations);
+    for (int i = 0; i < population.size(); i++) {
+      assertEquals(population.get(i).objectives()[0], offspring.get(i).objectives()[0], 0.0);
+    }
+    assertEquals(10, evaluator.getCache().getHitCount());
+  }
+
+  @Test
+  public void shouldEvaluateOnceTheGenotypesRepeatedInAList() {
+    CountingOneMax problem = new CountingOneMax(64);
+    CachingSolutionListEvaluator<BinarySolution> evaluator =
+        new CachingSolutionListEvaluator<>(new FitnessCache<>(GenotypeKey::ofBinary, 1000));
+    BinarySolution solution = problem.createSolution();
+
+    List<BinarySolution> solutions =
+        List.of(solution, (BinarySolution) solution.copy(), (BinarySolution) solution.copy());
+    evaluator.evaluate(solutions, problem);
+
+    assertEquals(1, problem.evaluations);
+    assertEquals(solution.objectives()[0], solutions.get(2).objectives()[0], 0.0);
+    assertEquals(2, evaluator.getCache().getHitCount());
+  }
+
+  /** OneMax problem counting the evaluations */
+  @SuppressWarnings("serial")
+  private static class CountingOneMax extends AbstractBinaryProblem {
+    private final int bits;
+    private int evaluations;
+
+    CountingOneMax(int bits) {
+      this.bits = bits;
+      setNumberOfVariables(1);
+      setNumberOfObjectives(1);
+    }
+
+    @Override
+    public List<Integer> getListOfBitsPerVariable() {
+      return List.of(bits);
+    }
+
+    @Override
+    public BinarySolution evaluate(BinarySolution solution) {
+      evaluations++;
+      solution.objectives()[0] = -solution.variables().get(0).cardinality();
+
+      return solution;
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package org.uma.jmetal.util.fileinput;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.fileoutput.BinaryFrontWriter;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+
+public class BinaryFrontReaderTest {
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private final double[][] matrix = {{1.0, 2.0, 3.0}, {4.0, 5.0, 6.0}};
+
+  @Test
+  public void shouldReadReturnTheMatrixWrittenByTheWriter() throws IOException {
+    String fileName = folder.newFile("FUN.bin").getPath();
+    BinaryFrontWriter.write(fileName, matrix);
+
+    double[][] result = BinaryFrontReader.read(fileName);
+
+    assertEquals(2, result.length);
+    assertArrayEquals(matrix[0], result[0], 0.0);
+    assertArrayEquals(matrix[1], result[1], 0.0);
+  }
+
+  @Test
+  public void shouldMapReturnAViewOfTheValuesStoredByColumns() throws IOException {
+    String fileName = folder.newFile("FUN.bin").getPath();
+    BinaryFrontWriter.write(fileName, matrix, new boolean[] {true, false, true});
+
+    BinaryFront front = BinaryFrontReader.map(fileName);
+    DoubleBuffer column = front.getColumn(1);
+
+    assertEquals(2, front.getNumberOfPoints());
+    assertEquals(3, front.getNumberOfDimensions());
+    assertTrue(front.isMinimized(0));
+    assertFalse(front.isMinimized(1));
+    assertEquals(6.0, front.get(1, 2), 0.0);
+    assertArrayEquals(new double[] {4.0, 5.0, 6.0}, front.getPoint(1), 0.0);
+    assertEquals(2, column.remaining());
+    assertEquals(2.0, column.get(0), 0.0);
+    assertEquals(5.0, column.get(1), 0.0);
+  }
+
+  @Test
+  public void shouldReadAnEmptyFront() throws IOException {
+    String fileName = folder.newFile("FUN.bin").getPath();
+    BinaryFrontWriter.write(fileName, new double[0][]);
+
+    assertEquals(0, BinaryFrontReader.read(fileName).length);
+  }
+
+  @Test
+  public void shouldIsBinaryFrontFileDistinguishBinaryAndTextFiles() throws IOException {
+    File binaryFile = folder.newFile("FUN.bin");
+    File textFile = folder.newFile("FUN.csv");
+    BinaryFrontWriter.write(binaryFile.getPath(), matrix);
+    Files.write(textFile.toPath(), Arrays.asList("1.0 2.0 3.0", "4.0 5.0 6.0"));
+
+    assertTrue(BinaryFrontReader.isBinaryFrontFile(binaryFile.getPath()));
+    assertFalse(BinaryFrontReader.isBinaryFrontFile(textFile.getPath()));
+    assertFalse(BinaryFrontReader.isBinaryFrontFile(folder.newFile("empty").getPath()));
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldMapRaiseAnExceptionIfTheFileIsTruncated() throws IOException {
+    File file = folder.newFile("FUN.bin");
+    BinaryFrontWriter.write(file.getPath(), matrix);
+    byte[] content = Files.readAllBytes(file.toPath());
+    Files.write(file.toPath(), Arrays.copyOf(content, content.length - 1));
+
+    BinaryFrontReader.map(file.getPath());
+  }
+
+  @Test
+  public void shouldVectorUtilsReadVectorsAcceptBinaryFiles() throws IOException {
+    String fileName = folder.newFile("FUN.bin").getPath();
+    BinaryFrontWriter.write(fileName, matrix);
+
+    double[][] result = VectorUtils.readVectors(fileName, ",");
+
+    assertArrayEquals(matrix[0], result[0], 0.0);
+    assertArrayEquals(matrix[1], result[1], 0.0);
+  }
+
+  @Test
+  public void shouldSolutionListOutputWriteBinaryFilesIfTheExtensionIsBin() throws IOException {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    DoubleSolution solution = problem.createSolution();
+    solution.variables().set(0, 0.25);
+    solution.variables().set(1, 0.75);
+    solution.objectives()[0] = 1.0;
+    solution.objectives()[1] = 2.0;
+    List<DoubleSolution> solutionList = List.of(solution);
+
+    String funFileName = new File(folder.getRoot(), "FUN.bin").getPath();
+    String varFileName = new File(folder.getRoot(), "VAR.bin").getPath();
+    new SolutionListOutput(solutionList)
+        .printObjectivesToFile(funFileName, Arrays.asList(true, false));
+    new SolutionListOutput(solutionList).printVariablesToFile(varFileName);
+
+    BinaryFront front = BinaryFrontReader.map(funFileName);
+    assertFalse(front.isMinimized(1));
+    assertArrayEquals(new double[] {1.0, -2.0}, front.getPoint(0), 0.0);
+    assertArrayEquals(new double[] {0.25, 0.75}, BinaryFrontReader.read(varFileName)[0], 0.0);
+  }
+}
@@ -0,0 +1,106 @@
+package org.uma.jmetal.util.fitnesscache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.solution.permutationsolution.impl.IntegerPermutationSolution;
+
+@SuppressWarnings("unchecked")
+public class FitnessCacheTest {
+  @Test
+  public void shouldLookupCopyTheValuesOfAStoredSolution() {
+    FitnessCache<PermutationSolution<Integer>> cache =
+        new FitnessCache<>(GenotypeKey::ofIntegers, 100);
+    PermutationSolution<Integer> solution = new IntegerPermutationSolution(10, 2);
+    solution.objectives()[0] = 3.0;
+    solution.objectives()[1] = 4.0;
+    PermutationSolution<Integer> copy = (PermutationSolution<Integer>) solution.copy();
+    copy.objectives()[0] = 0.0;
+    copy.objectives()[1] = 0.0;
+
+    assertFalse(cache.lookup(cache.keyOf(copy), copy));
+    cache.put(cache.keyOf(solution), solution);
+    assertTrue(cache.lookup(cache.keyOf(copy), copy));
+
+    assertArrayEquals(new double[] {3.0, 4.0}, copy.objectives(), 0.0);
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(0.5, cache.getHitRate(), 0.0);
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void shouldTheCachedValuesNotChangeIfTheSolutionIsModified() {
+    FitnessCache<PermutationSolution<Integer>> cache =
+        new FitnessCache<>(GenotypeKey::ofIntegers, 100);
+    PermutationSolution<Integer> solution = new IntegerPermutationSolution(10, 1);
+    solution.objectives()[0] = 3.0;
+    GenotypeKey key = cache.keyOf(solution);
+    cache.put(key, solution);
+
+    solution.objectives()[0] = 5.0;
+    cache.lookup(key, solution);
+
+    assertEquals(3.0, solution.objectives()[0], 0.0);
+  }
+
+  @Test
+  public void shouldTheLeastRecentlyUsedEntriesBeEvicted() {
+    FitnessCache<PermutationSolution<Integer>> cache =
+        new FitnessCache<>(GenotypeKey::ofIntegers, 2);
+    PermutationSolution<Integer> first = permutation(0, 1, 2);
+    PermutationSolution<Integer> second = permutation(1, 2, 0);
+    PermutationSolution<Integer> third = permutation(2, 0, 1);
+
+    cache.put(cache.keyOf(first), first);
+    cache.put(cache.keyOf(second), second);
+    cache.lookup(cache.keyOf(first), first);
+    cache.put(cache.keyOf(third), third);
+
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    assertTrue(cache.lookup(cache.keyOf(first), first));
+    assertFalse(cache.lookup(cache.keyOf(second), second));
+    assertTrue(cache.lookup(cache.keyOf(third), third));
+  }
+
+  @Test
+  public void shouldTheWeightOfTheEntriesBeBounded() {
+    FitnessCache<PermutationSolution<Integer>> cache =
+        new FitnessCache<>(GenotypeKey::ofIntegers, 1000, FitnessCache.MEMORY_WORDS);
+    for (int i = 0; i < 200; i++) {
+      PermutationSolution<Integer> solution = new IntegerPermutationSolution(20, 2);
+      cache.put(cache.keyOf(solution), solution);
+    }
+
+    assertTrue(cache.getWeight() <= 1000);
+    assertEquals(13 * cache.size(), cache.getWeight());
+  }
+
+  @Test
+  public void shouldClearRemoveTheEntries() {
+    FitnessCache<PermutationSolution<Integer>> cache =
+        new FitnessCache<>(GenotypeKey::ofIntegers, 100);
+    PermutationSolution<Integer> solution = new IntegerPermutationSolution(10, 1);
+    cache.put(cache.keyOf(solution), solution);
+
+    cache.clear();
+
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getWeight());
+    assertFalse(cache.lookup(cache.keyOf(solution), solution));
+  }
+
+  private PermutationSolution<Integer> permutation(int... values) {
+    PermutationSolution<Integer> solution = new IntegerPermutationSolution(values.length, 1);
+    for (int i = 0; i < values.length; i++) {
+      solution.variables().set(i, values[i]);
+    }
+
+    return solution;
+  }
+}
@@ -0,0 +1,113 @@
+package org.uma.jmetal.util.fitnesscache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.List;
+import org.junit.Test;
+import org.uma.jmetal.solution.binarysolution.BinarySolution;
+import org.uma.jmetal.solution.binarysolution.impl.DefaultBinarySolution;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.doublesolution.impl.DefaultDoubleSolution;
+import org.uma.jmetal.solution.integersolution.IntegerSolution;
+import org.uma.jmetal.solution.permutationsolution.PermutationSolution;
+import org.uma.jmetal.solution.permutationsolution.impl.IntegerPermutationSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+
+@SuppressWarnings("unchecked")
+public class GenotypeKeyTest {
+  @Test
+  public void shouldOfBinaryReturnEqualKeysForEqualGenotypes() {
+    BinarySolution solution = new DefaultBinarySolution(List.of(70, 3), 2);
+    BinarySolution copy = (BinarySolution) solution.copy();
+
+    assertEquals(GenotypeKey.ofBinary(solution), GenotypeKey.ofBinary(copy));
+    assertEquals(GenotypeKey.ofBinary(solution).hashCode(), GenotypeKey.ofBinary(copy).hashCode());
+
+    copy.variables().get(0).flip(69);
+    assertNotEquals(GenotypeKey.ofBinary(solution), GenotypeKey.ofBinary(copy));
+  }
+
+  @Test
+  public void shouldOfBinaryDistinguishTheLengthsOfTheVariables() {
+    BinarySolution solution = new DefaultBinarySolution(List.of(2, 2), 1);
+    BinarySolution otherSolution = new DefaultBinarySolution(List.of(4), 1);
+    solution.variables().get(0).clear();
+    solution.variables().get(1).clear();
+    otherSolution.variables().get(0).clear();
+
+    assertNotEquals(GenotypeKey.ofBinary(solution), GenotypeKey.ofBinary(otherSolution));
+  }
+
+  @Test
+  public void shouldOfIntegersPackThePermutations() {
+    PermutationSolution<Integer> solution = new IntegerPermutationSolution(9, 1);
+    PermutationSolution<Integer> copy = (PermutationSolution<Integer>) solution.copy();
+
+    assertEquals(GenotypeKey.ofIntegers(solution), GenotypeKey.ofIntegers(copy));
+    assertEquals(1 + 5, GenotypeKey.ofIntegers(solution).size());
+
+    int first = copy.variables().get(0);
+    copy.variables().set(0, copy.variables().get(8));
+    copy.variables().set(8, first);
+    assertNotEquals(GenotypeKey.ofIntegers(solution), GenotypeKey.ofIntegers(copy));
+  }
+
+  @Test
+  public void shouldOfIntegersSupportNegativeValues() {
+    IntegerSolution solution =
+        new org.uma.jmetal.solution.integersolution.impl.DefaultIntegerSolution(
+            2, 0, List.of(Bounds.create(-10, 10), Bounds.create(-10, 10)));
+    IntegerSolution otherSolution = (IntegerSolution) solution.copy();
+    solution.variables().set(0, -1);
+    solution.variables().set(1, 0);
+    otherSolution.variables().set(0, 0);
+    otherSolution.variables().set(1, -1);
+
+    assertNotEquals(GenotypeKey.ofIntegers(solution), GenotypeKey.ofIntegers(otherSolution));
+  }
+
+  @Test
+  public void shouldOfDoublesConsiderEqualThePositiveAndNegativeZeros() {
+    DoubleSolution solution = doubleSolution();
+    DoubleSolution copy = (DoubleSolution) solution.copy();
+    solution.variables().set(0, 0.0);
+    copy.variables().set(0, -0.0);
+
+    assertEquals(GenotypeKey.ofDoubles(solution), GenotypeKey.ofDoubles(copy));
+
+    copy.variables().set(1, Math.nextUp(copy.variables().get(1)));
+    assertNotEquals(GenotypeKey.ofDoubles(solution), GenotypeKey.ofDoubles(copy));
+  }
+
+  @Test
+  public void shouldQuantisedDoublesIgnoreTheDifferencesLowerThanTheQuantum() {
+    GenotypeKeyFunction<DoubleSolution> keyFunction = GenotypeKey.quantisedDoubles(1e-3);
+    DoubleSolution solution = doubleSolution();
+    DoubleSolution copy = (DoubleSolution) solution.copy();
+    solution.variables().set(0, 0.25);
+    copy.variables().set(0, 0.25 + 1e-6);
+
+    assertEquals(keyFunction.keyOf(solution), keyFunction.keyOf(copy));
+
+    copy.variables().set(0, 0.252);
+    assertNotEquals(keyFunction.keyOf(solution), keyFunction.keyOf(copy));
+  }
+
+  private DoubleSolution doubleSolution() {
+    return new DefaultDoubleSolution(2, List.of(Bounds.create(-1.0, 1.0), Bounds.create(-1.0, 1.0)));
+  }
+
+  @Test
+  public void shouldConcatenateDistinguishTheSizesOfTheKeys() {
+    GenotypeKey key1 = new GenotypeKey(new long[] {1, 2});
+    GenotypeKey key2 = new GenotypeKey(new long[] {3});
+
+    assertEquals(
+        GenotypeKey.concatenate(key1, key2),
+        GenotypeKey.concatenate(new GenotypeKey(new long[] {1, 2}), key2));
+    assertNotEquals(
+        GenotypeKey.concatenate(key1, key2),
+        GenotypeKey.concatenate(new GenotypeKey(new long[] {1}), new GenotypeKey(new long[] {2, 3})));
+  }
+}
@@ -0,0 +1,72 @@
+package org.uma.jmetal.util.measure.instrumentation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HistogramTest {
+  @Test
+  public void shouldAnEmptyHistogramReturnZeroValues() {
+    Histogram histogram = new Histogram();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMin());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0.0, histogram.getMean(), 0.0);
+    assertEquals(0, histogram.getValueAtPercentile(50.0));
+  }
+
+  @Test
+  public void shouldTheSmallValuesBeStoredExactly() {
+    Histogram histogram = new Histogram(6);
+    for (long value = 1; value <= 60; value++) {
+      histogram.record(value);
+    }
+
+    assertEquals(60, histogram.getCount());
+    assertEquals(1, histogram.getMin());
+    assertEquals(60, histogram.getMax());
+    assertEquals(30.5, histogram.getMean(), 1e-12);
+    assertEquals(30, histogram.getValueAtPercentile(50.0));
+    assertEquals(60, histogram.getValueAtPercentile(100.0));
+  }
+
+  @Test
+  public void shouldTheRelativeErrorOfThePercentilesBeBounded() {
+    Histogram histogram = new Histogram(6);
+    for (long value = 1; value <= 100000; value++) {
+      histogram.record(value * 1000);
+    }
+
+    for (double percentile : new double[] {1.0, 25.0, 50.0, 90.0, 99.0, 99.9}) {
+      double expected = percentile / 100.0 * 100000 * 1000;
+      double relativeError =
+          Math.abs(histogram.getValueAtPercentile(percentile) - expected) / expected;
+      assertTrue("Percentile " + percentile, relativeError < 1.0 / 32);
+    }
+    assertEquals(100000L * 1000, histogram.getValueAtPercentile(100.0));
+  }
+
+  @Test
+  public void shouldRecordAcceptTheHighestValues() {
+    Histogram histogram = new Histogram();
+    histogram.record(Long.MAX_VALUE);
+    histogram.record(-5);
+
+    assertEquals(0, histogram.getMin());
+    assertEquals(Long.MAX_VALUE, histogram.getMax());
+    assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100.0));
+  }
+
+  @Test
+  public void shouldResetRemoveTheRecordedValues() {
+    Histogram histogram = new Histogram();
+    histogram.record(1000);
+    histogram.reset();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getValueAtPercentile(99.0));
+  }
+}
@@ -0,0 +1,148 @@
+package org.uma.jmetal.util.measure.instrumentation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.measure.PullMeasure;
+
+public class PhaseInstrumentationTest {
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldNothingBeMeasuredIfTheInstrumentationIsDisabled() {
+    PhaseInstrumentation instrumentation = new PhaseInstrumentation();
+
+    instrumentation.begin(AlgorithmPhase.EVALUATION);
+    instrumentation.end(AlgorithmPhase.EVALUATION);
+
+    assertEquals(0, instrumentation.getCount(AlgorithmPhase.EVALUATION));
+    assertEquals(0, instrumentation.getNanoseconds(AlgorithmPhase.EVALUATION));
+  }
+
+  @Test
+  public void shouldEndMeasureTheExecutionsOfAPhase() {
+    PhaseInstrumentation instrumentation = new PhaseInstrumentation().setEnabled(true);
+
+    for (int i = 0; i < 3; i++) {
+      instrumentation.begin(AlgorithmPhase.SELECTION);
+      busyWait(100000);
+      instrumentation.end(AlgorithmPhase.SELECTION);
+    }
+
+    assertEquals(3, instrumentation.getCount(AlgorithmPhase.SELECTION));
+    assertTrue(instrumentation.getNanoseconds(AlgorithmPhase.SELECTION) >= 300000);
+    assertEquals(3, instrumentation.getHistogram(AlgorithmPhase.SELECTION).getCount());
+    assertEquals(0, instrumentation.getCount(AlgorithmPhase.VARIATION));
+  }
+
+  @Test
+  public void shouldTheMeasuresOfAPhaseExcludeItsNestedPhases() {
+    PhaseInstrumentation instrumentation = new PhaseInstrumentation().setEnabled(true);
+    List<Long> durations = new ArrayList<>();
+    instrumentation.addListener(
+        (phase, nanoseconds, allocatedBytes) -> durations.add(nanoseconds));
+
+    instrumentation.begin(AlgorithmPhase.EVALUATION);
+    instrumentation.begin(AlgorithmPhase.ARCHIVE_UPDATE);
+    busyWait(2000000);
+    instrumentation.end(AlgorithmPhase.ARCHIVE_UPDATE);
+    instrumentation.end(AlgorithmPhase.EVALUATION);
+
+    assertEquals(2, durations.size());
+    assertTrue(
+        instrumentation.getNanoseconds(AlgorithmPhase.EVALUATION)
+            < instrumentation.getNanoseconds(AlgorithmPhase.ARCHIVE_UPDATE));
+    assertEquals(
+        (long) durations.get(0), instrumentation.getNanoseconds(AlgorithmPhase.ARCHIVE_UPDATE));
+    assertEquals(
+        (long) durations.get(1), instrumentation.getNanoseconds(AlgorithmPhase.EVALUATION));
+  }
+
+  @Test
+  public void shouldTheAllocatedBytesBeMeasuredIfSupported() {
+    PhaseInstrumentation instrumentation = new PhaseInstrumentation().setEnabled(true);
+    long[][] arrays = new long[10][];
+
+    instrumentation.begin(AlgorithmPhase.VARIATION);
+    for (int i = 0; i < arrays.length; i++) {
+      arrays[i] = new long[100000];
+    }
+    instrumentation.end(AlgorithmPhase.VARIATION);
+
+    assertEquals(10, arrays.length);
+    if (instrumentation.isAllocationTracking()) {
+      assertTrue(instrumentation.getAllocatedBytes(AlgorithmPhase.VARIATION) >= 8000000);
+    }
+  }
+
+  @Test(expected = JMetalException.class)
+  public void shouldEndRaiseAnExceptionIfThePhaseIsNotTheActiveOne() {
+    PhaseInstrumentation instrumentation = new PhaseInstrumentation().setEnabled(true);
+
+    instrumentation.begin(AlgorithmPhase.SELECTION);
+    instrumentation.end(AlgorithmPhase.VARIATION);
+  }
+
+  @Test
+  public void shouldTheMeasuresBeAvailableThroughTheMeasureManager() {
+    PhaseInstrumentation instrumentation = new PhaseInstrumentation().setEnabled(true);
+    instrumentation.begin(AlgorithmPhase.REPLACEMENT);
+    instrumentation.end(AlgorithmPhase.REPLACEMENT);
+
+    PullMeasure<Long> count =
+        instrumentation.getMeasureManager().getPullMeasure("REPLACEMENT_COUNT");
+    PullMeasure<Histogram> histogram =
+        instrumentation.getMeasureManager().getPullMeasure("REPLACEMENT_HISTOGRAM");
+
+    assertEquals(1L, (long) count.get());
+    assertEquals(1L, histogram.get().getCount());
+    assertNotNull(instrumentation.getMeasureManager().getPullMeasure("EVALUATION_TIME"));
+    assertEquals(
+        4 * AlgorithmPhase.values().length,
+        instrumentation.getMeasureManager().getMeasureKeys().size());
+  }
+
+  @Test
+  public void shouldTheJfrListenerEmitAnEventPerPhase() throws Exception {
+    PhaseInstrumentation instrumentation =
+        new PhaseInstrumentation().setEnabled(true).addListener(new JfrPhaseListener("NSGA-II"));
+    Path file = folder.newFile("phases.jfr").toPath();
+
+    try (Recording recording = new Recording()) {
+      recording.enable("org.uma.jmetal.AlgorithmPhase");
+      recording.start();
+      instrumentation.begin(AlgorithmPhase.SELECTION);
+      instrumentation.end(AlgorithmPhase.SELECTION);
+      recording.stop();
+      recording.dump(file);
+    }
+
+    List<RecordedEvent> events = new ArrayList<>();
+    for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+      if (event.getEventType().getName().equals("org.uma.jmetal.AlgorithmPhase")) {
+        events.add(event);
+      }
+    }
+    assertEquals(1, events.size());
+    assertEquals("NSGA-II", events.get(0).getString("algorithm"));
+    assertEquals("SELECTION", events.get(0).getString("phase"));
+  }
+
+  private static void busyWait(long nanoseconds) {
+    long start = System.nanoTime();
+    while (System.nanoTime() - start < nanoseconds) {
+      Thread.onSpinWait();
+    }
+  }
+}
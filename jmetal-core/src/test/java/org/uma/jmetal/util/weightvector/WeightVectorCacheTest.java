@@ -0,0 +1,97 @@
+package org.uma.jmetal.util.weightvector;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+import org.junit.Test;
+import org.uma.jmetal.util.errorchecking.exception.ValueOutOfRangeException;
+
+public class WeightVectorCacheTest {
+
+  private static int[] closestVectorsByBruteForce(double[][] vectors, int index, int size) {
+    double[] distances = new double[vectors.length];
+    for (int j = 0; j < vectors.length; j++) {
+      double sum = 0.0;
+      for (int k = 0; k < vectors[index].length; k++) {
+        sum += (vectors[index][k] - vectors[j][k]) * (vectors[index][k] - vectors[j][k]);
+      }
+      distances[j] = Math.sqrt(sum);
+    }
+
+    return IntStream.range(0, vectors.length)
+        .boxed()
+        .sorted(Comparator.<Integer>comparingDouble(j -> distances[j]).thenComparing(j -> j))
+        .limit(size)
+        .mapToInt(Integer::intValue)
+        .toArray();
+  }
+
+  @Test
+  public void shouldGetNeighborhoodReturnTheClosestVectorsSortedByDistanceAndIndex() {
+    double[][] vectors = WeightVectorGenerator.dasDennis(3, 12);
+
+    int[][] neighborhood = WeightVectorCache.getNeighborhood(vectors, 20);
+
+    assertEquals(vectors.length, neighborhood.length);
+    for (int i = 0; i < vectors.length; i++) {
+      assertEquals(i, neighborhood[i][0]);
+      assertArrayEquals(closestVectorsByBruteForce(vectors, i, 20), neighborhood[i]);
+    }
+  }
+
+  @Test
+  public void shouldComputeNeighborhoodWorkInParallelWithLargeSets() {
+    double[][] vectors = WeightVectorGenerator.uniformDesign(3, 1500);
+
+    int[][] neighborhood = WeightVectorCache.computeNeighborhood(vectors, 10);
+
+    for (int i = 0; i < vectors.length; i += 97) {
+      assertArrayEquals(closestVectorsByBruteForce(vectors, i, 10), neighborhood[i]);
+    }
+  }
+
+  @Test
+  public void shouldGetNeighborhoodReturnCopiesOfTheCachedNeighborhoods() {
+    double[][] vectors = WeightVectorGenerator.generate(2, 50);
+
+    int[][] neighborhood1 = WeightVectorCache.getNeighborhood(vectors, 5);
+    neighborhood1[0][0] = -1;
+    int[][] neighborhood2 = WeightVectorCache.getNeighborhood(vectors, 5);
+
+    assertNotSame(neighborhood1, neighborhood2);
+    assertEquals(0, neighborhood2[0][0]);
+  }
+
+  @Test
+  public void shouldGetNeighborhoodNotReturnTheNeighborhoodOfOtherVectorsOfTheSameSize() {
+    double[][] vectors1 = WeightVectorGenerator.dasDennis(2, 9);
+    double[][] vectors2 = WeightVectorGenerator.dasDennis(2, 9);
+    double[] vector = vectors2[0];
+    vectors2[0] = vectors2[5];
+    vectors2[5] = vector;
+
+    int[][] neighborhood1 = WeightVectorCache.getNeighborhood(vectors1, 3);
+    int[][] neighborhood2 = WeightVectorCache.getNeighborhood(vectors2, 3);
+
+    assertArrayEquals(new int[] {0, 1, 2}, neighborhood1[0]);
+    Arrays.sort(neighborhood2[0]);
+    assertArrayEquals(new int[] {0, 4, 6}, neighborhood2[0]);
+  }
+
+  @Test
+  public void shouldGetWeightVectorsReturnTheGeneratedVectors() {
+    assertArrayEquals(
+        WeightVectorGenerator.generate(4, 120), WeightVectorCache.getWeightVectors(4, 120));
+    assertArrayEquals(
+        WeightVectorGenerator.generate(4, 120), WeightVectorCache.getWeightVectors(4, 120));
+  }
+
+  @Test(expected = ValueOutOfRangeException.class)
+  public void shouldGetNeighborhoodRaiseAnExceptionIfTheNeighborhoodIsTooLarge() {
+    WeightVectorCache.getNeighborhood(WeightVectorGenerator.dasDennis(2, 9), 11);
+  }
+}
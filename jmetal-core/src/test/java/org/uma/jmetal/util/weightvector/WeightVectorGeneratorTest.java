@@ -0,0 +1,137 @@
+package org.uma.jmetal.util.weightvector;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+public class WeightVectorGeneratorTest {
+
+  private static void assertVectorsAreInTheSimplex(double[][] vectors, int numberOfObjectives) {
+    for (double[] vector : vectors) {
+      assertEquals(numberOfObjectives, vector.length);
+      double sum = 0.0;
+      for (double value : vector) {
+        assertTrue(value >= 0.0);
+        sum += value;
+      }
+      assertEquals(1.0, sum, 1.0e-10);
+    }
+  }
+
+  private static int numberOfDistinctVectors(double[][] vectors) {
+    Set<List<Double>> set = new HashSet<>();
+    for (double[] vector : vectors) {
+      Double[] boxed = new Double[vector.length];
+      for (int i = 0; i < vector.length; i++) {
+        boxed[i] = vector[i];
+      }
+      set.add(List.of(boxed));
+    }
+
+    return set.size();
+  }
+
+  private static double minimumDistance(double[][] vectors) {
+    double minimum = Double.POSITIVE_INFINITY;
+    for (int i = 0; i < vectors.length; i++) {
+      for (int j = i + 1; j < vectors.length; j++) {
+        double sum = 0.0;
+        for (int k = 0; k < vectors[i].length; k++) {
+          sum += (vectors[i][k] - vectors[j][k]) * (vectors[i][k] - vectors[j][k]);
+        }
+        minimum = Math.min(minimum, Math.sqrt(sum));
+      }
+    }
+
+    return minimum;
+  }
+
+  @Test
+  public void shouldNumberOfDasDennisVectorsReturnTheBinomialCoefficient() {
+    assertEquals(91, WeightVectorGenerator.numberOfDasDennisVectors(3, 12));
+    assertEquals(210, WeightVectorGenerator.numberOfDasDennisVectors(5, 6));
+    assertEquals(101, WeightVectorGenerator.numberOfDasDennisVectors(2, 100));
+    assertEquals(Long.MAX_VALUE, WeightVectorGenerator.numberOfDasDennisVectors(100, 1000));
+  }
+
+  @Test
+  public void shouldDasDennisGenerateTheVectorsInLexicographicOrder() {
+    double[][] vectors = WeightVectorGenerator.dasDennis(3, 2);
+
+    assertEquals(6, vectors.length);
+    assertArrayEquals(new double[] {0.0, 0.0, 1.0}, vectors[0], 0.0);
+    assertArrayEquals(new double[] {0.0, 0.5, 0.5}, vectors[1], 0.0);
+    assertArrayEquals(new double[] {0.0, 1.0, 0.0}, vectors[2], 0.0);
+    assertArrayEquals(new double[] {0.5, 0.0, 0.5}, vectors[3], 0.0);
+    assertArrayEquals(new double[] {0.5, 0.5, 0.0}, vectors[4], 0.0);
+    assertArrayEquals(new double[] {1.0, 0.0, 0.0}, vectors[5], 0.0);
+  }
+
+  @Test
+  public void shouldTwoLayerDasDennisShrinkTheInnerLayer() {
+    double[][] vectors = WeightVectorGenerator.twoLayerDasDennis(3, 2, 1);
+
+    assertEquals(9, vectors.length);
+    assertVectorsAreInTheSimplex(vectors, 3);
+    assertArrayEquals(new double[] {1.0 / 6, 1.0 / 6, 2.0 / 3}, vectors[6], 1.0e-15);
+  }
+
+  @Test
+  public void shouldGenerateReturnTheDasDennisVectorsIfTheSizeIsTheOneOfALattice() {
+    assertArrayEquals(WeightVectorGenerator.dasDennis(3, 12), WeightVectorGenerator.generate(3, 91));
+  }
+
+  @Test
+  public void shouldGenerateReturnAnUniformDesignOfAnySize() {
+    double[][] vectors = WeightVectorGenerator.generate(3, 100);
+
+    assertEquals(100, vectors.length);
+    assertVectorsAreInTheSimplex(vectors, 3);
+    assertEquals(100, numberOfDistinctVectors(vectors));
+  }
+
+  @Test
+  public void shouldUniformDesignWorkWithManyObjectives() {
+    double[][] vectors = WeightVectorGenerator.uniformDesign(10, 150);
+
+    assertEquals(150, vectors.length);
+    assertVectorsAreInTheSimplex(vectors, 10);
+    assertEquals(150, numberOfDistinctVectors(vectors));
+  }
+
+  @Test
+  public void shouldUniformDesignOfTwoObjectivesBeEvenlySpaced() {
+    double[][] vectors = WeightVectorGenerator.uniformDesign(2, 4);
+
+    assertEquals(4, vectors.length);
+    for (int i = 0; i < 4; i++) {
+      assertEquals(1.0 - (2.0 * (i + 1) - 1.0) / 8.0, vectors[i][0], 1.0e-15);
+    }
+  }
+
+  @Test
+  public void shouldRieszIncludeTheExtremeVectorsAndSpreadThePoints() {
+    JMetalRandom.getInstance().setSeed(1);
+    double[][] initialVectors = WeightVectorGenerator.riesz(3, 50, 0);
+    JMetalRandom.getInstance().setSeed(1);
+    double[][] vectors = WeightVectorGenerator.riesz(3, 50, 200);
+
+    assertEquals(50, vectors.length);
+    assertVectorsAreInTheSimplex(vectors, 3);
+    assertArrayEquals(new double[] {1.0, 0.0, 0.0}, vectors[0], 0.0);
+    assertArrayEquals(new double[] {0.0, 0.0, 1.0}, vectors[2], 0.0);
+    assertTrue(minimumDistance(vectors) > 2 * minimumDistance(initialVectors));
+  }
+
+  @Test(expected = InvalidConditionException.class)
+  public void shouldGenerateRaiseAnExceptionIfTheNumberOfObjectivesIsLowerThanTwo() {
+    WeightVectorGenerator.generate(1, 10);
+  }
+}
@@ -34,6 +34,7 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
   private long initTime;
   private long totalComputingTime;
   private int evaluations;
+  private int lastEvaluations;
   private Observable<Map<String, Object>> observable;
 
   private final String name;
@@ -112,6 +113,7 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
       List<S> matingPopulation = selection.select(population);
       List<S> offspringPopulation = variation.variate(population, matingPopulation);
       offspringPopulation = evaluation.evaluate(offspringPopulation);
+      lastEvaluations = offspringPopulation.size();
       updateArchive(offspringPopulation);
 
       population = replacement.replace(population, offspringPopulation);
@@ -141,7 +143,7 @@ public class EvolutionaryAlgorithm<S extends Solution<?>>
   }
 
   protected void updateProgress() {
-    evaluations += variation.getOffspringPopulationSize();
+    evaluations += lastEvaluations;
 
     attributes.put("EVALUATIONS", evaluations);
     attributes.put("POPULATION", population);
@@ -1,8 +1,5 @@
 package org.uma.jmetal.experimental.auto.irace;
 
-import static org.uma.jmetal.util.SolutionListUtils.getMatrixWithObjectiveValues;
-
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -30,11 +27,8 @@ import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.selection.M
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.variation.Variation;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
-import org.uma.jmetal.qualityindicator.impl.NormalizedHypervolume;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
-import org.uma.jmetal.util.NormalizeUtils;
 import org.uma.jmetal.util.ProblemUtils;
-import org.uma.jmetal.util.VectorUtils;
 import org.uma.jmetal.util.archive.Archive;
 import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
 import org.uma.jmetal.util.comparator.MultiComparator;
@@ -157,7 +151,7 @@ public class AutoNSGAIIIrace {
    *
    * @return
    */
-  EvolutionaryAlgorithm<DoubleSolution> create() {
+  public EvolutionaryAlgorithm<DoubleSolution> create() {
     Problem<DoubleSolution> problem = ProblemUtils.loadProblem(problemNameParameter.getValue());
 
     Archive<DoubleSolution> archive = null;
@@ -202,27 +196,15 @@ public class AutoNSGAIIIrace {
     return nsgaii;
   }
 
-  public static void main(String[] args) throws IOException {
-    AutoNSGAIIIrace nsgaiiWithParameters = new AutoNSGAIIIrace();
-    nsgaiiWithParameters.parseAndCheckParameters(args);
-
-    EvolutionaryAlgorithm<DoubleSolution> nsgaII = nsgaiiWithParameters.create();
-    nsgaII.run();
-
-    String referenceFrontFile =
-        "resources/referenceFrontsCSV/" + nsgaiiWithParameters.referenceFrontFilename.getValue();
-
-    double[][] referenceFront = VectorUtils.readVectors(referenceFrontFile, ",");
-    double[][] front = getMatrixWithObjectiveValues(nsgaII.getResult()) ;
-
-    double[][] normalizedReferenceFront = NormalizeUtils.normalize(referenceFront);
-    double[][] normalizedFront =
-            NormalizeUtils.normalize(
-                    front,
-                    NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
-                    NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
+  public String getReferenceFrontFileName() {
+    return referenceFrontFilename.getValue();
+  }
 
-    var qualityIndicator = new NormalizedHypervolume(normalizedReferenceFront) ;
-    System.out.println(qualityIndicator.compute(normalizedFront)) ;
+  /**
+   * Runs the algorithm with the arguments given by irace and prints the normalized hypervolume of
+   * the front found, which is the cost read by irace (see {@link AutoNSGAIITargetRunner})
+   */
+  public static void main(String[] args) {
+    System.out.println(new AutoNSGAIITargetRunner("resources/referenceFrontsCSV").run(args));
   }
 }
@@ -0,0 +1,73 @@
+package org.uma.jmetal.experimental.auto.irace;
+
+import java.util.List;
+import org.uma.jmetal.experimental.auto.tuning.Configuration;
+import org.uma.jmetal.experimental.auto.tuning.ConfigurationSampler;
+import org.uma.jmetal.experimental.auto.tuning.RacingTuner;
+import org.uma.jmetal.util.JMetalLogger;
+
+/**
+ * Program tuning {@link AutoNSGAIIIrace} with the {@link RacingTuner} instead of with irace. The
+ * tuning instances are the ZDT problems, and the budget is 2000 runs of 10000 evaluations.
+ */
+public class AutoNSGAIIRacingTuner {
+  public static void main(String[] args) {
+    String[] parameters =
+        ("--problemName org.uma.jmetal.problem.multiobjective.zdt.ZDT1 "
+                + "--referenceFrontFileName ZDT1.csv "
+                + "--maximumNumberOfEvaluations 25000 "
+                + "--algorithmResult population "
+                + "--populationSize 100 "
+                + "--offspringPopulationSize 100 "
+                + "--createInitialSolutions random "
+                + "--variation crossoverAndMutationVariation "
+                + "--selection tournament "
+                + "--selectionTournamentSize 2 "
+                + "--crossover SBX "
+                + "--crossoverProbability 0.9 "
+                + "--crossoverRepairStrategy bounds "
+                + "--sbxDistributionIndex 20.0 "
+                + "--mutation polynomial "
+                + "--mutationProbability 0.01 "
+                + "--mutationRepairStrategy bounds "
+                + "--polynomialMutationDistributionIndex 20.0 ")
+            .split("\\s+");
+
+    AutoNSGAIIIrace parameterSpace = new AutoNSGAIIIrace();
+    parameterSpace.parseAndCheckParameters(parameters);
+
+    String fixedParameters = " --maximumNumberOfEvaluations 10000 --populationSize 100";
+    List<String> instances =
+        List.of(
+            "--problemName org.uma.jmetal.problem.multiobjective.zdt.ZDT1 "
+                + "--referenceFrontFileName ZDT1.csv"
+                + fixedParameters,
+            "--problemName org.uma.jmetal.problem.multiobjective.zdt.ZDT2 "
+                + "--referenceFrontFileName ZDT2.csv"
+                + fixedParameters,
+            "--problemName org.uma.jmetal.problem.multiobjective.zdt.ZDT3 "
+                + "--referenceFrontFileName ZDT3.csv"
+                + fixedParameters,
+            "--problemName org.uma.jmetal.problem.multiobjective.zdt.ZDT4 "
+                + "--referenceFrontFileName ZDT4.csv"
+                + fixedParameters,
+            "--problemName org.uma.jmetal.problem.multiobjective.zdt.ZDT6 "
+                + "--referenceFrontFileName ZDT6.csv"
+                + fixedParameters);
+
+    RacingTuner<String> tuner =
+        new RacingTuner<>(
+            new ConfigurationSampler(parameterSpace.autoConfigurableParameterList),
+            new AutoNSGAIITargetRunner("resources/referenceFrontsCSV"),
+            instances,
+            2000);
+
+    Configuration bestConfiguration = tuner.run();
+
+    JMetalLogger.logger.info("Number of experiments: " + tuner.getNumberOfExperiments());
+    for (Configuration configuration : tuner.getElites()) {
+      System.out.println(configuration);
+    }
+    JMetalLogger.logger.info("Best configuration: " + bestConfiguration);
+  }
+}
@@ -0,0 +1,78 @@
+package org.uma.jmetal.experimental.auto.irace;
+
+import static org.uma.jmetal.util.SolutionListUtils.getMatrixWithObjectiveValues;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.uma.jmetal.experimental.auto.algorithm.EvolutionaryAlgorithm;
+import org.uma.jmetal.experimental.auto.tuning.Configuration;
+import org.uma.jmetal.experimental.auto.tuning.TargetRunner;
+import org.uma.jmetal.qualityindicator.impl.NormalizedHypervolume;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.NormalizeUtils;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * {@link TargetRunner} running {@link AutoNSGAIIIrace} in the JVM of the tuner. The instances are
+ * the fixed arguments of the algorithm, as in the instance files of irace (e.g.,
+ * "--problemName org.uma.jmetal.problem.multiobjective.zdt.ZDT1 --referenceFrontFileName ZDT1.csv
+ * --maximumNumberOfEvaluations 25000 --populationSize 100"), and the cost of a run is the
+ * normalized hypervolume of the front found, which is also the value printed by {@link
+ * AutoNSGAIIIrace#main} for irace. The reference fronts are read only once.
+ */
+public class AutoNSGAIITargetRunner implements TargetRunner<String> {
+  private final String referenceFrontDirectory;
+  private final Map<String, double[][]> referenceFronts = new ConcurrentHashMap<>();
+
+  public AutoNSGAIITargetRunner(String referenceFrontDirectory) {
+    this.referenceFrontDirectory = referenceFrontDirectory;
+  }
+
+  @Override
+  public double run(Configuration configuration, String instance) {
+    String[] args =
+        Stream.concat(Stream.of(instance.trim().split("\\s+")), Stream.of(configuration.toArgs()))
+            .toArray(String[]::new);
+
+    return run(args);
+  }
+
+  /**
+   * Runs {@link AutoNSGAIIIrace} with a list of arguments (the fixed and the configurable ones) and
+   * returns the normalized hypervolume of the front found
+   */
+  public double run(String[] args) {
+    AutoNSGAIIIrace autoNSGAIIIrace = new AutoNSGAIIIrace();
+    autoNSGAIIIrace.parseAndCheckParameters(args);
+
+    EvolutionaryAlgorithm<DoubleSolution> nsgaII = autoNSGAIIIrace.create();
+    nsgaII.run();
+
+    double[][] referenceFront =
+        referenceFronts.computeIfAbsent(
+            autoNSGAIIIrace.getReferenceFrontFileName(), this::readReferenceFront);
+    double[][] front = getMatrixWithObjectiveValues(nsgaII.getResult());
+
+    double[][] normalizedReferenceFront = NormalizeUtils.normalize(referenceFront);
+    double[][] normalizedFront =
+        NormalizeUtils.normalize(
+            front,
+            NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
+            NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
+
+    return new NormalizedHypervolume(normalizedReferenceFront).compute(normalizedFront);
+  }
+
+  private double[][] readReferenceFront(String referenceFrontFileName) {
+    try {
+      return VectorUtils.readVectors(
+          new File(referenceFrontDirectory, referenceFrontFileName).getPath(), ",");
+    } catch (IOException e) {
+      throw new JMetalException("Error reading the reference front " + referenceFrontFileName, e);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package org.uma.jmetal.experimental.auto.tuning;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Configuration of an auto-configurable algorithm, i.e., the values of its active parameters. The
+ * values are stored as strings, so the configuration can be turned into the arguments parsed by
+ * the {@link org.uma.jmetal.experimental.auto.parameter.Parameter} classes (e.g., ["--crossover",
+ * "SBX", "--crossoverProbability", "0.9"]).
+ */
+public class Configuration {
+  private final Map<String, String> values;
+
+  public Configuration(Map<String, String> values) {
+    Check.notNull(values);
+    this.values = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+  }
+
+  /** Returns the value of a parameter, or null if the parameter is not active */
+  public String getValue(String parameterName) {
+    return values.get(parameterName);
+  }
+
+  public Map<String, String> getValues() {
+    return values;
+  }
+
+  /** Returns the configuration as a sequence of pairs [--name, value] */
+  public String[] toArgs() {
+    String[] args = new String[2 * values.size()];
+    int i = 0;
+    for (Map.Entry<String, String> entry : values.entrySet()) {
+      args[i++] = "--" + entry.getKey();
+      args[i++] = entry.getValue();
+    }
+
+    return args;
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof Configuration)) {
+      return false;
+    }
+
+    return values.equals(((Configuration) object).values);
+  }
+
+  @Override
+  public int hashCode() {
+    return values.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return String.join(" ", toArgs());
+  }
+}
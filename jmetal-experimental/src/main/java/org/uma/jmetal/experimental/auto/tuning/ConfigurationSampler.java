@@ -0,0 +1,201 @@
+package org.uma.jmetal.experimental.auto.tuning;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.lang3.tuple.Pair;
+import org.uma.jmetal.experimental.auto.parameter.CategoricalParameter;
+import org.uma.jmetal.experimental.auto.parameter.IntegerParameter;
+import org.uma.jmetal.experimental.auto.parameter.OrdinalParameter;
+import org.uma.jmetal.experimental.auto.parameter.Parameter;
+import org.uma.jmetal.experimental.auto.parameter.RealParameter;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * Class for sampling {@link Configuration}s from the parameter space defined by a list of {@link
+ * Parameter}s, such as the auto-configurable parameter list of
+ * {@link org.uma.jmetal.experimental.auto.irace.AutoNSGAIIIrace}. The parameters are traversed as
+ * in the irace parameter file: the global parameters of a parameter are always active, and its
+ * specific parameters are active only if the parameter takes the value they depend on.
+ *
+ * <p>The {@link CategoricalParameter}s, {@link OrdinalParameter}s, {@link IntegerParameter}s and
+ * {@link RealParameter}s are sampled; the rest of parameters (e.g., the population size) are fixed,
+ * so they are not part of the configurations, although their global and specific parameters are
+ * sampled.
+ */
+public class ConfigurationSampler {
+  private final List<Parameter<?>> parameterList;
+  private final JMetalRandom randomGenerator = JMetalRandom.getInstance();
+
+  public ConfigurationSampler(List<Parameter<?>> parameterList) {
+    Check.notNull(parameterList);
+    Check.collectionIsNotEmpty(parameterList);
+    this.parameterList = parameterList;
+  }
+
+  /** Returns the number of parameters that can be sampled */
+  public int getNumberOfParameters() {
+    Set<String> names = new LinkedHashSet<>();
+    parameterList.forEach(parameter -> collectSampledParameterNames(parameter, names));
+
+    return names.size();
+  }
+
+  /** Returns a configuration sampled uniformly at random */
+  public Configuration sample() {
+    return sample(null, 0.0, 0.0);
+  }
+
+  /**
+   * Returns a configuration sampled around a parent configuration. The value of a categorical
+   * parameter is inherited from the parent with a given probability, and otherwise it is sampled
+   * uniformly. The values of the numerical and ordinal parameters are sampled from a normal
+   * distribution centered on the value of the parent, whose standard deviation is a fraction of the
+   * range of the parameter, and they are truncated to that range. The parameters which are not
+   * active in the parent are sampled uniformly.
+   *
+   * @param parent Configuration used as the center of the sampling distribution
+   * @param standardDeviation Standard deviation, as a fraction of the range of the parameters
+   * @param inheritanceProbability Probability of inheriting the values of the categorical parameters
+   */
+  public Configuration sample(
+      Configuration parent, double standardDeviation, double inheritanceProbability) {
+    Check.that(standardDeviation >= 0.0, "The standard deviation is negative: " + standardDeviation);
+    Check.probabilityIsValid(inheritanceProbability);
+
+    Map<String, String> values = new LinkedHashMap<>();
+    for (Parameter<?> parameter : parameterList) {
+      sample(parameter, parent, standardDeviation, inheritanceProbability, values);
+    }
+
+    return new Configuration(values);
+  }
+
+  private void sample(
+      Parameter<?> parameter,
+      Configuration parent,
+      double standardDeviation,
+      double inheritanceProbability,
+      Map<String, String> values) {
+    String value;
+    if (!isSampled(parameter)) {
+      value = (parameter.getValue() == null) ? null : String.valueOf(parameter.getValue());
+    } else if (values.containsKey(parameter.getName())) {
+      // A parameter can be included in several places of the parameter tree
+      value = values.get(parameter.getName());
+    } else {
+      String parentValue = (parent == null) ? null : parent.getValue(parameter.getName());
+      value = sampleValue(parameter, parentValue, standardDeviation, inheritanceProbability);
+      values.put(parameter.getName(), value);
+    }
+
+    for (Parameter<?> globalParameter : parameter.getGlobalParameters()) {
+      sample(globalParameter, parent, standardDeviation, inheritanceProbability, values);
+    }
+    for (Pair<String, Parameter<?>> specificParameter : parameter.getSpecificParameters()) {
+      if (specificParameter.getKey().equals(value)) {
+        sample(
+            specificParameter.getValue(), parent, standardDeviation, inheritanceProbability, values);
+      }
+    }
+  }
+
+  private String sampleValue(
+      Parameter<?> parameter,
+      String parentValue,
+      double standardDeviation,
+      double inheritanceProbability) {
+    String value;
+    if (parameter instanceof CategoricalParameter) {
+      List<String> validValues = ((CategoricalParameter) parameter).getValidValues();
+      if ((parentValue != null) && (randomGenerator.nextDouble() < inheritanceProbability)) {
+        value = parentValue;
+      } else {
+        value = validValues.get(randomGenerator.nextInt(0, validValues.size() - 1));
+      }
+    } else if (parameter instanceof OrdinalParameter) {
+      List<?> validValues = ((OrdinalParameter<?>) parameter).getValidValues();
+      int parentIndex = indexOf(validValues, parentValue);
+      int index =
+          (parentIndex == -1)
+              ? randomGenerator.nextInt(0, validValues.size() - 1)
+              : (int) sampleAround(parentIndex, 0, validValues.size() - 1, standardDeviation, true);
+      value = String.valueOf(validValues.get(index));
+    } else if (parameter instanceof IntegerParameter) {
+      List<Integer> bounds = ((IntegerParameter) parameter).getValidValues();
+      value =
+          String.valueOf(
+              (parentValue == null)
+                  ? randomGenerator.nextInt(bounds.get(0), bounds.get(1))
+                  : (int)
+                      sampleAround(
+                          Integer.parseInt(parentValue),
+                          bounds.get(0),
+                          bounds.get(1),
+                          standardDeviation,
+                          true));
+    } else {
+      List<Double> bounds = ((RealParameter) parameter).getValidValues();
+      value =
+          String.valueOf(
+              (parentValue == null)
+                  ? randomGenerator.nextDouble(bounds.get(0), bounds.get(1))
+                  : sampleAround(
+                      Double.parseDouble(parentValue),
+                      bounds.get(0),
+                      bounds.get(1),
+                      standardDeviation,
+                      false));
+    }
+
+    return value;
+  }
+
+  private double sampleAround(
+      double center,
+      double lowerBound,
+      double upperBound,
+      double standardDeviation,
+      boolean integer) {
+    // Box-Muller transform
+    double gaussian =
+        Math.sqrt(-2.0 * Math.log(1.0 - randomGenerator.nextDouble()))
+            * Math.cos(2.0 * Math.PI * randomGenerator.nextDouble());
+    double value = center + gaussian * standardDeviation * (upperBound - lowerBound);
+    if (integer) {
+      value = Math.round(value);
+    }
+
+    return Math.max(lowerBound, Math.min(upperBound, value));
+  }
+
+  private static int indexOf(List<?> validValues, String value) {
+    for (int i = 0; i < validValues.size(); i++) {
+      if (String.valueOf(validValues.get(i)).equals(value)) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  private static boolean isSampled(Parameter<?> parameter) {
+    return (parameter instanceof CategoricalParameter)
+        || (parameter instanceof OrdinalParameter)
+        || (parameter instanceof IntegerParameter)
+        || (parameter instanceof RealParameter);
+  }
+
+  private static void collectSampledParameterNames(Parameter<?> parameter, Set<String> names) {
+    if (isSampled(parameter)) {
+      names.add(parameter.getName());
+    }
+    parameter.getGlobalParameters().forEach(global -> collectSampledParameterNames(global, names));
+    parameter
+        .getSpecificParameters()
+        .forEach(specific -> collectSampledParameterNames(specific.getValue(), names));
+  }
+}
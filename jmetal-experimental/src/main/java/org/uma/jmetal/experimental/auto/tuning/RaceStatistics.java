@@ -0,0 +1,175 @@
+package org.uma.jmetal.experimental.auto.tuning;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.commons.math3.distribution.ChiSquaredDistribution;
+import org.apache.commons.math3.distribution.TDistribution;
+
+/**
+ * Statistical tests used by {@link RacingTuner} to eliminate configurations from a race. The costs
+ * are given as a matrix where the rows are the instances and the columns are the configurations,
+ * and the tests return the indices of the configurations which are not significantly worse than
+ * the best one.
+ */
+final class RaceStatistics {
+  private RaceStatistics() {}
+
+  /**
+   * Friedman test followed, if the null hypothesis is rejected, by the post-hoc test used by irace:
+   * the configurations whose sum of ranks differs from the one of the best configuration by more
+   * than a critical difference are eliminated
+   */
+  static List<Integer> friedmanSurvivors(double[][] costs, double confidenceLevel) {
+    int n = costs.length;
+    int k = costs[0].length;
+    double alpha = 1.0 - confidenceLevel;
+
+    double[] rankSums = new double[k];
+    double sumOfSquaredRanks = 0.0;
+    for (double[] row : costs) {
+      double[] ranks = ranks(row);
+      for (int j = 0; j < k; j++) {
+        rankSums[j] += ranks[j];
+        sumOfSquaredRanks += ranks[j] * ranks[j];
+      }
+    }
+
+    double c = n * k * (k + 1.0) * (k + 1.0) / 4.0;
+    if ((k < 2) || (n < 2) || (sumOfSquaredRanks - c <= 0.0)) {
+      return allOf(k);
+    }
+
+    double sum = 0.0;
+    double sumOfSquaredRankSums = 0.0;
+    for (double rankSum : rankSums) {
+      sum += (rankSum - n * (k + 1.0) / 2.0) * (rankSum - n * (k + 1.0) / 2.0);
+      sumOfSquaredRankSums += rankSum * rankSum;
+    }
+    double statistic = (k - 1) * sum / (sumOfSquaredRanks - c);
+    double pValue = 1.0 - new ChiSquaredDistribution(k - 1).cumulativeProbability(statistic);
+    if (pValue >= alpha) {
+      return allOf(k);
+    }
+
+    int degreesOfFreedom = (n - 1) * (k - 1);
+    double criticalDifference =
+        new TDistribution(degreesOfFreedom).inverseCumulativeProbability(1.0 - alpha / 2.0)
+            * Math.sqrt(
+                Math.max(0.0, 2.0 * (n * sumOfSquaredRanks - sumOfSquaredRankSums))
+                    / degreesOfFreedom);
+    double bestRankSum = Arrays.stream(rankSums).min().getAsDouble();
+
+    List<Integer> survivors = new ArrayList<>();
+    for (int j = 0; j < k; j++) {
+      if (rankSums[j] - bestRankSum <= criticalDifference) {
+        survivors.add(j);
+      }
+    }
+
+    return survivors;
+  }
+
+  /**
+   * One-sided paired t-tests between each configuration and the one with the lowest mean cost. A
+   * configuration is eliminated if its costs are significantly higher
+   */
+  static List<Integer> tTestSurvivors(double[][] costs, double confidenceLevel) {
+    int n = costs.length;
+    int k = costs[0].length;
+    if (n < 2) {
+      return allOf(k);
+    }
+
+    double[] means = meanCosts(costs);
+    int best = 0;
+    for (int j = 1; j < k; j++) {
+      if (means[j] < means[best]) {
+        best = j;
+      }
+    }
+
+    TDistribution distribution = new TDistribution(n - 1);
+    List<Integer> survivors = new ArrayList<>();
+    for (int j = 0; j < k; j++) {
+      double meanDifference = means[j] - means[best];
+      double variance = 0.0;
+      for (double[] row : costs) {
+        double deviation = (row[j] - row[best]) - meanDifference;
+        variance += deviation * deviation;
+      }
+      variance /= n - 1;
+
+      boolean worse;
+      if (variance == 0.0) {
+        worse = meanDifference > 0.0;
+      } else {
+        double statistic = meanDifference / Math.sqrt(variance / n);
+        worse = 1.0 - distribution.cumulativeProbability(statistic) < 1.0 - confidenceLevel;
+      }
+      if (!worse) {
+        survivors.add(j);
+      }
+    }
+
+    return survivors;
+  }
+
+  /** Returns the mean rank of each configuration (the best configuration has rank 1) */
+  static double[] meanRanks(double[][] costs) {
+    double[] meanRanks = new double[costs[0].length];
+    for (double[] row : costs) {
+      double[] ranks = ranks(row);
+      for (int j = 0; j < ranks.length; j++) {
+        meanRanks[j] += ranks[j] / costs.length;
+      }
+    }
+
+    return meanRanks;
+  }
+
+  static double[] meanCosts(double[][] costs) {
+    double[] means = new double[costs[0].length];
+    for (double[] row : costs) {
+      for (int j = 0; j < row.length; j++) {
+        means[j] += row[j] / costs.length;
+      }
+    }
+
+    return means;
+  }
+
+  /** Ranks of the values of an array (starting at 1); tied values get the mean of their ranks */
+  static double[] ranks(double[] values) {
+    Integer[] order = new Integer[values.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (i, j) -> Double.compare(values[i], values[j]));
+
+    double[] ranks = new double[values.length];
+    int first = 0;
+    while (first < order.length) {
+      int last = first;
+      while ((last + 1 < order.length) && (values[order[last + 1]] == values[order[first]])) {
+        last++;
+      }
+      double rank = (first + last) / 2.0 + 1.0;
+      for (int i = first; i <= last; i++) {
+        ranks[order[i]] = rank;
+      }
+      first = last + 1;
+    }
+
+    return ranks;
+  }
+
+  private static List<Integer> allOf(int k) {
+    List<Integer> all = new ArrayList<>(k);
+    for (int j = 0; j < k; j++) {
+      all.add(j);
+    }
+
+    return all;
+  }
+}
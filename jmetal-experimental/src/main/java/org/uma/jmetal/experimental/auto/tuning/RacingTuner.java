@@ -0,0 +1,357 @@
+package org.uma.jmetal.experimental.auto.tuning;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+/**
+ * In-process implementation of the elitist iterated racing procedure of irace. In each iteration, a
+ * number of configurations are sampled (uniformly in the first iteration, and around the elite
+ * configurations in the following ones) and raced together with the elite ones: all the
+ * configurations alive are run on a sequence of tuning instances, and after the first {@link
+ * #setFirstTest(int)} instances, and then after every {@link #setEachTest(int)} instances, a
+ * statistical test ({@link StatisticalTest}) eliminates those which are significantly worse than
+ * the best one. The race finishes when the number of alive configurations drops to the minimum
+ * number of survivors or the budget of the iteration is exhausted, and the best survivors become
+ * the elite configurations of the next iteration. The number of iterations and the minimum number of
+ * survivors are 2 + log2(number of parameters), and the budget is divided among the iterations as
+ * in irace.
+ *
+ * <p>Contrary to irace, which launches a new process (i.e., a new JVM) per run, the runs are
+ * carried out by a pool of threads of the JVM running the tuner, so they do not pay the start-up of
+ * the JVM, the loading of the classes and the warm-up of the JIT compiler. Each configuration is run
+ * on an instance only once; the costs of the elite configurations are kept between iterations, so
+ * they are only run on the instances they have not been run on yet.
+ *
+ * <p>The runs share the {@link JMetalRandom} generator, so a tuning session can not be reproduced
+ * exactly when several threads are used.
+ *
+ * @param <I> Type of the tuning instances
+ */
+public class RacingTuner<I> {
+  public enum StatisticalTest {
+    FRIEDMAN,
+    T_TEST
+  }
+
+  private static final int MAXIMUM_NUMBER_OF_SAMPLING_ATTEMPTS = 100;
+
+  private final ConfigurationSampler sampler;
+  private final TargetRunner<I> targetRunner;
+  private final List<I> instances;
+  private final int maximumNumberOfExperiments;
+
+  private int numberOfThreads = Runtime.getRuntime().availableProcessors();
+  private StatisticalTest statisticalTest = StatisticalTest.FRIEDMAN;
+  private double confidenceLevel = 0.95;
+  private int firstTest = 5;
+  private int eachTest = 1;
+
+  private final JMetalRandom randomGenerator = JMetalRandom.getInstance();
+  private final List<I> instanceStream = new ArrayList<>();
+  private final Map<Configuration, List<Double>> costs = new HashMap<>();
+  private List<Configuration> elites = new ArrayList<>();
+  private int numberOfExperiments;
+
+  /**
+   * @param sampler Sampler of the configurations of the algorithm to tune
+   * @param targetRunner Function returning the cost of a configuration on an instance
+   * @param instances Tuning instances
+   * @param maximumNumberOfExperiments Budget of the tuning, i.e., the maximum number of runs
+   */
+  public RacingTuner(
+      ConfigurationSampler sampler,
+      TargetRunner<I> targetRunner,
+      List<I> instances,
+      int maximumNumberOfExperiments) {
+    Check.notNull(sampler);
+    Check.notNull(targetRunner);
+    Check.collectionIsNotEmpty(instances);
+    Check.that(
+        maximumNumberOfExperiments > 0,
+        "The maximum number of experiments must be positive: " + maximumNumberOfExperiments);
+
+    this.sampler = sampler;
+    this.targetRunner = targetRunner;
+    this.instances = new ArrayList<>(instances);
+    this.maximumNumberOfExperiments = maximumNumberOfExperiments;
+  }
+
+  public RacingTuner<I> setNumberOfThreads(int numberOfThreads) {
+    Check.that(numberOfThreads > 0, "The number of threads must be positive: " + numberOfThreads);
+    this.numberOfThreads = numberOfThreads;
+
+    return this;
+  }
+
+  public RacingTuner<I> setStatisticalTest(StatisticalTest statisticalTest) {
+    Check.notNull(statisticalTest);
+    this.statisticalTest = statisticalTest;
+
+    return this;
+  }
+
+  public RacingTuner<I> setConfidenceLevel(double confidenceLevel) {
+    Check.that(
+        confidenceLevel > 0.0 && confidenceLevel < 1.0,
+        "The confidence level must be in (0, 1): " + confidenceLevel);
+    this.confidenceLevel = confidenceLevel;
+
+    return this;
+  }
+
+  /** Sets the number of instances on which the configurations are run before the first test */
+  public RacingTuner<I> setFirstTest(int firstTest) {
+    Check.that(firstTest > 1, "The first test must be greater than one: " + firstTest);
+    this.firstTest = firstTest;
+
+    return this;
+  }
+
+  /** Sets the number of instances between two tests */
+  public RacingTuner<I> setEachTest(int eachTest) {
+    Check.that(eachTest > 0, "The number of instances between tests must be positive: " + eachTest);
+    this.eachTest = eachTest;
+
+    return this;
+  }
+
+  /** Runs the tuning and returns the best configuration found */
+  public Configuration run() {
+    int numberOfParameters = sampler.getNumberOfParameters();
+    double log2OfNumberOfParameters = Math.log(numberOfParameters) / Math.log(2);
+    int numberOfIterations = (int) (2 + log2OfNumberOfParameters);
+    int minimumNumberOfSurvivors = (int) (2 + log2OfNumberOfParameters);
+
+    ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+    try {
+      for (int iteration = 1; iteration <= numberOfIterations; iteration++) {
+        int iterationBudget =
+            (maximumNumberOfExperiments - numberOfExperiments)
+                / (numberOfIterations - iteration + 1);
+        int numberOfConfigurations = iterationBudget / (firstTest + Math.min(5, iteration));
+        if (numberOfConfigurations <= elites.size()) {
+          break;
+        }
+
+        List<Configuration> candidates =
+            sampleConfigurations(
+                numberOfConfigurations, iteration, numberOfIterations, numberOfParameters);
+        elites =
+            race(
+                candidates,
+                numberOfExperiments + iterationBudget,
+                minimumNumberOfSurvivors,
+                executor);
+
+        JMetalLogger.logger.info(
+            "Iteration "
+                + iteration
+                + ": "
+                + candidates.size()
+                + " configurations raced, "
+                + numberOfExperiments
+                + " experiments. Best configuration: "
+                + (elites.isEmpty() ? "-" : elites.get(0)));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Check.that(!elites.isEmpty(), "The budget is too small to race any configuration");
+
+    return elites.get(0);
+  }
+
+  /** Returns the elite configurations, sorted from the best to the worst one */
+  public List<Configuration> getElites() {
+    return Collections.unmodifiableList(elites);
+  }
+
+  /** Returns the costs of a configuration on the instances it has been run on */
+  public List<Double> getCosts(Configuration configuration) {
+    return Collections.unmodifiableList(
+        costs.getOrDefault(configuration, Collections.emptyList()));
+  }
+
+  public int getNumberOfExperiments() {
+    return numberOfExperiments;
+  }
+
+  private List<Configuration> sampleConfigurations(
+      int numberOfConfigurations, int iteration, int numberOfIterations, int numberOfParameters) {
+    List<Configuration> candidates = new ArrayList<>(elites);
+    int numberOfNewConfigurations = numberOfConfigurations - elites.size();
+    double standardDeviation =
+        0.5
+            * Math.pow(
+                1.0 / numberOfNewConfigurations,
+                (iteration - 1.0) / Math.max(1, numberOfParameters));
+    double inheritanceProbability = (iteration - 1.0) / numberOfIterations;
+
+    while (candidates.size() < numberOfConfigurations) {
+      Configuration configuration = null;
+      int attempts = 0;
+      while ((configuration == null || candidates.contains(configuration))
+          && (attempts < MAXIMUM_NUMBER_OF_SAMPLING_ATTEMPTS)) {
+        configuration =
+            elites.isEmpty()
+                ? sampler.sample()
+                : sampler.sample(selectParent(), standardDeviation, inheritanceProbability);
+        attempts++;
+      }
+      if (candidates.contains(configuration)) {
+        // The parameter space is too small to sample more different configurations
+        break;
+      }
+      candidates.add(configuration);
+    }
+
+    return candidates;
+  }
+
+  /** Selects an elite configuration with a probability proportional to (numberOfElites - rank) */
+  private Configuration selectParent() {
+    int numberOfElites = elites.size();
+    double value = randomGenerator.nextDouble() * numberOfElites * (numberOfElites + 1) / 2.0;
+    int rank = 0;
+    double sum = numberOfElites;
+    while ((value >= sum) && (rank < numberOfElites - 1)) {
+      rank++;
+      sum += numberOfElites - rank;
+    }
+
+    return elites.get(rank);
+  }
+
+  private List<Configuration> race(
+      List<Configuration> candidates,
+      int experimentLimit,
+      int minimumNumberOfSurvivors,
+      ExecutorService executor) {
+    List<Configuration> alive = new ArrayList<>(candidates);
+    int numberOfInstances = 0;
+    while (true) {
+      int nextNumberOfInstances =
+          (numberOfInstances < firstTest) ? firstTest : numberOfInstances + eachTest;
+      int numberOfRuns = 0;
+      for (Configuration configuration : alive) {
+        numberOfRuns += Math.max(0, nextNumberOfInstances - costsOf(configuration).size());
+      }
+      if (numberOfExperiments + numberOfRuns > experimentLimit) {
+        break;
+      }
+
+      run(alive, nextNumberOfInstances, executor);
+      numberOfInstances = nextNumberOfInstances;
+
+      List<Integer> survivors =
+          (statisticalTest == StatisticalTest.FRIEDMAN)
+              ? RaceStatistics.friedmanSurvivors(costMatrix(alive, numberOfInstances), confidenceLevel)
+              : RaceStatistics.tTestSurvivors(costMatrix(alive, numberOfInstances), confidenceLevel);
+      List<Configuration> survivingConfigurations = new ArrayList<>(survivors.size());
+      for (int index : survivors) {
+        survivingConfigurations.add(alive.get(index));
+      }
+      alive = survivingConfigurations;
+
+      if (alive.size() <= minimumNumberOfSurvivors) {
+        break;
+      }
+    }
+
+    if (numberOfInstances == 0) {
+      return elites;
+    }
+
+    double[][] matrix = costMatrix(alive, numberOfInstances);
+    double[] scores =
+        (statisticalTest == StatisticalTest.FRIEDMAN)
+            ? RaceStatistics.meanRanks(matrix)
+            : RaceStatistics.meanCosts(matrix);
+    List<Integer> order = new ArrayList<>(alive.size());
+    for (int j = 0; j < alive.size(); j++) {
+      order.add(j);
+    }
+    order.sort(Comparator.comparingDouble(j -> scores[j]));
+
+    List<Configuration> survivors = new ArrayList<>();
+    for (int j = 0; j < Math.min(minimumNumberOfSurvivors, order.size()); j++) {
+      survivors.add(alive.get(order.get(j)));
+    }
+
+    return survivors;
+  }
+
+  /** Runs the configurations concurrently on the first numberOfInstances instances of the stream */
+  private void run(
+      List<Configuration> configurations, int numberOfInstances, ExecutorService executor) {
+    List<Configuration> runConfigurations = new ArrayList<>();
+    List<Future<Double>> runs = new ArrayList<>();
+    for (Configuration configuration : configurations) {
+      for (int position = costsOf(configuration).size(); position < numberOfInstances; position++) {
+        I instance = instanceAt(position);
+        runConfigurations.add(configuration);
+        runs.add(executor.submit(() -> targetRunner.run(configuration, instance)));
+      }
+    }
+
+    try {
+      for (int i = 0; i < runs.size(); i++) {
+        costsOf(runConfigurations.get(i)).add(runs.get(i).get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for the runs", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new JMetalException("Error running a configuration", (Exception) e.getCause());
+    }
+    numberOfExperiments += runs.size();
+  }
+
+  /**
+   * Returns the instance at a position of the sequence of instances used in the races, which is
+   * made of random permutations of the tuning instances
+   */
+  private I instanceAt(int position) {
+    while (instanceStream.size() <= position) {
+      List<I> permutation = new ArrayList<>(instances);
+      for (int i = permutation.size() - 1; i > 0; i--) {
+        Collections.swap(permutation, i, randomGenerator.nextInt(0, i));
+      }
+      instanceStream.addAll(permutation);
+    }
+
+    return instanceStream.get(position);
+  }
+
+  private List<Double> costsOf(Configuration configuration) {
+    return costs.computeIfAbsent(configuration, key -> new ArrayList<>());
+  }
+
+  private double[][] costMatrix(List<Configuration> configurations, int numberOfInstances) {
+    double[][] matrix = new double[numberOfInstances][configurations.size()];
+    for (int j = 0; j < configurations.size(); j++) {
+      List<Double> configurationCosts = costsOf(configurations.get(j));
+      for (int i = 0; i < numberOfInstances; i++) {
+        matrix[i][j] = configurationCosts.get(i);
+      }
+    }
+
+    return matrix;
+  }
+}
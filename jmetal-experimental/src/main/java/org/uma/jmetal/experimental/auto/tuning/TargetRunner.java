@@ -0,0 +1,14 @@
+package org.uma.jmetal.experimental.auto.tuning;
+
+/**
+ * Interface representing the execution of a configuration of an algorithm on a tuning instance
+ * (e.g., a problem), which returns the cost of the configuration on that instance (e.g., the value
+ * of a quality indicator to be minimized). A target runner is called concurrently by the threads of
+ * a {@link RacingTuner}, so it must be thread-safe.
+ *
+ * @param <I> Type of the tuning instances
+ */
+@FunctionalInterface
+public interface TargetRunner<I> {
+  double run(Configuration configuration, I instance);
+}
@@ -1,9 +1,11 @@
 package org.uma.jmetal.experimental.componentbasedalgorithm.algorithm;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.CheckpointableAlgorithm;
 import org.uma.jmetal.algorithm.impl.AbstractEvolutionaryAlgorithm;
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.Evaluation;
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
@@ -12,6 +14,9 @@ import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.solutionscr
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.variation.Variation;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.checkpoint.Checkpoint;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
+import org.uma.jmetal.util.measure.instrumentation.AlgorithmPhase;
 import org.uma.jmetal.util.observable.Observable;
 import org.uma.jmetal.util.observable.impl.DefaultObservable;
 import org.uma.jmetal.util.termination.Termination;
@@ -22,12 +27,22 @@ import org.uma.jmetal.util.termination.Termination;
  * selection, variation, replacement, etc.) is considered as a component that can be set in the
  * class constructor.
  *
+ * <p>The algorithm supports checkpoints (see {@link CheckpointableAlgorithm}), which store the
+ * population, the archive, the number of evaluations, the computing time and the state of the
+ * components implementing {@link CheckpointableComponent} (e.g., the ideal point of the aggregative
+ * function and the sequence of subproblems of the MOEA/D replacement). The state of the rest of
+ * components is not stored, so it is built again when a run is resumed.
+ *
  * @param <S> Solution
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
-    extends AbstractEvolutionaryAlgorithm<S, List<S>> {
+    extends AbstractEvolutionaryAlgorithm<S, List<S>>
+    implements CheckpointableAlgorithm<List<S>> {
+  private static final String COMPUTING_TIME = "COMPUTING_TIME";
+  private static final String COMPONENT_STATE = "COMPONENT_STATE_";
+
   protected Evaluation<S> evaluation;
   protected SolutionsCreation<S> createInitialPopulation;
   protected Termination termination;
@@ -40,6 +55,7 @@ public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
   protected long initTime;
   protected long totalComputingTime;
   protected int evaluations;
+  protected int lastEvaluations;
 
   protected Observable<Map<String, Object>> observable;
 
@@ -107,7 +123,7 @@ public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
 
   @Override
   protected void updateProgress() {
-    evaluations += variation.getOffspringPopulationSize();
+    evaluations += lastEvaluations;
 
     attributes.put("EVALUATIONS", evaluations);
     attributes.put("POPULATION", population);
@@ -117,6 +133,70 @@ public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
     observable.notifyObservers(attributes);
   }
 
+  @Override
+  public void setCheckpointFile(String checkpointFileName) {
+    super.setCheckpointFile(checkpointFileName);
+  }
+
+  @Override
+  public String getCheckpointFile() {
+    return super.getCheckpointFile();
+  }
+
+  @Override
+  public void setCheckpointPeriod(long milliseconds) {
+    super.setCheckpointPeriod(milliseconds);
+  }
+
+  @Override
+  protected Checkpoint saveState() {
+    Checkpoint checkpoint = super.saveState();
+    checkpoint.put(Checkpoint.EVALUATIONS, evaluations);
+    checkpoint.put(COMPUTING_TIME, getCurrentComputingTime());
+    if (null != archive) {
+      checkpoint.putList(Checkpoint.ARCHIVE, archive.getSolutionList());
+    }
+    List<Object> components = getComponents();
+    for (int i = 0; i < components.size(); i++) {
+      if (components.get(i) instanceof CheckpointableComponent) {
+        checkpoint.put(
+            COMPONENT_STATE + i, ((CheckpointableComponent) components.get(i)).saveState());
+      }
+    }
+
+    return checkpoint;
+  }
+
+  @Override
+  protected void restoreState(Checkpoint checkpoint) {
+    super.restoreState(checkpoint);
+    evaluations = checkpoint.getInt(Checkpoint.EVALUATIONS);
+    initTime = System.currentTimeMillis() - checkpoint.<Long>get(COMPUTING_TIME);
+    if (null != archive) {
+      checkpoint.<S>getList(Checkpoint.ARCHIVE).forEach(archive::add);
+    }
+    List<Object> components = getComponents();
+    for (int i = 0; i < components.size(); i++) {
+      if (components.get(i) instanceof CheckpointableComponent) {
+        ((CheckpointableComponent) components.get(i)).restoreState(
+            checkpoint.get(COMPONENT_STATE + i));
+      }
+    }
+
+    attributes.put("EVALUATIONS", evaluations);
+    attributes.put("POPULATION", population);
+    attributes.put("COMPUTING_TIME", getCurrentComputingTime());
+
+    observable.setChanged();
+    observable.notifyObservers(attributes);
+  }
+
+  /** Returns the components of the algorithm, always in the same order */
+  private List<Object> getComponents() {
+    return Arrays.asList(
+        evaluation, createInitialPopulation, termination, selection, variation, replacement);
+  }
+
   @Override
   protected boolean isStoppingConditionReached() {
     return this.termination.isMet(attributes);
@@ -130,8 +210,14 @@ public class ComponentBasedEvolutionaryAlgorithm<S extends Solution<?>>
   @Override
   protected List<S> evaluatePopulation(List<S> population) {
     var solutionList = evaluation.evaluate(population) ;
+    lastEvaluations = solutionList.size() ;
     if (null != archive) {
-      solutionList.forEach(archive::add);
+      instrumentation.begin(AlgorithmPhase.ARCHIVE_UPDATE);
+      try {
+        solutionList.forEach(archive::add);
+      } finally {
+        instrumentation.end(AlgorithmPhase.ARCHIVE_UPDATE);
+      }
     }
 
     return solutionList ;
@@ -0,0 +1,104 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.surrogate.SurrogateModel;
+import org.uma.jmetal.operator.selection.impl.RankingAndCrowdingSelection;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+/**
+ * Evaluation component that pre-screens the solutions with a {@link SurrogateModel}. The objective
+ * values of the solutions to evaluate are predicted by the model, the solutions are ranked
+ * according to the predicted values (by applying a ranking and crowding distance selection), and
+ * only the most promising fraction of them is evaluated by the problem. The evaluated solutions
+ * are used to update the model, and they are the solutions returned by the {@link #evaluate(List)}
+ * method, so the rest of the solutions are discarded.
+ *
+ * <p>The solutions selected in a call are evaluated in a single batch by a {@link
+ * SolutionListEvaluator}, so they can be evaluated in parallel. All the solutions are evaluated
+ * until the model has been trained with a minimum number of solutions, so the initial population
+ * is always evaluated completely.
+ *
+ * <p>This component is intended to be used in algorithms that generate more offspring than the
+ * number of solutions kept by the replacement (e.g., NSGA-II with an offspring population size
+ * several times the population size): the number of evaluations per iteration is then the
+ * fraction of the offspring population size.
+ *
+ * @param <S> Solution
+ */
+public class SurrogateAssistedEvaluation<S extends Solution<?>> extends AbstractEvaluation<S> {
+  private final SurrogateModel<S> model;
+  private final double fractionToEvaluate;
+  private final int minimumTrainingSize;
+  private int numberOfScreenedSolutions;
+
+  /**
+   * Constructor
+   *
+   * @param evaluator Evaluator of the selected solutions
+   * @param problem Problem
+   * @param model Surrogate model
+   * @param fractionToEvaluate Fraction of the solutions of each call to be evaluated by the problem
+   * @param minimumTrainingSize Number of evaluated solutions before starting the pre-screening
+   */
+  public SurrogateAssistedEvaluation(
+      SolutionListEvaluator<S> evaluator,
+      Problem<S> problem,
+      SurrogateModel<S> model,
+      double fractionToEvaluate,
+      int minimumTrainingSize) {
+    super(evaluator, problem);
+    Check.notNull(model);
+    Check.that(
+        (fractionToEvaluate > 0.0) && (fractionToEvaluate <= 1.0),
+        "The fraction of solutions to evaluate is not in (0, 1]: " + fractionToEvaluate);
+    Check.that(
+        minimumTrainingSize > 0,
+        "The minimum training size is not positive: " + minimumTrainingSize);
+    this.model = model;
+    this.fractionToEvaluate = fractionToEvaluate;
+    this.minimumTrainingSize = minimumTrainingSize;
+    this.numberOfScreenedSolutions = 0;
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList) {
+    List<S> solutionsToEvaluate = solutionList;
+    if (model.size() >= minimumTrainingSize) {
+      solutionsToEvaluate = screen(solutionList);
+    }
+
+    super.evaluate(solutionsToEvaluate);
+    model.update(solutionsToEvaluate);
+
+    return solutionsToEvaluate;
+  }
+
+  private List<S> screen(List<S> solutionList) {
+    int solutionsToSelect = (int) Math.ceil(fractionToEvaluate * solutionList.size());
+    if (solutionsToSelect >= solutionList.size()) {
+      return solutionList;
+    }
+
+    for (S solution : solutionList) {
+      double[] prediction = model.predict(solution);
+      System.arraycopy(prediction, 0, solution.objectives(), 0, prediction.length);
+      Arrays.fill(solution.constraints(), 0.0);
+    }
+    numberOfScreenedSolutions += solutionList.size() - solutionsToSelect;
+
+    return new RankingAndCrowdingSelection<S>(solutionsToSelect).execute(solutionList);
+  }
+
+  public SurrogateModel<S> getModel() {
+    return model;
+  }
+
+  /** Returns the number of solutions discarded by the surrogate model without being evaluated */
+  public int getNumberOfScreenedSolutions() {
+    return numberOfScreenedSolutions;
+  }
+}
@@ -0,0 +1,22 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.surrogate;
+
+import java.io.Serializable;
+import java.util.List;
+import org.uma.jmetal.solution.Solution;
+
+/**
+ * Interface representing a model that approximates the objective values of the solutions of a
+ * problem. The model is trained incrementally with the solutions evaluated by the problem.
+ *
+ * @param <S> Solution
+ */
+public interface SurrogateModel<S extends Solution<?>> extends Serializable {
+  /** Adds a list of evaluated solutions to the training data of the model */
+  void update(List<S> evaluatedSolutions);
+
+  /** Returns the predicted objective values of a solution */
+  double[] predict(S solution);
+
+  /** Returns the number of solutions the model has been trained with */
+  int size();
+}
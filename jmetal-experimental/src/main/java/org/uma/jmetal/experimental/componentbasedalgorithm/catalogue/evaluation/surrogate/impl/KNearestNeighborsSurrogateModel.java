@@ -0,0 +1,128 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.surrogate.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.surrogate.SurrogateModel;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.bounds.Bounds;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Surrogate model based on a k-nearest neighbors regression: the predicted objective values of a
+ * solution are the means of the objective values of the k nearest evaluated solutions, weighted
+ * by the inverse of their squared distances. The distances are computed in the decision space
+ * normalized by the bounds of the variables.
+ *
+ * <p>The training data are stored in a ring buffer of a maximum capacity, so when it is full the
+ * oldest solutions are replaced by the new ones. Updating the model consists only in adding the
+ * solutions to the buffer, so the model is cheap to keep up to date after each evaluation step.
+ */
+public class KNearestNeighborsSurrogateModel implements SurrogateModel<DoubleSolution> {
+  private static final long serialVersionUID = 1L;
+
+  private final int k;
+  private final int capacity;
+
+  private double[][] points;
+  private double[][] values;
+  private int size;
+  private int next;
+
+  /**
+   * Constructor
+   *
+   * @param k Number of neighbors
+   * @param capacity Maximum number of solutions the model is trained with
+   */
+  public KNearestNeighborsSurrogateModel(int k, int capacity) {
+    Check.that(k > 0, "The number of neighbors is not positive: " + k);
+    Check.that(capacity >= k, "The capacity " + capacity + " is lower than k: " + k);
+    this.k = k;
+    this.capacity = capacity;
+  }
+
+  @Override
+  public void update(List<DoubleSolution> evaluatedSolutions) {
+    for (DoubleSolution solution : evaluatedSolutions) {
+      if (points == null) {
+        points = new double[capacity][];
+        values = new double[capacity][];
+      }
+      points[next] = normalizedVariables(solution);
+      values[next] = solution.objectives().clone();
+      next = (next + 1) % capacity;
+      size = Math.min(size + 1, capacity);
+    }
+  }
+
+  @Override
+  public double[] predict(DoubleSolution solution) {
+    Check.that(size > 0, "The model has not been trained");
+    double[] point = normalizedVariables(solution);
+
+    int neighbors = Math.min(k, size);
+    int[] nearest = new int[neighbors];
+    double[] distances = new double[neighbors];
+    Arrays.fill(distances, Double.POSITIVE_INFINITY);
+    for (int i = 0; i < size; i++) {
+      double distance = squaredDistance(point, points[i], distances[neighbors - 1]);
+      if (distance < distances[neighbors - 1]) {
+        int position = neighbors - 1;
+        while ((position > 0) && (distances[position - 1] > distance)) {
+          distances[position] = distances[position - 1];
+          nearest[position] = nearest[position - 1];
+          position--;
+        }
+        distances[position] = distance;
+        nearest[position] = i;
+      }
+    }
+
+    if (distances[0] == 0.0) {
+      return values[nearest[0]].clone();
+    }
+
+    double[] prediction = new double[values[nearest[0]].length];
+    double sumOfWeights = 0.0;
+    for (int i = 0; i < neighbors; i++) {
+      double weight = 1.0 / distances[i];
+      sumOfWeights += weight;
+      for (int j = 0; j < prediction.length; j++) {
+        prediction[j] += weight * values[nearest[i]][j];
+      }
+    }
+    for (int j = 0; j < prediction.length; j++) {
+      prediction[j] /= sumOfWeights;
+    }
+
+    return prediction;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /** Squared euclidean distance; the computation stops when it exceeds the given limit */
+  private static double squaredDistance(double[] point1, double[] point2, double limit) {
+    double distance = 0.0;
+    for (int i = 0; (i < point1.length) && (distance < limit); i++) {
+      double difference = point1[i] - point2[i];
+      distance += difference * difference;
+    }
+
+    return distance;
+  }
+
+  private static double[] normalizedVariables(DoubleSolution solution) {
+    double[] point = new double[solution.variables().size()];
+    for (int i = 0; i < point.length; i++) {
+      Bounds<Double> bounds = solution.getBounds(i);
+      double range = bounds.getUpperBound() - bounds.getLowerBound();
+      double value = solution.variables().get(i) - bounds.getLowerBound();
+      point[i] = (range > 0.0) ? value / range : value;
+    }
+
+    return point;
+  }
+}
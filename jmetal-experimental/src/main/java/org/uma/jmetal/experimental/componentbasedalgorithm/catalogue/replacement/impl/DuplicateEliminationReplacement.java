@@ -0,0 +1,34 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl;
+
+import java.util.List;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.duplicateelimination.DuplicateSolutionDetector;
+
+/**
+ * Replacement which discards the offspring solutions that are duplicates of a solution of the
+ * population or of a previous offspring solution, according to a {@link
+ * DuplicateSolutionDetector}, and applies another replacement to the population and the remaining
+ * offspring. If the population has no duplicates, the resulting population has no duplicates
+ * either, so the population can not collapse onto clones of a few solutions. The wrapped
+ * replacement must accept offspring populations of any size (e.g., {@link MuPlusLambdaReplacement}
+ * or {@link RankingAndDensityEstimatorReplacement}).
+ *
+ * @param <S>
+ */
+public class DuplicateEliminationReplacement<S extends Solution<?>> implements Replacement<S> {
+  private final Replacement<S> replacement;
+  private final DuplicateSolutionDetector<S> duplicateSolutionDetector;
+
+  public DuplicateEliminationReplacement(
+      Replacement<S> replacement, DuplicateSolutionDetector<S> duplicateSolutionDetector) {
+    this.replacement = replacement;
+    this.duplicateSolutionDetector = duplicateSolutionDetector;
+  }
+
+  @Override
+  public List<S> replace(List<S> population, List<S> offspringPopulation) {
+    return replacement.replace(
+        population, duplicateSolutionDetector.filter(population, offspringPopulation));
+  }
+}
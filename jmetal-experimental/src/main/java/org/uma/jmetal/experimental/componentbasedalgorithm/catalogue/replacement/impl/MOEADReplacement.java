@@ -1,16 +1,24 @@
 package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl;
 
+import java.io.Serializable;
 import java.util.List;
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.selection.impl.PopulationAndNeighborhoodMatingPoolSelection;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.aggregativefunction.AggregativeFunction;
+import org.uma.jmetal.util.checkpoint.CheckpointableComponent;
 import org.uma.jmetal.util.neighborhood.Neighborhood;
 import org.uma.jmetal.util.neighborhood.impl.WeightVectorNeighborhood;
 import org.uma.jmetal.util.sequencegenerator.SequenceGenerator;
 import org.uma.jmetal.util.sequencegenerator.impl.IntegerPermutationGenerator;
 
-public class MOEADReplacement<S extends Solution<?>> implements Replacement<S> {
+/**
+ * Replacement of MOEA/D. Its state, which is stored in the checkpoints of the algorithm, comprises
+ * the states of the aggregative function (e.g., its ideal point) and of the sequence generator of
+ * the subproblems, if they implement {@link CheckpointableComponent}.
+ */
+public class MOEADReplacement<S extends Solution<?>>
+    implements Replacement<S>, CheckpointableComponent {
   private final PopulationAndNeighborhoodMatingPoolSelection<S> matingPoolSelection;
   private final WeightVectorNeighborhood<S> weightVectorNeighborhood;
   private final AggregativeFunction aggregativeFunction;
@@ -75,4 +83,28 @@ public class MOEADReplacement<S extends Solution<?>> implements Replacement<S> {
     sequenceGenerator.generateNext();
     return population;
   }
+
+  @Override
+  public Serializable saveState() {
+    return new Serializable[] {saveState(aggregativeFunction), saveState(sequenceGenerator)};
+  }
+
+  @Override
+  public void restoreState(Serializable state) {
+    Serializable[] states = (Serializable[]) state;
+    restoreState(aggregativeFunction, states[0]);
+    restoreState(sequenceGenerator, states[1]);
+  }
+
+  private static Serializable saveState(Object component) {
+    return (component instanceof CheckpointableComponent)
+        ? ((CheckpointableComponent) component).saveState()
+        : null;
+  }
+
+  private static void restoreState(Object component, Serializable state) {
+    if (component instanceof CheckpointableComponent) {
+      ((CheckpointableComponent) component).restoreState(state);
+    }
+  }
 }
@@ -5,6 +5,7 @@ import java.util.Comparator;
 import java.util.List;
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.pool.SolutionPool;
 
 /**
  * (mu + lambda) replacement. Given a population of size mu and an offspring population of size lambda,
@@ -14,11 +15,23 @@ import org.uma.jmetal.solution.Solution;
  */
 public class MuPlusLambdaReplacement<S extends Solution<?>> implements Replacement<S> {
   protected Comparator<S> comparator ;
+  private SolutionPool<S> solutionPool ;
 
   public MuPlusLambdaReplacement(Comparator<S> comparator) {
     this.comparator = comparator ;
   }
 
+  /**
+   * Sets a pool where the discarded solutions are released, so they can be reused by the
+   * operators. It must not be used if other objects (e.g., an external archive) keep references
+   * to the solutions
+   */
+  public MuPlusLambdaReplacement<S> setSolutionPool(SolutionPool<S> solutionPool) {
+    this.solutionPool = solutionPool ;
+
+    return this ;
+  }
+
   public List<S> replace(List<S> population, List<S> offspringPopulation) {
     List<S> jointPopulation = new ArrayList<>();
     jointPopulation.addAll(population);
@@ -26,8 +39,16 @@ public class MuPlusLambdaReplacement<S extends Solution<?>> implements Replaceme
 
     jointPopulation.sort(comparator);
 
-    while (jointPopulation.size() > population.size()) {
-      jointPopulation.remove(jointPopulation.size() - 1);
+    if (solutionPool == null) {
+      while (jointPopulation.size() > population.size()) {
+        jointPopulation.remove(jointPopulation.size() - 1);
+      }
+    } else {
+      List<S> discardedSolutions = new ArrayList<>();
+      while (jointPopulation.size() > population.size()) {
+        discardedSolutions.add(jointPopulation.remove(jointPopulation.size() - 1));
+      }
+      solutionPool.releaseDiscarded(discardedSolutions, jointPopulation);
     }
 
     return jointPopulation;
@@ -6,6 +6,7 @@ import java.util.List;
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
 import org.uma.jmetal.experimental.componentbasedalgorithm.util.Preference;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.util.pool.SolutionPool;
 import org.uma.jmetal.util.densityestimator.DensityEstimator;
 import org.uma.jmetal.util.ranking.Ranking;
 
@@ -14,6 +15,7 @@ public class RankingAndDensityEstimatorReplacement<S extends Solution<?>>
   private Ranking<S> ranking;
   private DensityEstimator<S> densityEstimator;
   private RemovalPolicy removalPolicy;
+  private SolutionPool<S> solutionPool;
 
   public RankingAndDensityEstimatorReplacement(
           Ranking<S> ranking, DensityEstimator<S> densityEstimator) {
@@ -34,6 +36,17 @@ public class RankingAndDensityEstimatorReplacement<S extends Solution<?>>
     this.removalPolicy = removalPolicy;
   }
 
+  /**
+   * Sets a pool where the discarded solutions are released, so they can be reused by the
+   * operators. It must not be used if other objects (e.g., an external archive) keep references
+   * to the solutions
+   */
+  public RankingAndDensityEstimatorReplacement<S> setSolutionPool(SolutionPool<S> solutionPool) {
+    this.solutionPool = solutionPool;
+
+    return this;
+  }
+
   public List<S> replace(List<S> solutionList, List<S> offspringList) {
     List<S> jointPopulation = new ArrayList<>();
     jointPopulation.addAll(solutionList);
@@ -47,6 +60,11 @@ public class RankingAndDensityEstimatorReplacement<S extends Solution<?>>
     } else {
       resultList = sequentialTruncation(0, solutionList.size());
     }
+
+    if (solutionPool != null) {
+      solutionPool.releaseDiscarded(jointPopulation, resultList);
+    }
+
     return resultList;
   }
 
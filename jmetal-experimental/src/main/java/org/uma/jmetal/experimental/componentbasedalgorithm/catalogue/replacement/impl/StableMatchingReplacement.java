@@ -0,0 +1,87 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.uma.jmetal.algorithm.multiobjective.moead.util.StableMatching;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.Replacement;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.aggregativefunction.AggregativeFunction;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.neighborhood.impl.WeightVectorNeighborhood;
+
+/**
+ * Replacement based on the stable matching model of MOEA/D-STM (K. Li, Q. Zhang, S. Kwong, M. Li
+ * and R. Wang, "Stable Matching-Based Selection in Evolutionary Multiobjective Optimization", IEEE
+ * TEVC 18(6): 909-923, 2014). The population and the offspring population are merged, and the
+ * solution assigned to each subproblem (i.e., weight vector) is the one it is matched to, so the
+ * i-th solution of the new population corresponds to the i-th weight vector. The subproblems
+ * prefer the solutions with the lower value of the aggregative function, and the solutions prefer
+ * the subproblems whose weight vectors are closer and less crowded.
+ *
+ * <p>The offspring population can be of any size; the preferences are computed in parallel when
+ * the population is large (see {@link StableMatching}).
+ *
+ * @param <S> Type of the solutions
+ */
+public class StableMatchingReplacement<S extends Solution<?>> implements Replacement<S> {
+  private final WeightVectorNeighborhood<S> weightVectorNeighborhood;
+  private final AggregativeFunction aggregativeFunction;
+  private final StableMatching stableMatching;
+
+  public StableMatchingReplacement(
+      WeightVectorNeighborhood<S> weightVectorNeighborhood,
+      AggregativeFunction aggregativeFunction) {
+    this.weightVectorNeighborhood = weightVectorNeighborhood;
+    this.aggregativeFunction = aggregativeFunction;
+    this.stableMatching = new StableMatching();
+  }
+
+  @Override
+  public List<S> replace(List<S> population, List<S> offspringPopulation) {
+    double[][] weightVectors = weightVectorNeighborhood.getWeightVector();
+    int numberOfSubproblems = weightVectors.length;
+    Check.that(
+        population.size() == numberOfSubproblems,
+        "The population size "
+            + population.size()
+            + " is not equal to the number of weight vectors "
+            + numberOfSubproblems);
+
+    List<S> jointPopulation = new ArrayList<>(population.size() + offspringPopulation.size());
+    jointPopulation.addAll(population);
+    jointPopulation.addAll(offspringPopulation);
+    for (S solution : jointPopulation) {
+      aggregativeFunction.update(solution.objectives());
+    }
+
+    int numberOfSolutions = jointPopulation.size();
+    int numberOfObjectives = weightVectors[0].length;
+    double[] objectives = new double[numberOfSolutions * numberOfObjectives];
+    for (int i = 0; i < numberOfSolutions; i++) {
+      System.arraycopy(
+          jointPopulation.get(i).objectives(),
+          0,
+          objectives,
+          i * numberOfObjectives,
+          numberOfObjectives);
+    }
+
+    double[] subproblemValues = new double[numberOfSubproblems * numberOfSolutions];
+    StableMatching.computeSubproblemPreferences(
+        objectives, numberOfSolutions, weightVectors, aggregativeFunction, subproblemValues);
+    double[] solutionValues = new double[numberOfSolutions * numberOfSubproblems];
+    StableMatching.computeSolutionPreferences(
+        objectives, numberOfSolutions, weightVectors, solutionValues);
+
+    int[] matching = new int[numberOfSubproblems];
+    stableMatching.match(
+        subproblemValues, solutionValues, numberOfSubproblems, numberOfSolutions, matching);
+
+    List<S> newPopulation = new ArrayList<>(numberOfSubproblems);
+    for (int i = 0; i < numberOfSubproblems; i++) {
+      newPopulation.add(jointPopulation.get(matching[i]));
+    }
+
+    return newPopulation;
+  }
+}
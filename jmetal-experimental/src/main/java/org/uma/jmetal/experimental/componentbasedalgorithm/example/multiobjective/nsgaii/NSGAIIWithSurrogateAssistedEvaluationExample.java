@@ -0,0 +1,92 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.example.multiobjective.nsgaii;
+
+import java.io.FileNotFoundException;
+import java.util.List;
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.nsgaii.NSGAII;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.impl.SurrogateAssistedEvaluation;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.surrogate.impl.KNearestNeighborsSurrogateModel;
+import org.uma.jmetal.operator.crossover.CrossoverOperator;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.MutationOperator;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.AbstractAlgorithmRunner;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.ProblemUtils;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.evaluator.impl.MultiThreadedSolutionListEvaluator;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.termination.Termination;
+import org.uma.jmetal.util.termination.impl.TerminationByEvaluations;
+
+/**
+ * Class to configure and run the NSGA-II algorithm with a surrogate-assisted evaluation. The
+ * algorithm generates four times more offspring than the population size, and only the 25% of
+ * them considered the most promising by a k-nearest neighbors model are evaluated (in parallel).
+ */
+public class NSGAIIWithSurrogateAssistedEvaluationExample extends AbstractAlgorithmRunner {
+  public static void main(String[] args) throws JMetalException, FileNotFoundException {
+    Problem<DoubleSolution> problem;
+    NSGAII<DoubleSolution> algorithm;
+    CrossoverOperator<DoubleSolution> crossover;
+    MutationOperator<DoubleSolution> mutation;
+
+    String problemName = "org.uma.jmetal.problem.multiobjective.zdt.ZDT1";
+    String referenceParetoFront = "resources/referenceFrontsCSV/ZDT1.csv";
+
+    problem = ProblemUtils.<DoubleSolution>loadProblem(problemName);
+
+    double crossoverProbability = 0.9;
+    double crossoverDistributionIndex = 20.0;
+    crossover = new SBXCrossover(crossoverProbability, crossoverDistributionIndex);
+
+    double mutationProbability = 1.0 / problem.getNumberOfVariables();
+    double mutationDistributionIndex = 20.0;
+    mutation = new PolynomialMutation(mutationProbability, mutationDistributionIndex);
+
+    int populationSize = 100;
+    int offspringPopulationSize = 4 * populationSize;
+
+    Termination termination = new TerminationByEvaluations(10000);
+
+    var evaluator = new MultiThreadedSolutionListEvaluator<DoubleSolution>(4);
+    var evaluation =
+        new SurrogateAssistedEvaluation<>(
+            evaluator, problem, new KNearestNeighborsSurrogateModel(5, 2000), 0.25, populationSize);
+
+    algorithm =
+            new NSGAII<>(
+                    problem,
+                    populationSize,
+                    offspringPopulationSize,
+                    crossover,
+                    mutation,
+                    termination);
+    algorithm.withEvaluation(evaluation);
+
+    algorithm.run();
+    evaluator.shutdown();
+
+    List<DoubleSolution> population = algorithm.getResult();
+    JMetalLogger.logger.info("Total execution time : " + algorithm.getTotalComputingTime() + "ms");
+    JMetalLogger.logger.info("Number of evaluations: " + algorithm.getEvaluations());
+    JMetalLogger.logger.info(
+        "Number of screened solutions: " + evaluation.getNumberOfScreenedSolutions());
+
+    new SolutionListOutput(population)
+            .setVarFileOutputContext(new DefaultFileOutputContext("VAR.csv", ","))
+            .setFunFileOutputContext(new DefaultFileOutputContext("FUN.csv", ","))
+            .print();
+
+    JMetalLogger.logger.info("Random seed: " + JMetalRandom.getInstance().getSeed());
+    JMetalLogger.logger.info("Objectives values have been written to file FUN.csv");
+    JMetalLogger.logger.info("Variables values have been written to file VAR.csv");
+
+    if (!referenceParetoFront.equals("")) {
+      printQualityIndicators(population, referenceParetoFront);
+    }
+  }
+}
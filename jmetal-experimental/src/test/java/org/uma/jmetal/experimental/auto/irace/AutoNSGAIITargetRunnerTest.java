@@ -0,0 +1,40 @@
+package org.uma.jmetal.experimental.auto.irace;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.auto.tuning.Configuration;
+
+class AutoNSGAIITargetRunnerTest {
+  @Test
+  public void shouldRunReturnTheNormalizedHypervolumeOfTheFrontFound() {
+    Configuration configuration =
+        new Configuration(
+            Map.ofEntries(
+                Map.entry("algorithmResult", "population"),
+                Map.entry("offspringPopulationSize", "100"),
+                Map.entry("createInitialSolutions", "random"),
+                Map.entry("variation", "crossoverAndMutationVariation"),
+                Map.entry("crossover", "SBX"),
+                Map.entry("crossoverProbability", "0.9"),
+                Map.entry("crossoverRepairStrategy", "bounds"),
+                Map.entry("sbxDistributionIndex", "20.0"),
+                Map.entry("mutation", "polynomial"),
+                Map.entry("mutationProbability", "0.01"),
+                Map.entry("mutationRepairStrategy", "bounds"),
+                Map.entry("polynomialMutationDistributionIndex", "20.0"),
+                Map.entry("selection", "tournament"),
+                Map.entry("selectionTournamentSize", "2")));
+    String instance =
+        "--problemName org.uma.jmetal.problem.multiobjective.zdt.ZDT1 "
+            + "--referenceFrontFileName ZDT1.csv "
+            + "--maximumNumberOfEvaluations 25000 "
+            + "--populationSize 100";
+
+    double cost =
+        new AutoNSGAIITargetRunner("../resources/referenceFrontsCSV").run(configuration, instance);
+
+    assertTrue(cost >= 0.0 && cost < 0.015);
+  }
+}
@@ -0,0 +1,114 @@
+package org.uma.jmetal.experimental.auto.tuning;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.auto.irace.AutoNSGAIIIrace;
+import org.uma.jmetal.experimental.auto.parameter.CategoricalParameter;
+import org.uma.jmetal.experimental.auto.parameter.IntegerParameter;
+import org.uma.jmetal.experimental.auto.parameter.Parameter;
+import org.uma.jmetal.experimental.auto.parameter.RealParameter;
+
+class ConfigurationSamplerTest {
+  private static final String[] NO_ARGS = new String[0];
+
+  private static List<Parameter<?>> parameterSpace() {
+    CategoricalParameter crossover =
+        new CategoricalParameter("crossover", NO_ARGS, List.of("SBX", "BLX_ALPHA"));
+    crossover.addGlobalParameter(new RealParameter("crossoverProbability", NO_ARGS, 0.5, 1.0));
+    crossover.addSpecificParameter(
+        "SBX", new RealParameter("sbxDistributionIndex", NO_ARGS, 5.0, 400.0));
+    crossover.addSpecificParameter(
+        "BLX_ALPHA", new RealParameter("blxAlphaCrossoverAlphaValue", NO_ARGS, 0.0, 1.0));
+
+    return List.of(crossover, new IntegerParameter("tournamentSize", NO_ARGS, 2, 10));
+  }
+
+  @Test
+  public void shouldGetNumberOfParametersReturnTheNumberOfParametersThatCanBeSampled() {
+    assertEquals(5, new ConfigurationSampler(parameterSpace()).getNumberOfParameters());
+  }
+
+  @Test
+  public void shouldSampleReturnConfigurationsWithTheActiveParametersWithinTheirBounds() {
+    ConfigurationSampler sampler = new ConfigurationSampler(parameterSpace());
+
+    for (int i = 0; i < 100; i++) {
+      Configuration configuration = sampler.sample();
+
+      double crossoverProbability =
+          Double.parseDouble(configuration.getValue("crossoverProbability"));
+      assertTrue(crossoverProbability >= 0.5 && crossoverProbability <= 1.0);
+      int tournamentSize = Integer.parseInt(configuration.getValue("tournamentSize"));
+      assertTrue(tournamentSize >= 2 && tournamentSize <= 10);
+
+      if (configuration.getValue("crossover").equals("SBX")) {
+        assertNull(configuration.getValue("blxAlphaCrossoverAlphaValue"));
+        double distributionIndex =
+            Double.parseDouble(configuration.getValue("sbxDistributionIndex"));
+        assertTrue(distributionIndex >= 5.0 && distributionIndex <= 400.0);
+      } else {
+        assertNull(configuration.getValue("sbxDistributionIndex"));
+        double alpha = Double.parseDouble(configuration.getValue("blxAlphaCrossoverAlphaValue"));
+        assertTrue(alpha >= 0.0 && alpha <= 1.0);
+      }
+    }
+  }
+
+  @Test
+  public void shouldSampleAroundAParentReturnTheParentIfTheStandardDeviationIsZero() {
+    ConfigurationSampler sampler = new ConfigurationSampler(parameterSpace());
+    Configuration parent = sampler.sample();
+
+    assertEquals(parent, sampler.sample(parent, 0.0, 1.0));
+  }
+
+  @Test
+  public void shouldTheSampledConfigurationsBeValidArgumentsOfAutoNSGAII() {
+    String[] fixedParameters =
+        ("--problemName org.uma.jmetal.problem.multiobjective.zdt.ZDT1 "
+                + "--referenceFrontFileName ZDT1.csv "
+                + "--maximumNumberOfEvaluations 1000 "
+                + "--populationSize 20")
+            .split("\\s+");
+    String[] template =
+        ("--algorithmResult population "
+                + "--offspringPopulationSize 100 "
+                + "--createInitialSolutions random "
+                + "--variation crossoverAndMutationVariation "
+                + "--selection tournament "
+                + "--selectionTournamentSize 2 "
+                + "--crossover SBX "
+                + "--crossoverProbability 0.9 "
+                + "--crossoverRepairStrategy bounds "
+                + "--sbxDistributionIndex 20.0 "
+                + "--mutation polynomial "
+                + "--mutationProbability 0.01 "
+                + "--mutationRepairStrategy bounds "
+                + "--polynomialMutationDistributionIndex 20.0")
+            .split("\\s+");
+
+    AutoNSGAIIIrace parameterSpace = new AutoNSGAIIIrace();
+    parameterSpace.parseAndCheckParameters(concatenate(fixedParameters, template));
+    ConfigurationSampler sampler =
+        new ConfigurationSampler(parameterSpace.autoConfigurableParameterList);
+
+    for (int i = 0; i < 20; i++) {
+      AutoNSGAIIIrace autoNSGAIIIrace = new AutoNSGAIIIrace();
+      autoNSGAIIIrace.parseAndCheckParameters(
+          concatenate(fixedParameters, sampler.sample().toArgs()));
+      autoNSGAIIIrace.create();
+    }
+  }
+
+  private static String[] concatenate(String[] first, String[] second) {
+    String[] result = new String[first.length + second.length];
+    System.arraycopy(first, 0, result, 0, first.length);
+    System.arraycopy(second, 0, result, first.length, second.length);
+
+    return result;
+  }
+}
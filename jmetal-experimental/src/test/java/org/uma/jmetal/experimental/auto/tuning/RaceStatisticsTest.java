@@ -0,0 +1,47 @@
+package org.uma.jmetal.experimental.auto.tuning;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RaceStatisticsTest {
+  // Costs of three configurations on ten instances: the third one is always the worst one
+  private static final double[][] COSTS = {
+    {0.10, 0.12, 0.50},
+    {0.11, 0.10, 0.52},
+    {0.09, 0.11, 0.49},
+    {0.12, 0.10, 0.55},
+    {0.10, 0.13, 0.51},
+    {0.11, 0.10, 0.50},
+    {0.10, 0.12, 0.53},
+    {0.12, 0.11, 0.50},
+    {0.10, 0.11, 0.54},
+    {0.11, 0.10, 0.52}
+  };
+
+  @Test
+  public void shouldRanksAssignTheMeanRankToTiedValues() {
+    assertArrayEquals(
+        new double[] {2.0, 4.0, 2.0, 2.0}, RaceStatistics.ranks(new double[] {1.0, 3.0, 1.0, 1.0}));
+  }
+
+  @Test
+  public void shouldFriedmanSurvivorsEliminateTheConfigurationThatIsAlwaysTheWorstOne() {
+    assertEquals(List.of(0, 1), RaceStatistics.friedmanSurvivors(COSTS, 0.95));
+  }
+
+  @Test
+  public void shouldTTestSurvivorsEliminateTheConfigurationThatIsAlwaysTheWorstOne() {
+    assertEquals(List.of(0, 1), RaceStatistics.tTestSurvivors(COSTS, 0.95));
+  }
+
+  @Test
+  public void shouldTheTestsKeepAllTheConfigurationsIfThereIsOnlyOneInstance() {
+    double[][] costs = {{0.1, 0.2, 0.3}};
+
+    assertEquals(List.of(0, 1, 2), RaceStatistics.friedmanSurvivors(costs, 0.95));
+    assertEquals(List.of(0, 1, 2), RaceStatistics.tTestSurvivors(costs, 0.95));
+  }
+}
@@ -0,0 +1,76 @@
+package org.uma.jmetal.experimental.auto.tuning;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.auto.parameter.CategoricalParameter;
+import org.uma.jmetal.experimental.auto.parameter.Parameter;
+import org.uma.jmetal.experimental.auto.parameter.RealParameter;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+class RacingTunerTest {
+  private static final String[] NO_ARGS = new String[0];
+
+  private static List<Parameter<?>> parameterSpace() {
+    CategoricalParameter c = new CategoricalParameter("c", NO_ARGS, List.of("a", "b", "c"));
+    c.addSpecificParameter("a", new RealParameter("y", NO_ARGS, 0.0, 1.0));
+
+    return List.of(new RealParameter("x", NO_ARGS, 0.0, 1.0), c);
+  }
+
+  // The optimal configuration is x = 0.3, c = b
+  private static double cost(Configuration configuration, Integer instance) {
+    double x = Double.parseDouble(configuration.getValue("x"));
+    return (x - 0.3) * (x - 0.3)
+        + (configuration.getValue("c").equals("b") ? 0.0 : 1.0)
+        + 0.01 * instance;
+  }
+
+  @Test
+  public void shouldRunFindTheOptimalConfigurationOfASyntheticTarget() {
+    for (RacingTuner.StatisticalTest test : RacingTuner.StatisticalTest.values()) {
+      RacingTuner<Integer> tuner =
+          new RacingTuner<>(
+                  new ConfigurationSampler(parameterSpace()),
+                  RacingTunerTest::cost,
+                  List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10),
+                  1000)
+              .setNumberOfThreads(4)
+              .setStatisticalTest(test);
+
+      Configuration bestConfiguration = tuner.run();
+
+      assertEquals("b", bestConfiguration.getValue("c"));
+      assertEquals(0.3, Double.parseDouble(bestConfiguration.getValue("x")), 0.1);
+      assertTrue(tuner.getNumberOfExperiments() <= 1000);
+      assertTrue(tuner.getCosts(bestConfiguration).size() >= 5);
+    }
+  }
+
+  @Test
+  public void shouldRunRaiseAnExceptionIfARunFails() {
+    RacingTuner<Integer> tuner =
+        new RacingTuner<>(
+            new ConfigurationSampler(parameterSpace()),
+            (configuration, instance) -> {
+              throw new JMetalException("Run failed");
+            },
+            List.of(1, 2, 3),
+            100);
+
+    assertThrows(JMetalException.class, tuner::run);
+  }
+
+  @Test
+  public void shouldRunRaiseAnExceptionIfTheBudgetIsTooSmall() {
+    RacingTuner<Integer> tuner =
+        new RacingTuner<>(
+            new ConfigurationSampler(parameterSpace()), RacingTunerTest::cost, List.of(1, 2, 3), 4);
+
+    assertThrows(InvalidConditionException.class, tuner::run);
+  }
+}
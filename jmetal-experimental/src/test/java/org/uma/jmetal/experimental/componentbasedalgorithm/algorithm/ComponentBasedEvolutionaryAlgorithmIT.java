@@ -0,0 +1,100 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.moead.MOEAD;
+import org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.nsgaii.NSGAII;
+import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
+import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.FailingDoubleProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.aggregativefunction.impl.Tschebyscheff;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.termination.impl.TerminationByEvaluations;
+
+public class ComponentBasedEvolutionaryAlgorithmIT {
+  private static final int MAX_EVALUATIONS = 5000;
+
+  @Test
+  public void shouldTheResumedAlgorithmReturnTheSameResultAsAnUninterruptedRun(
+      @TempDir Path folder) {
+    // NSGA-II stores an archive, and the replacement of MOEA/D has an ideal point and a sequence of
+    // subproblems
+    List<Function<DoubleProblem, ComponentBasedEvolutionaryAlgorithm<DoubleSolution>>> factories =
+        List.of(
+            ComponentBasedEvolutionaryAlgorithmIT::createNSGAII,
+            ComponentBasedEvolutionaryAlgorithmIT::createMOEAD);
+
+    for (Function<DoubleProblem, ComponentBasedEvolutionaryAlgorithm<DoubleSolution>> factory :
+        factories) {
+      JMetalRandom.getInstance().setSeed(1);
+      ComponentBasedEvolutionaryAlgorithm<DoubleSolution> algorithm = factory.apply(new ZDT1());
+      algorithm.run();
+      double[][] expectedFront =
+          SolutionListUtils.getMatrixWithObjectiveValues(algorithm.getResult());
+
+      // The first run fails in the middle of a generation, after having saved a checkpoint
+      String checkpointFile = folder.resolve("CHECKPOINT_" + algorithm.getName()).toString();
+      JMetalRandom.getInstance().setSeed(1);
+      ComponentBasedEvolutionaryAlgorithm<DoubleSolution> interruptedAlgorithm =
+          factory.apply(new FailingDoubleProblem(new ZDT1(), 3050));
+      interruptedAlgorithm.setCheckpointFile(checkpointFile);
+      interruptedAlgorithm.setCheckpointPeriod(0);
+      assertThrows(JMetalException.class, interruptedAlgorithm::run);
+      assertTrue(Files.exists(Path.of(checkpointFile)));
+
+      JMetalRandom.getInstance().setSeed(2);
+      ComponentBasedEvolutionaryAlgorithm<DoubleSolution> resumedAlgorithm =
+          factory.apply(new ZDT1());
+      resumedAlgorithm.setCheckpointFile(checkpointFile);
+      resumedAlgorithm.run();
+
+      assertEquals(MAX_EVALUATIONS, resumedAlgorithm.getEvaluations());
+      assertArrayEquals(
+          expectedFront,
+          SolutionListUtils.getMatrixWithObjectiveValues(resumedAlgorithm.getResult()),
+          algorithm.getName());
+    }
+  }
+
+  private static ComponentBasedEvolutionaryAlgorithm<DoubleSolution> createNSGAII(
+      DoubleProblem problem) {
+    return new NSGAII<>(
+            problem,
+            100,
+            100,
+            new SBXCrossover(0.9, 20.0),
+            new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+            new TerminationByEvaluations(MAX_EVALUATIONS))
+        .withArchive(new CrowdingDistanceArchive<>(100));
+  }
+
+  private static ComponentBasedEvolutionaryAlgorithm<DoubleSolution> createMOEAD(
+      DoubleProblem problem) {
+    return new MOEAD<>(
+        problem,
+        100,
+        new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+        new SBXCrossover(1.0, 20.0),
+        new Tschebyscheff(),
+        0.9,
+        2,
+        20,
+        null,
+        new TerminationByEvaluations(MAX_EVALUATIONS));
+  }
+}
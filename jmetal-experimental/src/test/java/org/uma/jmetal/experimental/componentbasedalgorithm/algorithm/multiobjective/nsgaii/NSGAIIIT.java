@@ -1,23 +1,34 @@
 package org.uma.jmetal.experimental.componentbasedalgorithm.algorithm.multiobjective.nsgaii;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.impl.SurrogateAssistedEvaluation;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.surrogate.impl.KNearestNeighborsSurrogateModel;
 import org.uma.jmetal.operator.crossover.CrossoverOperator;
 import org.uma.jmetal.operator.crossover.impl.SBXCrossover;
 import org.uma.jmetal.operator.mutation.MutationOperator;
 import org.uma.jmetal.operator.mutation.impl.PolynomialMutation;
 import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.FailingDoubleProblem;
 import org.uma.jmetal.problem.multiobjective.ConstrEx;
 import org.uma.jmetal.problem.multiobjective.Kursawe;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.archive.impl.CrowdingDistanceArchive;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
 import org.uma.jmetal.util.legacy.front.Front;
 import org.uma.jmetal.util.legacy.front.impl.ArrayFront;
 import org.uma.jmetal.util.legacy.front.util.FrontNormalizer;
 import org.uma.jmetal.util.legacy.front.util.FrontUtils;
 import org.uma.jmetal.util.legacy.qualityindicator.impl.hypervolume.impl.PISAHypervolume;
+import org.uma.jmetal.util.measure.instrumentation.AlgorithmPhase;
+import org.uma.jmetal.util.measure.instrumentation.PhaseInstrumentation;
 import org.uma.jmetal.util.point.PointSolution;
 import org.uma.jmetal.util.termination.Termination;
 import org.uma.jmetal.util.termination.impl.TerminationByEvaluations;
@@ -112,4 +123,76 @@ public class NSGAIIIT {
     assertTrue(population.size() >= 98) ;
     assertTrue(hv > 0.77) ;
   }
+
+  @Test
+  public void shouldTheInstrumentationMeasureEveryPhaseWhenItIsEnabled() {
+    DoubleProblem problem = new Kursawe() ;
+    NSGAII<DoubleSolution> nsgaII =
+        new NSGAII<>(
+            problem,
+            100,
+            100,
+            new SBXCrossover(0.9, 20.0),
+            new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+            new TerminationByEvaluations(2000));
+    nsgaII.withArchive(new CrowdingDistanceArchive<>(100));
+    PhaseInstrumentation instrumentation = nsgaII.getInstrumentation().setEnabled(true);
+
+    nsgaII.run();
+
+    assertEquals(1, instrumentation.getCount(AlgorithmPhase.INITIAL_CREATION));
+    assertEquals(20, instrumentation.getCount(AlgorithmPhase.EVALUATION));
+    assertEquals(19, instrumentation.getCount(AlgorithmPhase.SELECTION));
+    assertEquals(19, instrumentation.getCount(AlgorithmPhase.VARIATION));
+    assertEquals(19, instrumentation.getCount(AlgorithmPhase.REPLACEMENT));
+    assertEquals(20, instrumentation.getCount(AlgorithmPhase.ARCHIVE_UPDATE));
+    assertTrue(instrumentation.getNanoseconds(AlgorithmPhase.REPLACEMENT) > 0);
+  }
+
+  @Test
+  public void shouldTheInstrumentationEndThePhaseInterruptedByAnException() {
+    DoubleProblem problem = new FailingDoubleProblem(new Kursawe(), 150) ;
+    NSGAII<DoubleSolution> nsgaII =
+        new NSGAII<>(
+            problem,
+            100,
+            100,
+            new SBXCrossover(0.9, 20.0),
+            new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+            new TerminationByEvaluations(2000));
+    PhaseInstrumentation instrumentation = nsgaII.getInstrumentation().setEnabled(true);
+
+    assertThrows(JMetalException.class, nsgaII::run);
+
+    assertEquals(2, instrumentation.getCount(AlgorithmPhase.EVALUATION));
+    assertThrows(JMetalException.class, () -> instrumentation.end(AlgorithmPhase.EVALUATION));
+  }
+
+  @Test
+  public void shouldTheSurrogateAssistedEvaluationConsumeOnlyTheRealEvaluations() {
+    DoubleProblem problem = new ZDT1() ;
+    SurrogateAssistedEvaluation<DoubleSolution> evaluation =
+        new SurrogateAssistedEvaluation<>(
+            new SequentialSolutionListEvaluator<>(),
+            problem,
+            new KNearestNeighborsSurrogateModel(5, 2000),
+            0.25,
+            100);
+    NSGAII<DoubleSolution> nsgaII =
+        new NSGAII<>(
+            problem,
+            100,
+            400,
+            new SBXCrossover(0.9, 20.0),
+            new PolynomialMutation(1.0 / problem.getNumberOfVariables(), 20.0),
+            new TerminationByEvaluations(5000));
+    nsgaII.withEvaluation(evaluation);
+
+    nsgaII.run();
+
+    assertEquals(5000, nsgaII.getEvaluations());
+    assertEquals(5000, evaluation.getComputedEvaluations());
+    assertEquals(49 * 300, evaluation.getNumberOfScreenedSolutions());
+    assertEquals(100, nsgaII.getResult().size());
+  }
 }
@@ -0,0 +1,106 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.impl.SurrogateAssistedEvaluation;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.surrogate.impl.KNearestNeighborsSurrogateModel;
+import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+
+public class SurrogateAssistedEvaluationTest extends EvaluationTestCases<DoubleSolution> {
+
+  public SurrogateAssistedEvaluationTest() {
+    this.problem = new DummyDoubleProblem();
+    this.evaluation = surrogateAssistedEvaluation((DoubleProblem) problem, 0.25, 100);
+  }
+
+  @Test
+  public void shouldEvaluateAllTheSolutionsUntilTheModelIsTrained() {
+    DoubleProblem zdt1 = new ZDT1(10);
+    SurrogateAssistedEvaluation<DoubleSolution> evaluation =
+        surrogateAssistedEvaluation(zdt1, 0.25, 40);
+
+    List<DoubleSolution> evaluatedSolutions = evaluation.evaluate(solutions(zdt1, 40));
+
+    assertEquals(40, evaluatedSolutions.size());
+    assertEquals(40, evaluation.getComputedEvaluations());
+    assertEquals(40, evaluation.getModel().size());
+    assertEquals(0, evaluation.getNumberOfScreenedSolutions());
+  }
+
+  @Test
+  public void shouldEvaluateOnlyTheMostPromisingFractionWhenTheModelIsTrained() {
+    DoubleProblem zdt1 = new ZDT1(10);
+    SurrogateAssistedEvaluation<DoubleSolution> evaluation =
+        surrogateAssistedEvaluation(zdt1, 0.25, 40);
+    evaluation.evaluate(solutions(zdt1, 40));
+
+    List<DoubleSolution> evaluatedSolutions = evaluation.evaluate(solutions(zdt1, 100));
+
+    assertEquals(25, evaluatedSolutions.size());
+    assertEquals(65, evaluation.getComputedEvaluations());
+    assertEquals(65, evaluation.getModel().size());
+    assertEquals(75, evaluation.getNumberOfScreenedSolutions());
+    for (DoubleSolution solution : evaluatedSolutions) {
+      DoubleSolution copy = (DoubleSolution) solution.copy();
+      zdt1.evaluate(copy);
+      assertEquals(copy.objectives()[0], solution.objectives()[0]);
+      assertEquals(copy.objectives()[1], solution.objectives()[1]);
+    }
+  }
+
+  @Test
+  public void shouldTheScreeningSelectSolutionsBetterThanTheDiscardedOnes() {
+    DoubleProblem zdt1 = new ZDT1(10);
+    SurrogateAssistedEvaluation<DoubleSolution> evaluation =
+        surrogateAssistedEvaluation(zdt1, 0.1, 200);
+    evaluation.evaluate(solutions(zdt1, 200));
+
+    List<DoubleSolution> candidates = solutions(zdt1, 200);
+    List<DoubleSolution> evaluatedSolutions = evaluation.evaluate(new ArrayList<>(candidates));
+    candidates.forEach(zdt1::evaluate);
+
+    double meanOfTheSelected =
+        evaluatedSolutions.stream().mapToDouble(solution -> solution.objectives()[1]).average()
+            .getAsDouble();
+    double meanOfTheCandidates =
+        candidates.stream().mapToDouble(solution -> solution.objectives()[1]).average()
+            .getAsDouble();
+    assertTrue(meanOfTheSelected < meanOfTheCandidates);
+  }
+
+  @Test
+  public void shouldConstructorRaiseAnExceptionIfTheFractionIsNotValid() {
+    DoubleProblem zdt1 = new ZDT1(10);
+
+    assertThrows(InvalidConditionException.class, () -> surrogateAssistedEvaluation(zdt1, 0.0, 10));
+    assertThrows(InvalidConditionException.class, () -> surrogateAssistedEvaluation(zdt1, 1.5, 10));
+  }
+
+  private static SurrogateAssistedEvaluation<DoubleSolution> surrogateAssistedEvaluation(
+      DoubleProblem problem, double fractionToEvaluate, int minimumTrainingSize) {
+    return new SurrogateAssistedEvaluation<>(
+        new SequentialSolutionListEvaluator<>(),
+        problem,
+        new KNearestNeighborsSurrogateModel(5, 1000),
+        fractionToEvaluate,
+        minimumTrainingSize);
+  }
+
+  private static List<DoubleSolution> solutions(DoubleProblem problem, int numberOfSolutions) {
+    List<DoubleSolution> solutions = new ArrayList<>();
+    IntStream.range(0, numberOfSolutions).forEach(i -> solutions.add(problem.createSolution()));
+
+    return solutions;
+  }
+}
@@ -0,0 +1,63 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.evaluation.surrogate.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+
+public class KNearestNeighborsSurrogateModelTest {
+  private final DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+
+  @Test
+  public void shouldPredictReturnTheValuesOfATrainingSolution() {
+    KNearestNeighborsSurrogateModel model = new KNearestNeighborsSurrogateModel(2, 10);
+    model.update(List.of(solution(0.0, 0.0, 1.0, 2.0), solution(1.0, 1.0, 3.0, 4.0)));
+
+    assertArrayEquals(new double[] {3.0, 4.0}, model.predict(solution(1.0, 1.0, 0.0, 0.0)));
+  }
+
+  @Test
+  public void shouldPredictWeightTheNeighborsByTheInverseOfTheirSquaredDistances() {
+    KNearestNeighborsSurrogateModel model = new KNearestNeighborsSurrogateModel(2, 10);
+    model.update(
+        List.of(
+            solution(0.0, 0.0, 0.0, 4.0),
+            solution(1.0, 0.0, 4.0, 0.0),
+            solution(1.0, 1.0, 100.0, 100.0)));
+
+    assertArrayEquals(new double[] {2.0, 2.0}, model.predict(solution(0.5, 0.0, 0.0, 0.0)), 1e-12);
+    assertArrayEquals(new double[] {0.4, 3.6}, model.predict(solution(0.25, 0.0, 0.0, 0.0)), 1e-12);
+  }
+
+  @Test
+  public void shouldUpdateReplaceTheOldestSolutionsWhenTheCapacityIsReached() {
+    KNearestNeighborsSurrogateModel model = new KNearestNeighborsSurrogateModel(1, 2);
+    model.update(List.of(solution(0.0, 0.0, 1.0, 1.0), solution(1.0, 1.0, 2.0, 2.0)));
+    model.update(List.of(solution(0.1, 0.1, 3.0, 3.0)));
+
+    assertEquals(2, model.size());
+    assertArrayEquals(new double[] {3.0, 3.0}, model.predict(solution(0.0, 0.0, 0.0, 0.0)));
+  }
+
+  @Test
+  public void shouldPredictRaiseAnExceptionIfTheModelIsNotTrained() {
+    KNearestNeighborsSurrogateModel model = new KNearestNeighborsSurrogateModel(2, 10);
+
+    assertThrows(InvalidConditionException.class, () -> model.predict(solution(0.0, 0.0, 0.0, 0.0)));
+  }
+
+  private DoubleSolution solution(double x1, double x2, double f1, double f2) {
+    DoubleSolution solution = problem.createSolution();
+    solution.variables().set(0, x1);
+    solution.variables().set(1, x2);
+    solution.objectives()[0] = f1;
+    solution.objectives()[1] = f2;
+
+    return solution;
+  }
+}
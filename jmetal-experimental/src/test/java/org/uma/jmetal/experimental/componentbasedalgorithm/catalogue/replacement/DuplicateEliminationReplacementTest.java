@@ -0,0 +1,45 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.DuplicateEliminationReplacement;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.MuPlusLambdaReplacement;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.comparator.ObjectiveComparator;
+import org.uma.jmetal.util.duplicateelimination.DuplicateSolutionDetector;
+
+public class DuplicateEliminationReplacementTest {
+
+  @Test
+  public void shouldReplaceNotIntroduceDuplicatesInThePopulation() {
+    DummyDoubleProblem problem = new DummyDoubleProblem();
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      population.add(problem.createSolution());
+      population.get(i).objectives()[0] = 10 + i;
+    }
+
+    // The offspring are clones of the best solution, which would take over a (mu + lambda) population
+    List<DoubleSolution> offspringPopulation = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      offspringPopulation.add((DoubleSolution) population.get(0).copy());
+    }
+    offspringPopulation.get(9).objectives()[0] = 0;
+
+    DuplicateSolutionDetector<DoubleSolution> detector = DuplicateSolutionDetector.byObjectives(0.0);
+    Replacement<DoubleSolution> replacement =
+        new DuplicateEliminationReplacement<>(
+            new MuPlusLambdaReplacement<>(new ObjectiveComparator<>(0)), detector);
+
+    List<DoubleSolution> newPopulation = replacement.replace(population, offspringPopulation);
+
+    assertEquals(10, newPopulation.size());
+    assertEquals(0, newPopulation.get(0).objectives()[0]);
+    assertFalse(detector.containsDuplicates(newPopulation));
+  }
+}
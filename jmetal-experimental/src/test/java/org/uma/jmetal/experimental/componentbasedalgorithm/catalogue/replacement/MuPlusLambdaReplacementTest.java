@@ -1,6 +1,7 @@
 package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.MuPlusLambdaReplacement;
 import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.solution.util.pool.SolutionPool;
 import org.uma.jmetal.util.comparator.ObjectiveComparator;
 
 public class MuPlusLambdaReplacementTest {
@@ -31,4 +33,29 @@ public class MuPlusLambdaReplacementTest {
 
     assertEquals(mu, replacement.replace(population, offspringPopulation).size()) ;
   }
+
+  @Test
+  public void shouldReplaceReleaseTheDiscardedSolutionsInTheSolutionPool() {
+    DummyDoubleProblem problem = new DummyDoubleProblem();
+    List<DoubleSolution> population = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      population.add(problem.createSolution());
+      population.get(i).objectives()[0] = i;
+    }
+
+    List<DoubleSolution> offspringPopulation = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      offspringPopulation.add(problem.createSolution());
+      offspringPopulation.get(i).objectives()[0] = 20 + i;
+    }
+
+    SolutionPool<DoubleSolution> solutionPool = new SolutionPool<>();
+    MuPlusLambdaReplacement<DoubleSolution> replacement =
+        new MuPlusLambdaReplacement<>(new ObjectiveComparator<DoubleSolution>(0))
+            .setSolutionPool(solutionPool);
+
+    assertEquals(population, replacement.replace(population, offspringPopulation));
+    assertEquals(4, solutionPool.size());
+    assertSame(offspringPopulation.get(0), solutionPool.copyOf(problem.createSolution()));
+  }
 }
@@ -0,0 +1,85 @@
+package org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.uma.jmetal.experimental.componentbasedalgorithm.catalogue.replacement.impl.StableMatchingReplacement;
+import org.uma.jmetal.problem.doubleproblem.impl.DummyDoubleProblem;
+import org.uma.jmetal.solution.doublesolution.DoubleSolution;
+import org.uma.jmetal.util.aggregativefunction.impl.Tschebyscheff;
+import org.uma.jmetal.util.errorchecking.exception.InvalidConditionException;
+import org.uma.jmetal.util.neighborhood.impl.WeightVectorNeighborhood;
+
+public class StableMatchingReplacementTest {
+
+  @Test
+  public void shouldReplaceReturnAPopulationOfDifferentSolutionsOfTheRequiredSize() {
+    int populationSize = 10;
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    List<DoubleSolution> population = createSolutions(problem, populationSize);
+    List<DoubleSolution> offspringPopulation = createSolutions(problem, populationSize);
+
+    StableMatchingReplacement<DoubleSolution> replacement =
+        new StableMatchingReplacement<>(
+            new WeightVectorNeighborhood<>(populationSize, 3), new Tschebyscheff());
+
+    List<DoubleSolution> newPopulation = replacement.replace(population, offspringPopulation);
+
+    assertEquals(populationSize, newPopulation.size());
+    assertEquals(populationSize, new HashSet<>(newPopulation).size());
+  }
+
+  @Test
+  public void shouldReplaceAssignToEachSubproblemTheSolutionOfItsWeightVector() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    // With two weight vectors, the first one is (0, 1) and the second one is (1, 0)
+    DoubleSolution firstSolution = createSolution(problem, 4.0, 1.0);
+    DoubleSolution secondSolution = createSolution(problem, 1.0, 4.0);
+    DoubleSolution dominatedSolution = createSolution(problem, 5.0, 5.0);
+
+    List<DoubleSolution> population = new ArrayList<>(List.of(dominatedSolution, firstSolution));
+    List<DoubleSolution> offspringPopulation = new ArrayList<>(List.of(secondSolution));
+
+    StableMatchingReplacement<DoubleSolution> replacement =
+        new StableMatchingReplacement<>(new WeightVectorNeighborhood<>(2, 2), new Tschebyscheff());
+
+    List<DoubleSolution> newPopulation = replacement.replace(population, offspringPopulation);
+
+    assertSame(firstSolution, newPopulation.get(0));
+    assertSame(secondSolution, newPopulation.get(1));
+  }
+
+  @Test
+  public void shouldReplaceRaiseAnExceptionIfThePopulationSizeIsNotTheNumberOfWeightVectors() {
+    DummyDoubleProblem problem = new DummyDoubleProblem(2, 2, 0);
+    StableMatchingReplacement<DoubleSolution> replacement =
+        new StableMatchingReplacement<>(new WeightVectorNeighborhood<>(4, 2), new Tschebyscheff());
+
+    assertThrows(
+        InvalidConditionException.class,
+        () -> replacement.replace(createSolutions(problem, 3), createSolutions(problem, 3)));
+  }
+
+  private static List<DoubleSolution> createSolutions(DummyDoubleProblem problem, int size) {
+    List<DoubleSolution> solutions = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      DoubleSolution solution = problem.createSolution();
+      solution.objectives()[0] = 1.0 + i;
+      solution.objectives()[1] = 1.0 + (size - i) * 0.5;
+      solutions.add(solution);
+    }
+    return solutions;
+  }
+
+  private static DoubleSolution createSolution(DummyDoubleProblem problem, double f1, double f2) {
+    DoubleSolution solution = problem.createSolution();
+    solution.objectives()[0] = f1;
+    solution.objectives()[1] = f2;
+    return solution;
+  }
+}
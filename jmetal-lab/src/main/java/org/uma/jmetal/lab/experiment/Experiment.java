@@ -20,6 +20,7 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
 
   private String outputParetoFrontFileName;
   private String outputParetoSetFileName;
+  private String outputFileExtension;
   private int independentRuns;
 
   private String referenceFrontDirectory;
@@ -37,6 +38,7 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
     this.independentRuns = builder.getIndependentRuns();
     this.outputParetoFrontFileName = builder.getOutputParetoFrontFileName();
     this.outputParetoSetFileName = builder.getOutputParetoSetFileName();
+    this.outputFileExtension = builder.getOutputFileExtension();
     this.numberOfCores = builder.getNumberOfCores();
     this.referenceFrontDirectory = builder.getReferenceFrontDirectory();
     this.indicatorList = builder.getIndicatorList();
@@ -67,6 +69,10 @@ public class Experiment<S extends Solution<?>, Result extends List<S>> {
     return outputParetoSetFileName;
   }
 
+  public String getOutputFileExtension() {
+    return outputFileExtension;
+  }
+
   public int getIndependentRuns() {
     return independentRuns;
   }
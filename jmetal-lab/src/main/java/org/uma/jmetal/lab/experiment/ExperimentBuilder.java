@@ -20,6 +20,7 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
   private String experimentBaseDirectory;
   private String outputParetoFrontFileName;
   private String outputParetoSetFileName;
+  private String outputFileExtension;
   private int independentRuns;
 
   private List<QualityIndicator> indicatorList ;
@@ -31,6 +32,7 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
     this.independentRuns = 1 ;
     this.numberOfCores = 1 ;
     this.referenceFrontDirectory = null ;
+    this.outputFileExtension = ".csv" ;
   }
 
   public ExperimentBuilder<S, Result> setAlgorithmList(List<ExperimentAlgorithm<S, Result>> algorithmList) {
@@ -76,6 +78,17 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
     return this ;
   }
 
+  /**
+   * Sets the extension of the FUN and VAR files of the runs. By default it is ".csv" (text files);
+   * with {@link org.uma.jmetal.util.fileoutput.BinaryFrontWriter#FILE_EXTENSION} the files are
+   * written in binary format.
+   */
+  public ExperimentBuilder<S, Result> setOutputFileExtension(String outputFileExtension) {
+    this.outputFileExtension = outputFileExtension ;
+
+    return this ;
+  }
+
   public ExperimentBuilder<S, Result> setIndependentRuns(int independentRuns) {
     this.independentRuns = independentRuns ;
 
@@ -117,6 +130,10 @@ public class ExperimentBuilder<S extends Solution<?>, Result extends List<S>> {
     return outputParetoSetFileName;
   }
 
+  public String getOutputFileExtension() {
+    return outputFileExtension;
+  }
+
   public int getIndependentRuns() {
     return independentRuns;
   }
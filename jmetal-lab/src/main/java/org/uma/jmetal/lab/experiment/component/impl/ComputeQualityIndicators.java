@@ -2,6 +2,7 @@ package org.uma.jmetal.lab.experiment.component.impl;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -10,8 +11,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -24,6 +30,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.NormalizeUtils;
 import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.Check;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
 /**
@@ -34,13 +41,31 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  * the resulting values are store in a file called as {@link QualityIndicator #getName()}, which is located
  * in the same directory of the FUN files.
  *
+ * Each reference front is read and normalized once. Then, the combinations (algorithm, problem, run)
+ * are processed in parallel: each FUN file is read and normalized once and all the indicators are
+ * computed over it. As the indicators are not thread-safe, each thread uses its own instances of
+ * them, and every computation receives its own copy of the fronts.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class ComputeQualityIndicators<S extends Solution<?>, Result extends List<S>> implements ExperimentComponent {
   private final Experiment<S, Result> experiment;
+  private int numberOfThreads;
 
   public ComputeQualityIndicators(Experiment<S, Result> experiment) {
     this.experiment = experiment;
+    this.numberOfThreads = experiment.getNumberOfCores();
+  }
+
+  /**
+   * Sets the number of threads used to read the fronts and to compute the indicators. By default,
+   * the number of cores of the experiment is used.
+   */
+  public ComputeQualityIndicators<S, Result> setNumberOfThreads(int numberOfThreads) {
+    Check.that(numberOfThreads > 0, "The number of threads must be positive: " + numberOfThreads);
+    this.numberOfThreads = numberOfThreads;
+
+    return this;
   }
 
   @Override
@@ -48,92 +73,188 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
     experiment.removeDuplicatedAlgorithms();
     resetIndicatorFiles();
 
-    for (QualityIndicator indicator : experiment.getIndicatorList()) {
-      JMetalLogger.logger.info("Computing indicator: " + indicator.getName());
-
-      for (ExperimentAlgorithm<?, Result> algorithm : experiment.getAlgorithmList()) {
-        String algorithmDirectory;
-        algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" + algorithm.getAlgorithmTag();
-        for (ExperimentProblem<?> problem : experiment.getProblemList()) {
-          String problemDirectory = algorithmDirectory + "/" + problem.getTag();
-
-          String referenceFrontDirectory = experiment.getReferenceFrontDirectory();
+    List<QualityIndicator> indicators = experiment.getIndicatorList();
+    List<ExperimentAlgorithm<S, Result>> algorithms = experiment.getAlgorithmList();
+    List<ExperimentProblem<S>> problems = experiment.getProblemList();
+    int runs = experiment.getIndependentRuns();
+
+    // Indexed by indicator, algorithm, problem and run
+    double[][][][] indicatorValues =
+        new double[indicators.size()][algorithms.size()][problems.size()][runs];
+
+    // Every reference front is read and normalized only once, whatever the number of problems
+    // sharing it
+    Map<String, NormalizedReferenceFront> referenceFrontCache = new HashMap<>();
+    List<NormalizedReferenceFront> referenceFronts = new ArrayList<>();
+    for (ExperimentProblem<S> problem : problems) {
+      String referenceFrontName =
+          experiment.getReferenceFrontDirectory() + "/" + problem.getReferenceFront();
+      JMetalLogger.logger.info("RF: " + referenceFrontName);
+      referenceFronts.add(
+          referenceFrontCache.computeIfAbsent(referenceFrontName, NormalizedReferenceFront::new));
+    }
 
-          String referenceFrontName = referenceFrontDirectory + "/" + problem.getReferenceFront();
+    // A quality indicator instance keeps a reference front and some of them reorder it (or the
+    // front) in place, so each thread uses its own instances of the indicators, with their own
+    // copy of the reference front of each problem
+    List<ThreadLocal<QualityIndicator[]>> threadIndicators = new ArrayList<>();
+    for (NormalizedReferenceFront referenceFront : referenceFronts) {
+      threadIndicators.add(ThreadLocal.withInitial(() -> newIndicators(referenceFront)));
+    }
 
-          JMetalLogger.logger.info("RF: " + referenceFrontName);
+    // Each task reads and normalizes a front once and computes all the indicators over it
+    int tasksPerProblem = algorithms.size() * runs;
+    ForkJoinPool pool = new ForkJoinPool(numberOfThreads);
+    try {
+      inPool(
+          pool,
+          () ->
+              IntStream.range(0, problems.size() * tasksPerProblem)
+                  .parallel()
+                  .forEach(
+                      task -> {
+                        int p = task / tasksPerProblem;
+                        int a = (task % tasksPerProblem) / runs;
+                        int run = task % runs;
+                        NormalizedReferenceFront referenceFront = referenceFronts.get(p);
+                        double[][] front =
+                            referenceFront.normalize(
+                                readFront(algorithms.get(a), problems.get(p).getTag(), run));
+                        QualityIndicator[] instances = threadIndicators.get(p).get();
+                        for (int i = 0; i < indicators.size(); i++) {
+                          indicatorValues[i][a][p][run] =
+                              compute(instances[i], indicators.get(i), referenceFront, front);
+                        }
+                      }));
+    } finally {
+      pool.shutdown();
+    }
 
-          double[][] referenceFront = VectorUtils.readVectors(referenceFrontName, " ");
-          double[][] normalizedReferenceFront = NormalizeUtils.normalize(referenceFront);
+    for (int p = 0; p < problems.size(); p++) {
+      for (int i = 0; i < indicators.size(); i++) {
+        for (int a = 0; a < algorithms.size(); a++) {
+          JMetalLogger.logger.info(
+              indicators.get(i).getName()
+                  + " ("
+                  + algorithms.get(a).getAlgorithmTag()
+                  + ", "
+                  + problems.get(p).getTag()
+                  + "): "
+                  + Arrays.toString(indicatorValues[i][a][p]));
+          writeQualityIndicatorValuesToFile(
+              indicatorValues[i][a][p],
+              problemDirectory(algorithms.get(a), problems.get(p)) + "/" + indicators.get(i).getName());
+        }
+      }
+    }
 
-          indicator.setReferenceFront(normalizedReferenceFront);
+    findBestIndicatorFronts(experiment);
+    writeSummaryFile(indicatorValues);
+  }
 
+  /**
+   * Creates a new instance of each indicator of the experiment, with its own copy of a reference
+   * front. The instances are created with the default constructor of the indicators (the state of
+   * the indicators of jMetal is the reference front); the position of an indicator lacking it is
+   * null, and the indicator of the experiment is used instead (see {@link #compute})
+   */
+  private QualityIndicator[] newIndicators(NormalizedReferenceFront referenceFront) {
+    List<QualityIndicator> indicators = experiment.getIndicatorList();
+    QualityIndicator[] instances = new QualityIndicator[indicators.size()];
+    for (int i = 0; i < indicators.size(); i++) {
+      try {
+        instances[i] = indicators.get(i).getClass().getDeclaredConstructor().newInstance();
+        instances[i].setReferenceFront(copy(referenceFront.getFront()));
+      } catch (ReflectiveOperationException e) {
+        instances[i] = null;
+      }
+    }
 
-          //Front referenceFront = new ArrayFront(referenceFrontName, ",");
+    return instances;
+  }
 
-          //FrontNormalizer frontNormalizer = new FrontNormalizer(referenceFront);
-          //Front normalizedReferenceFront = frontNormalizer.normalize(referenceFront);
+  /**
+   * Computes an indicator over a copy of a front. If there is not an instance of the indicator
+   * owned by the current thread, the indicator of the experiment is used by one thread at a time
+   */
+  private static double compute(
+      QualityIndicator instance,
+      QualityIndicator indicator,
+      NormalizedReferenceFront referenceFront,
+      double[][] front) {
+    if (instance != null) {
+      return instance.compute(copy(front));
+    }
 
-          String qualityIndicatorFile = problemDirectory + "/" + indicator.getName();
+    synchronized (indicator) {
+      indicator.setReferenceFront(copy(referenceFront.getFront()));
+      return indicator.compute(copy(front));
+    }
+  }
 
-          //indicator.setReferenceParetoFront(normalizedReferenceFront);
-
-          double[] indicatorValues = new double[experiment.getIndependentRuns()];
-          IntStream.range(0, experiment.getIndependentRuns()).forEach(run -> {
-            String frontFileName = problemDirectory + "/" +
-                    experiment.getOutputParetoFrontFileName() + run + ".csv";
-            double[][] front = new double[0][];
-            try {
-              front = VectorUtils.readVectors(frontFileName," ");
-            } catch (IOException e) {
-              e.printStackTrace();
-            }
+  /** Returns a deep copy of a front, as the indicators can modify the rows of the fronts */
+  private static double[][] copy(double[][] front) {
+    double[][] copy = new double[front.length][];
+    for (int i = 0; i < front.length; i++) {
+      copy[i] = front[i].clone();
+    }
 
-            double[][] normalizedFront =
-                    NormalizeUtils.normalize(
-                            front,
-                            NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront),
-                            NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront));
-            Double indicatorValue = indicator.compute(normalizedFront);
-            JMetalLogger.logger.info(indicator.getName() + ": " + indicatorValue);
-            indicatorValues[run] = indicatorValue;
-          });
-
-          for (double indicatorValue : indicatorValues) {
-            writeQualityIndicatorValueToFile(indicatorValue, qualityIndicatorFile);
-          }
+    return copy;
+  }
 
-          /*
-          for (int run = 0; run < experiment.getIndependentRuns(); run++) {
-            String frontFileName = problemDirectory + "/" +
-                experiment.getOutputParetoFrontFileName() + run + ".csv";
+  private double[][] readFront(ExperimentAlgorithm<S, Result> algorithm, String problemTag, int run) {
+    String frontFileName =
+        experiment.getExperimentBaseDirectory()
+            + "/data/"
+            + algorithm.getAlgorithmTag()
+            + "/"
+            + problemTag
+            + "/"
+            + experiment.getOutputParetoFrontFileName()
+            + run
+            + experiment.getOutputFileExtension();
+    try {
+      return VectorUtils.readVectors(frontFileName, " ");
+    } catch (IOException e) {
+      throw new JMetalException("Error reading front file " + frontFileName, e);
+    }
+  }
 
-            Front front = new ArrayFront(frontFileName, ",");
-            Front normalizedFront = frontNormalizer.normalize(front);
-            List<PointSolution> normalizedPopulation = FrontUtils.convertFrontToSolutionList(normalizedFront);
-            Double indicatorValue = (Double) indicator.evaluate((List<S>) normalizedPopulation);
-            JMetalLogger.logger.info(indicator.getName() + ": " + indicatorValue);
+  private String problemDirectory(ExperimentAlgorithm<?, Result> algorithm, ExperimentProblem<?> problem) {
+    return experiment.getExperimentBaseDirectory()
+        + "/data/"
+        + algorithm.getAlgorithmTag()
+        + "/"
+        + problem.getTag();
+  }
 
-            writeQualityIndicatorValueToFile(indicatorValue, qualityIndicatorFile);
-          }
-           */
-        }
+  /** Runs a parallel stream computation in the given pool instead of in the common one */
+  private static void inPool(ForkJoinPool pool, Runnable computation) {
+    try {
+      pool.submit(computation).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while computing the quality indicators", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
       }
+      throw new JMetalException("Error computing the quality indicators", e);
     }
-    findBestIndicatorFronts(experiment);
-    writeSummaryFile(experiment);
   }
 
-  private void writeQualityIndicatorValueToFile(Double indicatorValue, String qualityIndicatorFile) {
-
-    try (FileWriter os = new FileWriter(qualityIndicatorFile, true)) {
-      os.write("" + indicatorValue + "\n");
+  private void writeQualityIndicatorValuesToFile(double[] indicatorValues, String qualityIndicatorFile) {
+    try (BufferedWriter os = new BufferedWriter(new FileWriter(qualityIndicatorFile))) {
+      for (double indicatorValue : indicatorValues) {
+        os.write("" + indicatorValue + "\n");
+      }
     } catch (IOException ex) {
       throw new JMetalException("Error writing indicator file" + ex);
     }
   }
 
   public void findBestIndicatorFronts(Experiment<?, Result> experiment) throws IOException {
+    String extension = experiment.getOutputFileExtension();
     for (QualityIndicator indicator : experiment.getIndicatorList()) {
       for (ExperimentAlgorithm<?, Result> algorithm : experiment.getAlgorithmList()) {
         String algorithmDirectory;
@@ -163,23 +284,23 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
 
           String outputDirectory = algorithmDirectory + "/" + problem.getTag();
 
-          bestFunFileName = outputDirectory + "/BEST_" + indicator.getName() + "_FUN.csv";
-          bestVarFileName = outputDirectory + "/BEST_" + indicator.getName() + "_VAR.csv";
-          medianFunFileName = outputDirectory + "/MEDIAN_" + indicator.getName() + "_FUN.csv";
-          medianVarFileName = outputDirectory + "/MEDIAN_" + indicator.getName() + "_VAR.csv";
+          bestFunFileName = outputDirectory + "/BEST_" + indicator.getName() + "_FUN" + extension;
+          bestVarFileName = outputDirectory + "/BEST_" + indicator.getName() + "_VAR" + extension;
+          medianFunFileName = outputDirectory + "/MEDIAN_" + indicator.getName() + "_FUN" + extension;
+          medianVarFileName = outputDirectory + "/MEDIAN_" + indicator.getName() + "_VAR" + extension;
           if (indicator.isTheLowerTheIndicatorValueTheBetter()) {
             String bestFunFile = outputDirectory + "/" +
-                    experiment.getOutputParetoFrontFileName() + list.get(0).getRight() + ".csv";
+                    experiment.getOutputParetoFrontFileName() + list.get(0).getRight() + extension;
             String bestVarFile = outputDirectory + "/" +
-                    experiment.getOutputParetoSetFileName() + list.get(0).getRight() + ".csv";
+                    experiment.getOutputParetoSetFileName() + list.get(0).getRight() + extension;
 
             Files.copy(Paths.get(bestFunFile), Paths.get(bestFunFileName), REPLACE_EXISTING);
             Files.copy(Paths.get(bestVarFile), Paths.get(bestVarFileName), REPLACE_EXISTING);
           } else {
             String bestFunFile = outputDirectory + "/" +
-                    experiment.getOutputParetoFrontFileName() + list.get(list.size() - 1).getRight() + ".csv";
+                    experiment.getOutputParetoFrontFileName() + list.get(list.size() - 1).getRight() + extension;
             String bestVarFile = outputDirectory + "/" +
-                    experiment.getOutputParetoSetFileName() + list.get(list.size() - 1).getRight() + ".csv";
+                    experiment.getOutputParetoSetFileName() + list.get(list.size() - 1).getRight() + extension;
 
             Files.copy(Paths.get(bestFunFile), Paths.get(bestFunFileName), REPLACE_EXISTING);
             Files.copy(Paths.get(bestVarFile), Paths.get(bestVarFileName), REPLACE_EXISTING);
@@ -187,9 +308,9 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
 
           int medianIndex = list.size() / 2;
           String medianFunFile = outputDirectory + "/" +
-                  experiment.getOutputParetoFrontFileName() + list.get(medianIndex).getRight() + ".csv";
+                  experiment.getOutputParetoFrontFileName() + list.get(medianIndex).getRight() + extension;
           String medianVarFile = outputDirectory + "/" +
-                  experiment.getOutputParetoSetFileName() + list.get(medianIndex).getRight() + ".csv";
+                  experiment.getOutputParetoSetFileName() + list.get(medianIndex).getRight() + extension;
 
           Files.copy(Paths.get(medianFunFile), Paths.get(medianFunFileName), REPLACE_EXISTING);
           Files.copy(Paths.get(medianVarFile), Paths.get(medianVarFileName), REPLACE_EXISTING);
@@ -246,38 +367,26 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
     }
   }
 
-  private void writeSummaryFile(Experiment<S, Result> experiment) {
+  private void writeSummaryFile(double[][][][] indicatorValues) {
     JMetalLogger.logger.info("Writing org.uma.jmetal.experiment summary file");
     String headerOfCSVFile = "Algorithm,Problem,IndicatorName,ExecutionId,IndicatorValue";
     String csvFileName = this.experiment.getExperimentBaseDirectory() + "/QualityIndicatorSummary.csv";
     resetFile(csvFileName);
 
-    try (FileWriter os = new FileWriter(csvFileName, true)) {
-      os.write("" + headerOfCSVFile + "\n");
-
-      for (QualityIndicator indicator : experiment.getIndicatorList()) {
-        for (ExperimentAlgorithm<?, Result> algorithm : experiment.getAlgorithmList()) {
-          String algorithmDirectory;
-          algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" +
-                  algorithm.getAlgorithmTag();
-
-          for (ExperimentProblem<?> problem : experiment.getProblemList()) {
-            String indicatorFileName =
-                    algorithmDirectory + "/" + problem.getTag() + "/" + indicator.getName();
-            Path indicatorFile = Paths.get(indicatorFileName);
-            if (indicatorFile == null) {
-              throw new JMetalException("Indicator file " + indicator.getName() + " doesn't exist");
-            }
-            System.out.println("-----");
-            System.out.println(indicatorFileName);
+    List<QualityIndicator> indicators = experiment.getIndicatorList();
+    List<ExperimentAlgorithm<S, Result>> algorithms = experiment.getAlgorithmList();
+    List<ExperimentProblem<S>> problems = experiment.getProblemList();
 
-            List<String> fileArray;
-            fileArray = Files.readAllLines(indicatorFile, StandardCharsets.UTF_8);
-            System.out.println(fileArray);
-            System.out.println("++++++");
+    try (BufferedWriter os = new BufferedWriter(new FileWriter(csvFileName))) {
+      os.write("" + headerOfCSVFile + "\n");
 
-            for (int i = 0; i < fileArray.size(); i++) {
-              String row = algorithm.getAlgorithmTag() + "," + problem.getTag() + "," + indicator.getName() + "," + i + "," + fileArray.get(i);
+      for (int i = 0; i < indicators.size(); i++) {
+        for (int a = 0; a < algorithms.size(); a++) {
+          for (int p = 0; p < problems.size(); p++) {
+            double[] values = indicatorValues[i][a][p];
+            for (int run = 0; run < values.length; run++) {
+              String row = algorithms.get(a).getAlgorithmTag() + "," + problems.get(p).getTag() + ","
+                  + indicators.get(i).getName() + "," + run + "," + values[run];
               os.write("" + row + "\n");
             }
           }
@@ -287,5 +396,34 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result extends List
       throw new JMetalException("Error writing indicator file" + ex);
     }
   }
-}
 
+  /**
+   * Reference front of a problem normalized with its own bounds. It is read and normalized once
+   * and shared by all the indicators, algorithms and runs of the problem.
+   */
+  private static class NormalizedReferenceFront {
+    private final double[][] front;
+    private final double[] minValues;
+    private final double[] maxValues;
+
+    NormalizedReferenceFront(String referenceFrontName) {
+      double[][] referenceFront;
+      try {
+        referenceFront = VectorUtils.readVectors(referenceFrontName, " ");
+      } catch (IOException e) {
+        throw new JMetalException("Error reading reference front " + referenceFrontName, e);
+      }
+      minValues = NormalizeUtils.getMinValuesOfTheColumnsOfAMatrix(referenceFront);
+      maxValues = NormalizeUtils.getMaxValuesOfTheColumnsOfAMatrix(referenceFront);
+      front = NormalizeUtils.normalize(referenceFront);
+    }
+
+    double[][] normalize(double[][] otherFront) {
+      return NormalizeUtils.normalize(otherFront, minValues, maxValues);
+    }
+
+    double[][] getFront() {
+      return front;
+    }
+  }
+}
@@ -6,13 +6,18 @@ import java.util.List;
 import org.uma.jmetal.lab.experiment.Experiment;
 import org.uma.jmetal.lab.experiment.component.ExperimentComponent;
 import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
+import org.uma.jmetal.lab.experiment.util.ExperimentTaskJournal;
+import org.uma.jmetal.lab.experiment.util.ExperimentTaskScheduler;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 
 /**
  * This class executes the algorithms the have been configured with a instance of class {@link
- * Experiment}. Java 8 parallel streams are used to run the algorithms in parallel.
+ * Experiment}. The runs are executed in parallel by a {@link ExperimentTaskScheduler}, which
+ * records them in a journal file (tasks.journal, in the experiment base directory) used to
+ * estimate their cost and to resume interrupted experiments. Runs of algorithms implementing
+ * {@link org.uma.jmetal.algorithm.CheckpointableAlgorithm} resume from their last checkpoint.
  *
  * <p>The result of the execution is a pair of files FUNrunId.tsv and VARrunID.tsv per
  * org.uma.jmetal.experiment, which are stored in the directory {@link Experiment
@@ -22,11 +27,24 @@ import org.uma.jmetal.util.errorchecking.JMetalException;
  */
 public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
     implements ExperimentComponent {
+  public static final String JOURNAL_FILE = "tasks.journal";
+
   private Experiment<S, Result> experiment;
+  private int maxRetries;
 
   /** Constructor */
   public ExecuteAlgorithms(Experiment<S, Result> configuration) {
     this.experiment = configuration;
+    this.maxRetries = 5;
+  }
+
+  /**
+   * Sets the maximum number of times a failed run is executed again (default value: 5)
+   */
+  public ExecuteAlgorithms<S, Result> setMaxRetries(int maxRetries) {
+    this.maxRetries = maxRetries;
+
+    return this;
   }
 
   @Override
@@ -34,32 +52,22 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
     JMetalLogger.logger.info("ExecuteAlgorithms: Preparing output directory");
     prepareOutputDirectory();
 
-    System.setProperty(
-        "java.util.concurrent.ForkJoinPool.common.parallelism",
-        "" + this.experiment.getNumberOfCores());
-
-    int retryCounter = 0 ;
-    int maxRetries = 5 ;
-    boolean computationNotFinished = true ;
-
-    while (computationNotFinished && (retryCounter < maxRetries)) {
-      List<ExperimentAlgorithm<?, ?>> unfinishedAlgorithmList = checkTaskStatus() ;
-      if (unfinishedAlgorithmList.size() == 0) {
-        computationNotFinished = false ;
-      } else {
-        JMetalLogger.logger.info(
-            "ExecuteAlgorithms: there are " + unfinishedAlgorithmList.size() + " runs pending");
-        unfinishedAlgorithmList
-            .parallelStream()
-            .forEach(algorithm -> algorithm.runAlgorithm(experiment));
-        retryCounter++;
-      }
+    List<ExperimentAlgorithm<?, ?>> unfinishedAlgorithmList = checkTaskStatus();
+    if (unfinishedAlgorithmList.isEmpty()) {
+      JMetalLogger.logger.info("Algorithm runs finished. There are no pending runs");
+      return;
     }
 
-    if (computationNotFinished) {
-      JMetalLogger.logger.severe("There are unfinished tasks after " + maxRetries + " tries");
+    JMetalLogger.logger.info(
+        "ExecuteAlgorithms: there are " + unfinishedAlgorithmList.size() + " runs pending");
+    unfinishedAlgorithmList = runMissingExecutions(unfinishedAlgorithmList);
+
+    if (unfinishedAlgorithmList.isEmpty()) {
+      JMetalLogger.logger.info("Algorithm runs finished");
     } else {
-      JMetalLogger.logger.info("Algorithm runs finished. Number of tries: " + retryCounter);
+      JMetalLogger.logger.severe(
+          "There are " + unfinishedAlgorithmList.size() + " unfinished tasks after " + maxRetries
+              + " retries");
     }
   }
 
@@ -67,15 +75,7 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
     List<ExperimentAlgorithm<?, ?>> unfinishedAlgorithmList = new LinkedList<>();
 
     for (ExperimentAlgorithm<?, ?> algorithm : experiment.getAlgorithmList()) {
-      String resultFileName =
-          experiment.getExperimentBaseDirectory()
-              + "/data/"
-              + algorithm.getAlgorithmTag()
-              + "/"
-              + algorithm.getProblemTag()
-              + "/" + experiment.getOutputParetoFrontFileName()
-              + algorithm.getRunId()
-              + ".csv";
+      String resultFileName = algorithm.getFunFileName(experiment);
       File file = new File(resultFileName);
       if (!file.exists()) {
         unfinishedAlgorithmList.add(algorithm);
@@ -85,8 +85,20 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result extends List<S>>
     return unfinishedAlgorithmList;
   }
 
-  public void runMissingExecutions(List<ExperimentAlgorithm<?, ?>> experimentAlgorithms) {
-    experimentAlgorithms.parallelStream().forEach(algorithm -> algorithm.runAlgorithm(experiment));
+  /**
+   * Executes a list of runs with a {@link ExperimentTaskScheduler} using as many threads as cores
+   * have been indicated in the experiment
+   *
+   * @return The runs that could not be finished
+   */
+  public List<ExperimentAlgorithm<?, ?>> runMissingExecutions(
+      List<ExperimentAlgorithm<?, ?>> experimentAlgorithms) {
+    try (ExperimentTaskJournal journal =
+        new ExperimentTaskJournal(experiment.getExperimentBaseDirectory() + "/" + JOURNAL_FILE)) {
+      return new ExperimentTaskScheduler(
+              experiment, journal, experiment.getNumberOfCores(), maxRetries)
+          .execute(experimentAlgorithms);
+    }
   }
 
   private void prepareOutputDirectory() {
@@ -1,22 +1,22 @@
 package org.uma.jmetal.lab.experiment.component.impl;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 import org.uma.jmetal.lab.experiment.Experiment;
 import org.uma.jmetal.lab.experiment.component.ExperimentComponent;
 import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
+import org.uma.jmetal.lab.experiment.util.StreamingReferenceFrontBuilder;
 import org.uma.jmetal.util.JMetalLogger;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.VectorUtils;
+import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
-import org.uma.jmetal.util.legacy.front.Front;
-import org.uma.jmetal.util.legacy.front.impl.ArrayFront;
-import org.uma.jmetal.util.legacy.front.util.FrontUtils;
-import org.uma.jmetal.util.point.PointSolution;
-import org.uma.jmetal.util.solutionattribute.impl.GenericSolutionAttribute;
 
 /**
  * This class computes a reference Pareto front from a set of files. Once the algorithms of an
@@ -27,17 +27,35 @@ import org.uma.jmetal.util.solutionattribute.impl.GenericSolutionAttribute;
  * By default, the files are stored in a directory called "referenceFront", which is located in the
  * org.uma.jmetal.experiment base directory. Each front is named following the scheme "problemName.rf".
  *
+ * The fronts of the runs can be either text files or binary files (see
+ * {@link org.uma.jmetal.util.fileoutput.BinaryFrontWriter}). They are processed file by file in
+ * parallel and merged hierarchically by a {@link StreamingReferenceFrontBuilder}, which spills the
+ * partial fronts to disk if they are too large, so the runs are never loaded in memory at once.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class GenerateReferenceParetoFront implements ExperimentComponent {
   private final Experiment<?, ?> experiment;
+  private final StreamingReferenceFrontBuilder referenceFrontBuilder;
   
   public GenerateReferenceParetoFront(Experiment<?, ?> experimentConfiguration) {
     this.experiment = experimentConfiguration ;
+    this.referenceFrontBuilder =
+        new StreamingReferenceFrontBuilder().setNumberOfThreads(experiment.getNumberOfCores()) ;
 
     experiment.removeDuplicatedAlgorithms();
   }
 
+  /**
+   * Sets the maximum number of points kept in memory per partial front before spilling them to
+   * temporary files (see {@link StreamingReferenceFrontBuilder})
+   */
+  public GenerateReferenceParetoFront setMaxPointsInMemory(int maxPointsInMemory) {
+    referenceFrontBuilder.setMaxPointsInMemory(maxPointsInMemory) ;
+
+    return this ;
+  }
+
   /**
    * The run() method creates de output directory and compute the fronts
    */
@@ -47,37 +65,66 @@ public class GenerateReferenceParetoFront implements ExperimentComponent {
 
     createOutputDirectory(outputDirectoryName) ;
 
-    List<String> referenceFrontFileNames = new LinkedList<>() ;
+    List<? extends ExperimentAlgorithm<?, ?>> algorithmList = experiment.getAlgorithmList() ;
     for (ExperimentProblem<?> problem : experiment.getProblemList()) {
-      NonDominatedSolutionListArchive<PointSolution> nonDominatedSolutionArchive =
-          new NonDominatedSolutionListArchive<PointSolution>() ;
-
-      for (ExperimentAlgorithm<?,?> algorithm : experiment.getAlgorithmList()) {
+      // Every point carries the index of its algorithm after the objective values
+      List<Callable<double[][]>> fronts = new ArrayList<>() ;
+      for (int algorithm = 0; algorithm < algorithmList.size(); algorithm++) {
         String problemDirectory = experiment.getExperimentBaseDirectory() + "/data/" +
-            algorithm.getAlgorithmTag() + "/" + problem.getTag() ;
+            algorithmList.get(algorithm).getAlgorithmTag() + "/" + problem.getTag() ;
 
         for (int i = 0; i < experiment.getIndependentRuns(); i++) {
           String frontFileName = problemDirectory + "/" + experiment.getOutputParetoFrontFileName() +
-              i + ".csv";
-          Front front = new ArrayFront(frontFileName, ",") ;
-          List<PointSolution> solutionList = FrontUtils.convertFrontToSolutionList(front) ;
-          GenericSolutionAttribute<PointSolution, String> solutionAttribute = new GenericSolutionAttribute<PointSolution, String>()  ;
-
-          for (PointSolution solution : solutionList) {
-            solutionAttribute.setAttribute(solution, algorithm.getAlgorithmTag());
-            nonDominatedSolutionArchive.add(solution) ;
-          }
+              i + experiment.getOutputFileExtension();
+          double algorithmIndex = algorithm ;
+          fronts.add(() -> appendColumn(VectorUtils.readVectors(frontFileName, ","), algorithmIndex)) ;
         }
       }
+
+      int numberOfObjectives = problem.getProblem().getNumberOfObjectives() ;
+      double[][] referenceFront = referenceFrontBuilder.build(numberOfObjectives, fronts) ;
+
       String referenceSetFileName = outputDirectoryName + "/" + problem.getTag() + ".csv" ;
-      referenceFrontFileNames.add(problem.getTag() + ".csv");
-      new SolutionListOutput(nonDominatedSolutionArchive.getSolutionList())
-          .printObjectivesToFile(referenceSetFileName, ",");
+      writeObjectives(referenceSetFileName, referenceFront, numberOfObjectives, -1) ;
 
-      writeFilesWithTheSolutionsContributedByEachAlgorithm(outputDirectoryName, problem,
-          nonDominatedSolutionArchive.getSolutionList()) ;
+      for (int algorithm = 0; algorithm < algorithmList.size(); algorithm++) {
+        writeObjectives(
+            outputDirectoryName + "/" + problem.getTag() + "." +
+                algorithmList.get(algorithm).getAlgorithmTag() + ".csv",
+            referenceFront, numberOfObjectives, algorithm) ;
+      }
     }
+  }
 
+  private static double[][] appendColumn(double[][] front, double value) {
+    double[][] result = new double[front.length][] ;
+    for (int i = 0; i < front.length; i++) {
+      result[i] = Arrays.copyOf(front[i], front[i].length + 1) ;
+      result[i][front[i].length] = value ;
+    }
+
+    return result ;
+  }
+
+  /**
+   * Writes the objective values of the points of a front found by an algorithm (or of all of
+   * them if the algorithm index is negative) with the format of {@link SolutionListOutput}
+   */
+  private static void writeObjectives(
+      String fileName, double[][] front, int numberOfObjectives, int algorithm) {
+    try (BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(fileName))) {
+      for (double[] point : front) {
+        if ((algorithm < 0) || (point[numberOfObjectives] == algorithm)) {
+          for (int j = 0; j < numberOfObjectives - 1; j++) {
+            bufferedWriter.write(point[j] + ",");
+          }
+          bufferedWriter.write("" + point[numberOfObjectives - 1]);
+          bufferedWriter.newLine();
+        }
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error writing file " + fileName, e);
+    }
   }
 
   private File createOutputDirectory(String outputDirectoryName) {
@@ -90,25 +137,4 @@ public class GenerateReferenceParetoFront implements ExperimentComponent {
 
     return outputDirectory ;
   }
-
-  private void writeFilesWithTheSolutionsContributedByEachAlgorithm(
-      String outputDirectoryName, ExperimentProblem<?> problem,
-      List<PointSolution> nonDominatedSolutions) throws IOException {
-    GenericSolutionAttribute<PointSolution, String> solutionAttribute = new GenericSolutionAttribute<PointSolution, String>()  ;
-
-    for (ExperimentAlgorithm<?, ?> algorithm : experiment.getAlgorithmList()) {
-      List<PointSolution> solutionsPerAlgorithm = new ArrayList<>() ;
-      for (PointSolution solution : nonDominatedSolutions) {
-        if (algorithm.getAlgorithmTag().equals(solutionAttribute.getAttribute(solution))) {
-          solutionsPerAlgorithm.add(solution) ;
-        }
-      }
-
-      new SolutionListOutput(solutionsPerAlgorithm)
-          .printObjectivesToFile(
-              outputDirectoryName + "/" + problem.getTag() + "." +
-                  algorithm.getAlgorithmTag() + ".csv", ","
-          );
-    }
-  }
 }
@@ -1,26 +1,25 @@
 package org.uma.jmetal.lab.experiment.component.impl;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 import org.uma.jmetal.lab.experiment.Experiment;
 import org.uma.jmetal.lab.experiment.component.ExperimentComponent;
 import org.uma.jmetal.lab.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.lab.experiment.util.ExperimentProblem;
+import org.uma.jmetal.lab.experiment.util.StreamingReferenceFrontBuilder;
 import org.uma.jmetal.problem.doubleproblem.DoubleProblem;
 import org.uma.jmetal.solution.AbstractSolution;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.solution.doublesolution.DoubleSolution;
 import org.uma.jmetal.util.JMetalLogger;
-import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.VectorUtils;
 import org.uma.jmetal.util.bounds.Bounds;
 import org.uma.jmetal.util.errorchecking.JMetalException;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
-import org.uma.jmetal.util.legacy.front.Front;
-import org.uma.jmetal.util.legacy.front.impl.ArrayFront;
 import org.uma.jmetal.util.solutionattribute.impl.GenericSolutionAttribute;
 
 /**
@@ -47,10 +46,24 @@ import org.uma.jmetal.util.solutionattribute.impl.GenericSolutionAttribute;
  */
 public class GenerateReferenceParetoSetAndFrontFromDoubleSolutions implements ExperimentComponent {
   private final Experiment<?, ?> experiment;
+  private final StreamingReferenceFrontBuilder referenceFrontBuilder;
 
   public GenerateReferenceParetoSetAndFrontFromDoubleSolutions(
           Experiment<?, ?> experimentConfiguration) {
     this.experiment = experimentConfiguration;
+    this.referenceFrontBuilder =
+            new StreamingReferenceFrontBuilder().setNumberOfThreads(experiment.getNumberOfCores());
+  }
+
+  /**
+   * Sets the maximum number of points kept in memory per partial front before spilling them to
+   * temporary files (see {@link StreamingReferenceFrontBuilder})
+   */
+  public GenerateReferenceParetoSetAndFrontFromDoubleSolutions setMaxPointsInMemory(
+          int maxPointsInMemory) {
+    referenceFrontBuilder.setMaxPointsInMemory(maxPointsInMemory);
+
+    return this;
   }
 
   /**
@@ -129,21 +142,22 @@ public class GenerateReferenceParetoSetAndFrontFromDoubleSolutions implements Ex
   /**
    * Create a list of non dominated {@link DoubleSolution} solutions from the FUNx.tsv and VARx.tsv
    * files that must have been previously obtained (probably by invoking the {@link
-   * ExecuteAlgorithms#run} method).
+   * ExecuteAlgorithms#run} method). The files are processed by a {@link
+   * StreamingReferenceFrontBuilder}, where each point is a row with the objective values, the index
+   * of the run it comes from, and the variable values.
    *
    * @param problem
    * @return
-   * @throws FileNotFoundException
    */
-  private List<DummyDoubleSolution> getNonDominatedSolutions(ExperimentProblem<?> problem)
-          throws FileNotFoundException {
-    NonDominatedSolutionListArchive<DummyDoubleSolution> nonDominatedSolutionArchive =
-            new NonDominatedSolutionListArchive<>();
-
-    for (ExperimentAlgorithm<?, ?> algorithm :
+  private List<DummyDoubleSolution> getNonDominatedSolutions(ExperimentProblem<?> problem) {
+    List<ExperimentAlgorithm<?, ?>> runs =
             experiment.getAlgorithmList().stream()
                     .filter(s -> s.getProblemTag().equals(problem.getTag()))
-                    .collect(Collectors.toCollection(ArrayList::new))) {
+                    .collect(Collectors.toCollection(ArrayList::new));
+
+    List<Callable<double[][]>> fronts = new ArrayList<>();
+    for (int run = 0; run < runs.size(); run++) {
+      ExperimentAlgorithm<?, ?> algorithm = runs.get(run);
       String problemDirectory =
               experiment.getExperimentBaseDirectory()
                       + "/data/"
@@ -156,25 +170,27 @@ public class GenerateReferenceParetoSetAndFrontFromDoubleSolutions implements Ex
                       + "/"
                       + experiment.getOutputParetoFrontFileName()
                       + algorithm.getRunId()
-                      + ".csv";
+                      + experiment.getOutputFileExtension();
       String paretoSetFileName =
               problemDirectory
                       + "/"
                       + experiment.getOutputParetoSetFileName()
                       + algorithm.getRunId()
-                      + ".csv";
-
-      Front frontWithObjectiveValues = new ArrayFront(frontFileName, ",");
-      Front frontWithVariableValues = new ArrayFront(paretoSetFileName, ",");
-      List<DummyDoubleSolution> solutionList =
-              createSolutionListFrontFiles(
-                      algorithm.getAlgorithmTag(), frontWithVariableValues, frontWithObjectiveValues);
-      for (DummyDoubleSolution solution : solutionList) {
-        nonDominatedSolutionArchive.add(solution);
-      }
+                      + experiment.getOutputFileExtension();
+
+      double runIndex = run;
+      fronts.add(
+              () ->
+                      joinObjectivesAndVariables(
+                              VectorUtils.readVectors(frontFileName, ","),
+                              VectorUtils.readVectors(paretoSetFileName, ","),
+                              runIndex));
     }
 
-    return nonDominatedSolutionArchive.getSolutionList();
+    int numberOfObjectives = problem.getProblem().getNumberOfObjectives();
+    double[][] points = referenceFrontBuilder.build(numberOfObjectives, fronts);
+
+    return createSolutionList(points, numberOfObjectives, runs);
   }
 
   /**
@@ -195,38 +211,55 @@ public class GenerateReferenceParetoSetAndFrontFromDoubleSolutions implements Ex
   }
 
   /**
-   * @param algorithmName
-   * @param frontWithVariableValues
-   * @param frontWithObjectiveValues
+   * @param objectiveValues
+   * @param variableValues
+   * @param runIndex
    * @return
    */
-  private List<DummyDoubleSolution> createSolutionListFrontFiles(
-          String algorithmName, Front frontWithVariableValues, Front frontWithObjectiveValues) {
-    if (frontWithVariableValues.getNumberOfPoints()
-            != frontWithObjectiveValues.getNumberOfPoints()) {
+  private static double[][] joinObjectivesAndVariables(
+          double[][] objectiveValues, double[][] variableValues, double runIndex) {
+    if (variableValues.length != objectiveValues.length) {
       throw new JMetalException(
               "The number of solutions in the variable and objective fronts are not equal");
-    } else if (frontWithObjectiveValues.getNumberOfPoints() == 0) {
+    } else if (objectiveValues.length == 0) {
       throw new JMetalException("The front of solutions is empty");
     }
 
+    double[][] points = new double[objectiveValues.length][];
+    for (int i = 0; i < objectiveValues.length; i++) {
+      int numberOfObjectives = objectiveValues[i].length;
+      points[i] = new double[numberOfObjectives + 1 + variableValues[i].length];
+      System.arraycopy(objectiveValues[i], 0, points[i], 0, numberOfObjectives);
+      points[i][numberOfObjectives] = runIndex;
+      System.arraycopy(
+              variableValues[i], 0, points[i], numberOfObjectives + 1, variableValues[i].length);
+    }
+
+    return points;
+  }
+
+  /**
+   * @param points
+   * @param numberOfObjectives
+   * @param runs
+   * @return
+   */
+  private List<DummyDoubleSolution> createSolutionList(
+          double[][] points, int numberOfObjectives, List<ExperimentAlgorithm<?, ?>> runs) {
     GenericSolutionAttribute<DummyDoubleSolution, String> solutionAttribute =
             new GenericSolutionAttribute<DummyDoubleSolution, String>();
 
-    int numberOfVariables = frontWithVariableValues.getPointDimensions();
-    int numberOfObjectives = frontWithObjectiveValues.getPointDimensions();
-
     List<DummyDoubleSolution> solutionList = new ArrayList<>();
-    for (int i = 0; i < frontWithVariableValues.getNumberOfPoints(); i++) {
+    for (double[] point : points) {
+      int numberOfVariables = point.length - numberOfObjectives - 1;
       DummyDoubleSolution solution = new DummyDoubleSolution(numberOfVariables, numberOfObjectives);
       for (int vars = 0; vars < numberOfVariables; vars++) {
-        solution.variables().set(vars, frontWithVariableValues.getPoint(i).getValues()[vars]);
-      }
-      for (int objs = 0; objs < numberOfObjectives; objs++) {
-        solution.objectives()[objs] = frontWithObjectiveValues.getPoint(i).getValues()[objs];
+        solution.variables().set(vars, point[numberOfObjectives + 1 + vars]);
       }
+      System.arraycopy(point, 0, solution.objectives(), 0, numberOfObjectives);
 
-      solutionAttribute.setAttribute(solution, algorithmName);
+      String algorithmTag = runs.get((int) point[numberOfObjectives]).getAlgorithmTag();
+      solutionAttribute.setAttribute(solution, algorithmTag);
       solutionList.add(solution);
     }
 
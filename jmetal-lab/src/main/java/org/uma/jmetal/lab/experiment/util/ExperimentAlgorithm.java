@@ -3,6 +3,7 @@ package org.uma.jmetal.lab.experiment.util;
 import java.io.File;
 import java.util.List;
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.algorithm.CheckpointableAlgorithm;
 import org.uma.jmetal.lab.experiment.Experiment;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
@@ -35,8 +36,7 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
   }
 
   public void runAlgorithm(Experiment<?, ?> experimentData) {
-    String outputDirectoryName =
-        experimentData.getExperimentBaseDirectory() + "/data/" + algorithmTag + "/" + problemTag;
+    String outputDirectoryName = getOutputDirectoryName(experimentData);
 
     File outputDirectory = new File(outputDirectoryName);
     if (!outputDirectory.exists()) {
@@ -48,10 +48,11 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
       }
     }
 
-    String funFile =
-        outputDirectoryName + "/" + experimentData.getOutputParetoFrontFileName() + runId + ".csv";
+    String funFile = getFunFileName(experimentData);
     String varFile =
-        outputDirectoryName + "/" + experimentData.getOutputParetoSetFileName() + runId + ".csv";
+        outputDirectoryName + "/" + experimentData.getOutputParetoSetFileName()
+            + runId
+            + experimentData.getOutputFileExtension();
     JMetalLogger.logger.info(
         " Running algorithm: "
             + algorithmTag
@@ -62,6 +63,11 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
             + ", funFile: "
             + funFile);
 
+    String checkpointFile = getCheckpointFileName(experimentData);
+    if (algorithm instanceof CheckpointableAlgorithm) {
+      ((CheckpointableAlgorithm<Result>) algorithm).setCheckpointFile(checkpointFile);
+    }
+
     try {
       algorithm.run();
       Result population = algorithm.getResult();
@@ -70,11 +76,33 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result extends List<S>>
           .setVarFileOutputContext(new DefaultFileOutputContext(varFile, " "))
           .setFunFileOutputContext(new DefaultFileOutputContext(funFile, " "))
           .print();
+
+      new File(checkpointFile).delete();
     } catch (Exception exception) {
       JMetalLogger.logger.warning("Execution failed: " + funFile + " has not been created.");
     }
   }
 
+  public String getOutputDirectoryName(Experiment<?, ?> experimentData) {
+    return experimentData.getExperimentBaseDirectory() + "/data/" + algorithmTag + "/" + problemTag;
+  }
+
+  public String getFunFileName(Experiment<?, ?> experimentData) {
+    return getOutputDirectoryName(experimentData)
+        + "/"
+        + experimentData.getOutputParetoFrontFileName()
+        + runId
+        + experimentData.getOutputFileExtension();
+  }
+
+  /**
+   * Returns the name of the file where the algorithm stores its checkpoints, if it is a {@link
+   * CheckpointableAlgorithm}. The file is removed once the run has finished successfully.
+   */
+  public String getCheckpointFileName(Experiment<?, ?> experimentData) {
+    return getOutputDirectoryName(experimentData) + "/CHECKPOINT" + runId + ".bin";
+  }
+
   public Algorithm<Result> getAlgorithm() {
     return algorithm;
   }
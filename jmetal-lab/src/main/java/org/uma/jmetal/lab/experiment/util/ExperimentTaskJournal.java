@@ -0,0 +1,200 @@
+package org.uma.jmetal.lab.experiment.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+
+/**
+ * Append-only journal of the tasks (algorithm runs) of an experiment. Every time a run starts,
+ * finishes or fails, a line with the format
+ *
+ * <pre>STATUS algorithmTag problemTag runId computingTimeInMilliseconds</pre>
+ *
+ * (separated by tabs) is appended to the journal file and flushed. When an experiment is restarted,
+ * the journal is loaded to know which runs were finished, which ones were interrupted (they have a
+ * STARTED entry but no later one), and how long each (algorithm, problem) pair took, which is used
+ * to estimate the cost of the pending runs.
+ */
+public class ExperimentTaskJournal implements Closeable {
+  public enum TaskStatus {
+    STARTED,
+    FINISHED,
+    FAILED
+  }
+
+  private static final String SEPARATOR = "\t";
+
+  private final Map<String, TaskStatus> taskStatus;
+  private final Map<String, double[]> computingTimeByAlgorithmAndProblem;
+  private final Map<String, double[]> computingTimeByAlgorithm;
+  private final Map<String, double[]> computingTimeByProblem;
+  private final double[] totalComputingTime;
+
+  private final BufferedWriter writer;
+
+  /**
+   * Constructor. If the journal file exists, its entries are loaded and new entries are appended
+   * to it.
+   *
+   * @param journalFileName Name of the journal file
+   */
+  public ExperimentTaskJournal(String journalFileName) {
+    taskStatus = new HashMap<>();
+    computingTimeByAlgorithmAndProblem = new HashMap<>();
+    computingTimeByAlgorithm = new HashMap<>();
+    computingTimeByProblem = new HashMap<>();
+    totalComputingTime = new double[2];
+
+    File journalFile = new File(journalFileName);
+    if (journalFile.exists()) {
+      load(journalFile);
+    }
+
+    try {
+      writer = new BufferedWriter(new FileWriter(journalFile, true));
+    } catch (IOException e) {
+      throw new JMetalException("Error opening the task journal " + journalFileName, e);
+    }
+  }
+
+  public synchronized void started(ExperimentAlgorithm<?, ?> task) {
+    write(TaskStatus.STARTED, task.getAlgorithmTag(), task.getProblemTag(), task.getRunId(), 0);
+  }
+
+  public synchronized void finished(ExperimentAlgorithm<?, ?> task, long computingTime) {
+    write(
+        TaskStatus.FINISHED,
+        task.getAlgorithmTag(),
+        task.getProblemTag(),
+        task.getRunId(),
+        computingTime);
+  }
+
+  public synchronized void failed(ExperimentAlgorithm<?, ?> task, long computingTime) {
+    write(
+        TaskStatus.FAILED,
+        task.getAlgorithmTag(),
+        task.getProblemTag(),
+        task.getRunId(),
+        computingTime);
+  }
+
+  /** Returns the last status of a task, or null if the task does not appear in the journal */
+  public synchronized TaskStatus getStatus(ExperimentAlgorithm<?, ?> task) {
+    return taskStatus.get(key(task.getAlgorithmTag(), task.getProblemTag(), task.getRunId()));
+  }
+
+  /**
+   * Returns the estimated computing time (in milliseconds) of a task. If the (algorithm, problem)
+   * pair has finished runs, their mean computing time is returned. Otherwise, the estimation is
+   * the product of the mean computing time of the algorithm and of the problem divided by the
+   * global mean (a multiplicative algorithm x problem model), or any of the factors that is known.
+   * If there is no history at all, the result is 1.0.
+   */
+  public synchronized double estimatedComputingTime(ExperimentAlgorithm<?, ?> task) {
+    double[] pair =
+        computingTimeByAlgorithmAndProblem.get(key(task.getAlgorithmTag(), task.getProblemTag()));
+    if (pair != null) {
+      return mean(pair);
+    }
+
+    if (totalComputingTime[0] == 0) {
+      return 1.0;
+    }
+
+    double globalMean = mean(totalComputingTime);
+    double[] algorithm = computingTimeByAlgorithm.get(task.getAlgorithmTag());
+    double[] problem = computingTimeByProblem.get(task.getProblemTag());
+    double algorithmMean = (algorithm == null) ? globalMean : mean(algorithm);
+    double problemMean = (problem == null) ? globalMean : mean(problem);
+
+    return algorithmMean * problemMean / globalMean;
+  }
+
+  @Override
+  public synchronized void close() {
+    try {
+      writer.close();
+    } catch (IOException e) {
+      throw new JMetalException("Error closing the task journal", e);
+    }
+  }
+
+  private void write(
+      TaskStatus status, String algorithmTag, String problemTag, int runId, long computingTime) {
+    update(status, algorithmTag, problemTag, runId, computingTime);
+    try {
+      writer.write(
+          status
+              + SEPARATOR
+              + algorithmTag
+              + SEPARATOR
+              + problemTag
+              + SEPARATOR
+              + runId
+              + SEPARATOR
+              + computingTime);
+      writer.newLine();
+      writer.flush();
+    } catch (IOException e) {
+      throw new JMetalException("Error writing the task journal", e);
+    }
+  }
+
+  private void load(File journalFile) {
+    try (BufferedReader reader = new BufferedReader(new FileReader(journalFile))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        String[] fields = line.split(SEPARATOR);
+        // Lines truncated by an abrupt termination are ignored
+        if (fields.length == 5) {
+          update(
+              TaskStatus.valueOf(fields[0]),
+              fields[1],
+              fields[2],
+              Integer.parseInt(fields[3]),
+              Long.parseLong(fields[4]));
+        }
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      throw new JMetalException("Error reading the task journal " + journalFile, e);
+    }
+  }
+
+  private void update(
+      TaskStatus status, String algorithmTag, String problemTag, int runId, long computingTime) {
+    taskStatus.put(key(algorithmTag, problemTag, runId), status);
+    if (status == TaskStatus.FINISHED) {
+      accumulate(computingTimeByAlgorithmAndProblem, key(algorithmTag, problemTag), computingTime);
+      accumulate(computingTimeByAlgorithm, algorithmTag, computingTime);
+      accumulate(computingTimeByProblem, problemTag, computingTime);
+      totalComputingTime[0] += 1;
+      totalComputingTime[1] += computingTime;
+    }
+  }
+
+  private static void accumulate(Map<String, double[]> map, String key, long computingTime) {
+    double[] counter = map.computeIfAbsent(key, k -> new double[2]);
+    counter[0] += 1;
+    counter[1] += computingTime;
+  }
+
+  private static double mean(double[] counter) {
+    return Math.max(counter[1] / counter[0], 1.0);
+  }
+
+  private static String key(String algorithmTag, String problemTag) {
+    return algorithmTag + SEPARATOR + problemTag;
+  }
+
+  private static String key(String algorithmTag, String problemTag, int runId) {
+    return algorithmTag + SEPARATOR + problemTag + SEPARATOR + runId;
+  }
+}
@@ -0,0 +1,138 @@
+package org.uma.jmetal.lab.experiment.util;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.uma.jmetal.lab.experiment.Experiment;
+import org.uma.jmetal.lab.experiment.util.ExperimentTaskJournal.TaskStatus;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.errorchecking.Check;
+
+/**
+ * Scheduler of the runs of an experiment. The runs are executed in a work-stealing pool ({@link
+ * ForkJoinPool}) with a configurable number of threads, following a longest-expected-time-first
+ * policy: runs interrupted in a previous execution (which may resume from a checkpoint) go first,
+ * and the rest are sorted by decreasing estimated computing time, which is obtained from the
+ * history stored in a {@link ExperimentTaskJournal}.
+ *
+ * <p>Every run is recorded in the journal when it starts, finishes or fails. A failed run is
+ * resubmitted individually (it does not force the rest of runs to be checked again) until it has
+ * failed a maximum number of times.
+ */
+public class ExperimentTaskScheduler {
+  private final Experiment<?, ?> experiment;
+  private final ExperimentTaskJournal journal;
+  private final int numberOfThreads;
+  private final int maxRetries;
+  private final Map<ExperimentAlgorithm<?, ?>, Integer> numberOfFailures;
+
+  /**
+   * Constructor
+   *
+   * @param experiment Experiment the runs belong to
+   * @param journal Journal where the runs are recorded
+   * @param numberOfThreads Number of threads of the pool
+   * @param maxRetries Maximum number of times a failed run is executed again
+   */
+  public ExperimentTaskScheduler(
+      Experiment<?, ?> experiment,
+      ExperimentTaskJournal journal,
+      int numberOfThreads,
+      int maxRetries) {
+    Check.notNull(experiment);
+    Check.notNull(journal);
+    Check.that(numberOfThreads > 0, "The number of threads must be positive: " + numberOfThreads);
+    Check.that(maxRetries >= 0, "The number of retries is negative: " + maxRetries);
+
+    this.experiment = experiment;
+    this.journal = journal;
+    this.numberOfThreads = numberOfThreads;
+    this.maxRetries = maxRetries;
+    this.numberOfFailures = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Executes a list of runs and waits until all of them have finished or have exhausted their
+   * retries.
+   *
+   * @return The runs that could not be finished
+   */
+  public List<ExperimentAlgorithm<?, ?>> execute(List<ExperimentAlgorithm<?, ?>> tasks) {
+    List<ExperimentAlgorithm<?, ?>> orderedTasks = schedule(tasks);
+
+    ForkJoinPool pool = new ForkJoinPool(numberOfThreads);
+    for (ExperimentAlgorithm<?, ?> task : orderedTasks) {
+      pool.execute(() -> runTask(pool, task));
+    }
+
+    while (!pool.awaitQuiescence(1, TimeUnit.MINUTES)) {
+      JMetalLogger.logger.fine("ExperimentTaskScheduler: waiting for the pending runs");
+    }
+    pool.shutdown();
+
+    List<ExperimentAlgorithm<?, ?>> unfinishedTasks = new ArrayList<>();
+    for (ExperimentAlgorithm<?, ?> task : tasks) {
+      if (journal.getStatus(task) != TaskStatus.FINISHED) {
+        unfinishedTasks.add(task);
+      }
+    }
+
+    return unfinishedTasks;
+  }
+
+  /**
+   * Returns the tasks in the order they are submitted to the pool: interrupted runs first, and
+   * then by decreasing estimated computing time
+   */
+  public List<ExperimentAlgorithm<?, ?>> schedule(List<ExperimentAlgorithm<?, ?>> tasks) {
+    List<ExperimentAlgorithm<?, ?>> orderedTasks = new ArrayList<>(tasks);
+    Comparator<ExperimentAlgorithm<?, ?>> interruptedFirst =
+        Comparator.comparing(task -> journal.getStatus(task) != TaskStatus.STARTED);
+    Comparator<ExperimentAlgorithm<?, ?>> longestFirst =
+        Collections.reverseOrder(Comparator.comparingDouble(journal::estimatedComputingTime));
+    orderedTasks.sort(interruptedFirst.thenComparing(longestFirst));
+
+    return orderedTasks;
+  }
+
+  private void runTask(ForkJoinPool pool, ExperimentAlgorithm<?, ?> task) {
+    if (journal.getStatus(task) == TaskStatus.STARTED) {
+      JMetalLogger.logger.info(
+          "ExperimentTaskScheduler: resuming interrupted run "
+              + task.getAlgorithmTag()
+              + ", "
+              + task.getProblemTag()
+              + ", "
+              + task.getRunId());
+    }
+
+    journal.started(task);
+    long initTime = System.currentTimeMillis();
+    task.runAlgorithm(experiment);
+    long computingTime = System.currentTimeMillis() - initTime;
+
+    if (new File(task.getFunFileName(experiment)).exists()) {
+      journal.finished(task, computingTime);
+    } else {
+      journal.failed(task, computingTime);
+      int failures = numberOfFailures.merge(task, 1, Integer::sum);
+      if (failures <= maxRetries) {
+        // Executed from a worker thread, so the task goes to its local queue and can be stolen
+        pool.execute(() -> runTask(pool, task));
+      } else {
+        JMetalLogger.logger.severe(
+            "ExperimentTaskScheduler: run "
+                + task.getFunFileName(experiment)
+                + " failed "
+                + failures
+                + " times");
+      }
+    }
+  }
+}
@@ -0,0 +1,413 @@
+package org.uma.jmetal.lab.experiment.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import org.uma.jmetal.util.errorchecking.Check;
+import org.uma.jmetal.util.errorchecking.JMetalException;
+import org.uma.jmetal.util.fileinput.BinaryFront;
+import org.uma.jmetal.util.fileinput.BinaryFrontReader;
+import org.uma.jmetal.util.fileoutput.BinaryFrontWriter;
+
+/**
+ * Class for computing the non-dominated points of a (possibly huge) set of fronts, such as all the
+ * fronts obtained by the algorithms of an experiment when solving a problem.
+ *
+ * <p>Each point is a row whose first numberOfObjectives values are the objectives; the rest of
+ * values are a payload which is carried along (e.g., the index of the algorithm that found the
+ * point and the variables of the solution). The fronts are loaded in parallel, and each one is
+ * reduced to its non-dominated points. The resulting sets are merged hierarchically, two at a
+ * time. All the sets are kept sorted in lexicographic order, which makes merging them cheap: a
+ * point can only be weakly dominated by points preceding it, so the non-dominated points of a
+ * sorted sequence are obtained in a single pass without removing points that had been accepted
+ * before.
+ *
+ * <p>When a set exceeds a maximum number of points, it is spilled into a temporary file (in the
+ * binary format of {@link BinaryFrontWriter}). At the end, the spilled chunks are merged with a
+ * k-way merge over their memory-mapped contents, so only the final front has to fit in memory.
+ *
+ * <p>When several points have the same objective values, only the first one in lexicographic order
+ * of the payload is kept. If the first value of the payload is the index of the front the point
+ * belongs to, this is the same result as adding the fronts in order to a {@link
+ * org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive}.
+ */
+public class StreamingReferenceFrontBuilder {
+  private int numberOfThreads;
+  private int maxPointsInMemory;
+  private File temporaryDirectory;
+
+  public StreamingReferenceFrontBuilder() {
+    numberOfThreads = Runtime.getRuntime().availableProcessors();
+    maxPointsInMemory = 1000000;
+    temporaryDirectory = null;
+  }
+
+  public StreamingReferenceFrontBuilder setNumberOfThreads(int numberOfThreads) {
+    Check.that(numberOfThreads > 0, "The number of threads must be positive: " + numberOfThreads);
+    this.numberOfThreads = numberOfThreads;
+
+    return this;
+  }
+
+  /** Sets the number of points a partial set can have before being spilled to disk */
+  public StreamingReferenceFrontBuilder setMaxPointsInMemory(int maxPointsInMemory) {
+    Check.that(
+        maxPointsInMemory > 0, "The maximum number of points must be positive: " + maxPointsInMemory);
+    this.maxPointsInMemory = maxPointsInMemory;
+
+    return this;
+  }
+
+  /** Sets the directory of the spilled files. By default, the system temporary directory is used */
+  public StreamingReferenceFrontBuilder setTemporaryDirectory(String temporaryDirectory) {
+    this.temporaryDirectory = new File(temporaryDirectory);
+
+    return this;
+  }
+
+  /**
+   * Computes the non-dominated points of a list of fronts
+   *
+   * @param numberOfObjectives Number of values of each row that are objectives
+   * @param fronts Loaders of the fronts. They are invoked concurrently
+   * @return The non-dominated points, sorted in lexicographic order
+   */
+  public double[][] build(int numberOfObjectives, List<Callable<double[][]>> fronts) {
+    Check.that(numberOfObjectives > 0, "The number of objectives must be positive");
+    Check.notNull(fronts);
+
+    Comparator<double[]> order = StreamingReferenceFrontBuilder::compareLexicographically;
+    List<File> chunks = Collections.synchronizedList(new ArrayList<>());
+
+    ForkJoinPool pool = new ForkJoinPool(numberOfThreads);
+    try {
+      List<double[]> points =
+          pool.submit(
+                  () ->
+                      fronts.parallelStream()
+                          .map(front -> load(front, numberOfObjectives, order, chunks))
+                          .reduce(
+                              (set1, set2) -> merge(set1, set2, numberOfObjectives, order, chunks))
+                          .orElse(Collections.emptyList()))
+              .get();
+
+      if (chunks.isEmpty()) {
+        return points.toArray(new double[0][]);
+      }
+      return mergeChunks(points, chunks, numberOfObjectives, order);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while building the reference front", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new JMetalException("Error building the reference front", e);
+    } finally {
+      pool.shutdown();
+      for (File chunk : chunks) {
+        chunk.delete();
+      }
+    }
+  }
+
+  private List<double[]> load(
+      Callable<double[][]> front,
+      int numberOfObjectives,
+      Comparator<double[]> order,
+      List<File> chunks) {
+    double[][] rows;
+    try {
+      rows = front.call();
+    } catch (Exception e) {
+      throw new JMetalException("Error loading a front", e);
+    }
+
+    for (double[] row : rows) {
+      Check.that(
+          row.length >= numberOfObjectives,
+          "A point has " + row.length + " values instead of at least " + numberOfObjectives);
+    }
+
+    List<double[]> points = new ArrayList<>(Arrays.asList(rows));
+    points.sort(order);
+
+    return spillIfNeeded(nonDominatedPoints(points, numberOfObjectives), chunks);
+  }
+
+  private List<double[]> merge(
+      List<double[]> set1,
+      List<double[]> set2,
+      int numberOfObjectives,
+      Comparator<double[]> order,
+      List<File> chunks) {
+    List<double[]> merged = new ArrayList<>(set1.size() + set2.size());
+    int i = 0;
+    int j = 0;
+    while (i < set1.size() && j < set2.size()) {
+      if (order.compare(set1.get(i), set2.get(j)) <= 0) {
+        merged.add(set1.get(i++));
+      } else {
+        merged.add(set2.get(j++));
+      }
+    }
+    merged.addAll(set1.subList(i, set1.size()));
+    merged.addAll(set2.subList(j, set2.size()));
+
+    return spillIfNeeded(nonDominatedPoints(merged, numberOfObjectives), chunks);
+  }
+
+  private List<double[]> spillIfNeeded(List<double[]> points, List<File> chunks) {
+    if (points.size() <= maxPointsInMemory) {
+      return points;
+    }
+
+    try {
+      File chunk =
+          File.createTempFile("front", BinaryFrontWriter.FILE_EXTENSION, temporaryDirectory);
+      chunk.deleteOnExit();
+      chunks.add(chunk);
+      BinaryFrontWriter.write(chunk.getPath(), points.toArray(new double[0][]));
+    } catch (IOException e) {
+      throw new JMetalException("Error creating a temporary file", e);
+    }
+
+    return Collections.emptyList();
+  }
+
+  /** K-way merge of the spilled chunks and the points kept in memory */
+  private double[][] mergeChunks(
+      List<double[]> points, List<File> chunks, int numberOfObjectives, Comparator<double[]> order) {
+    List<Cursor> cursors = new ArrayList<>();
+    cursors.add(new Cursor(points));
+    for (File chunk : chunks) {
+      cursors.add(new Cursor(BinaryFrontReader.map(chunk.getPath())));
+    }
+
+    PriorityQueue<Cursor> queue =
+        new PriorityQueue<>((cursor1, cursor2) -> order.compare(cursor1.current, cursor2.current));
+    for (Cursor cursor : cursors) {
+      if (cursor.advance()) {
+        queue.add(cursor);
+      }
+    }
+
+    NonDominatedFilter filter = new NonDominatedFilter(numberOfObjectives);
+    while (!queue.isEmpty()) {
+      Cursor cursor = queue.poll();
+      filter.add(cursor.current);
+      if (cursor.advance()) {
+        queue.add(cursor);
+      }
+    }
+
+    return filter.getPoints().toArray(new double[0][]);
+  }
+
+  /** Returns the non-dominated points of a list sorted in lexicographic order */
+  private static List<double[]> nonDominatedPoints(
+      List<double[]> sortedPoints, int numberOfObjectives) {
+    NonDominatedFilter filter = new NonDominatedFilter(numberOfObjectives);
+    for (double[] point : sortedPoints) {
+      filter.add(point);
+    }
+
+    return filter.getPoints();
+  }
+
+  private static int compareLexicographically(double[] point1, double[] point2) {
+    int length = Math.min(point1.length, point2.length);
+    for (int i = 0; i < length; i++) {
+      int result = Double.compare(point1[i], point2[i]);
+      if (result != 0) {
+        return result;
+      }
+    }
+
+    return Integer.compare(point1.length, point2.length);
+  }
+
+  /**
+   * Accepts the points of a sequence sorted in lexicographic order which are not weakly dominated
+   * by the previously accepted ones. As the accepted points precede the new one, they cannot be
+   * worse in the first objective, so only the rest of objectives have to be compared. With two
+   * objectives, the accepted points have decreasing values of the second objective, so only the
+   * last one has to be checked. With more objectives, the accepted points are indexed in a k-d
+   * tree over the objectives but the first one, so the subtrees which cannot contain a point
+   * weakly dominating the new one are skipped.
+   */
+  private static class NonDominatedFilter {
+    private final int numberOfObjectives;
+    private final List<double[]> points;
+    private KdNode root;
+
+    NonDominatedFilter(int numberOfObjectives) {
+      this.numberOfObjectives = numberOfObjectives;
+      this.points = new ArrayList<>();
+      this.root = null;
+    }
+
+    void add(double[] point) {
+      if (!isWeaklyDominated(point)) {
+        points.add(point);
+        if (numberOfObjectives > 2) {
+          insert(point);
+        }
+      }
+    }
+
+    private boolean isWeaklyDominated(double[] point) {
+      if (points.isEmpty()) {
+        return false;
+      }
+
+      if (numberOfObjectives == 1) {
+        return true;
+      }
+
+      if (numberOfObjectives == 2) {
+        return points.get(points.size() - 1)[1] <= point[1];
+      }
+
+      // The tree can be unbalanced, so it is traversed without recursion
+      Deque<KdNode> pending = new ArrayDeque<>();
+      pending.push(root);
+      while (!pending.isEmpty()) {
+        KdNode node = pending.pop();
+        if (!mayContainAWeakDominator(node, point)) {
+          continue;
+        }
+        if (weaklyDominates(node.point, point)) {
+          return true;
+        }
+        if (node.left != null) {
+          pending.push(node.left);
+        }
+        // The points of the right subtree are not better than the node in its split objective
+        if ((node.right != null) && (node.point[node.objective] <= point[node.objective])) {
+          pending.push(node.right);
+        }
+      }
+
+      return false;
+    }
+
+    private boolean mayContainAWeakDominator(KdNode node, double[] point) {
+      for (int i = 1; i < numberOfObjectives; i++) {
+        if (node.minimum[i] > point[i]) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    private boolean weaklyDominates(double[] point1, double[] point2) {
+      for (int i = 1; i < numberOfObjectives; i++) {
+        if (point1[i] > point2[i]) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    private void insert(double[] point) {
+      if (root == null) {
+        root = new KdNode(point, 1, numberOfObjectives);
+        return;
+      }
+
+      KdNode node = root;
+      while (true) {
+        node.updateMinimum(point, numberOfObjectives);
+        int nextObjective = (node.objective == numberOfObjectives - 1) ? 1 : node.objective + 1;
+        if (point[node.objective] < node.point[node.objective]) {
+          if (node.left == null) {
+            node.left = new KdNode(point, nextObjective, numberOfObjectives);
+            return;
+          }
+          node = node.left;
+        } else {
+          if (node.right == null) {
+            node.right = new KdNode(point, nextObjective, numberOfObjectives);
+            return;
+          }
+          node = node.right;
+        }
+      }
+    }
+
+    List<double[]> getPoints() {
+      return points;
+    }
+  }
+
+  /**
+   * Node of the k-d tree of {@link NonDominatedFilter}. The points of the left subtree have lower
+   * values than the node in the split objective, and the minimum contains the lowest value of each
+   * objective in the subtree
+   */
+  private static class KdNode {
+    private final double[] point;
+    private final int objective;
+    private final double[] minimum;
+    private KdNode left;
+    private KdNode right;
+
+    KdNode(double[] point, int objective, int numberOfObjectives) {
+      this.point = point;
+      this.objective = objective;
+      this.minimum = Arrays.copyOf(point, numberOfObjectives);
+    }
+
+    void updateMinimum(double[] point, int numberOfObjectives) {
+      for (int i = 1; i < numberOfObjectives; i++) {
+        minimum[i] = Math.min(minimum[i], point[i]);
+      }
+    }
+  }
+
+  /** Iterator over a list of points or over a spilled chunk */
+  private static class Cursor {
+    private final List<double[]> points;
+    private final BinaryFront chunk;
+    private final int size;
+    private int index;
+    private double[] current;
+
+    Cursor(List<double[]> points) {
+      this.points = points;
+      this.chunk = null;
+      this.size = points.size();
+      this.index = 0;
+    }
+
+    Cursor(BinaryFront chunk) {
+      this.points = null;
+      this.chunk = chunk;
+      this.size = chunk.getNumberOfPoints();
+      this.index = 0;
+    }
+
+    boolean advance() {
+      if (index == size) {
+        return false;
+      }
+      current = (points != null) ? points.get(index) : chunk.getPoint(index);
+      index++;
+
+      return true;
+    }
+  }
+}